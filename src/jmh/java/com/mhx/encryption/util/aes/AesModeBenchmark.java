@@ -0,0 +1,69 @@
+package com.mhx.encryption.util.aes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className AesModeBenchmark
+ * @description AES 认证加密的开销：一次处理的 GCM 与 ECB 加密后再单独计算 HMAC-SHA256 的对比，附 CTR 作为无认证参考
+ *              Cost of authenticated AES encryption: single pass GCM against ECB followed by a separate HMAC-SHA256 pass,
+ *              with CTR as the unauthenticated reference
+ * @author MuHongXin.
+ * @date 2026/10/18 19:10
+ * @version v1.0.0
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AesModeBenchmark {
+    private static final byte[] KEY = "9P3AAD7DA4Y154D5".getBytes();
+
+    @Param({"64", "1024", "16384"})
+    public int size;
+
+    private byte[] plaintext;
+
+    private Mac mac;
+
+    @Setup
+    public void setup() throws Exception {
+        plaintext = new byte[size];
+        new Random(size).nextBytes(plaintext);
+        mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(KEY, "HmacSHA256"));
+    }
+
+    @Benchmark
+    public byte[] ecbThenHmac() throws Exception {
+        byte[] cipherText = AesUtils.encrypt(plaintext, 0, plaintext.length, KEY, AesMode.ECB);
+        return mac.doFinal(cipherText);
+    }
+
+    @Benchmark
+    public byte[] gcm() throws Exception {
+        return AesUtils.encrypt(plaintext, 0, plaintext.length, KEY, AesMode.GCM);
+    }
+
+    @Benchmark
+    public byte[] ctr() throws Exception {
+        return AesUtils.encrypt(plaintext, 0, plaintext.length, KEY, AesMode.CTR);
+    }
+}
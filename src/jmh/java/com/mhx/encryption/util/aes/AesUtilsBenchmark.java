@@ -0,0 +1,79 @@
+package com.mhx.encryption.util.aes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className AesUtilsBenchmark
+ * @description AesUtils 基准测试：每次调用 Cipher.getInstance 的原实现 与 Cipher 池实现 的对比
+ *              AesUtils benchmark: the original Cipher.getInstance per call path against the pooled cipher path
+ * @author MuHongXin.
+ * @date 2026/10/18 10:40
+ * @version v1.0.0
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AesUtilsBenchmark {
+    private static final String KEY = "9P3AAD7DA4Y154D5";
+
+    @Param({"16", "1024"})
+    public int size;
+
+    private String plaintext;
+
+    private String cipherText;
+
+    @Setup
+    public void setup() throws Exception {
+        StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        plaintext = builder.toString();
+        cipherText = AesUtils.encrypt(plaintext, KEY);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY.getBytes(), "AES"));
+        byte[] b = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+        return org.apache.commons.codec.binary.Base64.encodeBase64String(b);
+    }
+
+    @Benchmark
+    public String pooledEncrypt() throws Exception {
+        return AesUtils.encrypt(plaintext, KEY);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(KEY.getBytes(), "AES"));
+        return new String(cipher.doFinal(org.apache.commons.codec.binary.Base64.decodeBase64(cipherText)));
+    }
+
+    @Benchmark
+    public String pooledDecrypt() throws Exception {
+        return AesUtils.decrypt(cipherText, KEY);
+    }
+}
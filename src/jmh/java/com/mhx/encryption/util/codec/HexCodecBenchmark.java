@@ -0,0 +1,210 @@
+package com.mhx.encryption.util.codec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className HexCodecBenchmark
+ * @description HexCodec 与被替换的旧实现对比，旧实现原样复制在本类中：EccUtil.byte2hex（String.format）、
+ *              DesUtils.byte2hex（Integer.toHexString）、DesUtils / EccUtil.hex2byte 与 DataConversionUtils.hexToByte（Integer.parseInt），
+ *              DataConversionUtils.byteToHex 的字符串拼接是平方复杂度，单独用 quadraticSize 测到 32 KiB
+ *              HexCodec against the replaced implementations, copied verbatim into this class: EccUtil.byte2hex
+ *              (String.format), DesUtils.byte2hex (Integer.toHexString), DesUtils / EccUtil.hex2byte and
+ *              DataConversionUtils.hexToByte (Integer.parseInt); the String concatenation of
+ *              DataConversionUtils.byteToHex is quadratic and runs separately up to 32 KiB via quadraticSize
+ * @author MuHongXin.
+ * @date 2026/10/18 22:00
+ * @version v1.0.0
+ **/
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HexCodecBenchmark {
+    @State(Scope.Benchmark)
+    public static class Linear {
+        @Param({"32", "1024", "32768", "1048576"})
+        public int size;
+
+        private byte[] data;
+
+        private String hex;
+
+        private byte[] hexBytes;
+
+        private byte[] encoded;
+
+        private byte[] decoded;
+
+        @Setup
+        public void setup() {
+            data = new byte[size];
+            new Random(size).nextBytes(data);
+            hex = HexCodec.encode(data);
+            hexBytes = hex.getBytes(StandardCharsets.US_ASCII);
+            encoded = new byte[size * 2];
+            decoded = new byte[size];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Quadratic {
+        @Param({"32", "1024", "32768"})
+        public int quadraticSize;
+
+        private byte[] data;
+
+        @Setup
+        public void setup() {
+            data = new byte[quadraticSize];
+            new Random(quadraticSize).nextBytes(data);
+        }
+    }
+
+    @Benchmark
+    public String encode(Linear state) {
+        return HexCodec.encode(state.data);
+    }
+
+    @Benchmark
+    public byte[] encodeInto(Linear state) {
+        HexCodec.encode(state.data, 0, state.data.length, state.encoded, 0, false);
+        return state.encoded;
+    }
+
+    @Benchmark
+    public String legacyFormatEncode(Linear state) {
+        return formatByte2hex(state.data);
+    }
+
+    @Benchmark
+    public String legacyToHexStringEncode(Linear state) {
+        return toHexStringByte2hex(state.data);
+    }
+
+    @Benchmark
+    public byte[] decode(Linear state) {
+        return HexCodec.decode(state.hex);
+    }
+
+    @Benchmark
+    public byte[] decodeInto(Linear state) {
+        HexCodec.decode(state.hexBytes, 0, state.hexBytes.length, state.decoded, 0);
+        return state.decoded;
+    }
+
+    @Benchmark
+    public byte[] legacyParseIntDecode(Linear state) {
+        return parseIntHex2byte(state.hexBytes);
+    }
+
+    @Benchmark
+    public byte[] legacyHexToByte(Linear state) {
+        return parseIntHexToByte(state.hex);
+    }
+
+    @Benchmark
+    public String quadraticEncode(Quadratic state) {
+        return HexCodec.encode(state.data);
+    }
+
+    @Benchmark
+    public String legacyByteToHex(Quadratic state) {
+        return concatByteToHex(state.data);
+    }
+
+    /**
+     * 原 EccUtil.byte2hex | The former EccUtil.byte2hex
+     */
+    private static String formatByte2hex(byte[] bytes) {
+        StringBuilder hs = new StringBuilder();
+        String stmp = "";
+        for (byte aByte : bytes) {
+            stmp = String.format("%02X", aByte);
+            hs.append(stmp);
+        }
+        return hs.toString().toUpperCase();
+    }
+
+    /**
+     * 原 DesUtils.byte2hex | The former DesUtils.byte2hex
+     */
+    private static String toHexStringByte2hex(byte[] bytes) {
+        StringBuilder hs = new StringBuilder();
+        String stmp = "";
+        for (byte aByte : bytes) {
+            stmp = (Integer.toHexString(aByte & 0XFF));
+            if (stmp.length() == 1) {
+                hs.append("0").append(stmp);
+            } else {
+                hs.append(stmp);
+            }
+        }
+        return hs.toString().toUpperCase();
+    }
+
+    /**
+     * 原 DesUtils.hex2byte / EccUtil.hex2byte | The former DesUtils.hex2byte / EccUtil.hex2byte
+     */
+    private static byte[] parseIntHex2byte(byte[] bytes) {
+        if ((bytes.length % 2) != 0) {
+            throw new IllegalArgumentException("长度不是偶数! | The length is not even!");
+        }
+        byte[] b2 = new byte[bytes.length / 2];
+        for (int n = 0; n < bytes.length; n += 2) {
+            String item = new String(bytes, n, 2);
+            b2[n / 2] = (byte) Integer.parseInt(item, 16);
+        }
+        return b2;
+    }
+
+    /**
+     * 原 DataConversionUtils.hexToByte | The former DataConversionUtils.hexToByte
+     */
+    @SuppressWarnings("deprecation")
+    private static byte[] parseIntHexToByte(String hex) {
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException();
+        }
+        char[] arr = hex.toCharArray();
+        byte[] b = new byte[hex.length() / 2];
+        for (int i = 0, j = 0, l = hex.length(); i < l; i++, j++) {
+            String swap = "" + arr[i++] + arr[i];
+            int byteint = Integer.parseInt(swap, 16) & 0xFF;
+            b[j] = new Integer(byteint).byteValue();
+        }
+        return b;
+    }
+
+    /**
+     * 原 DataConversionUtils.byteToHex | The former DataConversionUtils.byteToHex
+     */
+    private static String concatByteToHex(byte[] b) {
+        String hs = "";
+        String stmp = "";
+        for (int n = 0; n < b.length; n++) {
+            stmp = Integer.toHexString(b[n] & 0xff);
+            if (stmp.length() == 1) {
+                hs = hs + "0" + stmp;
+            } else {
+                hs = hs + stmp;
+            }
+        }
+        return hs.toUpperCase();
+    }
+}
@@ -0,0 +1,106 @@
+package com.mhx.encryption.util.ecc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className EccBatchVerifyBenchmark
+ * @description ECDSA 验签：逐条调用 EccUtil.verify 与批量验签（按公钥分组，调用线程顺序执行 / 公共 ForkJoin 线程池并行）的对比。
+ *              少数签名者各签 1024 条不同消息，批量按顺序循环复用这些条目，验签开销与条目是否重复无关
+ *              ECDSA verification: EccUtil.verify one entry at a time against the batch verification (grouped by key,
+ *              sequential on the calling thread / parallel on the common ForkJoin pool).
+ *              A few signers sign 1024 distinct messages, batches cycle through these entries, which does not change
+ *              the cost of verifying them
+ * @author MuHongXin.
+ * @date 2026/10/19 00:20
+ * @version v1.0.0
+ **/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class EccBatchVerifyBenchmark {
+    private static final int DISTINCT = 1024;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int batchSize;
+
+    @Param({"4"})
+    private int signers;
+
+    private byte[][] contents;
+
+    private byte[][] signs;
+
+    private PublicKey[] publicKeys;
+
+    private final EcdsaBatchVerifier sequential = new EcdsaBatchVerifier(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        KeyPair[] keyPairs = new KeyPair[signers];
+        PublicKey[] keys = new PublicKey[signers];
+        for (int i = 0; i < signers; i++) {
+            keyPairs[i] = EccUtil.genKeyPair();
+            keys[i] = EccUtil.decodePublicKey(EccUtil.encodePublicKey(keyPairs[i].getPublic()));
+        }
+
+        int distinct = Math.min(DISTINCT, batchSize);
+        contents = new byte[batchSize][];
+        signs = new byte[batchSize][];
+        publicKeys = new PublicKey[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            if (i < distinct) {
+                int signer = i % signers;
+                contents[i] = ("ECDSA batch verification message " + i).getBytes(StandardCharsets.UTF_8);
+                signs[i] = EccUtil.signature(contents[i], keyPairs[signer].getPrivate());
+                publicKeys[i] = keys[signer];
+            } else {
+                contents[i] = contents[i % distinct];
+                signs[i] = signs[i % distinct];
+                publicKeys[i] = publicKeys[i % distinct];
+            }
+        }
+    }
+
+    @Benchmark
+    public int loop() {
+        int failed = 0;
+        for (int i = 0; i < batchSize; i++) {
+            if (!EccUtil.verify(contents[i], signs[i], publicKeys[i])) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    @Benchmark
+    public BitSet batchSequential() {
+        return sequential.verify(contents, signs, publicKeys);
+    }
+
+    @Benchmark
+    public BitSet batch() {
+        return EccUtil.verify(contents, signs, publicKeys);
+    }
+}
@@ -0,0 +1,105 @@
+package com.mhx.encryption.util.rsa;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.PSSParameterSpec;
+import java.security.spec.RSAPrivateKeySpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className RsaBenchmark
+ * @description RSA 私钥运算吞吐量（2048 / 3072 / 4096 位）：RsaUtils 的 PSS 签名和 OAEP 解密（缓存的 CRT 私钥、线程复用的
+ *              Cipher / Signature），对比每次解析 PKCS#8 私钥并 getInstance 的写法，
+ *              以及不含 CRT 参数（只有 n 和 d）的私钥解密
+ *              RSA private key throughput (2048 / 3072 / 4096 bits): PSS signing and OAEP decryption with RsaUtils
+ *              (cached CRT private key, per-thread Cipher / Signature) against parsing the PKCS#8 key and calling
+ *              getInstance on every operation, and decryption with a private key without the CRT parameters (only n and d)
+ * @author MuHongXin.
+ * @date 2026/10/19 01:20
+ * @version v1.0.0
+ **/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RsaBenchmark {
+    @Param({"2048", "3072", "4096"})
+    private int bits;
+
+    private final byte[] message = "RSA benchmark message.".getBytes(StandardCharsets.UTF_8);
+
+    private byte[] encodedPrivateKey;
+
+    private byte[] cipherText;
+
+    private PrivateKey nonCrtPrivateKey;
+
+    @Setup(Level.Trial)
+    public void setup() throws GeneralSecurityException {
+        KeyPair keyPair = RsaUtils.generateKeyPair(bits);
+        encodedPrivateKey = keyPair.getPrivate().getEncoded();
+        cipherText = RsaUtils.encrypt(message, 0, message.length, keyPair.getPublic());
+
+        RSAPrivateCrtKey crtKey = (RSAPrivateCrtKey) keyPair.getPrivate();
+        nonCrtPrivateKey = KeyFactory.getInstance("RSA").generatePrivate(new RSAPrivateKeySpec(crtKey.getModulus(), crtKey.getPrivateExponent()));
+    }
+
+    @Benchmark
+    public byte[] sign() throws GeneralSecurityException {
+        return RsaUtils.sign(message, 0, message.length, RsaUtils.decodePrivateKey(encodedPrivateKey));
+    }
+
+    @Benchmark
+    public byte[] decrypt() throws GeneralSecurityException {
+        return RsaUtils.decrypt(cipherText, 0, cipherText.length, RsaUtils.decodePrivateKey(encodedPrivateKey));
+    }
+
+    @Benchmark
+    public byte[] signPerCall() throws GeneralSecurityException {
+        PrivateKey key = KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(encodedPrivateKey));
+        Signature signature = Signature.getInstance("RSASSA-PSS");
+        signature.setParameter(new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 32, 1));
+        signature.initSign(key);
+        signature.update(message);
+        return signature.sign();
+    }
+
+    @Benchmark
+    public byte[] decryptPerCall() throws GeneralSecurityException {
+        PrivateKey key = KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(encodedPrivateKey));
+        Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPPadding");
+        cipher.init(Cipher.DECRYPT_MODE, key, new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT));
+        return cipher.doFinal(cipherText);
+    }
+
+    @Benchmark
+    public byte[] decryptNonCrt() throws GeneralSecurityException {
+        return RsaUtils.decrypt(cipherText, 0, cipherText.length, nonCrtPrivateKey);
+    }
+}
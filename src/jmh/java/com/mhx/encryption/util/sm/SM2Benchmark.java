@@ -0,0 +1,135 @@
+package com.mhx.encryption.util.sm;
+
+import org.bouncycastle.crypto.AsymmetricCipherKeyPair;
+import org.bouncycastle.math.ec.ECCurve;
+import org.bouncycastle.math.ec.ECPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className SM2Benchmark
+ * @description SM2 基准测试：每次调用都从十六进制参数重建曲线的原实现 与 共享预计算域参数 的延迟对比
+ *              SM2 benchmark: latency of rebuilding the curve from hex parameters on every call against the shared precomputed domain
+ * @author MuHongXin.
+ * @date 2026/10/18 11:30
+ * @version v1.0.0
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SM2Benchmark {
+    private static final String PLAINTEXT = "qy5Q-ZLNT-MOHo-fBgW";
+
+    private SM2KeyPair keyPair;
+
+    private String cipherText;
+
+    private byte[] publicKey;
+
+    private byte[] privateKey;
+
+    private byte[] cipherBytes;
+
+    @Setup
+    public void setup() {
+        keyPair = SM2Util.generateKeyPair();
+        cipherText = SM2Util.encrypt(keyPair.getPublicKey(), PLAINTEXT);
+        publicKey = DataConversionUtils.hexToByte(keyPair.getPublicKey());
+        privateKey = DataConversionUtils.hexToByte(keyPair.getPrivateKey());
+        cipherBytes = SM2Util.encrypt(publicKey, PLAINTEXT.getBytes(StandardCharsets.UTF_8), SM2CipherMode.C1C3C2);
+    }
+
+    /**
+     * 与原 SM2() 构造函数相同：通用素数域曲线、未预计算的基点、新的 SecureRandom 和密钥对生成器
+     * Same as the original SM2() constructor: generic prime curve, no precomputed base point, new SecureRandom and key pair generator
+     */
+    private static SM2 legacyInstance() {
+        BigInteger p = new BigInteger(SM2.eccParam[0], 16);
+        BigInteger a = new BigInteger(SM2.eccParam[1], 16);
+        BigInteger b = new BigInteger(SM2.eccParam[2], 16);
+        BigInteger n = new BigInteger(SM2.eccParam[3], 16);
+        BigInteger gx = new BigInteger(SM2.eccParam[4], 16);
+        BigInteger gy = new BigInteger(SM2.eccParam[5], 16);
+        ECCurve curve = new ECCurve.Fp(p, a, b, n, BigInteger.ONE);
+        return new SM2(curve, curve.createPoint(gx, gy), n, BigInteger.ONE, false);
+    }
+
+    @Benchmark
+    public SM2KeyPair keyGenerate() {
+        return SM2Util.generateKeyPair();
+    }
+
+    @Benchmark
+    public AsymmetricCipherKeyPair legacyKeyGenerate() {
+        return legacyInstance().eccKeyPairGenerator.generateKeyPair();
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return SM2Util.encrypt(keyPair.getPublicKey(), PLAINTEXT);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() {
+        byte[] source = PLAINTEXT.getBytes(StandardCharsets.UTF_8);
+        SM2 sm2 = legacyInstance();
+        ECPoint userKey = sm2.eccCurve.decodePoint(DataConversionUtils.hexToByte(keyPair.getPublicKey()));
+        Cipher cipher = new Cipher();
+        ECPoint c1 = cipher.initEnc(sm2, userKey);
+        cipher.encrypt(source);
+        byte[] c3 = new byte[32];
+        cipher.doFinal(c3);
+        return DataConversionUtils.byteToHex(c1.getEncoded(false)) + DataConversionUtils.byteToHex(source) + DataConversionUtils.byteToHex(c3);
+    }
+
+    @Benchmark
+    public byte[] encryptBytes() {
+        return SM2Util.encrypt(publicKey, PLAINTEXT.getBytes(StandardCharsets.UTF_8), SM2CipherMode.C1C3C2);
+    }
+
+    @Benchmark
+    public byte[] decryptBytes() {
+        return SM2Util.decrypt(privateKey, cipherBytes, SM2CipherMode.C1C3C2);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return SM2Util.decrypt(keyPair.getPrivateKey(), cipherText);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() {
+        byte[] data = DataConversionUtils.hexToByte(cipherText);
+        int c2Len = data.length - 97;
+        byte[] c1Bytes = new byte[65];
+        byte[] c2 = new byte[c2Len];
+        byte[] c3 = new byte[32];
+        System.arraycopy(data, 0, c1Bytes, 0, 65);
+        System.arraycopy(data, 65, c2, 0, c2Len);
+        System.arraycopy(data, 65 + c2Len, c3, 0, 32);
+
+        SM2 sm2 = legacyInstance();
+        ECPoint c1 = sm2.eccCurve.decodePoint(c1Bytes);
+        Cipher cipher = new Cipher();
+        cipher.initDec(new BigInteger(1, DataConversionUtils.hexToByte(keyPair.getPrivateKey())), c1);
+        cipher.decrypt(c2);
+        cipher.doFinal(c3);
+        return new String(c2, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,70 @@
+package com.mhx.encryption.util.sm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className SM2EphemeralKeyPoolBenchmark
+ * @description SM2 加密在请求线程上的延迟：临时密钥对直接生成 与 从预生成池取出 的对比
+ *              SM2 encryption latency on the request thread: ephemeral pair generated inline against taken from the pool
+ * @author MuHongXin.
+ * @date 2026/10/18 17:20
+ * @version v1.0.0
+ **/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SM2EphemeralKeyPoolBenchmark {
+    private static final byte[] PLAINTEXT = "qy5Q-ZLNT-MOHo-fBgW".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"false", "true"})
+    private boolean pooled;
+
+    private byte[] publicKey;
+
+    private SM2EphemeralKeyPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        publicKey = DataConversionUtils.hexToByte(SM2Util.generateKeyPair().getPublicKey());
+        if (pooled) {
+            pool = new SM2EphemeralKeyPool(SM2.instance(), 4096, 1);
+            pool.start();
+            SM2EphemeralKeyPool.install(pool);
+            while (pool.size() < pool.capacity()) {
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            System.out.println("produced=" + pool.producedCount() + " hits=" + pool.hitCount() + " fallbacks=" + pool.fallbackCount());
+            pool.close();
+        }
+    }
+
+    @Benchmark
+    public byte[] encrypt() {
+        return SM2Util.encrypt(publicKey, PLAINTEXT, SM2CipherMode.C1C3C2);
+    }
+}
@@ -0,0 +1,75 @@
+package com.mhx.encryption.util.sm;
+
+import com.mhx.encryption.util.ecc.EccUtil;
+import org.bouncycastle.math.ec.ECPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.security.PublicKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className SM2PublicKeyCacheBenchmark
+ * @description 接收方公钥的处理开销：每次解码并做普通可变基点乘法 与 命中缓存并使用预计算表的固定基点乘法 的对比，
+ *              以及 ECC 公钥每次解码 与 命中缓存 的对比
+ *              Cost of handling the recipient public key: decoded every time with a plain variable base multiplication
+ *              against a cache hit with the precomputed comb multiplication, and an ECC public key decoded every time
+ *              against a cache hit
+ * @author MuHongXin.
+ * @date 2026/10/18 18:05
+ * @version v1.0.0
+ **/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SM2PublicKeyCacheBenchmark {
+    private final SM2 sm2 = SM2.instance();
+
+    private byte[] publicKey;
+
+    private BigInteger k;
+
+    private String eccPublicKey;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        publicKey = DataConversionUtils.hexToByte(SM2Util.generateKeyPair().getPublicKey());
+        k = SM2EphemeralKeyPool.acquire(sm2).getK();
+        eccPublicKey = EccUtil.encodePublicKey(EccUtil.genKeyPair().getPublic());
+    }
+
+    @Benchmark
+    public ECPoint sm2Cold() {
+        return sm2.eccCurve.decodePoint(publicKey).multiply(k);
+    }
+
+    @Benchmark
+    public ECPoint sm2Cached() {
+        return sm2.multiply(SM2Util.decodePublicKey(publicKey), k);
+    }
+
+    @Benchmark
+    public PublicKey eccCold() {
+        EccUtil.publicKeyCache().invalidate(eccPublicKey);
+        return EccUtil.decodePublicKey(eccPublicKey);
+    }
+
+    @Benchmark
+    public PublicKey eccCached() {
+        return EccUtil.decodePublicKey(eccPublicKey);
+    }
+}
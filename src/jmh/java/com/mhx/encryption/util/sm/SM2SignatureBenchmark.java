@@ -0,0 +1,116 @@
+package com.mhx.encryption.util.sm;
+
+import org.bouncycastle.crypto.CryptoException;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.params.ParametersWithID;
+import org.bouncycastle.crypto.signers.PlainDSAEncoding;
+import org.bouncycastle.crypto.signers.SM2Signer;
+import org.bouncycastle.math.ec.ECPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className SM2SignatureBenchmark
+ * @description SM2 签名和验签吞吐量：缓存 ZA 与每次计算 ZA 的签名，Shamir 交错乘法与两次独立乘法的验签，
+ *              以及 BouncyCastle SM2Signer 作为参照
+ *              SM2 sign and verify throughput: signing with a cached ZA against computing ZA every time, verifying
+ *              with the interleaved Shamir multiplication against two separate multiplications, and the BouncyCastle
+ *              SM2Signer as the reference
+ * @author MuHongXin.
+ * @date 2026/10/18 23:55
+ * @version v1.0.0
+ **/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SM2SignatureBenchmark {
+    private final SM2 sm2 = SM2.instance();
+
+    private final byte[] message = "SM2 signature benchmark message.".getBytes(StandardCharsets.UTF_8);
+
+    private byte[] publicKey;
+
+    private byte[] privateKey;
+
+    private byte[] signature;
+
+    private BigInteger s;
+
+    private BigInteger t;
+
+    private ECPrivateKeyParameters bcPrivateKey;
+
+    private ECPublicKeyParameters bcPublicKey;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SM2KeyPair keyPair = SM2Util.generateKeyPair();
+        publicKey = DataConversionUtils.hexToByte(keyPair.getPublicKey());
+        privateKey = DataConversionUtils.hexToByte(keyPair.getPrivateKey());
+        signature = SM2Util.sign(privateKey, publicKey, SM2Signature.DEFAULT_USER_ID, message);
+
+        BigInteger n = sm2.eccN;
+        s = new BigInteger(1, Arrays.copyOfRange(signature, 32, 64));
+        t = new BigInteger(1, Arrays.copyOfRange(signature, 0, 32)).add(s).mod(n);
+
+        bcPrivateKey = new ECPrivateKeyParameters(new BigInteger(1, privateKey), sm2.eccBcSpec);
+        bcPublicKey = new ECPublicKeyParameters(sm2.eccCurve.decodePoint(publicKey), sm2.eccBcSpec);
+    }
+
+    @Benchmark
+    public byte[] sign() {
+        return SM2Util.sign(privateKey, publicKey, SM2Signature.DEFAULT_USER_ID, message);
+    }
+
+    @Benchmark
+    public byte[] signUncachedZ() {
+        byte[] z = SM2Signature.z(SM2Signature.DEFAULT_USER_ID, SM2Util.decodePublicKey(publicKey));
+        return SM2Signature.sign(new BigInteger(1, privateKey), z, message, 0, message.length);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return SM2Util.verify(publicKey, SM2Signature.DEFAULT_USER_ID, message, signature);
+    }
+
+    @Benchmark
+    public ECPoint verifyTwoMultiplies() {
+        ECPoint point = SM2Util.decodePublicKey(publicKey);
+        return sm2.multiply(sm2.eccPointG, s).add(sm2.multiply(point, t)).normalize();
+    }
+
+    @Benchmark
+    public byte[] bcSign() throws CryptoException {
+        SM2Signer signer = new SM2Signer(PlainDSAEncoding.INSTANCE);
+        signer.init(true, new ParametersWithID(bcPrivateKey, SM2Signature.DEFAULT_USER_ID));
+        signer.update(message, 0, message.length);
+        return signer.generateSignature();
+    }
+
+    @Benchmark
+    public boolean bcVerify() {
+        SM2Signer signer = new SM2Signer(PlainDSAEncoding.INSTANCE);
+        signer.init(false, new ParametersWithID(bcPublicKey, SM2Signature.DEFAULT_USER_ID));
+        signer.update(message, 0, message.length);
+        return signer.verifySignature(signature);
+    }
+}
@@ -0,0 +1,68 @@
+package com.mhx.encryption.util.sm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className SM3Benchmark
+ * @description SM3 摘要吞吐量基准测试，MB/s = ops/s * size / 1048576
+ *              SM3 digest throughput benchmark, MB/s = ops/s * size / 1048576
+ * @author MuHongXin.
+ * @date 2026/10/18 13:10
+ * @version v1.0.0
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SM3Benchmark {
+    @Param({"64", "1024", "65536", "16777216"})
+    public int size;
+
+    private byte[] data;
+
+    private ByteBuffer direct;
+
+    private final byte[] out = new byte[32];
+
+    @Setup
+    public void setup() {
+        data = new byte[size];
+        new Random(size).nextBytes(data);
+        direct = ByteBuffer.allocateDirect(size);
+        direct.put(data);
+    }
+
+    @Benchmark
+    public byte[] digest() {
+        SM3Digest sm3 = new SM3Digest();
+        sm3.update(data, 0, data.length);
+        sm3.doFinal(out, 0);
+        return out;
+    }
+
+    @Benchmark
+    public byte[] digestDirectBuffer() {
+        SM3Digest sm3 = new SM3Digest();
+        direct.clear();
+        sm3.update(direct);
+        sm3.doFinal(out, 0);
+        return out;
+    }
+}
@@ -0,0 +1,99 @@
+package com.mhx.encryption.util.sm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className SM3TreeHashBenchmark
+ * @description SM3 树哈希的多核扩展曲线：threads 为 ForkJoin 线程池的并行度，threads = 1 为分块顺序计算，
+ *              file 为内存映射的临时文件（按窗口映射），buffer 为堆内缓冲区，sequential 为普通 SM3 的参考值；
+ *              MB/s = ops/s * size / 1048576
+ *              Scaling curve of the SM3 tree hash: 'threads' is the ForkJoin pool parallelism, threads = 1 hashes the
+ *              chunks one after another, file is a memory mapped temporary file (mapped per window), buffer is a heap
+ *              buffer and sequential is the plain SM3 for reference; MB/s = ops/s * size / 1048576
+ * @author MuHongXin.
+ * @date 2026/10/19 13:00
+ * @version v1.0.0
+ **/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SM3TreeHashBenchmark {
+    @Param({"16777216", "268435456"})
+    public int size;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"1048576", "4194304"})
+    public int chunkSize;
+
+    private byte[] data;
+
+    private Path file;
+
+    private FileChannel channel;
+
+    private ForkJoinPool pool;
+
+    private final byte[] out = new byte[32];
+
+    @Setup
+    public void setup() throws IOException {
+        data = new byte[size];
+        new Random(size).nextBytes(data);
+        file = Files.createTempFile("sm3-tree", ".bin");
+        Files.write(file, data);
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public byte[] file() throws IOException {
+        return SM3TreeHash.hash(channel, chunkSize, pool).getRoot();
+    }
+
+    @Benchmark
+    public byte[] buffer() {
+        return SM3TreeHash.hash(ByteBuffer.wrap(data), chunkSize, pool).getRoot();
+    }
+
+    @Benchmark
+    public byte[] sequential() {
+        SM3Digest sm3 = new SM3Digest();
+        sm3.update(data, 0, data.length);
+        sm3.doFinal(out, 0);
+        return out;
+    }
+}
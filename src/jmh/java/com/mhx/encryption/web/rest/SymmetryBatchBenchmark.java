@@ -0,0 +1,108 @@
+package com.mhx.encryption.web.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.symmetry.SymmetryBatchDTO;
+import com.mhx.encryption.dto.symmetry.SymmetryDTO;
+import com.mhx.encryption.service.aes.AesService;
+import com.mhx.encryption.service.aes.impl.AesServiceImpl;
+import com.mhx.encryption.service.des.DesService;
+import com.mhx.encryption.service.des.impl.DesServiceImpl;
+import com.mhx.encryption.util.aes.AesMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className SymmetryBatchBenchmark
+ * @description 批量接口在进程内的开销：每项一次 JSON 请求/响应和服务调用 与 整批一次 的对比，不包含 HTTP 连接开销，
+ *              每次调用处理 batchSize 项
+ *              In-process cost of the batch endpoints: one JSON request/response and service call per item against
+ *              one for the whole batch, without the HTTP connection cost, every invocation handles batchSize items
+ * @author MuHongXin.
+ * @date 2026/10/18 18:40
+ * @version v1.0.0
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymmetryBatchBenchmark {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final AesService aesService = new AesServiceImpl();
+
+    private final DesService desService = new DesServiceImpl();
+
+    @Param({"1", "16", "256", "4096"})
+    public int batchSize;
+
+    private String[] aesSingleBodies;
+
+    private String[] desSingleBodies;
+
+    private String aesBatchBody;
+
+    private String desBatchBody;
+
+    @Setup
+    public void setup() throws Exception {
+        List<String> items = new ArrayList<>(batchSize);
+        aesSingleBodies = new String[batchSize];
+        desSingleBodies = new String[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            items.add("field-value-" + i);
+            aesSingleBodies[i] = mapper.writeValueAsString(new SymmetryDTO("field-value-" + i, "", "1234567890abcdef"));
+            desSingleBodies[i] = mapper.writeValueAsString(new SymmetryDTO("field-value-" + i, "", "12345678"));
+        }
+        aesBatchBody = mapper.writeValueAsString(new SymmetryBatchDTO(items, "1234567890abcdef"));
+        desBatchBody = mapper.writeValueAsString(new SymmetryBatchDTO(items, "12345678"));
+    }
+
+    @Benchmark
+    public int aesSingle() throws Exception {
+        int length = 0;
+        for (String body : aesSingleBodies) {
+            ResponseVO response = aesService.doAesEncryption(mapper.readValue(body, SymmetryDTO.class));
+            length += mapper.writeValueAsString(response).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int aesBatch() throws Exception {
+        ResponseVO response = aesService.doAesBatchEncryption(mapper.readValue(aesBatchBody, SymmetryBatchDTO.class), AesMode.ECB);
+        return mapper.writeValueAsString(response).length();
+    }
+
+    @Benchmark
+    public int desSingle() throws Exception {
+        int length = 0;
+        for (String body : desSingleBodies) {
+            ResponseVO response = desService.doDesEncryption(mapper.readValue(body, SymmetryDTO.class));
+            length += mapper.writeValueAsString(response).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int desBatch() throws Exception {
+        ResponseVO response = desService.doDesBatchEncryption(mapper.readValue(desBatchBody, SymmetryBatchDTO.class));
+        return mapper.writeValueAsString(response).length();
+    }
+}
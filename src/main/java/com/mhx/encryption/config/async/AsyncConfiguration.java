@@ -1,7 +1,10 @@
 package com.mhx.encryption.config.async;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
@@ -9,36 +12,73 @@ import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * @className AsyncConfiguration
- * @description 线程池配置文件
+ * @description 线程池配置文件：对称算法与公钥算法分别使用按 CPU 核数配置的线程池和有界队列，
+ *              慢的 SM2 / ECC / RSA 运算不会占满处理 AES / DES 的线程；队列满时直接拒绝（503），不在请求线程上执行
+ *              Thread pool configuration: symmetric and public key algorithms each get a CPU sized pool with a bounded
+ *              queue, so slow SM2 / ECC / RSA work cannot occupy the threads serving AES / DES; a full queue rejects
+ *              the task (503) instead of running it on the request thread
  * @author MuHongXin.
  * @date 2023/05/31 15:20
  * @version v1.0.0
  **/
 
 @Configuration
+@EnableAsync
+@EnableConfigurationProperties(AsyncProperties.class)
 public class AsyncConfiguration {
     /**
-    * @Description: 加密服务线程池
-    *               Encrypt the service thread pool
+    * @Description: 对称算法线程池（AES、DES），同时作为原 encryptionExecutor
+    *               Thread pool of the symmetric algorithms (AES, DES), also the former encryptionExecutor
     * @Author: MuHongXin
-    * @DateTime: 下午4:46 2022/11/8
-    * @Return: Executor
+    * @DateTime: 下午11:10 2026/10/18
+    * @Return: ThreadPoolTaskExecutor
     */
-    @Bean("encryptionExecutor")
-    public Executor logExecutor() {
+    @Bean({"symmetricExecutor", "encryptionExecutor"})
+    public ThreadPoolTaskExecutor symmetricExecutor(AsyncProperties properties) {
+        return executor(properties.getSymmetric(), "encryption-symmetric-");
+    }
+
+    /**
+    * @Description: 公钥算法线程池（SM2、ECC、RSA）
+    *               Thread pool of the public key algorithms (SM2, ECC, RSA)
+    * @Author: MuHongXin
+    * @DateTime: 下午11:10 2026/10/18
+    * @Return: ThreadPoolTaskExecutor
+    */
+    @Bean("asymmetricExecutor")
+    public ThreadPoolTaskExecutor asymmetricExecutor(AsyncProperties properties) {
+        return executor(properties.getAsymmetric(), "encryption-asymmetric-");
+    }
+
+    /**
+    * @Description: 按算法类别分派加解密任务，encryption.async.enabled=false 时在请求线程上执行
+    *               Dispatches encryption work by algorithm class, on the request thread when encryption.async.enabled=false
+    * @Author: MuHongXin
+    * @DateTime: 下午11:10 2026/10/18
+    * @Return: EncryptionDispatcher
+    */
+    @Bean
+    public EncryptionDispatcher encryptionDispatcher(AsyncProperties properties,
+                                                     @Qualifier("symmetricExecutor") Executor symmetricExecutor,
+                                                     @Qualifier("asymmetricExecutor") Executor asymmetricExecutor) {
+        return properties.isEnabled()
+                ? new EncryptionDispatcher(symmetricExecutor, asymmetricExecutor)
+                : new EncryptionDispatcher(null, null);
+    }
+
+    private static ThreadPoolTaskExecutor executor(AsyncProperties.Pool pool, String threadNamePrefix) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        // 核心池大小 Core * 2 (SSD +1)
-        executor.setCorePoolSize(5);
-        // 最大线程数 CorePoolSize * 4
-        executor.setMaxPoolSize(20);
-        // 队列程度 CorePoolSize * 10
-        executor.setQueueCapacity(50);
-        // 线程空闲时间 x秒
-        executor.setKeepAliveSeconds(1000);
+        // 加解密是纯 CPU 运算，线程数固定为 CPU 核数，多余的线程只会增加切换 | Pure CPU work: a fixed pool of one thread per CPU, more threads only add switching
+        executor.setCorePoolSize(pool.threadCount());
+        executor.setMaxPoolSize(pool.threadCount());
+        // 有界队列 | Bounded queue
+        executor.setQueueCapacity(pool.getQueueCapacity());
         // 线程前缀名称 方便log查询定位
-        executor.setThreadNamePrefix("encryption-async");
-        // 配置拒绝策略 线程池拒绝服务后由当前线程运行
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        // 配置拒绝策略 队列满时抛出 RejectedExecutionException，由 RestExceptionHandler 转为 503 | Rejected when full, RestExceptionHandler turns it into 503
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
         return executor;
     }
 }
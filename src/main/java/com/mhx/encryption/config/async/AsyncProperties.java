@@ -0,0 +1,117 @@
+package com.mhx.encryption.config.async;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @className AsyncProperties
+ * @description 异步执行配置：对称算法与公钥算法各自使用独立的线程池和有界队列
+ *              Asynchronous execution configuration: symmetric and public key algorithms each have their own
+ *              thread pool and bounded queue
+ * @author MuHongXin.
+ * @date 2026/10/18 23:10
+ * @version v1.0.0
+ **/
+
+@ConfigurationProperties(prefix = "encryption.async")
+public class AsyncProperties {
+    /**
+     * 是否在独立线程池上执行加解密，关闭时在请求线程上执行
+     *
+     * ------------------------------------------------------------------------------丨
+     * Whether encryption runs on the dedicated pools, on the request thread if not.  丨
+     * ------------------------------------------------------------------------------丨
+     */
+    private boolean enabled = true;
+
+    /**
+     * 对称算法线程池（AES、DES）
+     *
+     * -------------------------------------------丨
+     * Pool of the symmetric algorithms (AES, DES). 丨
+     * -------------------------------------------丨
+     */
+    private Pool symmetric = new Pool(256);
+
+    /**
+     * 公钥算法线程池（SM2、ECC、RSA）
+     *
+     * -----------------------------------------------------丨
+     * Pool of the public key algorithms (SM2, ECC, RSA).    丨
+     * -----------------------------------------------------丨
+     */
+    private Pool asymmetric = new Pool(64);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Pool getSymmetric() {
+        return symmetric;
+    }
+
+    public void setSymmetric(Pool symmetric) {
+        this.symmetric = symmetric;
+    }
+
+    public Pool getAsymmetric() {
+        return asymmetric;
+    }
+
+    public void setAsymmetric(Pool asymmetric) {
+        this.asymmetric = asymmetric;
+    }
+
+    public static class Pool {
+        /**
+         * 线程数，0 表示 CPU 核数
+         *
+         * -------------------------------------------------丨
+         * Number of threads, 0 means the number of CPUs.    丨
+         * -------------------------------------------------丨
+         */
+        private int threads = 0;
+
+        /**
+         * 等待队列容量，队列满时拒绝任务并返回 503
+         *
+         * ------------------------------------------------------------------丨
+         * Queue capacity, tasks are rejected with 503 when the queue is full. 丨
+         * ------------------------------------------------------------------丨
+         */
+        private int queueCapacity;
+
+        public Pool() {
+        }
+
+        public Pool(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        /**
+         * 实际线程数 | Effective number of threads
+         */
+        public int threadCount() {
+            return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mhx.encryption.config.async;
+
+import com.mhx.encryption.web.bulkhead.Bulkhead;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * @className EncryptionDispatcher
+ * @description 把加解密任务按算法类别提交到对应的线程池，接口返回 CompletableFuture，Tomcat 请求线程在计算期间被释放。
+ *              线程池队列已满时在提交时抛出 RejectedExecutionException，由 RestExceptionHandler 转为 503；
+ *              请求持有舱壁许可时，提交前占用该算法的排队名额（不足时 503），任务开始时排队超过 maxWait 则放弃（408）；
+ *              线程池为 null 时在调用线程上执行并返回已完成的 CompletableFuture
+ *              Submits encryption work to the pool of its algorithm class, the endpoints return CompletableFuture and
+ *              the Tomcat request thread is released while the work runs. A full pool queue throws
+ *              RejectedExecutionException at submission, which RestExceptionHandler turns into 503. When the request
+ *              holds a bulkhead permit, one of the algorithm's queue slots is taken before the submission (503 when
+ *              none is left) and a task that queued longer than maxWait gives up when it starts (408); with a null
+ *              pool the work runs on the calling thread and a completed CompletableFuture is returned
+ * @author MuHongXin.
+ * @date 2026/10/18 23:10
+ * @version v1.0.0
+ **/
+
+public class EncryptionDispatcher {
+    private final Executor symmetricExecutor;
+    private final Executor asymmetricExecutor;
+
+    /**
+     * @param symmetricExecutor 对称算法线程池，为 null 时在调用线程上执行 | symmetric pool, the calling thread when null
+     * @param asymmetricExecutor 公钥算法线程池，为 null 时在调用线程上执行 | public key pool, the calling thread when null
+     */
+    public EncryptionDispatcher(Executor symmetricExecutor, Executor asymmetricExecutor) {
+        this.symmetricExecutor = symmetricExecutor;
+        this.asymmetricExecutor = asymmetricExecutor;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午11:10 2026/10/18
+     * @description: 在对称算法线程池（AES、DES）上执行 | Runs on the symmetric pool (AES, DES)
+     * @param task 加解密任务 | encryption task
+     * @return java.util.concurrent.CompletableFuture<T>
+     **/
+    public <T> CompletableFuture<T> symmetric(Supplier<T> task) {
+        return dispatch(symmetricExecutor, task);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午11:10 2026/10/18
+     * @description: 在公钥算法线程池（SM2、ECC、RSA）上执行 | Runs on the public key pool (SM2, ECC, RSA)
+     * @param task 加解密任务 | encryption task
+     * @return java.util.concurrent.CompletableFuture<T>
+     **/
+    public <T> CompletableFuture<T> asymmetric(Supplier<T> task) {
+        return dispatch(asymmetricExecutor, task);
+    }
+
+    private static <T> CompletableFuture<T> dispatch(Executor executor, Supplier<T> task) {
+        if (executor == null) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            try {
+                future.complete(task.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        Bulkhead.Permit permit = Bulkhead.current();
+        if (permit == null) {
+            return CompletableFuture.supplyAsync(task, executor);
+        }
+
+        permit.enqueue();
+        return CompletableFuture.supplyAsync(() -> {
+            permit.start();
+            return task.get();
+        }, executor);
+    }
+}
@@ -0,0 +1,134 @@
+package com.mhx.encryption.config.bulkhead;
+
+import com.mhx.encryption.config.async.AsyncProperties;
+import com.mhx.encryption.web.bulkhead.Bulkhead;
+import com.mhx.encryption.web.bulkhead.BulkheadInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @className BulkheadConfiguration
+ * @description 为每个算法的接口路径注册舱壁拦截器，一个算法的突发请求（如大量 SM2 解密）只会占满自己的并发上限和排队名额，
+ *              不会拖慢其他算法；启动时校验同一线程池上各算法的排队名额之和不超过该线程池的队列容量，因此一个算法不会占满共享队列；
+ *              并导出并发上限、在途数、队列深度和按原因统计的拒绝数量指标。流式接口（/api/{算法}/stream/**）不经过舱壁
+ *              Registers a bulkhead interceptor on the endpoint path of every algorithm, so a burst on one algorithm
+ *              (such as many SM2 decryptions) only fills its own limit and queue slots without slowing the others
+ *              down; at startup the queue slots of the algorithms on one pool are checked to fit the queue of that
+ *              pool, so one algorithm cannot fill the shared queue; the limit, in flight count, queue depth and
+ *              rejections by reason are exported as metrics. Stream endpoints (/api/{algorithm}/stream/**) bypass
+ *              the bulkheads
+ * @author MuHongXin.
+ * @date 2026/10/18 23:40
+ * @version v1.0.0
+ **/
+
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@ConditionalOnProperty(prefix = "encryption.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfiguration implements WebMvcConfigurer {
+    /**
+     * 流式接口在请求线程上运行整个上传过程，耗时取决于数据量和客户端速度而不是负载，计入延迟样本会把并发上限压到最低；
+     * 这类接口的并发由 Servlet 容器的线程数限制
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     * Stream endpoints run the whole upload on the request thread and take as long as the data size and    丨
+     * the client speed dictate rather than the load, as latency samples they would push the limit down to  丨
+     * the minimum; their concurrency is bounded by the servlet container threads.                          丨
+     * ----------------------------------------------------------------------------------------------------丨
+     */
+    private static final String STREAM_PATHS = "/api/*/stream/**";
+
+    private final List<Bulkhead> bulkheads = new ArrayList<>();
+
+    public BulkheadConfiguration(BulkheadProperties properties, AsyncProperties asyncProperties, MeterRegistry registry) {
+        Map<BulkheadProperties.Executor, Integer> slots = new EnumMap<>(BulkheadProperties.Executor.class);
+        for (Map.Entry<String, BulkheadProperties.Limit> entry : properties.getAlgorithms().entrySet()) {
+            BulkheadProperties.Limit limit = entry.getValue();
+            Bulkhead bulkhead = new Bulkhead(entry.getKey(), limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit(),
+                    limit.getQueueCapacity(), limit.getMaxWait().toMillis());
+            slots.merge(limit.getExecutor(), limit.getQueueCapacity(), Integer::sum);
+            bind(registry, bulkhead);
+            bulkheads.add(bulkhead);
+        }
+
+        if (asyncProperties.isEnabled()) {
+            check(slots, BulkheadProperties.Executor.SYMMETRIC, asyncProperties.getSymmetric());
+            check(slots, BulkheadProperties.Executor.ASYMMETRIC, asyncProperties.getAsymmetric());
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        for (Bulkhead bulkhead : bulkheads) {
+            registry.addInterceptor(new BulkheadInterceptor(bulkhead))
+                    .addPathPatterns("/api/" + bulkhead.getName() + "/**")
+                    .excludePathPatterns(STREAM_PATHS);
+        }
+    }
+
+    /**
+     * 排队名额之和超过线程池队列时，线程池会先于舱壁拒绝，一个算法也可能占满其他算法的队列
+     *
+     * ----------------------------------------------------------------------------------------------丨
+     * With more slots than the pool queue holds, the pool rejects before the bulkheads do and one    丨
+     * algorithm can fill the queue of the others.                                                   丨
+     * ----------------------------------------------------------------------------------------------丨
+     */
+    private static void check(Map<BulkheadProperties.Executor, Integer> slots, BulkheadProperties.Executor executor, AsyncProperties.Pool pool) {
+        int total = slots.getOrDefault(executor, 0);
+        if (total > pool.getQueueCapacity()) {
+            throw new IllegalStateException("舱壁排队名额之和超过线程池队列容量! | The bulkhead queue slots on the "
+                    + executor + " pool add up to " + total + ", more than its queue capacity " + pool.getQueueCapacity());
+        }
+    }
+
+    private static void bind(MeterRegistry registry, Bulkhead bulkhead) {
+        String name = bulkhead.getName();
+        Gauge.builder("encryption.bulkhead.limit", bulkhead, Bulkhead::limit)
+                .description("Adaptive concurrency limit")
+                .tag("algorithm", name)
+                .register(registry);
+        Gauge.builder("encryption.bulkhead.in-flight", bulkhead, Bulkhead::inFlight)
+                .tag("algorithm", name)
+                .register(registry);
+        Gauge.builder("encryption.bulkhead.queue.depth", bulkhead, Bulkhead::queueDepth)
+                .tag("algorithm", name)
+                .register(registry);
+        Gauge.builder("encryption.bulkhead.queue.capacity", bulkhead, Bulkhead::queueCapacity)
+                .tag("algorithm", name)
+                .register(registry);
+        FunctionCounter.builder("encryption.bulkhead.accepted", bulkhead, Bulkhead::acceptedCount)
+                .tag("algorithm", name)
+                .register(registry);
+
+        // 按原因统计拒绝：达到并发上限、排队名额已满、预计等待过长（503）、排队超时（408）
+        // Rejections by reason: concurrency limit, queue slots taken, expected wait too long (503), wait timed out (408)
+        FunctionCounter.builder("encryption.bulkhead.rejected", bulkhead, Bulkhead::rejectedCount)
+                .tag("algorithm", name)
+                .tag("reason", "limit")
+                .register(registry);
+        FunctionCounter.builder("encryption.bulkhead.rejected", bulkhead, Bulkhead::queueFullCount)
+                .tag("algorithm", name)
+                .tag("reason", "queue-full")
+                .register(registry);
+        FunctionCounter.builder("encryption.bulkhead.rejected", bulkhead, Bulkhead::shedCount)
+                .tag("algorithm", name)
+                .tag("reason", "shed")
+                .register(registry);
+        FunctionCounter.builder("encryption.bulkhead.rejected", bulkhead, Bulkhead::timeoutCount)
+                .tag("algorithm", name)
+                .tag("reason", "timeout")
+                .register(registry);
+    }
+}
@@ -0,0 +1,146 @@
+package com.mhx.encryption.config.bulkhead;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @className BulkheadProperties
+ * @description 按算法划分的舱壁配置，键为算法名称（aes、des、sm2、rsa），对应接口路径 /api/{键}/**；
+ *              同一线程池上各算法的排队名额之和不能超过该线程池的队列容量
+ *              Bulkhead configuration per algorithm, keyed by the algorithm name (aes, des, sm2, rsa) which is also
+ *              the endpoint path /api/{key}/**; the queue slots of the algorithms on one pool must fit the queue
+ *              capacity of that pool
+ * @author MuHongXin.
+ * @date 2026/10/18 23:40
+ * @version v1.0.0
+ **/
+
+@ConfigurationProperties(prefix = "encryption.bulkhead")
+public class BulkheadProperties {
+    /**
+     * 是否启用舱壁
+     *
+     * ---------------------------------------丨
+     * Whether the bulkheads are enabled.     丨
+     * ---------------------------------------丨
+     */
+    private boolean enabled = true;
+
+    /**
+     * 各算法的舱壁，对称算法开销小、上限高，公钥算法开销大、上限低
+     *
+     * --------------------------------------------------------------------------------丨
+     * Bulkhead of every algorithm; cheap symmetric algorithms get high limits, costly  丨
+     * public key algorithms low ones.                                                  丨
+     * --------------------------------------------------------------------------------丨
+     */
+    private Map<String, Limit> algorithms = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Limit> getAlgorithms() {
+        return algorithms;
+    }
+
+    public void setAlgorithms(Map<String, Limit> algorithms) {
+        this.algorithms = algorithms;
+    }
+
+    public static class Limit {
+        /**
+         * 初始并发上限 | Initial concurrency limit
+         */
+        private int initialLimit = 20;
+
+        /**
+         * 并发上限的下限 | Lower bound of the concurrency limit
+         */
+        private int minLimit = 1;
+
+        /**
+         * 并发上限的上限 | Upper bound of the concurrency limit
+         */
+        private int maxLimit = 200;
+
+        /**
+         * 执行该算法的线程池 | Pool running the algorithm
+         */
+        private Executor executor = Executor.SYMMETRIC;
+
+        /**
+         * 在线程池队列中的排队名额 | Slots in the pool queue
+         */
+        private int queueCapacity = 32;
+
+        /**
+         * 最长排队时间，预计等待超过时返回 503，排队超过时返回 408 | Maximum wait, 503 when the expected wait is
+         * longer, 408 when the actual wait is
+         */
+        private Duration maxWait = Duration.ofMillis(500);
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public Executor getExecutor() {
+            return executor;
+        }
+
+        public void setExecutor(Executor executor) {
+            this.executor = executor;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+
+    /**
+     * 加解密线程池，对应 encryption.async.symmetric / asymmetric | Encryption pools, encryption.async.symmetric / asymmetric
+     */
+    public enum Executor {
+        SYMMETRIC,
+        ASYMMETRIC
+    }
+}
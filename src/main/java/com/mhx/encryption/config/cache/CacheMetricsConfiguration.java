@@ -0,0 +1,71 @@
+package com.mhx.encryption.config.cache;
+
+import com.mhx.encryption.util.aes.AesMode;
+import com.mhx.encryption.util.aes.AesUtils;
+import com.mhx.encryption.util.cache.BoundedCache;
+import com.mhx.encryption.util.des.DesAlgorithm;
+import com.mhx.encryption.util.des.DesUtils;
+import com.mhx.encryption.util.ecc.EccUtil;
+import com.mhx.encryption.util.rsa.RsaUtils;
+import com.mhx.encryption.util.sm.SM2Util;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @className CacheMetricsConfiguration
+ * @description 密钥缓存指标：AES 密钥（含 GCM / CTR）与 nonce 序列、SM2 公钥、ECC 公钥、RSA 公钥和私钥缓存的命中、未命中、淘汰数量和当前大小
+ *              Key cache metrics: hits, misses, evictions and the current size of the AES key (including GCM and
+ *              CTR) and nonce sequence, SM2 public key, ECC public key and RSA public and private key caches
+ * @author MuHongXin.
+ * @date 2026/10/18 18:05
+ * @version v1.0.0
+ **/
+
+@Configuration
+public class CacheMetricsConfiguration {
+    /**
+    * @Description: 将各密钥缓存注册到指标中心，以 cache 标签区分
+    *               Register every key cache with the meter registry, told apart by the 'cache' tag
+    * @Author: MuHongXin
+    * @DateTime: 下午6:05 2026/10/18
+    * @Return: InitializingBean
+    */
+    @Bean
+    public InitializingBean keyCacheMetrics(MeterRegistry registry) {
+        return () -> {
+            bind(registry, "aes.key", AesUtils.keyCache());
+            bind(registry, "aes-gcm.key", AesUtils.keyCache(AesMode.GCM));
+            bind(registry, "aes-ctr.key", AesUtils.keyCache(AesMode.CTR));
+            bind(registry, "aes.nonce", AesUtils.nonceCache());
+            bind(registry, "des.key", DesUtils.keyCache(DesAlgorithm.DES));
+            bind(registry, "desede.key", DesUtils.keyCache(DesAlgorithm.DESEDE));
+            bind(registry, "sm2.public-key", SM2Util.publicKeyCache());
+            bind(registry, "sm2.z-value", SM2Util.zCache());
+            bind(registry, "ecc.public-key", EccUtil.publicKeyCache());
+            bind(registry, "rsa.public-key", RsaUtils.publicKeyCache());
+            bind(registry, "rsa.private-key", RsaUtils.privateKeyCache());
+        };
+    }
+
+    private static void bind(MeterRegistry registry, String name, BoundedCache<?, ?> cache) {
+        FunctionCounter.builder("encryption.cache.hits", cache, BoundedCache::hitCount)
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("encryption.cache.misses", cache, BoundedCache::missCount)
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("encryption.cache.evictions", cache, BoundedCache::evictionCount)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("encryption.cache.size", cache, BoundedCache::size)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("encryption.cache.capacity", cache, BoundedCache::maximumSize)
+                .tag("cache", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,104 @@
+package com.mhx.encryption.config.keypair;
+
+import com.mhx.encryption.util.keypair.KeyPairFactory;
+import com.mhx.encryption.util.keypair.KeyPairPool;
+import com.mhx.encryption.util.sm.SM2KeyPair;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.security.KeyPair;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @className KeyPairPoolConfiguration
+ * @description 密钥对工厂，encryption.key-pair-pool.enabled=true（默认）时为 SM2、各 RSA 模数长度以及配置了队列深度的 ECC 启动预生成池，
+ *              并以 algorithm、size 标签导出队列深度、补充延迟（后台生成耗时）、命中和回退数量指标；
+ *              回退数量 / 取用总数即未命中率
+ *              Key pair factory, with encryption.key-pair-pool.enabled=true (the default) it starts pre-generation
+ *              pools for SM2, every RSA modulus length and ECC when it has a queue depth, and exports the queue depth, the refill latency
+ *              (background generation time) and the hit and fallback counts tagged by algorithm and size;
+ *              fallbacks / all acquired pairs is the miss rate
+ * @author MuHongXin.
+ * @date 2026/10/19 02:10
+ * @version v1.0.0
+ **/
+
+@Configuration
+@EnableConfigurationProperties(KeyPairPoolProperties.class)
+public class KeyPairPoolConfiguration {
+    /**
+    * @Description: 密钥对工厂，未启用预生成池时所有密钥对都直接生成
+    *               Key pair factory, every key pair is generated directly when the pools are disabled
+    * @Author: MuHongXin
+    * @DateTime: 上午2:10 2026/10/19
+    * @Return: KeyPairFactory
+    */
+    @Bean(destroyMethod = "close")
+    public KeyPairFactory keyPairFactory(KeyPairPoolProperties properties, MeterRegistry registry) {
+        if (!properties.isEnabled()) {
+            return new KeyPairFactory();
+        }
+
+        int producers = properties.getProducers();
+        KeyPairPool<SM2KeyPair> sm2 = null;
+        if (properties.getSm2() > 0) {
+            sm2 = register(registry, KeyPairFactory.sm2Pool(properties.getSm2(), producers), "sm2", 256);
+        }
+
+        KeyPairPool<KeyPair> ecc = null;
+        if (properties.getEcc() > 0) {
+            ecc = register(registry, KeyPairFactory.eccPool(properties.getEcc(), producers), "ecc", 256);
+        }
+
+        Map<Integer, KeyPairPool<KeyPair>> rsa = new HashMap<>();
+        for (Map.Entry<Integer, Integer> entry : properties.getRsa().entrySet()) {
+            if (entry.getValue() != null && entry.getValue() > 0) {
+                int keySize = entry.getKey();
+                rsa.put(keySize, register(registry, KeyPairFactory.rsaPool(keySize, entry.getValue(), producers), "rsa", keySize));
+            }
+        }
+
+        KeyPairFactory factory = new KeyPairFactory(sm2, ecc, rsa);
+        factory.start();
+        return factory;
+    }
+
+    private static <T> KeyPairPool<T> register(MeterRegistry registry, KeyPairPool<T> pool, String algorithm, int size) {
+        Tags tags = Tags.of("algorithm", algorithm, "size", String.valueOf(size));
+
+        // 队列深度 | Queue depth
+        Gauge.builder("encryption.key-pair.pool.depth", pool, KeyPairPool::size)
+                .description("Pre-generated key pairs ready in the queue")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("encryption.key-pair.pool.capacity", pool, KeyPairPool::capacity)
+                .tags(tags)
+                .register(registry);
+
+        // 后台生成数量和耗时，count 的速率即补充速率 | Pairs generated in the background and their time, the count rate is the refill rate
+        FunctionTimer.builder("encryption.key-pair.refill", pool, KeyPairPool::producedCount, KeyPairPool::refillNanos, TimeUnit.NANOSECONDS)
+                .description("Background generation time of one key pair")
+                .tags(tags)
+                .register(registry);
+
+        // 按来源统计取用数量：队列或回退为直接生成 | Acquired pairs by source: the queue or the inline fallback
+        FunctionCounter.builder("encryption.key-pair.acquired", pool, KeyPairPool::hitCount)
+                .tags(tags)
+                .tag("source", "pool")
+                .register(registry);
+        FunctionCounter.builder("encryption.key-pair.acquired", pool, KeyPairPool::fallbackCount)
+                .description("Key pairs generated on the request thread because the queue was empty")
+                .tags(tags)
+                .tag("source", "fallback")
+                .register(registry);
+        return pool;
+    }
+}
@@ -0,0 +1,110 @@
+package com.mhx.encryption.config.keypair;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @className KeyPairPoolProperties
+ * @description 密钥对预生成池配置，队列深度为 0 的算法或 RSA 模数长度不使用预生成池
+ *              Configuration of the key pair pre-generation pools, an algorithm or RSA modulus length with a queue
+ *              depth of 0 has no pool
+ * @author MuHongXin.
+ * @date 2026/10/19 02:10
+ * @version v1.0.0
+ **/
+
+@ConfigurationProperties(prefix = "encryption.key-pair-pool")
+public class KeyPairPoolProperties {
+    /**
+     * 是否启用预生成池，关闭时所有密钥对都在请求线程上生成
+     *
+     * -------------------------------------------------------------------------------丨
+     * Whether the pools are enabled, every key pair is generated on the request thread  丨
+     * if not.                                                                          丨
+     * -------------------------------------------------------------------------------丨
+     */
+    private boolean enabled = true;
+
+    /**
+     * 每个池的后台生成线程数
+     *
+     * ---------------------------------------------丨
+     * Number of background producers of each pool.  丨
+     * ---------------------------------------------丨
+     */
+    private int producers = 1;
+
+    /**
+     * SM2 队列深度
+     *
+     * -----------------------丨
+     * SM2 queue depth.       丨
+     * -----------------------丨
+     */
+    private int sm2 = 64;
+
+    /**
+     * ECC 队列深度，默认不预生成：目前没有接口取用 ECC 密钥对，池只会白白占用后台 CPU
+     *
+     * ---------------------------------------------------------------------------------丨
+     * ECC queue depth, no pool by default: no endpoint takes ECC key pairs yet, a pool  丨
+     * would only burn background CPU.                                                   丨
+     * ---------------------------------------------------------------------------------丨
+     */
+    private int ecc;
+
+    /**
+     * RSA 模数长度 -> 队列深度，默认为空（不预生成）：默认值只写在 application.yml 中，配置的条目即全部条目，
+     * 不会与代码中的默认条目合并。后台线程的 MIN_PRIORITY 在 Linux 上不起作用，每个条目启动时都会占满一个 CPU 填充队列
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     * RSA modulus length -> queue depth, empty (no pools) by default: the defaults live in application.yml  丨
+     * only, so the configured entries are all the entries instead of being merged into defaults from the   丨
+     * code. MIN_PRIORITY of the producers has no effect on Linux, every entry takes a full CPU at startup   丨
+     * until its queue is filled.                                                                           丨
+     * ----------------------------------------------------------------------------------------------------丨
+     */
+    private Map<Integer, Integer> rsa = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getProducers() {
+        return producers;
+    }
+
+    public void setProducers(int producers) {
+        this.producers = producers;
+    }
+
+    public int getSm2() {
+        return sm2;
+    }
+
+    public void setSm2(int sm2) {
+        this.sm2 = sm2;
+    }
+
+    public int getEcc() {
+        return ecc;
+    }
+
+    public void setEcc(int ecc) {
+        this.ecc = ecc;
+    }
+
+    public Map<Integer, Integer> getRsa() {
+        return rsa;
+    }
+
+    public void setRsa(Map<Integer, Integer> rsa) {
+        this.rsa = rsa;
+    }
+}
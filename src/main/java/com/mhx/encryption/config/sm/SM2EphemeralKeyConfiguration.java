@@ -0,0 +1,65 @@
+package com.mhx.encryption.config.sm;
+
+import com.mhx.encryption.util.sm.SM2;
+import com.mhx.encryption.util.sm.SM2EphemeralKeyPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @className SM2EphemeralKeyConfiguration
+ * @description SM2 临时密钥对预生成池，encryption.sm2.ephemeral-key-pool.enabled=true 时启用，
+ *              启用后安装为 SM2 加密的共享池，并导出队列深度、生成数量、命中和回退数量指标
+ *              SM2 ephemeral key pair pool, enabled by encryption.sm2.ephemeral-key-pool.enabled=true;
+ *              once enabled it is installed as the shared pool of SM2 encryption and exports the queue depth,
+ *              the produced count, and the hit and fallback counts as metrics
+ * @author MuHongXin.
+ * @date 2026/10/18 17:20
+ * @version v1.0.0
+ **/
+
+@Configuration
+@EnableConfigurationProperties(SM2EphemeralKeyProperties.class)
+@ConditionalOnProperty(prefix = "encryption.sm2.ephemeral-key-pool", name = "enabled", havingValue = "true")
+public class SM2EphemeralKeyConfiguration {
+    /**
+    * @Description: SM2 临时密钥对预生成池
+    *               SM2 ephemeral key pair pool
+    * @Author: MuHongXin
+    * @DateTime: 下午5:20 2026/10/18
+    * @Return: SM2EphemeralKeyPool
+    */
+    @Bean(destroyMethod = "close")
+    public SM2EphemeralKeyPool sm2EphemeralKeyPool(SM2EphemeralKeyProperties properties, MeterRegistry registry) {
+        SM2EphemeralKeyPool pool = new SM2EphemeralKeyPool(SM2.instance(), properties.getCapacity(), properties.getProducers());
+
+        // 队列深度 | Queue depth
+        Gauge.builder("encryption.sm2.ephemeral.queue.depth", pool, SM2EphemeralKeyPool::size)
+                .description("SM2 ephemeral key pairs ready in the queue")
+                .register(registry);
+        Gauge.builder("encryption.sm2.ephemeral.queue.capacity", pool, SM2EphemeralKeyPool::capacity)
+                .register(registry);
+
+        // 生成数量，其速率即补充速率 | Produced pairs, their rate is the refill rate
+        FunctionCounter.builder("encryption.sm2.ephemeral.produced", pool, SM2EphemeralKeyPool::producedCount)
+                .description("SM2 ephemeral key pairs generated in the background")
+                .register(registry);
+
+        // 按来源统计取用数量：队列或回退为直接生成 | Acquired pairs by source: the queue or the inline fallback
+        FunctionCounter.builder("encryption.sm2.ephemeral.acquired", pool, SM2EphemeralKeyPool::hitCount)
+                .tag("source", "pool")
+                .register(registry);
+        FunctionCounter.builder("encryption.sm2.ephemeral.acquired", pool, SM2EphemeralKeyPool::fallbackCount)
+                .tag("source", "fallback")
+                .description("SM2 ephemeral key pairs generated on the request thread because the queue was empty")
+                .register(registry);
+
+        pool.start();
+        SM2EphemeralKeyPool.install(pool);
+        return pool;
+    }
+}
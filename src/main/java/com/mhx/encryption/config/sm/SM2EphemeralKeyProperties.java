@@ -0,0 +1,66 @@
+package com.mhx.encryption.config.sm;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @className SM2EphemeralKeyProperties
+ * @description SM2 临时密钥对预生成池配置
+ *              Configuration of the SM2 ephemeral key pair pool
+ * @author MuHongXin.
+ * @date 2026/10/18 17:20
+ * @version v1.0.0
+ **/
+
+@ConfigurationProperties(prefix = "encryption.sm2.ephemeral-key-pool")
+public class SM2EphemeralKeyProperties {
+    /**
+     * 是否启用预生成池，默认关闭
+     *
+     * -------------------------------------------------丨
+     * Whether the pool is enabled, off by default.     丨
+     * -------------------------------------------------丨
+     */
+    private boolean enabled = false;
+
+    /**
+     * 队列深度
+     *
+     * -------------------丨
+     * Queue depth.       丨
+     * -------------------丨
+     */
+    private int capacity = 1024;
+
+    /**
+     * 后台生成线程数
+     *
+     * ------------------------------------丨
+     * Number of background producers.     丨
+     * ------------------------------------丨
+     */
+    private int producers = 1;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getProducers() {
+        return producers;
+    }
+
+    public void setProducers(int producers) {
+        this.producers = producers;
+    }
+}
@@ -57,6 +57,30 @@ public class ResponseVO<T> implements Serializable {
         this.message = message;
     }
 
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public T getData() {
+        return data;
+    }
+
+    public void setData(T data) {
+        this.data = data;
+    }
+
     public static ResponseVO ok() {
         return new ResponseVO(null, String.valueOf(HttpStatus.OK.value()), HttpStatus.OK.getReasonPhrase());
     }
@@ -0,0 +1,114 @@
+package com.mhx.encryption.dto.asymmetry;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @className AsymmetryBatchDTO
+ * @description 非对称加密算法批量对象，所有内容共用同一密钥：批量加密使用公钥，批量签名使用私钥
+ *              Asymmetric encryption algorithm batch object, every item shares one key: the public key for batch
+ *              encryption, the private key for batch signing
+ * @author MuHongXin.
+ * @date 2026/10/19 01:20
+ * @version v1.0.0
+ **/
+
+public class AsymmetryBatchDTO {
+    /**
+     * 单次请求最多的内容数量：私钥运算每次约数毫秒，上限比对称算法低
+     *
+     * ----------------------------------------------------------------------------------丨
+     * Maximum number of items in one request: a private key operation takes a few       丨
+     * milliseconds, so the limit is lower than for the symmetric algorithms.            丨
+     * ----------------------------------------------------------------------------------丨
+     */
+    public static final int MAXIMUM_ITEMS = 1024;
+
+    /**
+     * 明文或消息列表
+     */
+    private List<String> items;
+
+    /**
+     * 公钥
+     */
+    private String publicKey;
+
+    /**
+     * 私钥
+     */
+    private String privateKey;
+
+    public AsymmetryBatchDTO() {
+    }
+
+    public AsymmetryBatchDTO(List<String> items, String publicKey, String privateKey) {
+        this.items = items;
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+    }
+
+    public List<String> getItems() {
+        return items;
+    }
+
+    public void setItems(List<String> items) {
+        this.items = items;
+    }
+
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public void setPublicKey(String publicKey) {
+        this.publicKey = publicKey;
+    }
+
+    public String getPrivateKey() {
+        return privateKey;
+    }
+
+    public void setPrivateKey(String privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AsymmetryBatchDTO that = (AsymmetryBatchDTO) o;
+        return Objects.equals(items, that.items) &&
+                Objects.equals(publicKey, that.publicKey) &&
+                Objects.equals(privateKey, that.privateKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, publicKey, privateKey);
+    }
+
+    @Override
+    public String toString() {
+        return "AsymmetryBatchDTO{" +
+                "items=" + (items == null ? null : items.size()) +
+                ", publicKey='" + publicKey + '\'' +
+                '}';
+    }
+
+    /**
+     * 请求是否无效：为空、没有内容或超过最多内容数量
+     *
+     * ----------------------------------------------------------------------------丨
+     * Whether the request is invalid: null, no items, or more than the maximum.   丨
+     * ----------------------------------------------------------------------------丨
+     */
+    public static boolean isInvalid(AsymmetryBatchDTO dto) {
+        return dto == null || dto.items == null || dto.items.isEmpty() || dto.items.size() > MAXIMUM_ITEMS;
+    }
+}
@@ -0,0 +1,126 @@
+package com.mhx.encryption.dto.asymmetry;
+
+import java.util.Objects;
+
+/**
+ * @className SignatureDTO
+ * @description 数字签名对象：签名时需要消息、私钥和公钥（计算 ZA），验签时需要消息、签名和公钥；
+ *              签名、公钥、私钥均为十六进制，用户标识为空时使用默认标识
+ *              Digital signature object: signing needs the message, private key and public key (for ZA),
+ *              verification needs the message, signature and public key; signature and keys are hex,
+ *              an empty user ID means the default ID
+ * @author MuHongXin.
+ * @date 2026/10/18 23:55
+ * @version v1.0.0
+ **/
+
+public class SignatureDTO {
+    /**
+     * 消息
+     */
+    private String message;
+
+    /**
+     * 签名
+     */
+    private String signature;
+
+    /**
+     * 公钥
+     */
+    private String publicKey;
+
+    /**
+     * 私钥
+     */
+    private String privateKey;
+
+    /**
+     * 用户标识
+     */
+    private String userId;
+
+    public SignatureDTO() {
+    }
+
+    public SignatureDTO(String message, String signature, String publicKey, String privateKey, String userId) {
+        this.message = message;
+        this.signature = signature;
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+        this.userId = userId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    public void setSignature(String signature) {
+        this.signature = signature;
+    }
+
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public void setPublicKey(String publicKey) {
+        this.publicKey = publicKey;
+    }
+
+    public String getPrivateKey() {
+        return privateKey;
+    }
+
+    public void setPrivateKey(String privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        SignatureDTO that = (SignatureDTO) o;
+        return Objects.equals(message, that.message) &&
+                Objects.equals(signature, that.signature) &&
+                Objects.equals(publicKey, that.publicKey) &&
+                Objects.equals(privateKey, that.privateKey) &&
+                Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(message, signature, publicKey, privateKey, userId);
+    }
+
+    @Override
+    public String toString() {
+        return "SignatureDTO{" +
+                "message='" + message + '\'' +
+                ", signature='" + signature + '\'' +
+                ", publicKey='" + publicKey + '\'' +
+                ", userId='" + userId + '\'' +
+                '}';
+    }
+}
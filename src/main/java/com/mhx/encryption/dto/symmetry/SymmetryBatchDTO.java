@@ -0,0 +1,97 @@
+package com.mhx.encryption.dto.symmetry;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @className SymmetryBatchDTO
+ * @description 对称加密算法批量对象，所有内容共用同一密钥，密钥为空时使用默认密钥
+ *              Symmetric encryption algorithm batch object, every item shares one key, the default key when it is empty
+ * @author MuHongXin.
+ * @date 2026/10/18 18:40
+ * @version v1.0.0
+ **/
+
+public class SymmetryBatchDTO {
+    /**
+     * 单次请求最多的内容数量
+     *
+     * -------------------------------------------------丨
+     * Maximum number of items in one request.          丨
+     * -------------------------------------------------丨
+     */
+    public static final int MAXIMUM_ITEMS = 4096;
+
+    /**
+     * 明文或密文列表
+     */
+    private List<String> items;
+
+    /**
+     * 密钥
+     */
+    private String secretKey;
+
+    public SymmetryBatchDTO() {
+    }
+
+    public SymmetryBatchDTO(List<String> items, String secretKey) {
+        this.items = items;
+        this.secretKey = secretKey;
+    }
+
+    public List<String> getItems() {
+        return items;
+    }
+
+    public void setItems(List<String> items) {
+        this.items = items;
+    }
+
+    public String getSecretKey() {
+        return secretKey;
+    }
+
+    public void setSecretKey(String secretKey) {
+        this.secretKey = secretKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        SymmetryBatchDTO that = (SymmetryBatchDTO) o;
+        return Objects.equals(items, that.items) &&
+                Objects.equals(secretKey, that.secretKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, secretKey);
+    }
+
+    @Override
+    public String toString() {
+        return "SymmetryBatchDTO{" +
+                "items=" + (items == null ? null : items.size()) +
+                ", secretKey='" + secretKey + '\'' +
+                '}';
+    }
+
+    /**
+     * 请求是否无效：为空、没有内容或超过最多内容数量
+     *
+     * ----------------------------------------------------------------------------丨
+     * Whether the request is invalid: null, no items, or more than the maximum.   丨
+     * ----------------------------------------------------------------------------丨
+     */
+    public static boolean isInvalid(SymmetryBatchDTO dto) {
+        return dto == null || dto.items == null || dto.items.isEmpty() || dto.items.size() > MAXIMUM_ITEMS;
+    }
+}
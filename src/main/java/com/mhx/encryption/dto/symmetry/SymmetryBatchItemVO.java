@@ -0,0 +1,76 @@
+package com.mhx.encryption.dto.symmetry;
+
+import com.mhx.encryption.util.cipher.BatchResult;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @className SymmetryBatchItemVO
+ * @description 批量加解密的单项结果，顺序与请求内容一致
+ *              Result of one item of a batch encryption or decryption, in the order of the request items
+ * @author MuHongXin.
+ * @date 2026/10/18 18:40
+ * @version v1.0.0
+ **/
+
+public class SymmetryBatchItemVO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 是否成功
+     */
+    private boolean success;
+
+    /**
+     * 密文或明文，失败时为 null
+     */
+    private String data;
+
+    /**
+     * 失败原因，成功时为 null
+     */
+    private String message;
+
+    public SymmetryBatchItemVO() {
+    }
+
+    public SymmetryBatchItemVO(boolean success, String data, String message) {
+        this.success = success;
+        this.data = data;
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public void setData(String data) {
+        this.data = data;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public static List<SymmetryBatchItemVO> of(BatchResult result) {
+        List<SymmetryBatchItemVO> items = new ArrayList<>(result.size());
+        for (int i = 0; i < result.size(); i++) {
+            items.add(new SymmetryBatchItemVO(result.isSuccess(i), result.value(i), result.error(i)));
+        }
+        return items;
+    }
+}
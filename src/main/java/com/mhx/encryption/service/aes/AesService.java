@@ -1,7 +1,15 @@
 package com.mhx.encryption.service.aes;
 
 import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.symmetry.SymmetryBatchDTO;
 import com.mhx.encryption.dto.symmetry.SymmetryDTO;
+import com.mhx.encryption.util.aes.AesMode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.util.function.LongConsumer;
 
 /**
  * @interfaceName AesService 
@@ -31,4 +39,75 @@ public interface AesService {
      * @return com.mhx.encryption.dto.ResponseVO
      **/
     ResponseVO doAesDecryption(SymmetryDTO symmetryDTO);
+
+    /**
+     * AES加密，使用指定工作模式
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午7:10 2026/10/18
+     * @param symmetryDTO 对称加密算法对象
+     * @param mode 工作模式 ECB / GCM / CTR
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doAesEncryption(SymmetryDTO symmetryDTO, AesMode mode);
+
+    /**
+     * AES解密，使用指定工作模式
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午7:10 2026/10/18
+     * @param symmetryDTO 对称加密算法对象
+     * @param mode 工作模式 ECB / GCM / CTR
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doAesDecryption(SymmetryDTO symmetryDTO, AesMode mode);
+
+    /**
+     * AES批量加密，所有明文共用同一密钥，结果顺序与请求一致，单项失败不影响其他项
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @param batchDTO 对称加密算法批量对象
+     * @param mode 工作模式 ECB / GCM / CTR
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doAesBatchEncryption(SymmetryBatchDTO batchDTO, AesMode mode);
+
+    /**
+     * AES批量解密，所有密文共用同一密钥，结果顺序与请求一致，单项失败不影响其他项
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @param batchDTO 对称加密算法批量对象
+     * @param mode 工作模式 ECB / GCM / CTR
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doAesBatchDecryption(SymmetryBatchDTO batchDTO, AesMode mode);
+
+    /**
+     * AES-GCM分段流式加密，边读边写，内存占用与数据总长度无关
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     * @param in 明文输入
+     * @param out 密文输出
+     * @param secretKey 密钥，为空时使用默认密钥
+     * @param segmentSize 明文分段大小
+     * @return long 明文长度
+     **/
+    long doAesStreamEncryption(InputStream in, OutputStream out, String secretKey, int segmentSize) throws IOException, GeneralSecurityException;
+
+    /**
+     * AES-GCM分段流式解密，逐段认证
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     * @param in 密文输入
+     * @param out 明文输出
+     * @param secretKey 密钥，为空时使用默认密钥
+     * @param length 密文总长度，未知时为 -1
+     * @param onPlaintextLength 明文长度回调，在写出明文之前调用，可以为 null
+     * @return long 明文长度
+     **/
+    long doAesStreamDecryption(InputStream in, OutputStream out, String secretKey, long length, LongConsumer onPlaintextLength) throws IOException, GeneralSecurityException;
 }
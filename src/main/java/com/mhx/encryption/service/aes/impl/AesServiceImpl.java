@@ -1,14 +1,22 @@
 package com.mhx.encryption.service.aes.impl;
 
 import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.symmetry.SymmetryBatchDTO;
+import com.mhx.encryption.dto.symmetry.SymmetryBatchItemVO;
 import com.mhx.encryption.dto.symmetry.SymmetryDTO;
 import com.mhx.encryption.service.aes.AesService;
+import com.mhx.encryption.util.aes.AesMode;
 import com.mhx.encryption.util.aes.AesUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
 import java.util.Arrays;
+import java.util.function.LongConsumer;
 
 /**
  * @className AesServiceImpl 
@@ -31,6 +39,19 @@ public class AesServiceImpl implements AesService {
      **/
     @Override
     public ResponseVO doAesEncryption(SymmetryDTO symmetryDTO) {
+        return doAesEncryption(symmetryDTO, AesMode.ECB);
+    }
+
+    /**
+     * @param symmetryDTO 对称加密算法对象
+     * @param mode 工作模式 ECB / GCM / CTR
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午7:10 2026/10/18
+     * @description: AES加密，使用指定工作模式
+     **/
+    @Override
+    public ResponseVO doAesEncryption(SymmetryDTO symmetryDTO, AesMode mode) {
         try {
             if (SymmetryDTO.isFieldsNull(symmetryDTO)) {
                 return ResponseVO.failed();
@@ -43,13 +64,13 @@ public class AesServiceImpl implements AesService {
         String cipherText = "";
         if (null == secretKey || "".equals(secretKey)) {
             try {
-                cipherText = AesUtils.encrypt(symmetryDTO.getPlaintext());
+                cipherText = AesUtils.encrypt(symmetryDTO.getPlaintext(), mode);
             } catch (Exception e) {
                 logger.info("doAesEncryption|48|abnormal:" + Arrays.toString(e.getStackTrace()));
             }
         } else {
             try {
-                cipherText = AesUtils.encrypt(symmetryDTO.getPlaintext(), secretKey);
+                cipherText = AesUtils.encrypt(symmetryDTO.getPlaintext(), secretKey, mode);
             } catch (Exception e) {
                 logger.info("doAesEncryption|54|abnormal:" + Arrays.toString(e.getStackTrace()));
             }
@@ -68,6 +89,20 @@ public class AesServiceImpl implements AesService {
      **/
     @Override
     public ResponseVO doAesDecryption(SymmetryDTO symmetryDTO) {
+        return doAesDecryption(symmetryDTO, AesMode.ECB);
+    }
+
+    /**
+     * AES解密，使用指定工作模式
+     *
+     * @param symmetryDTO 对称加密算法对象
+     * @param mode 工作模式 ECB / GCM / CTR
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author MuHongXin.
+     * @dateTime 下午7:10 2026/10/18
+     **/
+    @Override
+    public ResponseVO doAesDecryption(SymmetryDTO symmetryDTO, AesMode mode) {
         try {
             if (SymmetryDTO.isFieldsNull(symmetryDTO)) {
                 return ResponseVO.failed();
@@ -80,13 +115,13 @@ public class AesServiceImpl implements AesService {
         String plaintext = "";
         if (null == secretKey || "".equals(secretKey)) {
             try {
-                plaintext = AesUtils.decrypt(symmetryDTO.getPlaintext());
+                plaintext = AesUtils.decrypt(symmetryDTO.getPlaintext(), mode);
             } catch (Exception e) {
                 logger.info("doAesEncryption|85|abnormal:" + Arrays.toString(e.getStackTrace()));
             }
         } else {
             try {
-                plaintext = AesUtils.decrypt(symmetryDTO.getPlaintext(), secretKey);
+                plaintext = AesUtils.decrypt(symmetryDTO.getPlaintext(), secretKey, mode);
             } catch (Exception e) {
                 logger.info("doAesEncryption|91|abnormal:" + Arrays.toString(e.getStackTrace()));
             }
@@ -94,4 +129,73 @@ public class AesServiceImpl implements AesService {
 
         return ResponseVO.ok(plaintext);
     }
+
+    /**
+     * AES批量加密
+     *
+     * @param batchDTO 对称加密算法批量对象
+     * @param mode 工作模式 ECB / GCM / CTR
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     **/
+    @Override
+    public ResponseVO doAesBatchEncryption(SymmetryBatchDTO batchDTO, AesMode mode) {
+        if (SymmetryBatchDTO.isInvalid(batchDTO)) {
+            return ResponseVO.failed();
+        }
+
+        return ResponseVO.ok(SymmetryBatchItemVO.of(AesUtils.encrypt(batchDTO.getItems(), batchDTO.getSecretKey(), mode)));
+    }
+
+    /**
+     * AES批量解密
+     *
+     * @param batchDTO 对称加密算法批量对象
+     * @param mode 工作模式 ECB / GCM / CTR
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     **/
+    @Override
+    public ResponseVO doAesBatchDecryption(SymmetryBatchDTO batchDTO, AesMode mode) {
+        if (SymmetryBatchDTO.isInvalid(batchDTO)) {
+            return ResponseVO.failed();
+        }
+
+        return ResponseVO.ok(SymmetryBatchItemVO.of(AesUtils.decrypt(batchDTO.getItems(), batchDTO.getSecretKey(), mode)));
+    }
+
+    /**
+     * AES-GCM分段流式加密
+     *
+     * @param in 明文输入
+     * @param out 密文输出
+     * @param secretKey 密钥，为空时使用默认密钥
+     * @param segmentSize 明文分段大小
+     * @return long 明文长度
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     **/
+    @Override
+    public long doAesStreamEncryption(InputStream in, OutputStream out, String secretKey, int segmentSize) throws IOException, GeneralSecurityException {
+        return AesUtils.encrypt(in, out, secretKey, segmentSize);
+    }
+
+    /**
+     * AES-GCM分段流式解密
+     *
+     * @param in 密文输入
+     * @param out 明文输出
+     * @param secretKey 密钥，为空时使用默认密钥
+     * @param length 密文总长度，未知时为 -1
+     * @param onPlaintextLength 明文长度回调，在写出明文之前调用，可以为 null
+     * @return long 明文长度
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     **/
+    @Override
+    public long doAesStreamDecryption(InputStream in, OutputStream out, String secretKey, long length, LongConsumer onPlaintextLength) throws IOException, GeneralSecurityException {
+        return AesUtils.decrypt(in, out, secretKey, length, onPlaintextLength);
+    }
 }
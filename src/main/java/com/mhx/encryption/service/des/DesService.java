@@ -1,7 +1,12 @@
 package com.mhx.encryption.service.des;
 
 import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.symmetry.SymmetryBatchDTO;
 import com.mhx.encryption.dto.symmetry.SymmetryDTO;
+import com.mhx.encryption.util.des.DesAlgorithm;
+import com.mhx.encryption.util.des.DesEncoding;
+
+import java.security.GeneralSecurityException;
 
 /**
  * @interfaceName DesService 
@@ -22,6 +27,18 @@ public interface DesService {
      **/
     ResponseVO doDesEncryption(SymmetryDTO symmetryDTO);
 
+    /**
+     * DES / 3DES加密，密文按指定编码输出
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     * @param symmetryDTO 对称加密算法对象
+     * @param encoding 密文编码 HEX / BASE64 / LEGACY，为 null 时使用原有格式
+     * @param algorithm DES / DESEDE
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doDesEncryption(SymmetryDTO symmetryDTO, DesEncoding encoding, DesAlgorithm algorithm);
+
     /**
      * DES解密
      *
@@ -31,4 +48,84 @@ public interface DesService {
      * @return org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>
      **/
     ResponseVO doDesDecryption(SymmetryDTO symmetryDTO);
+
+    /**
+     * DES / 3DES解密，密文按指定编码读取
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     * @param symmetryDTO 对称加密算法对象
+     * @param encoding 密文编码 HEX / BASE64 / LEGACY，为 null 时使用原有格式
+     * @param algorithm DES / DESEDE
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doDesDecryption(SymmetryDTO symmetryDTO, DesEncoding encoding, DesAlgorithm algorithm);
+
+    /**
+     * DES批量加密，所有明文共用同一密钥，结果顺序与请求一致，单项失败不影响其他项
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @param batchDTO 对称加密算法批量对象
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doDesBatchEncryption(SymmetryBatchDTO batchDTO);
+
+    /**
+     * DES / 3DES批量加密，密文按指定编码输出
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     * @param batchDTO 对称加密算法批量对象
+     * @param encoding 密文编码 HEX / BASE64 / LEGACY，为 null 时使用原有格式
+     * @param algorithm DES / DESEDE
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doDesBatchEncryption(SymmetryBatchDTO batchDTO, DesEncoding encoding, DesAlgorithm algorithm);
+
+    /**
+     * DES批量解密，所有密文共用同一密钥，结果顺序与请求一致，单项失败不影响其他项
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @param batchDTO 对称加密算法批量对象
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doDesBatchDecryption(SymmetryBatchDTO batchDTO);
+
+    /**
+     * DES / 3DES批量解密，密文按指定编码读取
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     * @param batchDTO 对称加密算法批量对象
+     * @param encoding 密文编码 HEX / BASE64 / LEGACY，为 null 时使用原有格式
+     * @param algorithm DES / DESEDE
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doDesBatchDecryption(SymmetryBatchDTO batchDTO, DesEncoding encoding, DesAlgorithm algorithm);
+
+    /**
+     * DES / 3DES原始字节加密，不经过任何文本编码
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     * @param plaintext 明文字节
+     * @param secretKey 密钥，为空时使用默认密钥
+     * @param algorithm DES / DESEDE
+     * @return byte[] 原始密文
+     **/
+    byte[] doDesEncryption(byte[] plaintext, String secretKey, DesAlgorithm algorithm) throws GeneralSecurityException;
+
+    /**
+     * DES / 3DES原始字节解密，不经过任何文本编码
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     * @param cipherText 原始密文
+     * @param secretKey 密钥，为空时使用默认密钥
+     * @param algorithm DES / DESEDE
+     * @return byte[] 明文字节
+     **/
+    byte[] doDesDecryption(byte[] cipherText, String secretKey, DesAlgorithm algorithm) throws GeneralSecurityException;
 }
@@ -1,13 +1,18 @@
 package com.mhx.encryption.service.des.impl;
 
 import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.symmetry.SymmetryBatchDTO;
+import com.mhx.encryption.dto.symmetry.SymmetryBatchItemVO;
 import com.mhx.encryption.dto.symmetry.SymmetryDTO;
 import com.mhx.encryption.service.des.DesService;
+import com.mhx.encryption.util.des.DesAlgorithm;
+import com.mhx.encryption.util.des.DesEncoding;
 import com.mhx.encryption.util.des.DesUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.security.GeneralSecurityException;
 import java.util.Arrays;
 
 /**
@@ -33,6 +38,21 @@ public class DesServiceImpl implements DesService {
      **/
     @Override
     public ResponseVO doDesEncryption(SymmetryDTO symmetryDTO) {
+        return doDesEncryption(symmetryDTO, null, DesAlgorithm.DES);
+    }
+
+    /**
+     * DES加密，密文按指定编码输出，编码为 null 时默认密钥使用 LEGACY、指定密钥使用 BASE64
+     *
+     * @param symmetryDTO 对称加密算法对象
+     * @param encoding 密文编码
+     * @param algorithm DES / DESEDE
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     **/
+    @Override
+    public ResponseVO doDesEncryption(SymmetryDTO symmetryDTO, DesEncoding encoding, DesAlgorithm algorithm) {
         try {
             if (SymmetryDTO.isFieldsNull(symmetryDTO)) {
                 return ResponseVO.failed();
@@ -43,18 +63,10 @@ public class DesServiceImpl implements DesService {
 
         String secretKey = symmetryDTO.getSecretKey();
         String cipherText = "";
-        if (null == secretKey || "".equals(secretKey)) {
-            try {
-                cipherText = DesUtils.encrypt(symmetryDTO.getPlaintext());
-            } catch (Exception e) {
-                logger.info("doDesEncryption|56|abnormal:{}", Arrays.toString(e.getStackTrace()));
-            }
-        } else {
-            try {
-                cipherText = DesUtils.desEncrypt(symmetryDTO.getPlaintext(), secretKey);
-            } catch (Exception e) {
-                System.out.println("doDesEncryption|54|abnormal:" + Arrays.toString(e.getStackTrace()));
-            }
+        try {
+            cipherText = DesUtils.desEncrypt(symmetryDTO.getPlaintext(), secretKey, encoding(secretKey, encoding), algorithm);
+        } catch (Exception e) {
+            logger.info("doDesEncryption|56|abnormal:{}", Arrays.toString(e.getStackTrace()));
         }
         return ResponseVO.ok(cipherText);
     }
@@ -69,6 +81,21 @@ public class DesServiceImpl implements DesService {
      **/
     @Override
     public ResponseVO doDesDecryption(SymmetryDTO symmetryDTO) {
+        return doDesDecryption(symmetryDTO, null, DesAlgorithm.DES);
+    }
+
+    /**
+     * DES解密，密文按指定编码读取，编码为 null 时默认密钥使用 LEGACY、指定密钥使用 BASE64
+     *
+     * @param symmetryDTO 对称加密算法对象
+     * @param encoding 密文编码
+     * @param algorithm DES / DESEDE
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     **/
+    @Override
+    public ResponseVO doDesDecryption(SymmetryDTO symmetryDTO, DesEncoding encoding, DesAlgorithm algorithm) {
         try {
             if (SymmetryDTO.isFieldsNull(symmetryDTO)) {
                 return ResponseVO.failed();
@@ -79,19 +106,111 @@ public class DesServiceImpl implements DesService {
 
         String secretKey = symmetryDTO.getSecretKey();
         String cipherText = "";
-        if (null == secretKey || "".equals(secretKey)) {
-            try {
-                cipherText = DesUtils.decrypt(symmetryDTO.getPlaintext());
-            } catch (Exception e) {
-                System.out.println("doDesDecryption|82|abnormal:" + Arrays.toString(e.getStackTrace()));
-            }
-        } else {
-            try {
-                cipherText = DesUtils.desDecrypt(symmetryDTO.getPlaintext(), secretKey);
-            } catch (Exception e) {
-                System.out.println("doDesDecryption|88|abnormal:" + Arrays.toString(e.getStackTrace()));
-            }
+        try {
+            cipherText = DesUtils.desDecrypt(symmetryDTO.getPlaintext(), secretKey, encoding(secretKey, encoding), algorithm);
+        } catch (Exception e) {
+            System.out.println("doDesDecryption|82|abnormal:" + Arrays.toString(e.getStackTrace()));
         }
         return ResponseVO.ok(cipherText);
     }
+
+    /**
+     * DES批量加密
+     *
+     * @param batchDTO 对称加密算法批量对象
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     **/
+    @Override
+    public ResponseVO doDesBatchEncryption(SymmetryBatchDTO batchDTO) {
+        return doDesBatchEncryption(batchDTO, null, DesAlgorithm.DES);
+    }
+
+    /**
+     * DES批量加密，密文按指定编码输出
+     *
+     * @param batchDTO 对称加密算法批量对象
+     * @param encoding 密文编码，为 null 时使用原有格式
+     * @param algorithm DES / DESEDE
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     **/
+    @Override
+    public ResponseVO doDesBatchEncryption(SymmetryBatchDTO batchDTO, DesEncoding encoding, DesAlgorithm algorithm) {
+        if (SymmetryBatchDTO.isInvalid(batchDTO)) {
+            return ResponseVO.failed();
+        }
+
+        String secretKey = batchDTO.getSecretKey();
+        return ResponseVO.ok(SymmetryBatchItemVO.of(DesUtils.desEncrypt(batchDTO.getItems(), secretKey, encoding(secretKey, encoding), algorithm)));
+    }
+
+    /**
+     * DES批量解密
+     *
+     * @param batchDTO 对称加密算法批量对象
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     **/
+    @Override
+    public ResponseVO doDesBatchDecryption(SymmetryBatchDTO batchDTO) {
+        return doDesBatchDecryption(batchDTO, null, DesAlgorithm.DES);
+    }
+
+    /**
+     * DES批量解密，密文按指定编码读取
+     *
+     * @param batchDTO 对称加密算法批量对象
+     * @param encoding 密文编码，为 null 时使用原有格式
+     * @param algorithm DES / DESEDE
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     **/
+    @Override
+    public ResponseVO doDesBatchDecryption(SymmetryBatchDTO batchDTO, DesEncoding encoding, DesAlgorithm algorithm) {
+        if (SymmetryBatchDTO.isInvalid(batchDTO)) {
+            return ResponseVO.failed();
+        }
+
+        String secretKey = batchDTO.getSecretKey();
+        return ResponseVO.ok(SymmetryBatchItemVO.of(DesUtils.desDecrypt(batchDTO.getItems(), secretKey, encoding(secretKey, encoding), algorithm)));
+    }
+
+    /**
+     * DES原始字节加密
+     *
+     * @param plaintext 明文字节
+     * @param secretKey 密钥，为空时使用默认密钥
+     * @param algorithm DES / DESEDE
+     * @return byte[] 原始密文
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     **/
+    @Override
+    public byte[] doDesEncryption(byte[] plaintext, String secretKey, DesAlgorithm algorithm) throws GeneralSecurityException {
+        return DesUtils.desEncrypt(plaintext, secretKey, algorithm);
+    }
+
+    /**
+     * DES原始字节解密
+     *
+     * @param cipherText 原始密文
+     * @param secretKey 密钥，为空时使用默认密钥
+     * @param algorithm DES / DESEDE
+     * @return byte[] 明文字节
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     **/
+    @Override
+    public byte[] doDesDecryption(byte[] cipherText, String secretKey, DesAlgorithm algorithm) throws GeneralSecurityException {
+        return DesUtils.desDecrypt(cipherText, secretKey, algorithm);
+    }
+
+    private static DesEncoding encoding(String secretKey, DesEncoding encoding) {
+        return null == encoding ? DesUtils.defaultEncoding(secretKey) : encoding;
+    }
 }
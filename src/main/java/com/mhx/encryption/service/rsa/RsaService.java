@@ -1,10 +1,84 @@
 package com.mhx.encryption.service.rsa;
 
+import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.asymmetry.AsymmetryBatchDTO;
+import com.mhx.encryption.dto.asymmetry.AsymmetryDTO;
+import com.mhx.encryption.dto.asymmetry.SignatureDTO;
+
 /**
  * @author MuHongXin.
- * @Description:
+ * @Description: RSA算法接口
  * @data 2024/5/8 15:08
  */
 
 public interface RsaService {
+    /**
+     * RSA密钥对生成，返回 Base64 公钥（X.509）和私钥（PKCS#8）
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param keySize 模数长度 2048 / 3072 / 4096
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doRsaKeyGeneration(int keySize);
+
+    /**
+     * RSA加密，RSAES-OAEP（SHA-256），返回 Base64 密文
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param asymmetryDTO 非对称加密算法对象，需要明文和公钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doRsaEncryption(AsymmetryDTO asymmetryDTO);
+
+    /**
+     * RSA解密，RSAES-OAEP（SHA-256）
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param asymmetryDTO 非对称加密算法对象，需要密文和私钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doRsaDecryption(AsymmetryDTO asymmetryDTO);
+
+    /**
+     * RSA签名，RSASSA-PSS（SHA-256），返回 Base64 签名
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param signatureDTO 数字签名对象，需要消息和私钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doRsaSign(SignatureDTO signatureDTO);
+
+    /**
+     * RSA验签，返回签名是否有效
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param signatureDTO 数字签名对象，需要消息、签名和公钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doRsaVerify(SignatureDTO signatureDTO);
+
+    /**
+     * RSA批量加密，所有明文共用同一公钥，按请求顺序返回每一项的结果
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param batchDTO 非对称加密算法批量对象，需要明文列表和公钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doRsaBatchEncryption(AsymmetryBatchDTO batchDTO);
+
+    /**
+     * RSA批量签名，所有消息共用同一私钥，按请求顺序返回每一项的结果
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param batchDTO 非对称加密算法批量对象，需要消息列表和私钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doRsaBatchSign(AsymmetryBatchDTO batchDTO);
 }
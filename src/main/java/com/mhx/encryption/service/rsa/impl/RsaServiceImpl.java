@@ -1,12 +1,179 @@
 package com.mhx.encryption.service.rsa.impl;
 
+import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.asymmetry.AsymmetryBatchDTO;
+import com.mhx.encryption.dto.asymmetry.AsymmetryDTO;
+import com.mhx.encryption.dto.asymmetry.SignatureDTO;
+import com.mhx.encryption.dto.symmetry.SymmetryBatchItemVO;
 import com.mhx.encryption.service.rsa.RsaService;
+import com.mhx.encryption.util.keypair.KeyPairFactory;
+import com.mhx.encryption.util.rsa.RsaKeyPair;
+import com.mhx.encryption.util.rsa.RsaUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.Resource;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
 
 /**
  * @author MuHongXin.
- * @Description:
+ * @Description: RSA算法接口实现类
  * @data 2024/5/8 15:08
  */
 
+@Service
 public class RsaServiceImpl implements RsaService {
+    private static final Logger logger = LoggerFactory.getLogger(RsaServiceImpl.class);
+
+    @Resource
+    private KeyPairFactory keyPairFactory;
+
+    /**
+     * RSA密钥对生成，只支持 2048 / 3072 / 4096 位，优先从预生成池中取出
+     *
+     * @param keySize 模数长度
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     **/
+    @Override
+    public ResponseVO doRsaKeyGeneration(int keySize) {
+        if (keySize != 2048 && keySize != 3072 && keySize != 4096) {
+            return ResponseVO.failed();
+        }
+
+        try {
+            KeyPair keyPair = this.keyPairFactory.rsa(keySize);
+            return ResponseVO.ok(new RsaKeyPair(RsaUtils.encodeKey(keyPair.getPublic()), RsaUtils.encodeKey(keyPair.getPrivate())));
+        } catch (GeneralSecurityException e) {
+            logger.error("doRsaKeyGeneration|error:", e);
+            return ResponseVO.failed();
+        }
+    }
+
+    /**
+     * RSA加密，公钥无效或明文超过单次加密的最大长度时返回错误的请求
+     *
+     * @param asymmetryDTO 非对称加密算法对象，需要明文和公钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     **/
+    @Override
+    public ResponseVO doRsaEncryption(AsymmetryDTO asymmetryDTO) {
+        if (asymmetryDTO == null || asymmetryDTO.getPlaintext() == null || !StringUtils.hasText(asymmetryDTO.getPublicKey())) {
+            return ResponseVO.failed();
+        }
+
+        try {
+            return ResponseVO.ok(RsaUtils.encrypt(asymmetryDTO.getPlaintext(), asymmetryDTO.getPublicKey()));
+        } catch (GeneralSecurityException e) {
+            logger.info("doRsaEncryption|invalid request:{}", e.getMessage());
+            return ResponseVO.failed();
+        }
+    }
+
+    /**
+     * RSA解密，私钥无效、密文格式错误或填充校验失败时返回错误的请求
+     *
+     * @param asymmetryDTO 非对称加密算法对象，需要密文和私钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     **/
+    @Override
+    public ResponseVO doRsaDecryption(AsymmetryDTO asymmetryDTO) {
+        if (asymmetryDTO == null || !StringUtils.hasText(asymmetryDTO.getCipherText()) || !StringUtils.hasText(asymmetryDTO.getPrivateKey())) {
+            return ResponseVO.failed();
+        }
+
+        try {
+            return ResponseVO.ok(RsaUtils.decrypt(asymmetryDTO.getCipherText(), asymmetryDTO.getPrivateKey()));
+        } catch (GeneralSecurityException e) {
+            // 不记录原因，避免泄露填充校验的细节 | The cause is not logged so padding check details do not leak
+            return ResponseVO.failed();
+        }
+    }
+
+    /**
+     * RSA签名
+     *
+     * @param signatureDTO 数字签名对象，需要消息和私钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     **/
+    @Override
+    public ResponseVO doRsaSign(SignatureDTO signatureDTO) {
+        if (signatureDTO == null || signatureDTO.getMessage() == null || !StringUtils.hasText(signatureDTO.getPrivateKey())) {
+            return ResponseVO.failed();
+        }
+
+        try {
+            return ResponseVO.ok(RsaUtils.sign(signatureDTO.getMessage(), signatureDTO.getPrivateKey()));
+        } catch (GeneralSecurityException e) {
+            logger.info("doRsaSign|invalid private key:{}", e.getMessage());
+            return ResponseVO.failed();
+        }
+    }
+
+    /**
+     * RSA验签，公钥无效时返回错误的请求，签名格式不合法时结果为 false
+     *
+     * @param signatureDTO 数字签名对象，需要消息、签名和公钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     **/
+    @Override
+    public ResponseVO doRsaVerify(SignatureDTO signatureDTO) {
+        if (signatureDTO == null || signatureDTO.getMessage() == null
+                || !StringUtils.hasText(signatureDTO.getSignature()) || !StringUtils.hasText(signatureDTO.getPublicKey())) {
+            return ResponseVO.failed();
+        }
+
+        try {
+            return ResponseVO.ok(RsaUtils.verify(signatureDTO.getMessage(), signatureDTO.getSignature(), signatureDTO.getPublicKey()));
+        } catch (GeneralSecurityException e) {
+            logger.info("doRsaVerify|invalid public key:{}", e.getMessage());
+            return ResponseVO.failed();
+        }
+    }
+
+    /**
+     * RSA批量加密
+     *
+     * @param batchDTO 非对称加密算法批量对象
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     **/
+    @Override
+    public ResponseVO doRsaBatchEncryption(AsymmetryBatchDTO batchDTO) {
+        if (AsymmetryBatchDTO.isInvalid(batchDTO) || !StringUtils.hasText(batchDTO.getPublicKey())) {
+            return ResponseVO.failed();
+        }
+
+        return ResponseVO.ok(SymmetryBatchItemVO.of(RsaUtils.encrypt(batchDTO.getItems(), batchDTO.getPublicKey())));
+    }
+
+    /**
+     * RSA批量签名
+     *
+     * @param batchDTO 非对称加密算法批量对象
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     **/
+    @Override
+    public ResponseVO doRsaBatchSign(AsymmetryBatchDTO batchDTO) {
+        if (AsymmetryBatchDTO.isInvalid(batchDTO) || !StringUtils.hasText(batchDTO.getPrivateKey())) {
+            return ResponseVO.failed();
+        }
+
+        return ResponseVO.ok(SymmetryBatchItemVO.of(RsaUtils.sign(batchDTO.getItems(), batchDTO.getPrivateKey())));
+    }
 }
@@ -1,10 +1,65 @@
 package com.mhx.encryption.service.sm;
 
+import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.asymmetry.AsymmetryDTO;
+import com.mhx.encryption.dto.asymmetry.SignatureDTO;
+import com.mhx.encryption.util.sm.SM2CipherMode;
+
 /**
  * @author MuHongXin.
- * @Description:
+ * @Description: SM2算法接口
  * @data 2024/5/8 15:08
  */
 
 public interface Sm2Service {
+    /**
+     * SM2密钥对生成，返回十六进制公钥（非压缩点）和私钥
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午12:50 2026/10/19
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doSm2KeyGeneration();
+
+    /**
+     * SM2加密，使用公钥加密明文，返回十六进制密文
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午12:50 2026/10/19
+     * @param asymmetryDTO 非对称加密算法对象，需要明文和公钥
+     * @param mode 密文排列方式 C1C2C3 / C1C3C2 / ASN1
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doSm2Encryption(AsymmetryDTO asymmetryDTO, SM2CipherMode mode);
+
+    /**
+     * SM2解密，使用私钥解密十六进制密文
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午12:50 2026/10/19
+     * @param asymmetryDTO 非对称加密算法对象，需要密文和私钥
+     * @param mode 密文排列方式 C1C2C3 / C1C3C2 / ASN1
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doSm2Decryption(AsymmetryDTO asymmetryDTO, SM2CipherMode mode);
+
+    /**
+     * SM2签名，返回十六进制 r || s
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午11:55 2026/10/18
+     * @param signatureDTO 数字签名对象
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doSm2Sign(SignatureDTO signatureDTO);
+
+    /**
+     * SM2验签，返回签名是否有效
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午11:55 2026/10/18
+     * @param signatureDTO 数字签名对象
+     * @return com.mhx.encryption.dto.ResponseVO
+     **/
+    ResponseVO doSm2Verify(SignatureDTO signatureDTO);
 }
@@ -1,12 +1,161 @@
 package com.mhx.encryption.service.sm.impl;
 
+import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.asymmetry.AsymmetryDTO;
+import com.mhx.encryption.dto.asymmetry.SignatureDTO;
 import com.mhx.encryption.service.sm.Sm2Service;
+import com.mhx.encryption.util.codec.HexCodec;
+import com.mhx.encryption.util.keypair.KeyPairFactory;
+import com.mhx.encryption.util.sm.SM2CipherMode;
+import com.mhx.encryption.util.sm.SM2Signature;
+import com.mhx.encryption.util.sm.SM2Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.Resource;
+import java.nio.charset.StandardCharsets;
 
 /**
  * @author MuHongXin.
- * @Description:
+ * @Description: SM2算法接口实现类
  * @data 2024/5/8 15:08
  */
 
+@Service
 public class Sm2ServiceImpl implements Sm2Service {
+    private static final Logger logger = LoggerFactory.getLogger(Sm2ServiceImpl.class);
+
+    @Resource
+    private KeyPairFactory keyPairFactory;
+
+    /**
+     * SM2密钥对生成，优先从预生成池中取出
+     *
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 上午12:50 2026/10/19
+     **/
+    @Override
+    public ResponseVO doSm2KeyGeneration() {
+        return ResponseVO.ok(this.keyPairFactory.sm2());
+    }
+
+    /**
+     * SM2加密
+     *
+     * @param asymmetryDTO 非对称加密算法对象，需要明文和公钥
+     * @param mode 密文排列方式
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 上午12:50 2026/10/19
+     **/
+    @Override
+    public ResponseVO doSm2Encryption(AsymmetryDTO asymmetryDTO, SM2CipherMode mode) {
+        if (asymmetryDTO == null || asymmetryDTO.getPlaintext() == null || !StringUtils.hasText(asymmetryDTO.getPublicKey())) {
+            return ResponseVO.failed();
+        }
+
+        try {
+            byte[] cipherText = SM2Util.encrypt(HexCodec.decode(asymmetryDTO.getPublicKey()),
+                    asymmetryDTO.getPlaintext().getBytes(StandardCharsets.UTF_8), mode);
+            return ResponseVO.ok(HexCodec.encode(cipherText));
+        } catch (IllegalArgumentException e) {
+            // 公钥不是十六进制或不在曲线上 | A public key that is no hex or off the curve
+            logger.info("doSm2Encryption|invalid public key:{}", e.getMessage());
+            return ResponseVO.failed();
+        }
+    }
+
+    /**
+     * SM2解密，密文格式错误或 C3 校验失败时返回错误的请求
+     *
+     * @param asymmetryDTO 非对称加密算法对象，需要密文和私钥
+     * @param mode 密文排列方式
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 上午12:50 2026/10/19
+     **/
+    @Override
+    public ResponseVO doSm2Decryption(AsymmetryDTO asymmetryDTO, SM2CipherMode mode) {
+        if (asymmetryDTO == null || !StringUtils.hasText(asymmetryDTO.getCipherText()) || !StringUtils.hasText(asymmetryDTO.getPrivateKey())) {
+            return ResponseVO.failed();
+        }
+
+        try {
+            byte[] plaintext = SM2Util.decrypt(HexCodec.decode(asymmetryDTO.getPrivateKey()), HexCodec.decode(asymmetryDTO.getCipherText()), mode);
+            return ResponseVO.ok(new String(plaintext, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            logger.info("doSm2Decryption|invalid cipher text:{}", e.getMessage());
+            return ResponseVO.failed();
+        }
+    }
+
+    /**
+     * SM2签名
+     *
+     * @param signatureDTO 数字签名对象，需要消息、私钥和公钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午11:55 2026/10/18
+     **/
+    @Override
+    public ResponseVO doSm2Sign(SignatureDTO signatureDTO) {
+        if (signatureDTO == null || signatureDTO.getMessage() == null
+                || !StringUtils.hasText(signatureDTO.getPrivateKey()) || !StringUtils.hasText(signatureDTO.getPublicKey())) {
+            return ResponseVO.failed();
+        }
+
+        try {
+            byte[] signature = SM2Util.sign(HexCodec.decode(signatureDTO.getPrivateKey()), HexCodec.decode(signatureDTO.getPublicKey()),
+                    userId(signatureDTO), signatureDTO.getMessage().getBytes(StandardCharsets.UTF_8));
+            return ResponseVO.ok(HexCodec.encode(signature));
+        } catch (IllegalArgumentException e) {
+            // 密钥不是十六进制、公钥不在曲线上或私钥超出范围 | Keys that are no hex, a public key off the curve or a private key out of range
+            logger.info("doSm2Sign|invalid key:{}", e.getMessage());
+            return ResponseVO.failed();
+        }
+    }
+
+    /**
+     * SM2验签，签名格式不合法时结果为 false
+     *
+     * @param signatureDTO 数字签名对象，需要消息、签名和公钥
+     * @return com.mhx.encryption.dto.ResponseVO
+     * @author: MuHongXin.
+     * @dateTime: 下午11:55 2026/10/18
+     **/
+    @Override
+    public ResponseVO doSm2Verify(SignatureDTO signatureDTO) {
+        if (signatureDTO == null || signatureDTO.getMessage() == null
+                || !StringUtils.hasText(signatureDTO.getSignature()) || !StringUtils.hasText(signatureDTO.getPublicKey())) {
+            return ResponseVO.failed();
+        }
+
+        byte[] publicKey;
+        try {
+            publicKey = HexCodec.decode(signatureDTO.getPublicKey());
+            SM2Util.decodePublicKey(publicKey);
+        } catch (IllegalArgumentException e) {
+            logger.info("doSm2Verify|invalid public key:{}", e.getMessage());
+            return ResponseVO.failed();
+        }
+
+        byte[] signature;
+        try {
+            signature = HexCodec.decode(signatureDTO.getSignature());
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.ok(false);
+        }
+        return ResponseVO.ok(SM2Util.verify(publicKey, userId(signatureDTO), signatureDTO.getMessage().getBytes(StandardCharsets.UTF_8), signature));
+    }
+
+    /**
+     * 用户标识为空时使用 GM/T 0009 的默认标识 | The GM/T 0009 default ID when the user ID is empty
+     */
+    private static byte[] userId(SignatureDTO signatureDTO) {
+        String userId = signatureDTO.getUserId();
+        return StringUtils.hasLength(userId) ? userId.getBytes(StandardCharsets.UTF_8) : SM2Signature.DEFAULT_USER_ID;
+    }
 }
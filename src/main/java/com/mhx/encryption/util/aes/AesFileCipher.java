@@ -0,0 +1,451 @@
+package com.mhx.encryption.util.aes;
+
+import com.mhx.encryption.util.cipher.NonceSequence;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * @className AesFileCipher
+ * @description AES 文件加解密。输入和输出文件按窗口内存映射，窗口内的段互不依赖，由 ForkJoin 线程池中的多个线程并行处理，
+ *              每个线程持有自己的 Cipher；堆内存占用只与分段大小和线程数有关，与文件大小无关。
+ *              GCM 模式写出 AesStreamCipher 的分段格式，与 /api/aes/stream 接口互通，解密时逐段认证，任何一段失败都删除输出文件；
+ *              CTR 模式写出 AesUtils 的 CTR 格式（头部 + 等长密文），每段从 nonce || (段偏移 / 16) 的计数块开始，不提供完整性保护。
+ *              AES file encryption. The source and target files are memory mapped in windows, the segments of a window
+ *              do not depend on each other and are processed in parallel by the threads of a ForkJoin pool, each with
+ *              its own Cipher; the heap used depends on the segment size and the thread count, not on the file size.
+ *              GCM writes the segmented format of AesStreamCipher and interoperates with /api/aes/stream, every
+ *              segment is authenticated on decryption and the target file is deleted when any segment fails;
+ *              CTR writes the CTR format of AesUtils (header + cipher text of the same length), every segment starts
+ *              at the counter block nonce || (segment offset / 16), without integrity protection.
+ *
+ *              命令行 | Command line:
+ *                java -cp ... com.mhx.encryption.util.aes.AesFileCipher encrypt|decrypt <source> <target> [gcm|ctr] [segmentSize] [threads]
+ *              密钥取自环境变量 AES_FILE_KEY，未设置时使用默认密钥 | the key is read from the AES_FILE_KEY environment variable, the default key when unset
+ * @author MuHongXin.
+ * @date 2026/10/18 20:30
+ * @version v1.0.0
+ **/
+
+public class AesFileCipher {
+    /**
+     * 默认明文分段大小 1 MiB，也是并行处理的最小单位
+     *
+     * ------------------------------------------------------------------------丨
+     * Default plaintext segment size, 1 MiB, also the unit of parallel work.   丨
+     * ------------------------------------------------------------------------丨
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+
+    /**
+     * 单个任务一次映射的最大字节数，每侧各一个窗口
+     *
+     * --------------------------------------------------------------------------丨
+     * Maximum bytes mapped by one task at a time, one window on each side.       丨
+     * --------------------------------------------------------------------------丨
+     */
+    private static final long WINDOW_SIZE = 16L * 1024 * 1024;
+
+    /**
+     * CTR 模式 32 位块计数器可覆盖的最大明文长度 64 GiB
+     *
+     * -----------------------------------------------------------------------丨
+     * Longest CTR plaintext covered by the 32 bit block counter, 64 GiB.      丨
+     * -----------------------------------------------------------------------丨
+     */
+    private static final long MAXIMUM_CTR_LENGTH = 16L << 32;
+
+    private static final String KEY_ENVIRONMENT = "AES_FILE_KEY";
+
+    private AesFileCipher() {
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午8:30 2026/10/18
+     * @description: 加密整个文件，target 存在时被覆盖；失败时删除 target
+     *               Encrypt a whole file, 'target' is overwritten when it exists and deleted on failure
+     * @param source 明文文件 | plaintext file
+     * @param target 密文文件 | cipher text file
+     * @param key AES 密钥，16 / 24 / 32 字节 | AES key, 16, 24 or 32 bytes
+     * @param mode GCM 或 CTR | GCM or CTR
+     * @param segmentSize 明文分段大小，CTR 模式必须是 16 的倍数 | plaintext segment size, a multiple of 16 for CTR
+     * @param pool ForkJoin 线程池 | ForkJoin pool
+     * @return com.mhx.encryption.util.aes.AesFileCipher.Result
+     **/
+    public static Result encrypt(Path source, Path target, byte[] key, AesMode mode, int segmentSize, ForkJoinPool pool) throws IOException, GeneralSecurityException {
+        long start = System.nanoTime();
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long length = in.size();
+            Layout layout;
+            Segment segment;
+            if (mode == AesMode.GCM) {
+                byte[] header = AesStreamCipher.header(segmentSize);
+                layout = new Layout(length, segmentSize, header, AesStreamCipher.TAG_LENGTH);
+                segment = () -> gcm(Cipher.ENCRYPT_MODE, key, header, layout);
+            } else if (mode == AesMode.CTR) {
+                checkCtr(length, segmentSize);
+                byte[] header = new byte[AesUtils.HEADER_LENGTH];
+                header[0] = AesUtils.header(AesMode.CTR);
+                AesUtils.nextNonce(key, AesMode.CTR, header, 1);
+                layout = new Layout(length, segmentSize, header, 0);
+                segment = () -> ctr(Cipher.ENCRYPT_MODE, key, header, segmentSize);
+            } else {
+                throw new IllegalArgumentException("文件加密只支持 GCM 和 CTR 模式! | File encryption supports GCM and CTR only: " + mode);
+            }
+
+            run(in, target, layout, true, segment, pool);
+            return new Result(mode, length, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午8:30 2026/10/18
+     * @description: 解密整个文件，模式由头部识别；GCM 认证失败或数据被截断时抛出 AEADBadTagException，target 存在时被覆盖，失败时删除 target
+     *               Decrypt a whole file, the mode is taken from the header; AEADBadTagException is thrown when a GCM
+     *               tag fails or the data is truncated, 'target' is overwritten when it exists and deleted on failure
+     * @param source 密文文件 | cipher text file
+     * @param target 明文文件 | plaintext file
+     * @param key AES 密钥，16 / 24 / 32 字节 | AES key, 16, 24 or 32 bytes
+     * @param pool ForkJoin 线程池 | ForkJoin pool
+     * @return com.mhx.encryption.util.aes.AesFileCipher.Result
+     **/
+    public static Result decrypt(Path source, Path target, byte[] key, ForkJoinPool pool) throws IOException, GeneralSecurityException {
+        long start = System.nanoTime();
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = in.size();
+            ByteBuffer first = ByteBuffer.allocate(1);
+            if (size == 0 || in.read(first, 0) != 1) {
+                throw new IllegalArgumentException("密文头部不完整! | The cipher text header is incomplete!");
+            }
+
+            AesMode mode;
+            Layout layout;
+            Segment segment;
+            if ((first.get(0) & 0xFF) == AesStreamCipher.HEADER_BYTE) {
+                byte[] header = readHeader(in, AesStreamCipher.HEADER_LENGTH);
+                int segmentSize = AesStreamCipher.segmentSize(header);
+                long length = AesStreamCipher.plaintextLength(size, segmentSize);
+                if (length < 0) {
+                    throw new AEADBadTagException("密文被截断! | The cipher text is truncated!");
+                }
+                mode = AesMode.GCM;
+                layout = new Layout(length, segmentSize, header, AesStreamCipher.TAG_LENGTH);
+                segment = () -> gcm(Cipher.DECRYPT_MODE, key, header, layout);
+            } else if (first.get(0) == AesUtils.header(AesMode.CTR)) {
+                // CTR 头部不记录分段大小，也不需要：每段的计数块只取决于段在明文中的字节偏移（nonce || 偏移 / 16），
+                // 任意 16 倍数的分段大小得到同一条密钥流，因此解密固定按 DEFAULT_SEGMENT_SIZE 切分，与加密时的分段大小无关
+                // The CTR header carries no segment size and needs none: the counter block of a segment depends only
+                // on its byte offset in the plaintext (nonce || offset / 16), so every multiple of 16 yields the same
+                // key stream and decryption always cuts at DEFAULT_SEGMENT_SIZE, whatever the encryption segment size was
+                byte[] header = readHeader(in, AesUtils.HEADER_LENGTH);
+                long length = size - AesUtils.HEADER_LENGTH;
+                checkCtr(length, DEFAULT_SEGMENT_SIZE);
+                mode = AesMode.CTR;
+                layout = new Layout(length, DEFAULT_SEGMENT_SIZE, header, 0);
+                segment = () -> ctr(Cipher.DECRYPT_MODE, key, header, DEFAULT_SEGMENT_SIZE);
+            } else {
+                throw new IllegalArgumentException("不支持的文件格式! | Unsupported file format!");
+            }
+
+            run(in, target, layout, false, segment, pool);
+            return new Result(mode, layout.length, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午8:30 2026/10/18
+     * @description: 命令行入口，完成后打印明文长度、耗时和吞吐量
+     *               Command line entry, prints the plaintext length, the elapsed time and the throughput when done
+     **/
+    public static void main(String[] args) {
+        if (args.length < 3 || !("encrypt".equals(args[0]) || "decrypt".equals(args[0]))) {
+            System.err.println("usage: AesFileCipher encrypt|decrypt <source> <target> [gcm|ctr] [segmentSize] [threads]");
+            System.err.println("       the key is read from " + KEY_ENVIRONMENT + ", the default key when unset");
+            System.exit(2);
+        }
+
+        AesMode mode = args.length > 3 ? AesMode.valueOf(args[3].toUpperCase(Locale.ROOT)) : AesMode.GCM;
+        int segmentSize = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_SEGMENT_SIZE;
+        int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+        byte[] key = AesUtils.key(System.getenv(KEY_ENVIRONMENT));
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            Result result = "encrypt".equals(args[0])
+                    ? encrypt(Paths.get(args[1]), Paths.get(args[2]), key, mode, segmentSize, pool)
+                    : decrypt(Paths.get(args[1]), Paths.get(args[2]), key, pool);
+            System.out.println(result + ", " + threads + " threads");
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            System.err.println(args[0] + " failed: " + e);
+            System.exit(1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void checkCtr(long length, int segmentSize) {
+        if (segmentSize <= 0 || segmentSize % 16 != 0) {
+            throw new IllegalArgumentException("CTR 分段大小必须是 16 的正整数倍! | The CTR segment size must be a positive multiple of 16: " + segmentSize);
+        }
+        if (length > MAXIMUM_CTR_LENGTH) {
+            throw new IllegalArgumentException("CTR 明文不能超过 64 GiB! | The CTR plaintext must not exceed 64 GiB!");
+        }
+    }
+
+    private static byte[] readHeader(FileChannel in, int length) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(length);
+        while (header.hasRemaining()) {
+            if (in.read(header, header.position()) < 0) {
+                throw new IllegalArgumentException("密文头部不完整! | The cipher text header is incomplete!");
+            }
+        }
+        return header.array();
+    }
+
+    private static SegmentCipher gcm(int opmode, byte[] key, byte[] header, Layout layout) throws GeneralSecurityException {
+        AesStreamCipher.Segments segments = new AesStreamCipher.Segments(opmode, key, header);
+        long last = layout.segments - 1;
+        return (index, input, output) -> segments.doFinal((int) index, index == last, input, output);
+    }
+
+    private static SegmentCipher ctr(int opmode, byte[] key, byte[] header, int segmentSize) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(AesMode.CTR.getTransformation());
+        SecretKeySpec keySpec = new SecretKeySpec(key, "AES");
+        return (index, input, output) -> {
+            // 计数块 = nonce || 段内首块序号 | Counter block = nonce || index of the first block of the segment
+            byte[] counter = new byte[16];
+            System.arraycopy(header, 1, counter, 0, NonceSequence.NONCE_LENGTH);
+            ByteBuffer.wrap(counter).putInt(12, (int) (index * segmentSize / 16));
+            cipher.init(opmode, keySpec, new IvParameterSpec(counter));
+            cipher.doFinal(input, output);
+        };
+    }
+
+    private static void run(FileChannel in, Path target, Layout layout, boolean encrypt, Segment segment, ForkJoinPool pool) throws IOException, GeneralSecurityException {
+        boolean done = false;
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 预先写出头部并确定文件长度，各任务只写各自映射的区域 | Write the header and fix the file length first, tasks only write their own mapped region
+            if (encrypt) {
+                out.write(ByteBuffer.wrap(layout.header), 0);
+            }
+            long size = encrypt ? layout.cipherOffset(layout.segments) : layout.length;
+            if (size > 0 && out.size() < size) {
+                out.write(ByteBuffer.allocate(1), size - 1);
+            }
+
+            SegmentTask task = new SegmentTask(encrypt ? in : out, encrypt ? out : in, layout, encrypt, segment, 0, layout.segments);
+            try {
+                pool.invoke(task);
+            } catch (RuntimeException e) {
+                throw unwrap(e);
+            }
+            done = true;
+        } finally {
+            if (!done) {
+                Files.deleteIfExists(target);
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(RuntimeException e) throws IOException, GeneralSecurityException {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SegmentFailure) {
+                throw (GeneralSecurityException) t.getCause();
+            }
+            if (t instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) t).getCause();
+            }
+        }
+        return e;
+    }
+
+    /**
+     * 文件布局：明文长度、分段大小、头部和每段标签长度；第 i 段在明文和密文中的偏移
+     *
+     * ----------------------------------------------------------------------------------------丨
+     * File layout: plaintext length, segment size, header and tag length per segment, with the 丨
+     * offsets of segment i in the plaintext and in the cipher text.                           丨
+     * ----------------------------------------------------------------------------------------丨
+     */
+    private static final class Layout {
+        private final long length;
+        private final int segmentSize;
+        private final byte[] header;
+        private final int tagLength;
+        private final long segments;
+        private final long segmentsPerTask;
+
+        private Layout(long length, int segmentSize, byte[] header, int tagLength) {
+            this.length = length;
+            this.segmentSize = segmentSize;
+            this.header = header;
+            this.tagLength = tagLength;
+            this.segments = Math.max(1, (length + segmentSize - 1) / segmentSize);
+            this.segmentsPerTask = Math.max(1, WINDOW_SIZE / (segmentSize + tagLength));
+            if (segments > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("分段数量过多，请增大分段大小! | Too many segments, use a larger segment size!");
+            }
+        }
+
+        private long plainOffset(long index) {
+            return Math.min(index * segmentSize, length);
+        }
+
+        private long cipherOffset(long index) {
+            return header.length + plainOffset(index) + index * tagLength;
+        }
+    }
+
+    /**
+     * 每个叶子任务创建一个 SegmentCipher，在其线程内依次处理窗口中的段
+     *
+     * ----------------------------------------------------------------------------------------丨
+     * Every leaf task creates one SegmentCipher and processes the segments of its window in turn. 丨
+     * ----------------------------------------------------------------------------------------丨
+     */
+    private interface Segment {
+        SegmentCipher newCipher() throws GeneralSecurityException;
+    }
+
+    private interface SegmentCipher {
+        void doFinal(long index, ByteBuffer input, ByteBuffer output) throws GeneralSecurityException;
+    }
+
+    private static final class SegmentFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private SegmentFailure(GeneralSecurityException cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * 按段下标区间二分拆分的任务，叶子任务一次映射一个窗口的输入和输出
+     *
+     * ---------------------------------------------------------------------------------------------丨
+     * Task split in halves over the segment index range, a leaf task maps one window of input and  丨
+     * output at a time.                                                                            丨
+     * ---------------------------------------------------------------------------------------------丨
+     */
+    private static final class SegmentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel plain;
+        private final FileChannel cipher;
+        private final Layout layout;
+        private final boolean encrypt;
+        private final Segment segment;
+        private final long from;
+        private final long to;
+
+        private SegmentTask(FileChannel plain, FileChannel cipher, Layout layout, boolean encrypt, Segment segment, long from, long to) {
+            this.plain = plain;
+            this.cipher = cipher;
+            this.layout = layout;
+            this.encrypt = encrypt;
+            this.segment = segment;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > layout.segmentsPerTask) {
+                long mid = (from + to) >>> 1;
+                invokeAll(new SegmentTask(plain, cipher, layout, encrypt, segment, from, mid),
+                        new SegmentTask(plain, cipher, layout, encrypt, segment, mid, to));
+                return;
+            }
+
+            try {
+                long plainStart = layout.plainOffset(from);
+                long cipherStart = layout.cipherOffset(from);
+                ByteBuffer plainWindow = plain.map(encrypt ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE,
+                        plainStart, layout.plainOffset(to) - plainStart);
+                ByteBuffer cipherWindow = cipher.map(encrypt ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                        cipherStart, layout.cipherOffset(to) - cipherStart);
+
+                SegmentCipher segmentCipher = segment.newCipher();
+                for (long i = from; i < to; i++) {
+                    ByteBuffer p = slice(plainWindow, layout.plainOffset(i) - plainStart, layout.plainOffset(i + 1) - plainStart);
+                    ByteBuffer c = slice(cipherWindow, layout.cipherOffset(i) - cipherStart, layout.cipherOffset(i + 1) - cipherStart);
+                    if (encrypt) {
+                        segmentCipher.doFinal(i, p, c);
+                    } else {
+                        segmentCipher.doFinal(i, c, p);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (GeneralSecurityException e) {
+                throw new SegmentFailure(e);
+            }
+        }
+
+        private static ByteBuffer slice(ByteBuffer window, long start, long end) {
+            ByteBuffer slice = window.duplicate();
+            slice.limit((int) end);
+            slice.position((int) start);
+            return slice;
+        }
+    }
+
+    /**
+     * @className Result
+     * @description 一次文件加解密的模式、明文长度和耗时
+     *              Mode, plaintext length and elapsed time of one file operation
+     **/
+    public static final class Result {
+        private final AesMode mode;
+        private final long length;
+        private final long nanos;
+
+        private Result(AesMode mode, long length, long nanos) {
+            this.mode = mode;
+            this.length = length;
+            this.nanos = nanos;
+        }
+
+        public AesMode getMode() {
+            return mode;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * 明文吞吐量，MB/s（10^6 字节）| Plaintext throughput in MB/s (10^6 bytes)
+         */
+        public double megabytesPerSecond() {
+            return nanos == 0 ? 0 : length * 1000.0 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s %d bytes in %.1f ms, %.1f MB/s", mode, length, nanos / 1e6, megabytesPerSecond());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mhx.encryption.util.aes;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+
+/**
+ * @className AesKey
+ * @description GCM / CTR 的密钥材料，同时携带密钥的 SHA-256 指纹；与 SecretKey 一起放在 CipherPool 的密钥缓存中，
+ *              指纹只在缓存未命中时计算一次，之后每次取 nonce 直接复用
+ *              GCM and CTR key material carrying the SHA-256 fingerprint of the key; it is kept together with the
+ *              SecretKey in the CipherPool key cache, so the fingerprint is computed once on a cache miss and reused
+ *              by every later nonce
+ * @author MuHongXin.
+ * @date 2026/10/19 13:20
+ * @version v1.0.0
+ **/
+
+final class AesKey extends SecretKeySpec {
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] fingerprint;
+
+    AesKey(byte[] key) {
+        super(key, "AES");
+        SHA256Digest digest = new SHA256Digest();
+        digest.update(key, 0, key.length);
+        fingerprint = new byte[digest.getDigestSize()];
+        digest.doFinal(fingerprint, 0);
+    }
+
+    /**
+     * 指纹的只读视图，用作 nonce 序列的缓存键 | Read only view of the fingerprint, the cache key of the nonce sequence
+     */
+    ByteBuffer fingerprint() {
+        return ByteBuffer.wrap(fingerprint).asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,73 @@
+package com.mhx.encryption.util.aes;
+
+/**
+ * @className AesMode
+ * @description AES 工作模式。GCM 与 CTR 的密文带有自描述头部：1 字节 (版本 << 4 | 模式)、12 字节 nonce，
+ *              之后为密文，GCM 在末尾附加 16 字节认证标签
+ *              AES modes of operation. GCM and CTR cipher texts carry a self describing header: one byte
+ *              (version << 4 | mode) and a 12 byte nonce, followed by the cipher text, GCM appends the 16 byte tag
+ * @author MuHongXin.
+ * @date 2026/10/18 19:10
+ * @version v1.0.0
+ **/
+
+public enum AesMode {
+    /**
+     * AES/ECB/PKCS5Padding，本项目原有的模式，没有头部和认证
+     *
+     * ----------------------------------------------------------------------------------------丨
+     * AES/ECB/PKCS5Padding, the original mode of this project, no header and no authentication. 丨
+     * ----------------------------------------------------------------------------------------丨
+     */
+    ECB(0, "AES/ECB/PKCS5Padding", 0),
+
+    /**
+     * AES/GCM/NoPadding，一次处理同时完成加密和认证，头部字节作为附加认证数据
+     *
+     * ------------------------------------------------------------------------------------------------丨
+     * AES/GCM/NoPadding, encryption and authentication in one pass, the header byte is authenticated  丨
+     * as additional data.                                                                             丨
+     * ------------------------------------------------------------------------------------------------丨
+     */
+    GCM(1, "AES/GCM/NoPadding", 16),
+
+    /**
+     * AES/CTR/NoPadding，计数器 = nonce || 32 位块计数，没有认证
+     *
+     * -----------------------------------------------------------------------------丨
+     * AES/CTR/NoPadding, counter = nonce || 32 bit block count, no authentication.  丨
+     * -----------------------------------------------------------------------------丨
+     */
+    CTR(2, "AES/CTR/NoPadding", 0);
+
+    private final int id;
+    private final String transformation;
+    private final int tagLength;
+
+    AesMode(int id, String transformation, int tagLength) {
+        this.id = id;
+        this.transformation = transformation;
+        this.tagLength = tagLength;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getTransformation() {
+        return transformation;
+    }
+
+    public int getTagLength() {
+        return tagLength;
+    }
+
+    public static AesMode of(int id) {
+        for (AesMode mode : values()) {
+            if (mode.id == id) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("未知的AES模式! | Unknown AES mode: " + id);
+    }
+}
@@ -0,0 +1,336 @@
+package com.mhx.encryption.util.aes;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * @className AesStreamCipher
+ * @description AES-GCM 分段流式加解密，内存占用只与分段大小有关，与数据总长度无关。
+ *              每段单独认证，nonce = 7 字节随机前缀 || 4 字节段序号 || 1 字节末段标记，
+ *              因此段被调换、删除或数据被截断都会在解密时被发现；每个流使用 HMAC-SHA256(密钥, 盐) 派生的独立密钥。
+ *              AES-GCM segmented streaming encryption, the memory used depends only on the segment size and not on the
+ *              total length. Every segment is authenticated on its own with nonce = 7 byte random prefix ||
+ *              4 byte segment index || 1 byte last segment flag, so reordered, removed or truncated segments are
+ *              detected on decryption; every stream uses its own key derived as HMAC-SHA256(key, salt).
+ *
+ *              流格式 | Stream format, big endian:
+ *                0   1   (版本 1 << 4) | 3 | (version 1 << 4) | 3
+ *                1   4   明文分段大小 | plaintext segment size
+ *                5   16  密钥派生盐 | key derivation salt
+ *                21  7   nonce 前缀 | nonce prefix
+ *                28  ... 分段：密文 || 16 字节标签，末段可以更短或为空，头部 28 字节作为每段的附加认证数据
+ *                        segments: cipher text || 16 byte tag, the last one may be shorter or empty,
+ *                        the 28 byte header is authenticated as additional data of every segment
+ * @author MuHongXin.
+ * @date 2026/10/18 19:40
+ * @version v1.0.0
+ **/
+
+public class AesStreamCipher {
+    /**
+     * 默认明文分段大小 64 KiB
+     *
+     * ----------------------------------------丨
+     * Default plaintext segment size, 64 KiB. 丨
+     * ----------------------------------------丨
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+
+    /**
+     * 分段大小上下限，解密时头部中的分段大小来自外部输入，必须限制
+     *
+     * --------------------------------------------------------------------------------------------丨
+     * Segment size bounds, the segment size in the header is untrusted on decryption and bounded. 丨
+     * --------------------------------------------------------------------------------------------丨
+     */
+    public static final int MINIMUM_SEGMENT_SIZE = 256;
+    public static final int MAXIMUM_SEGMENT_SIZE = 8 * 1024 * 1024;
+
+    public static final int HEADER_LENGTH = 28;
+
+    static final int HEADER_BYTE = 1 << 4 | 3;
+    static final int TAG_LENGTH = 16;
+    private static final int SALT_LENGTH = 16;
+    private static final int PREFIX_LENGTH = 7;
+    private static final byte[] KEY_INFO = "AesStreamCipher segment key".getBytes(StandardCharsets.US_ASCII);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private AesStreamCipher() {
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     * @description: 从 in 读取明文，按分段加密后写入 out，边读边写，内存占用为两个分段缓冲区；不关闭 in 和 out
+     *               Read the plaintext from 'in' and write the segmented cipher text to 'out' as the bytes arrive,
+     *               using two segment buffers of memory; 'in' and 'out' are not closed
+     * @param in 明文输入 | plaintext input
+     * @param out 密文输出 | cipher text output
+     * @param key AES 密钥，16 / 24 / 32 字节 | AES key, 16, 24 or 32 bytes
+     * @param segmentSize 明文分段大小 | plaintext segment size
+     * @return long 明文长度 | plaintext length
+     **/
+    public static long encrypt(InputStream in, OutputStream out, byte[] key, int segmentSize) throws IOException, GeneralSecurityException {
+        byte[] header = header(segmentSize);
+        Segments segments = new Segments(Cipher.ENCRYPT_MODE, key, header);
+        out.write(header);
+
+        // 多读 1 字节以判断当前段是否为末段 | One extra byte is read to tell whether the current segment is the last one
+        byte[] buffer = new byte[segmentSize + 1];
+        byte[] output = new byte[segmentSize + TAG_LENGTH];
+        long total = 0;
+        int index = 0;
+        int length = readFully(in, buffer, 0, buffer.length);
+        while (true) {
+            boolean last = length <= segmentSize;
+            int segment = last ? length : segmentSize;
+            out.write(output, 0, segments.doFinal(index++, last, buffer, segment, output));
+            total += segment;
+            if (last) {
+                return total;
+            }
+
+            buffer[0] = buffer[segmentSize];
+            length = 1 + readFully(in, buffer, 1, segmentSize);
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     * @description: 从 in 读取分段密文，逐段认证并解密后写入 out；认证失败、段被调换或数据被截断时抛出 AEADBadTagException，
+     *               此前已验证的段可能已经写出，调用方必须将整个结果视为失败；不关闭 in 和 out
+     *               Read the segmented cipher text from 'in', authenticate and decrypt segment by segment into 'out';
+     *               AEADBadTagException is thrown on a failed tag, reordered segments or truncated data, segments
+     *               verified before may already be written and the caller must treat the whole result as failed;
+     *               'in' and 'out' are not closed
+     * @param in 密文输入 | cipher text input
+     * @param out 明文输出 | plaintext output
+     * @param key AES 密钥，16 / 24 / 32 字节 | AES key, 16, 24 or 32 bytes
+     * @return long 明文长度 | plaintext length
+     **/
+    public static long decrypt(InputStream in, OutputStream out, byte[] key) throws IOException, GeneralSecurityException {
+        return decrypt(in, out, key, -1, null);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     * @description: 同 decrypt(in, out, key)，已知密文总长度时在写出任何明文之前校验长度并通过 onPlaintextLength 通知明文长度，
+     *               例如用于预先设置 HTTP Content-Length，使中途认证失败的响应在客户端表现为不完整
+     *               Same as decrypt(in, out, key); when the total cipher text length is known it is checked and the
+     *               plaintext length is passed to onPlaintextLength before any plaintext is written, for example to set
+     *               the HTTP Content-Length up front so that a response failing half way looks incomplete to the client
+     * @param in 密文输入 | cipher text input
+     * @param out 明文输出 | plaintext output
+     * @param key AES 密钥，16 / 24 / 32 字节 | AES key, 16, 24 or 32 bytes
+     * @param streamLength 密文总长度，未知时为 -1 | total cipher text length, -1 when unknown
+     * @param onPlaintextLength 明文长度回调，可以为 null | plaintext length callback, may be null
+     * @return long 明文长度 | plaintext length
+     **/
+    public static long decrypt(InputStream in, OutputStream out, byte[] key, long streamLength, LongConsumer onPlaintextLength) throws IOException, GeneralSecurityException {
+        byte[] header = new byte[HEADER_LENGTH];
+        if (readFully(in, header, 0, HEADER_LENGTH) < HEADER_LENGTH) {
+            throw new IllegalArgumentException("密文头部不完整! | The cipher text header is incomplete!");
+        }
+        int segmentSize = segmentSize(header);
+
+        Segments segments = new Segments(Cipher.DECRYPT_MODE, key, header);
+        if (streamLength >= 0) {
+            long plaintextLength = plaintextLength(streamLength, segmentSize);
+            if (plaintextLength < 0) {
+                throw new AEADBadTagException("密文被截断! | The cipher text is truncated!");
+            }
+            if (onPlaintextLength != null) {
+                onPlaintextLength.accept(plaintextLength);
+            }
+        }
+
+        int cipherSegment = segmentSize + TAG_LENGTH;
+        byte[] buffer = new byte[cipherSegment + 1];
+        byte[] output = new byte[segmentSize];
+        long total = 0;
+        int index = 0;
+        int length = readFully(in, buffer, 0, buffer.length);
+        while (true) {
+            boolean last = length <= cipherSegment;
+            int segment = last ? length : cipherSegment;
+            if (segment < TAG_LENGTH) {
+                throw new AEADBadTagException("密文被截断! | The cipher text is truncated!");
+            }
+            int n = segments.doFinal(index++, last, buffer, segment, output);
+            out.write(output, 0, n);
+            total += n;
+            if (last) {
+                return total;
+            }
+
+            buffer[0] = buffer[cipherSegment];
+            length = 1 + readFully(in, buffer, 1, cipherSegment);
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     * @description: 由密文总长度（含头部）计算明文长度，长度不可能由本格式产生时返回 -1
+     *               Plaintext length of a cipher text of the given total length (header included),
+     *               -1 when the length cannot be produced by this format
+     * @param length 密文总长度 | total cipher text length
+     * @param segmentSize 明文分段大小 | plaintext segment size
+     * @return long
+     **/
+    public static long plaintextLength(long length, int segmentSize) {
+        long body = length - HEADER_LENGTH;
+        int cipherSegment = segmentSize + TAG_LENGTH;
+        if (body < TAG_LENGTH) {
+            return -1;
+        }
+
+        long segments = body / cipherSegment;
+        long remainder = body % cipherSegment;
+        if (remainder != 0) {
+            if (remainder < TAG_LENGTH) {
+                return -1;
+            }
+            segments++;
+        }
+        return body - segments * TAG_LENGTH;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午8:30 2026/10/18
+     * @description: 生成新的流头部：分段大小、随机盐和随机 nonce 前缀
+     *               New stream header: the segment size, a random salt and a random nonce prefix
+     * @param segmentSize 明文分段大小 | plaintext segment size
+     * @return byte[]
+     **/
+    static byte[] header(int segmentSize) {
+        checkSegmentSize(segmentSize);
+        byte[] header = new byte[HEADER_LENGTH];
+        header[0] = (byte) HEADER_BYTE;
+        writeInt(header, 1, segmentSize);
+        byte[] random = new byte[SALT_LENGTH + PREFIX_LENGTH];
+        RANDOM.nextBytes(random);
+        System.arraycopy(random, 0, header, 5, random.length);
+        return header;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午8:30 2026/10/18
+     * @description: 校验流头部并返回其中的分段大小
+     *               Check a stream header and return the segment size in it
+     * @param header 流头部 | stream header
+     * @return int
+     **/
+    static int segmentSize(byte[] header) {
+        if ((header[0] & 0xFF) != HEADER_BYTE) {
+            throw new IllegalArgumentException("不支持的流格式! | Unsupported stream format!");
+        }
+        int segmentSize = readInt(header, 1);
+        checkSegmentSize(segmentSize);
+        return segmentSize;
+    }
+
+    private static void checkSegmentSize(int segmentSize) {
+        if (segmentSize < MINIMUM_SEGMENT_SIZE || segmentSize > MAXIMUM_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("分段大小超出范围! | The segment size is out of range: " + segmentSize);
+        }
+    }
+
+    private static int readFully(InputStream in, byte[] b, int off, int len) throws IOException {
+        int read = 0;
+        while (read < len) {
+            int n = in.read(b, off + read, len - read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return read;
+    }
+
+    private static void writeInt(byte[] b, int off, int v) {
+        b[off] = (byte) (v >>> 24);
+        b[off + 1] = (byte) (v >>> 16);
+        b[off + 2] = (byte) (v >>> 8);
+        b[off + 3] = (byte) v;
+    }
+
+    private static int readInt(byte[] b, int off) {
+        return (b[off] & 0xFF) << 24 | (b[off + 1] & 0xFF) << 16 | (b[off + 2] & 0xFF) << 8 | (b[off + 3] & 0xFF);
+    }
+
+    /**
+     * @className Segments
+     * @description 一个流的分段状态：派生密钥、nonce 前缀和当前线程的 Cipher；段序号由调用方给出，
+     *              因此不同线程可以各持一个实例并行处理互不相交的段
+     *              Segment state of one stream: the derived key, the nonce prefix and the Cipher of the calling thread;
+     *              the segment index is given by the caller, so threads may hold one instance each and process
+     *              disjoint segments in parallel
+     **/
+    static final class Segments {
+        private final int opmode;
+        private final byte[] header;
+        private final SecretKeySpec segmentKey;
+        private final Cipher cipher;
+        private final byte[] nonce = new byte[12];
+
+        Segments(int opmode, byte[] key, byte[] header) throws GeneralSecurityException {
+            if (key.length != 16 && key.length != 24 && key.length != 32) {
+                throw new InvalidKeyException("AES密钥长度必须为16、24或32字节! | The AES key must be 16, 24 or 32 bytes!");
+            }
+
+            this.opmode = opmode;
+            this.header = header;
+
+            // 流密钥 = HMAC-SHA256(密钥, 盐 || 标识) 的前 key.length 字节 | Stream key = first key.length bytes of HMAC-SHA256(key, salt || info)
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            mac.update(header, 5, SALT_LENGTH);
+            byte[] derived = mac.doFinal(KEY_INFO);
+            this.segmentKey = new SecretKeySpec(Arrays.copyOf(derived, key.length), "AES");
+            Arrays.fill(derived, (byte) 0);
+
+            this.cipher = Cipher.getInstance(AesMode.GCM.getTransformation());
+            System.arraycopy(header, 5 + SALT_LENGTH, nonce, 0, PREFIX_LENGTH);
+        }
+
+        int doFinal(int index, boolean last, byte[] input, int length, byte[] output) throws GeneralSecurityException {
+            init(index, last);
+            return cipher.doFinal(input, 0, length, output, 0);
+        }
+
+        int doFinal(int index, boolean last, ByteBuffer input, ByteBuffer output) throws GeneralSecurityException {
+            init(index, last);
+            return cipher.doFinal(input, output);
+        }
+
+        private void init(int index, boolean last) throws GeneralSecurityException {
+            if (index < 0) {
+                throw new IllegalStateException("分段数量超出范围! | Too many segments!");
+            }
+            writeInt(nonce, PREFIX_LENGTH, index);
+            nonce[11] = (byte) (last ? 1 : 0);
+
+            cipher.init(opmode, segmentKey, new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+            cipher.updateAAD(header);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.mhx.encryption.util.aes;
 
+import com.mhx.encryption.util.cache.BoundedCache;
+import com.mhx.encryption.util.cipher.BatchResult;
+import com.mhx.encryption.util.cipher.CipherPool;
+import com.mhx.encryption.util.cipher.NonceSequence;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.thymeleaf.util.StringUtils;
@@ -7,11 +11,23 @@ import org.thymeleaf.util.StringUtils;
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
 import java.security.NoSuchAlgorithmException;
+import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongConsumer;
 
 /**
  * 严格地说，AES和Rijndael加密法并不完全一样（虽然在实际应用中二者可以互换），因为Rijndael加密法可以支持更大范围的区块和密钥长度：AES的区块长度固定为128位，
@@ -110,6 +126,85 @@ public class AesUtils {
      */
     private static final String ALGORITHM = "AES/ECB/PKCS5Padding";
 
+    /**
+     * 最多缓存的密钥数量
+     *
+     * ----------------------------------------------------------------------------------------丨
+     * Maximum number of cached keys.                                                          丨
+     * ----------------------------------------------------------------------------------------丨
+     */
+    private static final int MAXIMUM_KEYS = 256;
+
+    /**
+     * 每个线程复用已初始化的 Cipher，避免每次调用 Cipher.getInstance 和重新创建 SecretKeySpec
+     *
+     * ----------------------------------------------------------------------------------------丨
+     * Every thread reuses initialized ciphers, avoiding Cipher.getInstance and a new          丨
+     * SecretKeySpec on every call.                                                            丨
+     * ----------------------------------------------------------------------------------------丨
+     */
+    private static final CipherPool CIPHER_POOL = new CipherPool(ALGORITHM, "AES", MAXIMUM_KEYS);
+
+    /**
+     * GCM / CTR 模式的 Cipher 池，每次调用使用新的 nonce 重新 init
+     *
+     * ----------------------------------------------------------------------------------------丨
+     * Cipher pools of the GCM and CTR modes, initialized again with a new nonce on every call. 丨
+     * ----------------------------------------------------------------------------------------丨
+     */
+    private static final CipherPool GCM_POOL = new CipherPool(AesMode.GCM.getTransformation(), AesKey::new, null, MAXIMUM_KEYS);
+    private static final CipherPool CTR_POOL = new CipherPool(AesMode.CTR.getTransformation(), AesKey::new, null, MAXIMUM_KEYS);
+
+    /**
+     * CTR 模式的多核引擎，达到阈值的数据在公共 ForkJoin 线程池中按切片并行处理，输出与顺序 CTR 相同
+     *
+     * ----------------------------------------------------------------------------------------丨
+     * Multi-core CTR engine, data at or above the threshold is processed in slices on the     丨
+     * common ForkJoin pool with the same output as sequential CTR.                            丨
+     * ----------------------------------------------------------------------------------------丨
+     */
+    private static final ParallelCtrCipher CTR_CIPHER = new ParallelCtrCipher(CTR_POOL, ForkJoinPool.commonPool(), ParallelCtrCipher.DEFAULT_THRESHOLD);
+
+    /**
+     * 每个密钥的 nonce 序列，以密钥的 SHA-256 指纹为键，GCM 与 CTR 共用，同一密钥下两种模式的 nonce 也不会重复
+     *
+     * ----------------------------------------------------------------------------------------丨
+     * Nonce sequence of every key, keyed by the SHA-256 fingerprint of the key and shared by  丨
+     * GCM and CTR so that no nonce repeats under one key across both modes either.            丨
+     * ----------------------------------------------------------------------------------------丨
+     */
+    private static final BoundedCache<ByteBuffer, NonceSequence> NONCES = new BoundedCache<>(MAXIMUM_KEYS);
+
+    /**
+     * GCM / CTR 密文头部：1 字节 (版本 << 4 | 模式) + 12 字节 nonce
+     *
+     * ----------------------------------------------------------------------------丨
+     * GCM and CTR cipher text header: one byte (version << 4 | mode) + 12 byte nonce. 丨
+     * ----------------------------------------------------------------------------丨
+     */
+    private static final int HEADER_VERSION = 1;
+    static final int HEADER_LENGTH = 1 + NonceSequence.NONCE_LENGTH;
+
+    /**
+     * GCM 认证标签长度（位）
+     *
+     * ----------------------------------丨
+     * GCM authentication tag in bits.   丨
+     * ----------------------------------丨
+     */
+    private static final int GCM_TAG_BITS = 128;
+
+    public static BoundedCache<ByteBuffer, SecretKey> keyCache() {
+        return CIPHER_POOL.keyCache();
+    }
+
+    public static BoundedCache<ByteBuffer, SecretKey> keyCache(AesMode mode) {
+        return pool(mode).keyCache();
+    }
+
+    public static BoundedCache<ByteBuffer, NonceSequence> nonceCache() {
+        return NONCES;
+    }
 
     /**
      * @author: MuHongXin.
@@ -177,18 +272,49 @@ public class AesUtils {
      * @return java.lang.String 密文 cipherText
      **/
     public static String encrypt(String plaintext, String encryptKey) throws Exception {
+        return encrypt(plaintext, encryptKey, AesMode.ECB);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午4:25 2023/5/31
+     * AES 解密，根据所用密钥对参数 'encryptStr' 进行解密
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     * AES Decrypts, decrypts the parameter 'encryptStr' according to the used key.                        丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param cipherText 密文
+     * @param decryptKey 密钥
+     * @return java.lang.String 明文 plaintext
+     **/
+    public static String decrypt(String cipherText, String decryptKey) throws Exception {
+        return decrypt(cipherText, decryptKey, AesMode.ECB);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:10 2026/10/18
+     * @description: AES 加密，使用指定模式和密钥，结果进行 Base64 编码；GCM / CTR 模式的结果带有自描述头部
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     *               AES Encrypts with the given mode and key, the result is Base64 encoded; GCM and CTR   丨
+     *               results carry the self describing header.                                             丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param plaintext 明文
+     * @param encryptKey 密钥
+     * @param mode 工作模式 | mode of operation
+     * @return java.lang.String 密文 cipherText
+     **/
+    public static String encrypt(String plaintext, String encryptKey, AesMode mode) throws Exception {
         if (StringUtils.isEmpty(plaintext) || StringUtils.isEmpty(encryptKey)) {
             throw new IllegalArgumentException("加密内容或秘钥为空! | The encryption content or key is empty!");
         }
 
-        // 获取 Cipher 实例，指定加密算法为 AES | Get a Cipher instance and specify the encryption algorithm as AES
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-
-        // 初始化 Cipher，指定操作模式为 ENCRYPT_MODE | Initialize the Cipher, specify the operation mode as ENCRYPT_MODE
-        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(encryptKey.getBytes(), "AES"));
-
-        // 使用 Cipher 对明文进行加密，并将结果存储到字节数组中 | Encrypt the plaintext using Cipher and store the result in a byte array
-        byte[] b = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+        // 使用当前线程已按密钥初始化的 Cipher 对明文进行加密 | Encrypt the plaintext with the cipher of the current thread initialized for the key
+        byte[] input = plaintext.getBytes(StandardCharsets.UTF_8);
+        byte[] b = encrypt(input, 0, input.length, encryptKey.getBytes(), mode);
 
         // 将加密结果进行 Base64 编码，并转换为字符串 | Base64 encode the encrypted result and convert it to a string
         return org.apache.commons.codec.binary.Base64.encodeBase64String(b);
@@ -196,36 +322,251 @@ public class AesUtils {
 
     /**
      * @author: MuHongXin.
-     * @dateTime: 下午4:25 2023/5/31
-     * AES 解密，根据所用密钥对参数 'encryptStr' 进行解密
+     * @dateTime: 下午7:10 2026/10/18
+     * @description: AES 解密，使用指定模式和密钥；GCM 模式认证失败时抛出 AEADBadTagException
      *
      * ----------------------------------------------------------------------------------------------------丨
-     * AES Decrypts, decrypts the parameter 'encryptStr' according to the used key.                        丨
+     *               AES Decrypts with the given mode and key; the GCM mode throws AEADBadTagException     丨
+     *               when the authentication fails.                                                        丨
      * ----------------------------------------------------------------------------------------------------丨
      *
      * @param cipherText 密文
      * @param decryptKey 密钥
+     * @param mode 工作模式 | mode of operation
      * @return java.lang.String 明文 plaintext
      **/
-    public static String decrypt(String cipherText, String decryptKey) throws Exception {
+    public static String decrypt(String cipherText, String decryptKey, AesMode mode) throws Exception {
         if (StringUtils.isEmpty(cipherText) || StringUtils.isEmpty(decryptKey)) {
             throw new IllegalArgumentException("加密内容或秘钥为空! | The encryption content or key is empty!");
         }
 
-        // 获取 Cipher 实例，指定加密算法为 AES | Get a Cipher instance and specify the encryption algorithm as AES
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-
-        // 初始化 Cipher，指定操作模式为 DECRYPT_MODE，并指定解密密钥 | Initialize the Cipher, specify the operating mode as DECRYPT_MODE and specify the decryption key
-        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(decryptKey.getBytes(), "AES"));
-
         // 对密文进行解码 | Decode the cipher text
         byte[] encryptBytes = org.apache.commons.codec.binary.Base64.decodeBase64(cipherText);
 
-        // 解密密文，得到明文字节数组 | Decrypt the encrypted text to get the plain text byte array
-        byte[] decryptBytes = cipher.doFinal(encryptBytes);
+        // 使用当前线程已按密钥初始化的 Cipher 解密密文，得到明文字节数组 | Decrypt with the cipher of the current thread initialized for the key to get the plain text byte array
+        byte[] decryptBytes = decrypt(encryptBytes, 0, encryptBytes.length, decryptKey.getBytes(), mode);
 
         // 将明文字节数组转换为字符串并返回 | Convert the plain text byte array to a string and return it
-        return new String(decryptBytes);
+        return new String(decryptBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:10 2026/10/18
+     * @description: AES 字节加密。ECB 输出与原格式相同；GCM / CTR 输出 头部 || 密文 (|| GCM 标签)，
+     *               nonce 取自该密钥的 nonce 序列，不加全局锁
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     *               AES byte encryption. ECB output keeps the original format; GCM and CTR output         丨
+     *               header || cipher text (|| GCM tag), the nonce comes from the nonce sequence of the    丨
+     *               key without a global lock.                                                            丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param data 明文 | plaintext
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param key 密钥字节 | key bytes
+     * @param mode 工作模式 | mode of operation
+     * @return byte[]
+     **/
+    public static byte[] encrypt(byte[] data, int off, int len, byte[] key, AesMode mode) throws GeneralSecurityException {
+        if (mode == AesMode.ECB) {
+            return CIPHER_POOL.doFinal(Cipher.ENCRYPT_MODE, key, data, off, len);
+        }
+
+        byte[] out = new byte[encryptedLength(len, mode)];
+        encrypt(data, off, len, key, mode, out, 0);
+        return out;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:10 2026/10/18
+     * @description: AES 字节解密，GCM / CTR 密文的头部必须与指定模式一致
+     *               AES byte decryption, the header of a GCM or CTR cipher text must match the given mode
+     * @param in 密文 | cipher text
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param key 密钥字节 | key bytes
+     * @param mode 工作模式 | mode of operation
+     * @return byte[]
+     **/
+    public static byte[] decrypt(byte[] in, int off, int len, byte[] key, AesMode mode) throws GeneralSecurityException {
+        if (mode == AesMode.ECB) {
+            return CIPHER_POOL.doFinal(Cipher.DECRYPT_MODE, key, in, off, len);
+        }
+
+        checkCipherText(in, off, len, mode);
+        byte[] out = new byte[decryptedLength(len, mode)];
+        decrypt(in, off, len, key, mode, out, 0);
+        return out;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: AES 字节加密，结果写入调用方提供的数组，格式同 encrypt(data, off, len, key, mode)；
+     *               输出至少需要 encryptedLength(len, mode) 字节，否则抛出 ShortBufferException；GCM / CTR 的输出区域不能与输入区域重叠
+     *               AES byte encryption into the array supplied by the caller, with the format of
+     *               encrypt(data, off, len, key, mode); the output needs at least encryptedLength(len, mode) bytes,
+     *               otherwise ShortBufferException is thrown; for GCM and CTR the output must not overlap the input
+     * @param data 明文 | plaintext
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param key 密钥字节 | key bytes
+     * @param mode 工作模式 | mode of operation
+     * @param out 输出 | output
+     * @param outOff 输出偏移量 | output offset
+     * @return int 输出长度 | output length
+     **/
+    public static int encrypt(byte[] data, int off, int len, byte[] key, AesMode mode, byte[] out, int outOff) throws GeneralSecurityException {
+        if (mode == AesMode.ECB) {
+            return CIPHER_POOL.doFinal(Cipher.ENCRYPT_MODE, key, data, off, len, out, outOff);
+        }
+
+        int length = encryptedLength(len, mode);
+        checkOutput(out.length - outOff, length);
+        out[outOff] = header(mode);
+        nextNonce(key, mode, out, outOff + 1);
+        if (mode == AesMode.CTR) {
+            CTR_CIPHER.doFinal(Cipher.ENCRYPT_MODE, key, counter(out, outOff + 1), data, off, len, out, outOff + HEADER_LENGTH);
+        } else {
+            pool(mode).doFinal(Cipher.ENCRYPT_MODE, key, parameters(mode, out, outOff + 1), aad(mode, out[outOff]), data, off, len, out, outOff + HEADER_LENGTH);
+        }
+        return length;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: AES 字节解密，结果写入调用方提供的数组；输出至少需要 decryptedLength(len, mode) 字节，否则抛出 ShortBufferException
+     *               AES byte decryption into the array supplied by the caller; the output needs at least
+     *               decryptedLength(len, mode) bytes, otherwise ShortBufferException is thrown
+     * @param in 密文 | cipher text
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param key 密钥字节 | key bytes
+     * @param mode 工作模式 | mode of operation
+     * @param out 输出 | output
+     * @param outOff 输出偏移量 | output offset
+     * @return int 明文长度 | plaintext length
+     **/
+    public static int decrypt(byte[] in, int off, int len, byte[] key, AesMode mode, byte[] out, int outOff) throws GeneralSecurityException {
+        if (mode == AesMode.ECB) {
+            return CIPHER_POOL.doFinal(Cipher.DECRYPT_MODE, key, in, off, len, out, outOff);
+        }
+
+        checkCipherText(in, off, len, mode);
+        int length = decryptedLength(len, mode);
+        checkOutput(out.length - outOff, length);
+        if (mode == AesMode.CTR) {
+            return CTR_CIPHER.doFinal(Cipher.DECRYPT_MODE, key, counter(in, off + 1), in, off + HEADER_LENGTH, length, out, outOff);
+        }
+        return pool(mode).doFinal(Cipher.DECRYPT_MODE, key, parameters(mode, in, off + 1), aad(mode, in[off]), in, off + HEADER_LENGTH, len - HEADER_LENGTH, out, outOff);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: AES 缓冲区加密，读取 input 的剩余字节并写入 output，两者的 position 都前移；
+     *               堆缓冲区按数组处理，直接缓冲区由 Cipher 直接读写，不复制数据；CTR 与数组路径一样经过多核引擎
+     *               AES buffer encryption, reading the remaining bytes of 'input' into 'output' and advancing both
+     *               positions; heap buffers take the array path, direct buffers are read and written by the cipher
+     *               without copying the data; CTR goes through the multi-core engine as on the array path
+     * @param input 明文 | plaintext
+     * @param output 密文输出 | cipher text output
+     * @param key 密钥字节 | key bytes
+     * @param mode 工作模式 | mode of operation
+     * @return int 输出长度 | output length
+     **/
+    public static int encrypt(ByteBuffer input, ByteBuffer output, byte[] key, AesMode mode) throws GeneralSecurityException {
+        if (input.hasArray() && output.hasArray()) {
+            int n = encrypt(input.array(), input.arrayOffset() + input.position(), input.remaining(), key, mode,
+                    output.array(), output.arrayOffset() + output.position());
+            input.position(input.limit());
+            output.position(output.position() + n);
+            return n;
+        }
+        if (mode == AesMode.ECB) {
+            return CIPHER_POOL.doFinal(Cipher.ENCRYPT_MODE, key, input, output);
+        }
+
+        checkOutput(output.remaining(), encryptedLength(input.remaining(), mode));
+        byte[] header = new byte[HEADER_LENGTH];
+        header[0] = header(mode);
+        nextNonce(key, mode, header, 1);
+        output.put(header);
+        if (mode == AesMode.CTR) {
+            return HEADER_LENGTH + CTR_CIPHER.doFinal(Cipher.ENCRYPT_MODE, key, counter(header, 1), input, output);
+        }
+        return HEADER_LENGTH + pool(mode).doFinal(Cipher.ENCRYPT_MODE, key, parameters(mode, header, 1), aad(mode, header[0]), input, output);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: AES 缓冲区解密，读取 input 的剩余字节并写入 output，两者的 position 都前移
+     *               AES buffer decryption, reading the remaining bytes of 'input' into 'output' and advancing both positions
+     * @param input 密文 | cipher text
+     * @param output 明文输出 | plaintext output
+     * @param key 密钥字节 | key bytes
+     * @param mode 工作模式 | mode of operation
+     * @return int 明文长度 | plaintext length
+     **/
+    public static int decrypt(ByteBuffer input, ByteBuffer output, byte[] key, AesMode mode) throws GeneralSecurityException {
+        if (input.hasArray() && output.hasArray()) {
+            int n = decrypt(input.array(), input.arrayOffset() + input.position(), input.remaining(), key, mode,
+                    output.array(), output.arrayOffset() + output.position());
+            input.position(input.limit());
+            output.position(output.position() + n);
+            return n;
+        }
+        if (mode == AesMode.ECB) {
+            return CIPHER_POOL.doFinal(Cipher.DECRYPT_MODE, key, input, output);
+        }
+
+        int len = input.remaining();
+        byte[] header = new byte[HEADER_LENGTH];
+        input.duplicate().get(header, 0, Math.min(len, HEADER_LENGTH));
+        checkCipherText(header, 0, len, mode);
+        checkOutput(output.remaining(), decryptedLength(len, mode));
+        input.position(input.position() + HEADER_LENGTH);
+        if (mode == AesMode.CTR) {
+            return CTR_CIPHER.doFinal(Cipher.DECRYPT_MODE, key, counter(header, 1), input, output);
+        }
+        return pool(mode).doFinal(Cipher.DECRYPT_MODE, key, parameters(mode, header, 1), aad(mode, header[0]), input, output);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: len 字节明文加密后的长度
+     *               Length of the cipher text of 'len' plaintext bytes
+     * @param len 明文长度 | plaintext length
+     * @param mode 工作模式 | mode of operation
+     * @return int
+     **/
+    public static int encryptedLength(int len, AesMode mode) {
+        if (mode == AesMode.ECB) {
+            return (len / 16 + 1) * 16;
+        }
+        return HEADER_LENGTH + len + mode.getTagLength();
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: len 字节密文解密后的长度，ECB 为去除填充前的上限
+     *               Length of the plaintext of 'len' cipher text bytes, an upper bound before the padding is removed for ECB
+     * @param len 密文长度 | cipher text length
+     * @param mode 工作模式 | mode of operation
+     * @return int
+     **/
+    public static int decryptedLength(int len, AesMode mode) {
+        if (mode == AesMode.ECB) {
+            return len;
+        }
+        return len - HEADER_LENGTH - mode.getTagLength();
     }
 
     /**
@@ -267,4 +608,253 @@ public class AesUtils {
 
         return decrypt(cipherText, KEY);
     }
-}
\ No newline at end of file
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:10 2026/10/18
+     * @description: AES 加密，使用指定模式及默认密钥进行加密
+     *
+     * ----------------------------------------------------------------------------丨
+     * AES Encrypts with the given mode and the default key.                       丨
+     * ----------------------------------------------------------------------------丨
+     *
+     * @param plaintext 明文
+     * @param mode 工作模式 | mode of operation
+     * @return java.lang.String 密文 cipherText
+     **/
+    public static String encrypt(String plaintext, AesMode mode) throws Exception {
+        if (StringUtils.isEmpty(plaintext)) {
+            throw new IllegalArgumentException("加密内容不能为空! | The encryption content cannot be empty!");
+        }
+
+        return encrypt(plaintext, KEY, mode);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:10 2026/10/18
+     * @description: AES 解密，使用指定模式及默认密钥对密文进行解密
+     *
+     * ----------------------------------------------------------------------------丨
+     * AES Decrypts the cipher text with the given mode and the default key.       丨
+     * ----------------------------------------------------------------------------丨
+     *
+     * @param cipherText 密文
+     * @param mode 工作模式 | mode of operation
+     * @return java.lang.String 明文 plaintext
+     **/
+    public static String decrypt(String cipherText, AesMode mode) throws Exception {
+        if (StringUtils.isEmpty(cipherText)) {
+            throw new IllegalArgumentException("加密内容不能为空! | The encryption content cannot be empty!");
+        }
+
+        return decrypt(cipherText, KEY, mode);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @description: AES 批量加密，所有明文共用同一密钥，Cipher 只查找一次；单项失败记录在结果中，不影响其他项
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     *               AES batch encryption, every plaintext shares one key and the cipher is looked up      丨
+     *               once; a failed item is recorded in the result without affecting the others.           丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param plaintexts 明文列表 | plaintexts
+     * @param encryptKey 密钥，为空时使用默认密钥 | key, the default key when empty
+     * @param mode 工作模式 | mode of operation
+     * @return com.mhx.encryption.util.cipher.BatchResult 密文 cipherTexts
+     **/
+    public static BatchResult encrypt(List<String> plaintexts, String encryptKey, AesMode mode) {
+        byte[] key = key(encryptKey);
+        CipherPool.Batch batch = mode == AesMode.ECB ? CIPHER_POOL.batch(Cipher.ENCRYPT_MODE, key) : null;
+        BatchResult result = new BatchResult(plaintexts.size());
+        for (int i = 0; i < plaintexts.size(); i++) {
+            String plaintext = plaintexts.get(i);
+            if (StringUtils.isEmpty(plaintext)) {
+                result.failure(i, "加密内容不能为空! | The encryption content cannot be empty!");
+                continue;
+            }
+
+            try {
+                byte[] input = plaintext.getBytes(StandardCharsets.UTF_8);
+                byte[] b = batch != null ? batch.doFinal(input, 0, input.length) : encrypt(input, 0, input.length, key, mode);
+                result.success(i, org.apache.commons.codec.binary.Base64.encodeBase64String(b));
+            } catch (GeneralSecurityException e) {
+                result.failure(i, e.getMessage());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @description: AES 批量解密，所有密文共用同一密钥，Cipher 只查找一次；单项失败记录在结果中，不影响其他项
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     *               AES batch decryption, every cipher text shares one key and the cipher is looked up    丨
+     *               once; a failed item is recorded in the result without affecting the others.           丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param cipherTexts 密文列表 | cipher texts
+     * @param decryptKey 密钥，为空时使用默认密钥 | key, the default key when empty
+     * @param mode 工作模式 | mode of operation
+     * @return com.mhx.encryption.util.cipher.BatchResult 明文 plaintexts
+     **/
+    public static BatchResult decrypt(List<String> cipherTexts, String decryptKey, AesMode mode) {
+        byte[] key = key(decryptKey);
+        CipherPool.Batch batch = mode == AesMode.ECB ? CIPHER_POOL.batch(Cipher.DECRYPT_MODE, key) : null;
+        BatchResult result = new BatchResult(cipherTexts.size());
+        for (int i = 0; i < cipherTexts.size(); i++) {
+            String cipherText = cipherTexts.get(i);
+            if (StringUtils.isEmpty(cipherText)) {
+                result.failure(i, "加密内容不能为空! | The encryption content cannot be empty!");
+                continue;
+            }
+
+            try {
+                byte[] encryptBytes = org.apache.commons.codec.binary.Base64.decodeBase64(cipherText);
+                byte[] b = batch != null ? batch.doFinal(encryptBytes, 0, encryptBytes.length) : decrypt(encryptBytes, 0, encryptBytes.length, key, mode);
+                result.success(i, new String(b, StandardCharsets.UTF_8));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                result.failure(i, e.getMessage());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     * @description: AES-GCM 分段流式加密，边读边写，内存占用只与分段大小有关，格式见 AesStreamCipher
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     *               AES-GCM segmented streaming encryption, writing as the bytes arrive with memory       丨
+     *               bounded by the segment size, the format is described in AesStreamCipher.              丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param in 明文输入 | plaintext input
+     * @param out 密文输出 | cipher text output
+     * @param encryptKey 密钥，为空时使用默认密钥 | key, the default key when empty
+     * @param segmentSize 明文分段大小 | plaintext segment size
+     * @return long 明文长度 | plaintext length
+     **/
+    public static long encrypt(InputStream in, OutputStream out, String encryptKey, int segmentSize) throws IOException, GeneralSecurityException {
+        return AesStreamCipher.encrypt(in, out, key(encryptKey), segmentSize);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     * @description: AES-GCM 分段流式解密，逐段认证后写出明文
+     *               AES-GCM segmented streaming decryption, every segment is authenticated before its plaintext is written
+     * @param in 密文输入 | cipher text input
+     * @param out 明文输出 | plaintext output
+     * @param decryptKey 密钥，为空时使用默认密钥 | key, the default key when empty
+     * @param length 密文总长度，未知时为 -1 | total cipher text length, -1 when unknown
+     * @param onPlaintextLength 明文长度回调，在写出明文之前调用，可以为 null | plaintext length callback, called before any plaintext is written, may be null
+     * @return long 明文长度 | plaintext length
+     **/
+    public static long decrypt(InputStream in, OutputStream out, String decryptKey, long length, LongConsumer onPlaintextLength) throws IOException, GeneralSecurityException {
+        return AesStreamCipher.decrypt(in, out, key(decryptKey), length, onPlaintextLength);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午8:30 2026/10/18
+     * @description: 使用公共 ForkJoin 线程池和默认分段大小加密整个文件，GCM 与 CTR 两种格式见 AesFileCipher
+     *               Encrypt a whole file on the common ForkJoin pool with the default segment size,
+     *               the GCM and CTR formats are described in AesFileCipher
+     * @param source 明文文件 | plaintext file
+     * @param target 密文文件 | cipher text file
+     * @param encryptKey 密钥，为空时使用默认密钥 | key, the default key when empty
+     * @param mode GCM 或 CTR | GCM or CTR
+     * @return com.mhx.encryption.util.aes.AesFileCipher.Result
+     **/
+    public static AesFileCipher.Result encrypt(Path source, Path target, String encryptKey, AesMode mode) throws IOException, GeneralSecurityException {
+        return AesFileCipher.encrypt(source, target, key(encryptKey), mode, AesFileCipher.DEFAULT_SEGMENT_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午8:30 2026/10/18
+     * @description: 使用公共 ForkJoin 线程池解密整个文件，模式由文件头部识别
+     *               Decrypt a whole file on the common ForkJoin pool, the mode is taken from the file header
+     * @param source 密文文件 | cipher text file
+     * @param target 明文文件 | plaintext file
+     * @param decryptKey 密钥，为空时使用默认密钥 | key, the default key when empty
+     * @return com.mhx.encryption.util.aes.AesFileCipher.Result
+     **/
+    public static AesFileCipher.Result decrypt(Path source, Path target, String decryptKey) throws IOException, GeneralSecurityException {
+        return AesFileCipher.decrypt(source, target, key(decryptKey), ForkJoinPool.commonPool());
+    }
+
+    private static void checkCipherText(byte[] in, int off, int len, AesMode mode) {
+        if (len < HEADER_LENGTH + mode.getTagLength()) {
+            throw new IllegalArgumentException("密文长度不足! | The cipher text is too short!");
+        }
+        if (in[off] != header(mode)) {
+            throw new IllegalArgumentException("密文头部与模式不匹配! | The cipher text header does not match the mode " + mode + "!");
+        }
+    }
+
+    private static void checkOutput(int available, int required) throws ShortBufferException {
+        if (available < required) {
+            throw new ShortBufferException("输出缓冲区不足，需要 " + required + " 字节! | The output buffer needs " + required + " bytes!");
+        }
+    }
+
+    static byte[] key(String key) {
+        return (StringUtils.isEmpty(key) ? KEY : key).getBytes();
+    }
+
+    private static CipherPool pool(AesMode mode) {
+        return mode == AesMode.GCM ? GCM_POOL : CTR_POOL;
+    }
+
+    static byte header(AesMode mode) {
+        return (byte) (HEADER_VERSION << 4 | mode.getId());
+    }
+
+    private static byte[] aad(AesMode mode, byte header) {
+        return mode == AesMode.GCM ? new byte[]{header} : null;
+    }
+
+    /**
+     * GCM 直接使用 96 位 nonce；CTR 的初始计数块为 nonce || 0x00000000
+     *
+     * ----------------------------------------------------------------------------------------丨
+     * GCM takes the 96 bit nonce directly; the initial CTR counter block is nonce || 0x00000000. 丨
+     * ----------------------------------------------------------------------------------------丨
+     */
+    private static AlgorithmParameterSpec parameters(AesMode mode, byte[] in, int nonceOffset) {
+        if (mode == AesMode.GCM) {
+            return new GCMParameterSpec(GCM_TAG_BITS, in, nonceOffset, NonceSequence.NONCE_LENGTH);
+        }
+        return new IvParameterSpec(counter(in, nonceOffset));
+    }
+
+    private static byte[] counter(byte[] in, int nonceOffset) {
+        byte[] counter = new byte[16];
+        System.arraycopy(in, nonceOffset, counter, 0, NonceSequence.NONCE_LENGTH);
+        return counter;
+    }
+
+    static void nextNonce(byte[] key, AesMode mode, byte[] out, int off) throws GeneralSecurityException {
+        // 调用方之后可能改写密钥数组，缓存键使用指纹而不是原数组；指纹随密钥材料缓存，不在每次调用时计算
+        // The caller may overwrite the key array later, the cache key is a fingerprint instead of the array;
+        // the fingerprint is cached with the key material instead of being computed on every call
+        ByteBuffer cacheKey = ((AesKey) pool(mode).secretKey(key)).fingerprint();
+        while (true) {
+            if (NONCES.get(cacheKey, k -> new NonceSequence()).next(out, off)) {
+                return;
+            }
+            // 序列已用尽，换用新的随机前缀 | The sequence is exhausted, switch to a new random prefix
+            NONCES.invalidate(cacheKey);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.mhx.encryption.util.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * @className BoundedCache
+ * @description 有界缓存，命中路径无锁，超出容量时一次淘汰最久未访问的一批条目（约容量的 1/8），扫描开销分摊到多次未命中上
+ *              Bounded cache, the hit path is lock-free, and when the capacity is exceeded a batch of the least recently
+ *              accessed entries (about 1/8 of the capacity) is evicted at once, so the scan is amortized over many misses
+ * @author MuHongXin.
+ * @date 2026/10/18 10:12
+ * @version v1.0.0
+ **/
+
+public class BoundedCache<K, V> {
+    /**
+     * 每次淘汰的批量为容量的 1/8：一次 O(n log n) 的扫描换来 n/8 次无需扫描的未命中
+     *
+     * -----------------------------------------------------------------------------------------丨
+     * Every eviction removes 1/8 of the capacity: one O(n log n) scan buys n/8 misses without one.  丨
+     * -----------------------------------------------------------------------------------------丨
+     */
+    private static final int EVICTION_BATCH_DIVISOR = 8;
+
+    /**
+     * 缓存条目
+     *
+     * -----------------丨
+     * Cache entries.   丨
+     * -----------------丨
+     */
+    private final ConcurrentHashMap<K, Node<V>> map;
+
+    /**
+     * 最大条目数
+     *
+     * -------------------------------丨
+     * Maximum number of entries.     丨
+     * -------------------------------丨
+     */
+    private final int maximumSize;
+
+    /**
+     * 命中、未命中、淘汰计数
+     *
+     * -----------------------------------丨
+     * Hit, miss and eviction counters.   丨
+     * -----------------------------------丨
+     */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 同一时间只有一个线程执行淘汰，其他线程不等待
+     *
+     * -----------------------------------------------------------------丨
+     * Only one thread evicts at a time, the others do not wait for it.  丨
+     * -----------------------------------------------------------------丨
+     */
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public BoundedCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("缓存容量必须大于0! | The cache capacity must be greater than 0!");
+        }
+        this.maximumSize = maximumSize;
+        this.map = new ConcurrentHashMap<>(Math.min(maximumSize, 1024) * 2);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 上午10:12 2026/10/18
+     * @description: 获取缓存值，未命中时通过 loader 加载并放入缓存，超出容量时淘汰一批最久未访问的条目
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     *               Get the cached value, on a miss load it through 'loader' and put it into the cache,   丨
+     *               evicting a batch of the least recently accessed entries when the capacity is exceeded. 丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param key 缓存键，放入缓存后不得再修改 | cache key, must not be modified once cached
+     * @param loader 加载函数 | loader function
+     * @return V
+     **/
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Node<V> node = map.get(key);
+        if (node != null) {
+            hits.increment();
+            node.accessed = System.nanoTime();
+            return node.value;
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+
+        Node<V> previous = map.putIfAbsent(key, new Node<>(value));
+        if (previous != null) {
+            return previous.value;
+        }
+
+        if (map.size() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 上午10:12 2026/10/18
+     * @description: 获取缓存值，未命中时返回 null
+     *               Get the cached value, returns null on a miss
+     * @param key 缓存键 | cache key
+     * @return V
+     **/
+    public V getIfPresent(K key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        node.accessed = System.nanoTime();
+        return node.value;
+    }
+
+    public void invalidate(K key) {
+        map.remove(key);
+    }
+
+    public void invalidateAll() {
+        map.clear();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 淘汰一批最久未访问的条目，缓存降到容量的 7/8；只在未命中且超出容量时执行，其他线程正在淘汰时直接返回
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     * Evict a batch of the least recently accessed entries, down to 7/8 of the capacity; only runs on a    丨
+     * miss over the capacity, and returns at once while another thread is evicting.                       丨
+     * ----------------------------------------------------------------------------------------------------丨
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int size = map.size();
+            if (size <= maximumSize) {
+                return;
+            }
+
+            long[] accessed = new long[size];
+            int n = 0;
+            for (Node<V> node : map.values()) {
+                if (n == accessed.length) {
+                    break;
+                }
+                accessed[n++] = node.accessed;
+            }
+
+            int count = Math.min(n, size - maximumSize + maximumSize / EVICTION_BATCH_DIVISOR);
+            if (count <= 0) {
+                return;
+            }
+            Arrays.sort(accessed, 0, n);
+            long threshold = accessed[count - 1];
+
+            // 访问时间不晚于阈值的条目最多淘汰 count 个 | At most 'count' entries accessed no later than the threshold are evicted
+            int evicted = 0;
+            for (Map.Entry<K, Node<V>> entry : map.entrySet()) {
+                if (evicted == count) {
+                    break;
+                }
+                Node<V> node = entry.getValue();
+                if (node.accessed <= threshold && map.remove(entry.getKey(), node)) {
+                    evicted++;
+                }
+            }
+            evictions.add(evicted);
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        private volatile long accessed;
+
+        private Node(V value) {
+            this.value = value;
+            this.accessed = System.nanoTime();
+        }
+    }
+}
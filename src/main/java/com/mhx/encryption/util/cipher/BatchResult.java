@@ -0,0 +1,60 @@
+package com.mhx.encryption.util.cipher;
+
+/**
+ * @className BatchResult
+ * @description 批量加解密结果，按输入顺序保存每一项的结果或失败原因，单项失败不影响其他项
+ *              Batch encryption and decryption result, keeps the value or the failure reason of every item in input order,
+ *              a failed item does not affect the others
+ * @author MuHongXin.
+ * @date 2026/10/18 18:40
+ * @version v1.0.0
+ **/
+
+public class BatchResult {
+    /**
+     * 成功项的结果，失败项为 null
+     *
+     * -----------------------------------------------------丨
+     * Values of the succeeded items, null for failures.    丨
+     * -----------------------------------------------------丨
+     */
+    private final String[] values;
+
+    /**
+     * 失败项的原因，成功项为 null
+     *
+     * -----------------------------------------------------丨
+     * Reasons of the failed items, null for successes.     丨
+     * -----------------------------------------------------丨
+     */
+    private final String[] errors;
+
+    public BatchResult(int size) {
+        this.values = new String[size];
+        this.errors = new String[size];
+    }
+
+    public void success(int index, String value) {
+        values[index] = value;
+    }
+
+    public void failure(int index, String error) {
+        errors[index] = error == null ? "" : error;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isSuccess(int index) {
+        return errors[index] == null;
+    }
+
+    public String value(int index) {
+        return values[index];
+    }
+
+    public String error(int index) {
+        return errors[index];
+    }
+}
@@ -0,0 +1,380 @@
+package com.mhx.encryption.util.cipher;
+
+import com.mhx.encryption.util.cache.BoundedCache;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @className CipherPool
+ * @description 可复用的 Cipher 池：每个线程持有按密钥初始化好的 Cipher 实例，密钥材料按密钥字节缓存在有界缓存中
+ *              Reusable cipher pool: every thread holds cipher instances already initialized per key,
+ *              and the key material is kept in a bounded cache keyed by the key bytes
+ * @author MuHongXin.
+ * @date 2026/10/18 10:20
+ * @version v1.0.0
+ **/
+
+public class CipherPool {
+    /**
+     * 每个线程每种模式最多保留的已初始化 Cipher 数量
+     *
+     * ----------------------------------------------------------------------------丨
+     * Maximum number of initialized ciphers kept per thread and per mode.         丨
+     * ----------------------------------------------------------------------------丨
+     */
+    private static final int CIPHERS_PER_THREAD = 8;
+
+    /**
+     * 参数分别代表 算法名称/加密模式/数据填充方式
+     *
+     * ----------------------------------------------------------------------------------------丨
+     * The parameters represent the algorithm name, encryption mode, and data filling mode.    丨
+     * ----------------------------------------------------------------------------------------丨
+     */
+    private final String transformation;
+
+    /**
+     * 由密钥字节生成密钥材料，只在缓存未命中时调用
+     *
+     * -------------------------------------------------------------------丨
+     * Generates the key material from the key bytes, only on a cache miss. 丨
+     * -------------------------------------------------------------------丨
+     */
+    private final KeyFactory keyFactory;
+
+    /**
+     * 固定的算法参数（如 CBC 模式的 IV），没有时为 null
+     *
+     * -----------------------------------------------------------------------------丨
+     * Fixed algorithm parameters (such as the CBC IV), null when there are none.   丨
+     * -----------------------------------------------------------------------------丨
+     */
+    private final AlgorithmParameterSpec parameterSpec;
+
+    /**
+     * 按密钥字节缓存的密钥材料
+     *
+     * -----------------------------------------丨
+     * Key material cached by the key bytes.    丨
+     * -----------------------------------------丨
+     */
+    private final BoundedCache<ByteBuffer, SecretKey> keyCache;
+
+    /**
+     * 线程私有的已初始化 Cipher，分别用于加密和解密
+     *
+     * --------------------------------------------------------------------------------------丨
+     * Thread confined initialized ciphers, one map for encryption and one for decryption.   丨
+     * --------------------------------------------------------------------------------------丨
+     */
+    private final ThreadLocal<Map<ByteBuffer, Cipher>> encryptors = ThreadLocal.withInitial(CipherPool::newThreadCiphers);
+    private final ThreadLocal<Map<ByteBuffer, Cipher>> decryptors = ThreadLocal.withInitial(CipherPool::newThreadCiphers);
+
+    public CipherPool(String transformation, String keyAlgorithm, int maximumKeys) {
+        this(transformation, keyAlgorithm, null, maximumKeys);
+    }
+
+    public CipherPool(String transformation, String keyAlgorithm, AlgorithmParameterSpec parameterSpec, int maximumKeys) {
+        this(transformation, key -> new SecretKeySpec(key, keyAlgorithm), parameterSpec, maximumKeys);
+    }
+
+    /**
+     * @param transformation 算法名称/加密模式/数据填充方式 | algorithm/mode/padding
+     * @param keyFactory 密钥材料的生成方式，如经过 SecretKeyFactory 校验和截取的 DES 密钥
+     *                   how the key material is generated, such as a DES key checked and cut by SecretKeyFactory
+     * @param parameterSpec 固定的算法参数，没有时为 null | fixed parameters, null when there are none
+     * @param maximumKeys 最多缓存的密钥数量 | maximum number of cached keys
+     */
+    public CipherPool(String transformation, KeyFactory keyFactory, AlgorithmParameterSpec parameterSpec, int maximumKeys) {
+        this.transformation = transformation;
+        this.keyFactory = keyFactory;
+        this.parameterSpec = parameterSpec;
+        this.keyCache = new BoundedCache<>(maximumKeys);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 上午10:20 2026/10/18
+     * @description: 使用当前线程中按密钥初始化好的 Cipher 完成一次加密或解密，
+     *               出现异常时丢弃该 Cipher，避免复用处于未知状态的实例
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     *               Run one encryption or decryption with the cipher of the current thread initialized    丨
+     *               for the key, the cipher is discarded on failure so that an instance in an unknown     丨
+     *               state is never reused.                                                                丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param opmode Cipher.ENCRYPT_MODE / Cipher.DECRYPT_MODE
+     * @param key 密钥字节 | key bytes
+     * @param input 输入 | input
+     * @param inputOffset 输入偏移量 | input offset
+     * @param inputLen 输入长度 | input length
+     * @return byte[]
+     **/
+    public byte[] doFinal(int opmode, byte[] key, byte[] input, int inputOffset, int inputLen) throws GeneralSecurityException {
+        Map<ByteBuffer, Cipher> ciphers = threadCiphers(opmode);
+        Cipher cipher = cipher(ciphers, opmode, key);
+        try {
+            return cipher.doFinal(input, inputOffset, inputLen);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            ciphers.remove(ByteBuffer.wrap(key));
+            throw e;
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:10 2026/10/18
+     * @description: 使用每次调用各自的算法参数（如 GCM / CTR 的 nonce）完成一次加密或解密，
+     *               复用当前线程中该密钥的 Cipher 实例，只重新 init，不重新 getInstance
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     *               Run one encryption or decryption with parameters of its own (such as the GCM or CTR   丨
+     *               nonce), reusing the cipher instance of the current thread for the key: it is only     丨
+     *               initialized again, never created again.                                               丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param opmode Cipher.ENCRYPT_MODE / Cipher.DECRYPT_MODE
+     * @param key 密钥字节 | key bytes
+     * @param params 本次调用的算法参数 | parameters of this call
+     * @param aad 附加认证数据，没有时为 null | additional authenticated data, null when there is none
+     * @param input 输入 | input
+     * @param inputOffset 输入偏移量 | input offset
+     * @param inputLen 输入长度 | input length
+     * @param output 输出 | output
+     * @param outputOffset 输出偏移量 | output offset
+     * @return int 输出长度 | output length
+     **/
+    public int doFinal(int opmode, byte[] key, AlgorithmParameterSpec params, byte[] aad,
+                       byte[] input, int inputOffset, int inputLen, byte[] output, int outputOffset) throws GeneralSecurityException {
+        Map<ByteBuffer, Cipher> ciphers = threadCiphers(opmode);
+        try {
+            return initialized(ciphers, opmode, key, params, aad).doFinal(input, inputOffset, inputLen, output, outputOffset);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            ciphers.remove(ByteBuffer.wrap(key));
+            throw e;
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: 同 doFinal(opmode, key, params, aad, ...)，读取 input 的剩余字节并写入 output，两者的 position 都前移；
+     *               直接缓冲区由 Cipher 直接读写，不经过中间数组
+     *               Same as doFinal(opmode, key, params, aad, ...), reading the remaining bytes of 'input' into 'output'
+     *               and advancing both positions; direct buffers are read and written by the cipher without an
+     *               intermediate array
+     * @param opmode Cipher.ENCRYPT_MODE / Cipher.DECRYPT_MODE
+     * @param key 密钥字节 | key bytes
+     * @param params 本次调用的算法参数 | parameters of this call
+     * @param aad 附加认证数据，没有时为 null | additional authenticated data, null when there is none
+     * @param input 输入 | input
+     * @param output 输出 | output
+     * @return int 输出长度 | output length
+     **/
+    public int doFinal(int opmode, byte[] key, AlgorithmParameterSpec params, byte[] aad, ByteBuffer input, ByteBuffer output) throws GeneralSecurityException {
+        Map<ByteBuffer, Cipher> ciphers = threadCiphers(opmode);
+        try {
+            return initialized(ciphers, opmode, key, params, aad).doFinal(input, output);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            ciphers.remove(ByteBuffer.wrap(key));
+            throw e;
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: 使用当前线程已按密钥初始化的 Cipher 完成一次加密或解密，结果写入调用方提供的数组
+     *               Run one encryption or decryption with the cipher of the current thread already initialized for
+     *               the key, writing into the array supplied by the caller
+     * @param opmode Cipher.ENCRYPT_MODE / Cipher.DECRYPT_MODE
+     * @param key 密钥字节 | key bytes
+     * @param input 输入 | input
+     * @param inputOffset 输入偏移量 | input offset
+     * @param inputLen 输入长度 | input length
+     * @param output 输出 | output
+     * @param outputOffset 输出偏移量 | output offset
+     * @return int 输出长度 | output length
+     **/
+    public int doFinal(int opmode, byte[] key, byte[] input, int inputOffset, int inputLen, byte[] output, int outputOffset) throws GeneralSecurityException {
+        Map<ByteBuffer, Cipher> ciphers = threadCiphers(opmode);
+        Cipher cipher = cipher(ciphers, opmode, key);
+        try {
+            return cipher.doFinal(input, inputOffset, inputLen, output, outputOffset);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            ciphers.remove(ByteBuffer.wrap(key));
+            throw e;
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: 同 doFinal(opmode, key, input, inputOffset, inputLen, output, outputOffset)，读取 input 的剩余字节并写入 output
+     *               Same as doFinal(opmode, key, input, inputOffset, inputLen, output, outputOffset), reading the
+     *               remaining bytes of 'input' into 'output'
+     * @param opmode Cipher.ENCRYPT_MODE / Cipher.DECRYPT_MODE
+     * @param key 密钥字节 | key bytes
+     * @param input 输入 | input
+     * @param output 输出 | output
+     * @return int 输出长度 | output length
+     **/
+    public int doFinal(int opmode, byte[] key, ByteBuffer input, ByteBuffer output) throws GeneralSecurityException {
+        Map<ByteBuffer, Cipher> ciphers = threadCiphers(opmode);
+        Cipher cipher = cipher(ciphers, opmode, key);
+        try {
+            return cipher.doFinal(input, output);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            ciphers.remove(ByteBuffer.wrap(key));
+            throw e;
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @description: 开始一批使用同一密钥的加密或解密，Cipher 只查找一次，之后每一项直接复用；
+     *               返回的批次绑定当前线程的 Cipher，只能在当前线程上使用
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     *               Start a batch of encryptions or decryptions sharing one key, the cipher is looked     丨
+     *               up once and reused directly for every item; the batch is bound to the cipher of the   丨
+     *               current thread and must only be used on that thread.                                  丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param opmode Cipher.ENCRYPT_MODE / Cipher.DECRYPT_MODE
+     * @param key 密钥字节 | key bytes
+     * @return com.mhx.encryption.util.cipher.CipherPool.Batch
+     **/
+    public Batch batch(int opmode, byte[] key) {
+        return new Batch(opmode, key.clone(), threadCiphers(opmode));
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 上午10:20 2026/10/18
+     * @description: 获取缓存的密钥材料，未命中时创建并放入缓存；生成失败的密钥不会被缓存
+     *               Get the cached key material, created and cached on a miss; a key failing to generate is not cached
+     * @param key 密钥字节 | key bytes
+     * @return javax.crypto.SecretKey
+     **/
+    public SecretKey secretKey(byte[] key) throws GeneralSecurityException {
+        try {
+            return keyCache.get(ByteBuffer.wrap(key.clone()), k -> {
+                try {
+                    return keyFactory.generate(key);
+                } catch (GeneralSecurityException e) {
+                    throw new KeyFailure(e);
+                }
+            });
+        } catch (KeyFailure e) {
+            throw (GeneralSecurityException) e.getCause();
+        }
+    }
+
+    public BoundedCache<ByteBuffer, SecretKey> keyCache() {
+        return keyCache;
+    }
+
+    private Cipher cipher(Map<ByteBuffer, Cipher> ciphers, int opmode, byte[] key) throws GeneralSecurityException {
+        Cipher cipher = ciphers.get(ByteBuffer.wrap(key));
+        if (cipher != null) {
+            return cipher;
+        }
+
+        // 获取 Cipher 实例并按密钥初始化 | Get a Cipher instance and initialize it with the key
+        cipher = Cipher.getInstance(transformation);
+        if (parameterSpec == null) {
+            cipher.init(opmode, secretKey(key));
+        } else {
+            cipher.init(opmode, secretKey(key), parameterSpec);
+        }
+        ciphers.put(ByteBuffer.wrap(key.clone()), cipher);
+        return cipher;
+    }
+
+    private Cipher initialized(Map<ByteBuffer, Cipher> ciphers, int opmode, byte[] key, AlgorithmParameterSpec params, byte[] aad) throws GeneralSecurityException {
+        Cipher cipher = ciphers.get(ByteBuffer.wrap(key));
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation);
+            ciphers.put(ByteBuffer.wrap(key.clone()), cipher);
+        }
+
+        cipher.init(opmode, secretKey(key), params);
+        if (aad != null) {
+            cipher.updateAAD(aad);
+        }
+        return cipher;
+    }
+
+    private Map<ByteBuffer, Cipher> threadCiphers(int opmode) {
+        return opmode == Cipher.ENCRYPT_MODE ? encryptors.get() : decryptors.get();
+    }
+
+    private static Map<ByteBuffer, Cipher> newThreadCiphers() {
+        return new LinkedHashMap<ByteBuffer, Cipher>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Cipher> eldest) {
+                return size() > CIPHERS_PER_THREAD;
+            }
+        };
+    }
+
+    /**
+     * @className KeyFactory
+     * @description 由密钥字节生成密钥材料 | Generates the key material from the key bytes
+     **/
+    @FunctionalInterface
+    public interface KeyFactory {
+        SecretKey generate(byte[] key) throws GeneralSecurityException;
+    }
+
+    private static final class KeyFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private KeyFailure(GeneralSecurityException cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * @className Batch
+     * @description 同一密钥、同一线程的一批加密或解密，某一项失败时丢弃当前 Cipher，下一项重新初始化
+     *              A batch of encryptions or decryptions with one key on one thread, the cipher is discarded
+     *              when an item fails and initialized again for the next item
+     **/
+    public final class Batch {
+        private final int opmode;
+        private final byte[] key;
+        private final Map<ByteBuffer, Cipher> ciphers;
+        private Cipher cipher;
+
+        private Batch(int opmode, byte[] key, Map<ByteBuffer, Cipher> ciphers) {
+            this.opmode = opmode;
+            this.key = key;
+            this.ciphers = ciphers;
+        }
+
+        public byte[] doFinal(byte[] input, int inputOffset, int inputLen) throws GeneralSecurityException {
+            if (cipher == null) {
+                cipher = cipher(ciphers, opmode, key);
+            }
+
+            try {
+                return cipher.doFinal(input, inputOffset, inputLen);
+            } catch (GeneralSecurityException | RuntimeException e) {
+                ciphers.remove(ByteBuffer.wrap(key));
+                cipher = null;
+                throw e;
+            }
+        }
+    }
+}
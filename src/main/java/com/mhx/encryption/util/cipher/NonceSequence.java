@@ -0,0 +1,64 @@
+package com.mhx.encryption.util.cipher;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @className NonceSequence
+ * @description 单个密钥的 96 位 nonce 序列：64 位随机前缀 || 32 位递增计数。计数通过 CAS 递增，不加锁；
+ *              计数用尽后序列失效，调用方需要为该密钥创建新的序列（新的随机前缀）
+ *              96 bit nonce sequence of one key: 64 bit random prefix || 32 bit increasing counter. The counter is
+ *              incremented by CAS without a lock; once the counter is used up the sequence is exhausted and the caller
+ *              creates a new sequence (with a new random prefix) for the key
+ * @author MuHongXin.
+ * @date 2026/10/18 19:10
+ * @version v1.0.0
+ **/
+
+public class NonceSequence {
+    /**
+     * nonce 长度（字节）
+     *
+     * ----------------------------丨
+     * Nonce length in bytes.      丨
+     * ----------------------------丨
+     */
+    public static final int NONCE_LENGTH = 12;
+
+    private static final long MAXIMUM_COUNT = 0xFFFFFFFFL;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final long prefix;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    public NonceSequence() {
+        this.prefix = RANDOM.nextLong();
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午7:10 2026/10/18
+     * @description: 写出下一个 nonce，序列已用尽时返回 false 且不写出
+     *               Write the next nonce, returns false without writing once the sequence is exhausted
+     * @param out 输出 | output
+     * @param off 输出偏移量 | output offset
+     * @return boolean
+     **/
+    public boolean next(byte[] out, int off) {
+        long count = counter.getAndIncrement();
+        if (count > MAXIMUM_COUNT) {
+            return false;
+        }
+
+        for (int i = 0; i < 8; i++) {
+            out[off + i] = (byte) (prefix >>> (56 - 8 * i));
+        }
+        out[off + 8] = (byte) (count >>> 24);
+        out[off + 9] = (byte) (count >>> 16);
+        out[off + 10] = (byte) (count >>> 8);
+        out[off + 11] = (byte) count;
+        return true;
+    }
+}
@@ -0,0 +1,349 @@
+package com.mhx.encryption.util.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * @className HexCodec
+ * @description 查表实现的十六进制编解码。编码每个字节查一次 512 项的字符对表，解码每个字符查一次 256 项的数值表，
+ *              不创建中间 String，不调用 String.format / Integer.parseInt；输入可以是 byte[]、char[]、CharSequence 或 ByteBuffer，
+ *              可以写入调用方提供的输出。编码默认输出大写，解码大小写都接受，非法字符和奇数长度抛出 IllegalArgumentException
+ *              Table driven hexadecimal codec. Encoding looks up one 512 entry character pair table per byte, decoding
+ *              looks up one 256 entry value table per character, without intermediate Strings, String.format or
+ *              Integer.parseInt; the input may be a byte[], char[], CharSequence or ByteBuffer, and the output may be
+ *              supplied by the caller. Encoding is upper case by default, decoding accepts both cases, illegal
+ *              characters and odd lengths throw IllegalArgumentException
+ * @author MuHongXin.
+ * @date 2026/10/18 22:00
+ * @version v1.0.0
+ **/
+
+public final class HexCodec {
+    /**
+     * 字节 b 的两个大写 / 小写十六进制字符位于 [2b, 2b + 1]
+     *
+     * -----------------------------------------------------------------------------丨
+     * The two upper / lower case hexadecimal characters of byte b at [2b, 2b + 1].  丨
+     * -----------------------------------------------------------------------------丨
+     */
+    private static final byte[] UPPER = pairs("0123456789ABCDEF");
+    private static final byte[] LOWER = pairs("0123456789abcdef");
+
+    /**
+     * 字符 -> 数值，非十六进制字符为 -1
+     *
+     * ----------------------------------------------------------丨
+     * Character -> value, -1 for non hexadecimal characters.    丨
+     * ----------------------------------------------------------丨
+     */
+    private static final byte[] DIGITS = new byte[256];
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            DIGITS['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            DIGITS['A' + i] = (byte) (10 + i);
+            DIGITS['a' + i] = (byte) (10 + i);
+        }
+    }
+
+    private HexCodec() {
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 编码为大写十六进制字符串 | Encodes to an upper case hexadecimal string
+     * @param data 数据 | data
+     * @return java.lang.String
+     **/
+    public static String encode(byte[] data) {
+        return encode(data, 0, data.length, false);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 编码 data[off, off + len) 为十六进制字符串 | Encodes data[off, off + len) to a hexadecimal string
+     * @param data 数据 | data
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param lowerCase 是否输出小写 | whether to output lower case
+     * @return java.lang.String
+     **/
+    public static String encode(byte[] data, int off, int len, boolean lowerCase) {
+        byte[] ascii = new byte[len << 1];
+        encode(data, off, len, ascii, 0, lowerCase);
+        return new String(ascii, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 编码 data[off, off + len) 为十六进制字符数组 | Encodes data[off, off + len) to a hexadecimal char array
+     * @param data 数据 | data
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param lowerCase 是否输出小写 | whether to output lower case
+     * @return char[]
+     **/
+    public static char[] encodeToChars(byte[] data, int off, int len, boolean lowerCase) {
+        char[] out = new char[len << 1];
+        encode(data, off, len, out, 0, lowerCase);
+        return out;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 编码 data[off, off + len) 写入 out，输出 2 * len 个字符
+     *               Encodes data[off, off + len) into 'out', writing 2 * len characters
+     * @param data 数据 | data
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param out 输出 | output
+     * @param outOff 输出偏移量 | output offset
+     * @param lowerCase 是否输出小写 | whether to output lower case
+     * @return int 输出字符数 | characters written
+     **/
+    public static int encode(byte[] data, int off, int len, char[] out, int outOff, boolean lowerCase) {
+        checkOutput(out.length - outOff, len << 1);
+        byte[] table = lowerCase ? LOWER : UPPER;
+        for (int i = off, j = outOff, end = off + len; i < end; i++) {
+            int k = (data[i] & 0xFF) << 1;
+            out[j++] = (char) table[k];
+            out[j++] = (char) table[k + 1];
+        }
+        return len << 1;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 编码 data[off, off + len) 为 ASCII 字节写入 out，输出 2 * len 个字节
+     *               Encodes data[off, off + len) as ASCII bytes into 'out', writing 2 * len bytes
+     * @param data 数据 | data
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param out 输出 | output
+     * @param outOff 输出偏移量 | output offset
+     * @param lowerCase 是否输出小写 | whether to output lower case
+     * @return int 输出字节数 | bytes written
+     **/
+    public static int encode(byte[] data, int off, int len, byte[] out, int outOff, boolean lowerCase) {
+        checkOutput(out.length - outOff, len << 1);
+        byte[] table = lowerCase ? LOWER : UPPER;
+        for (int i = off, j = outOff, end = off + len; i < end; i++) {
+            int k = (data[i] & 0xFF) << 1;
+            out[j++] = table[k];
+            out[j++] = table[k + 1];
+        }
+        return len << 1;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 编码 input 的剩余字节为 ASCII 写入 output，两者的 position 都前移
+     *               Encodes the remaining bytes of 'input' as ASCII into 'output', advancing both positions
+     * @param input 数据 | data
+     * @param output 输出 | output
+     * @param lowerCase 是否输出小写 | whether to output lower case
+     * @return int 输出字节数 | bytes written
+     **/
+    public static int encode(ByteBuffer input, ByteBuffer output, boolean lowerCase) {
+        int len = input.remaining();
+        checkOutput(output.remaining(), len << 1);
+        if (input.hasArray() && output.hasArray()) {
+            encode(input.array(), input.arrayOffset() + input.position(), len,
+                    output.array(), output.arrayOffset() + output.position(), lowerCase);
+            output.position(output.position() + (len << 1));
+        } else {
+            byte[] table = lowerCase ? LOWER : UPPER;
+            for (int i = 0; i < len; i++) {
+                int k = (input.get(input.position() + i) & 0xFF) << 1;
+                output.put(table[k]).put(table[k + 1]);
+            }
+        }
+        input.position(input.limit());
+        return len << 1;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 解码十六进制字符串 | Decodes a hexadecimal string
+     * @param hex 十六进制字符串 | hexadecimal string
+     * @return byte[]
+     **/
+    public static byte[] decode(CharSequence hex) {
+        return decode(hex, 0, hex.length());
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 解码 hex[off, off + len) | Decodes hex[off, off + len)
+     * @param hex 十六进制字符串 | hexadecimal string
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @return byte[]
+     **/
+    public static byte[] decode(CharSequence hex, int off, int len) {
+        byte[] out = new byte[decodedLength(len)];
+        decode(hex, off, len, out, 0);
+        return out;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 解码 hex[off, off + len) | Decodes hex[off, off + len)
+     * @param hex 十六进制字符 | hexadecimal characters
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @return byte[]
+     **/
+    public static byte[] decode(char[] hex, int off, int len) {
+        byte[] out = new byte[decodedLength(len)];
+        decode(hex, off, len, out, 0);
+        return out;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 解码 ASCII 字节 hex[off, off + len) | Decodes the ASCII bytes hex[off, off + len)
+     * @param hex 十六进制 ASCII 字节 | hexadecimal ASCII bytes
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @return byte[]
+     **/
+    public static byte[] decode(byte[] hex, int off, int len) {
+        byte[] out = new byte[decodedLength(len)];
+        decode(hex, off, len, out, 0);
+        return out;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 解码 hex[off, off + len) 写入 out，输出 len / 2 个字节
+     *               Decodes hex[off, off + len) into 'out', writing len / 2 bytes
+     * @param hex 十六进制字符串 | hexadecimal string
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param out 输出 | output
+     * @param outOff 输出偏移量 | output offset
+     * @return int 输出字节数 | bytes written
+     **/
+    public static int decode(CharSequence hex, int off, int len, byte[] out, int outOff) {
+        int n = decodedLength(len);
+        checkOutput(out.length - outOff, n);
+        for (int i = 0, j = off; i < n; i++, j += 2) {
+            out[outOff + i] = (byte) (digit(hex.charAt(j), j) << 4 | digit(hex.charAt(j + 1), j + 1));
+        }
+        return n;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 解码 hex[off, off + len) 写入 out，输出 len / 2 个字节
+     *               Decodes hex[off, off + len) into 'out', writing len / 2 bytes
+     * @param hex 十六进制字符 | hexadecimal characters
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param out 输出 | output
+     * @param outOff 输出偏移量 | output offset
+     * @return int 输出字节数 | bytes written
+     **/
+    public static int decode(char[] hex, int off, int len, byte[] out, int outOff) {
+        int n = decodedLength(len);
+        checkOutput(out.length - outOff, n);
+        for (int i = 0, j = off; i < n; i++, j += 2) {
+            out[outOff + i] = (byte) (digit(hex[j], j) << 4 | digit(hex[j + 1], j + 1));
+        }
+        return n;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 解码 ASCII 字节 hex[off, off + len) 写入 out，输出 len / 2 个字节
+     *               Decodes the ASCII bytes hex[off, off + len) into 'out', writing len / 2 bytes
+     * @param hex 十六进制 ASCII 字节 | hexadecimal ASCII bytes
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @param out 输出 | output
+     * @param outOff 输出偏移量 | output offset
+     * @return int 输出字节数 | bytes written
+     **/
+    public static int decode(byte[] hex, int off, int len, byte[] out, int outOff) {
+        int n = decodedLength(len);
+        checkOutput(out.length - outOff, n);
+        for (int i = 0, j = off; i < n; i++, j += 2) {
+            out[outOff + i] = (byte) (digit(hex[j] & 0xFF, j) << 4 | digit(hex[j + 1] & 0xFF, j + 1));
+        }
+        return n;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:00 2026/10/18
+     * @description: 解码 input 的剩余 ASCII 字节写入 output，两者的 position 都前移
+     *               Decodes the remaining ASCII bytes of 'input' into 'output', advancing both positions
+     * @param input 十六进制 ASCII 字节 | hexadecimal ASCII bytes
+     * @param output 输出 | output
+     * @return int 输出字节数 | bytes written
+     **/
+    public static int decode(ByteBuffer input, ByteBuffer output) {
+        int len = input.remaining();
+        int n = decodedLength(len);
+        checkOutput(output.remaining(), n);
+        if (input.hasArray() && output.hasArray()) {
+            decode(input.array(), input.arrayOffset() + input.position(), len,
+                    output.array(), output.arrayOffset() + output.position());
+            output.position(output.position() + n);
+        } else {
+            for (int i = 0, j = input.position(); i < n; i++, j += 2) {
+                output.put((byte) (digit(input.get(j) & 0xFF, j) << 4 | digit(input.get(j + 1) & 0xFF, j + 1)));
+            }
+        }
+        input.position(input.limit());
+        return n;
+    }
+
+    private static byte[] pairs(String digits) {
+        byte[] table = new byte[512];
+        for (int b = 0; b < 256; b++) {
+            table[b << 1] = (byte) digits.charAt(b >>> 4);
+            table[(b << 1) + 1] = (byte) digits.charAt(b & 0x0F);
+        }
+        return table;
+    }
+
+    private static int digit(int c, int index) {
+        int digit = c < 256 ? DIGITS[c] : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException("非法的十六进制字符 '" + (char) c + "'，位置 " + index + "! | Illegal hexadecimal character '" + (char) c + "' at index " + index + "!");
+        }
+        return digit;
+    }
+
+    private static int decodedLength(int len) {
+        if ((len & 1) != 0) {
+            throw new IllegalArgumentException("长度不是偶数! | The length is not even!");
+        }
+        return len >> 1;
+    }
+
+    private static void checkOutput(int available, int required) {
+        if (available < required) {
+            throw new IllegalArgumentException("输出空间不足，需要 " + required + " 个位置! | The output needs " + required + " free positions!");
+        }
+    }
+}
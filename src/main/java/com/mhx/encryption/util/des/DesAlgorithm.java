@@ -0,0 +1,89 @@
+package com.mhx.encryption.util.des;
+
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.DESKeySpec;
+import javax.crypto.spec.DESedeKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+
+/**
+ * @className DesAlgorithm
+ * @description DES 系列算法，均为 CBC 模式、PKCS5 填充、8 字节固定 IV。密钥经 SecretKeyFactory 生成，
+ *              与原实现一样只取所需的前若干字节，不足时抛出 InvalidKeyException
+ *              The DES family, all in CBC mode with PKCS5 padding and the fixed 8 byte IV. Keys are generated by
+ *              SecretKeyFactory and, as before, only the leading bytes needed are used; shorter keys throw
+ *              InvalidKeyException
+ * @author MuHongXin.
+ * @date 2026/10/18 22:50
+ * @version v1.0.0
+ **/
+
+public enum DesAlgorithm {
+    /**
+     * DES/CBC/PKCS5Padding，本项目原有的算法，使用密钥的前 8 字节
+     *
+     * ---------------------------------------------------------------------------------丨
+     * DES/CBC/PKCS5Padding, the original algorithm of this project, using the first 8   丨
+     * key bytes.                                                                       丨
+     * ---------------------------------------------------------------------------------丨
+     */
+    DES("DES", "DES/CBC/PKCS5Padding") {
+        @Override
+        public SecretKey generate(byte[] key) throws GeneralSecurityException {
+            return SecretKeyFactory.getInstance(getKeyAlgorithm()).generateSecret(new DESKeySpec(key));
+        }
+    },
+
+    /**
+     * DESede/CBC/PKCS5Padding（三重 DES），供仍在使用 3DES 的合作方对接。使用密钥的前 24 字节；
+     * 恰好 16 字节的双倍长度密钥按 K1 || K2 || K1 扩展
+     *
+     * ----------------------------------------------------------------------------------------------丨
+     * DESede/CBC/PKCS5Padding (Triple DES) for partners still on 3DES. The first 24 key bytes are    丨
+     * used; a double length key of exactly 16 bytes is expanded to K1 || K2 || K1.                  丨
+     * ----------------------------------------------------------------------------------------------丨
+     */
+    DESEDE("DESede", "DESede/CBC/PKCS5Padding") {
+        @Override
+        public SecretKey generate(byte[] key) throws GeneralSecurityException {
+            byte[] material = key;
+            if (key.length == DOUBLE_LENGTH) {
+                material = new byte[DESedeKeySpec.DES_EDE_KEY_LEN];
+                System.arraycopy(key, 0, material, 0, DOUBLE_LENGTH);
+                System.arraycopy(key, 0, material, DOUBLE_LENGTH, DESKeySpec.DES_KEY_LEN);
+            } else if (key.length < DESedeKeySpec.DES_EDE_KEY_LEN) {
+                throw new InvalidKeyException("3DES密钥需要16或24字节! | A 3DES key needs 16 or 24 bytes!");
+            }
+            return SecretKeyFactory.getInstance(getKeyAlgorithm()).generateSecret(new DESedeKeySpec(material));
+        }
+    };
+
+    private static final int DOUBLE_LENGTH = 2 * DESKeySpec.DES_KEY_LEN;
+
+    private final String keyAlgorithm;
+    private final String transformation;
+
+    DesAlgorithm(String keyAlgorithm, String transformation) {
+        this.keyAlgorithm = keyAlgorithm;
+        this.transformation = transformation;
+    }
+
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public String getTransformation() {
+        return transformation;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:50 2026/10/18
+     * @description: 由密钥字节生成密钥，开销较大，由 DesUtils 按密钥字节缓存结果
+     *               Generates the key from the key bytes; this is costly, DesUtils caches the result by the key bytes
+     * @param key 密钥字节 | key bytes
+     * @return javax.crypto.SecretKey
+     **/
+    public abstract SecretKey generate(byte[] key) throws GeneralSecurityException;
+}
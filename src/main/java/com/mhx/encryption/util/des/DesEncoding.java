@@ -0,0 +1,113 @@
+package com.mhx.encryption.util.des;
+
+import com.mhx.encryption.util.codec.HexCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * @className DesEncoding
+ * @description DES 密文的文本编码。n 字节密文编码后的长度：BASE64 约 1.33n，HEX 2n，LEGACY 约 2.67n；
+ *              不需要文本时使用 application/octet-stream 直接传输 n 字节原始密文
+ *              Text encodings of the DES cipher text. Encoded length of n cipher text bytes: BASE64 about 1.33n,
+ *              HEX 2n, LEGACY about 2.67n; without the need for text, application/octet-stream carries the n raw bytes
+ * @author MuHongXin.
+ * @date 2026/10/18 22:30
+ * @version v1.0.0
+ **/
+
+public enum DesEncoding {
+    /**
+     * 大写十六进制，解码大小写都接受
+     *
+     * -------------------------------------------------------丨
+     * Upper case hexadecimal, decoding accepts both cases.   丨
+     * -------------------------------------------------------丨
+     */
+    HEX {
+        @Override
+        public byte[] encodeToBytes(byte[] cipherText) {
+            byte[] out = new byte[cipherText.length << 1];
+            HexCodec.encode(cipherText, 0, cipherText.length, out, 0, false);
+            return out;
+        }
+
+        @Override
+        public byte[] decode(byte[] text, int off, int len) {
+            return HexCodec.decode(text, off, len);
+        }
+    },
+
+    /**
+     * URL 安全的 Base64（带填充），与 desEncrypt(plaintext, key) 的原有输出相同
+     *
+     * ----------------------------------------------------------------------------------------------丨
+     * URL safe Base64 with padding, the same as the original output of desEncrypt(plaintext, key).  丨
+     * ----------------------------------------------------------------------------------------------丨
+     */
+    BASE64 {
+        @Override
+        public byte[] encodeToBytes(byte[] cipherText) {
+            return Base64.getUrlEncoder().encode(cipherText);
+        }
+
+        @Override
+        public byte[] decode(byte[] text, int off, int len) {
+            return Base64.getUrlDecoder().decode(off == 0 && len == text.length ? text : Arrays.copyOfRange(text, off, off + len));
+        }
+    },
+
+    /**
+     * 默认密钥 encrypt(String) 的原有格式：URL 安全 Base64 字符串再转大写十六进制，保留用于读取已有数据
+     *
+     * ------------------------------------------------------------------------------------------------丨
+     * The original format of the default key encrypt(String): URL safe Base64 text, hex encoded again  丨
+     * in upper case, kept to read existing data.                                                      丨
+     * ------------------------------------------------------------------------------------------------丨
+     */
+    LEGACY {
+        @Override
+        public byte[] encodeToBytes(byte[] cipherText) {
+            return HEX.encodeToBytes(BASE64.encodeToBytes(cipherText));
+        }
+
+        @Override
+        public byte[] decode(byte[] text, int off, int len) {
+            return BASE64.decode(HEX.decode(text, off, len));
+        }
+    };
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     * @description: 编码为 ASCII 字节 | Encodes to ASCII bytes
+     * @param cipherText 原始密文 | raw cipher text
+     * @return byte[]
+     **/
+    public abstract byte[] encodeToBytes(byte[] cipherText);
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     * @description: 解码 ASCII 字节 text[off, off + len)，格式错误时抛出 IllegalArgumentException
+     *               Decodes the ASCII bytes text[off, off + len), an IllegalArgumentException is thrown for malformed text
+     * @param text 编码后的密文 | encoded cipher text
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+     * @return byte[] 原始密文 | raw cipher text
+     **/
+    public abstract byte[] decode(byte[] text, int off, int len);
+
+    public String encode(byte[] cipherText) {
+        return new String(encodeToBytes(cipherText), StandardCharsets.US_ASCII);
+    }
+
+    public byte[] decode(byte[] text) {
+        return decode(text, 0, text.length);
+    }
+
+    public byte[] decode(String text) {
+        return decode(text.getBytes(StandardCharsets.US_ASCII));
+    }
+}
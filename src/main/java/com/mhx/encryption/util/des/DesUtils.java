@@ -1,15 +1,20 @@
 package com.mhx.encryption.util.des;
 
+import com.mhx.encryption.util.cache.BoundedCache;
+import com.mhx.encryption.util.cipher.BatchResult;
+import com.mhx.encryption.util.cipher.CipherPool;
 import org.thymeleaf.util.StringUtils;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
-import javax.crypto.SecretKeyFactory;
-import javax.crypto.spec.DESKeySpec;
 import javax.crypto.spec.IvParameterSpec;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
 import java.util.Arrays;
-import java.util.Base64;
+import java.util.List;
 
 /**
  * DES设计中使用了分组密码设计的两个原则：
@@ -74,17 +79,35 @@ public class DesUtils {
     private final static String ALGORITHM = "DES/CBC/PKCS5Padding";
 
     /**
-     * 加密算法 DES
+     * 最多缓存的密钥数量
      *
-     * --------------------------丨
-     * Encryption algorithm DES. 丨
-     * --------------------------丨
+     * ---------------------------------丨
+     * Maximum number of cached keys.   丨
+     * ---------------------------------丨
      */
-    private final static String DES = "DES";
+    private static final int MAXIMUM_KEYS = 256;
 
     /**
-    * @Description: 默认密钥解密
-    *              Default key decryption
+     * DES / 3DES 的 Cipher 池：SecretKeyFactory 生成的密钥按密钥字节缓存，每个线程复用按密钥和固定 IV 初始化好的 Cipher，
+     * 避免每次调用都执行 SecretKeyFactory.getInstance、generateSecret、解析 IV 和 Cipher.getInstance
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     * Cipher pools of DES and 3DES: keys generated by SecretKeyFactory are cached by the key bytes and    丨
+     * every thread reuses ciphers initialized with the key and the fixed IV, instead of running           丨
+     * SecretKeyFactory.getInstance, generateSecret, the IV parsing and Cipher.getInstance on every call.  丨
+     * ----------------------------------------------------------------------------------------------------丨
+     */
+    private static final IvParameterSpec IV = new IvParameterSpec(KEY_IV.getBytes(StandardCharsets.UTF_8));
+    private static final CipherPool DES_POOL = new CipherPool(ALGORITHM, DesAlgorithm.DES::generate, IV, MAXIMUM_KEYS);
+    private static final CipherPool DESEDE_POOL = new CipherPool(DesAlgorithm.DESEDE.getTransformation(), DesAlgorithm.DESEDE::generate, IV, MAXIMUM_KEYS);
+
+    public static BoundedCache<ByteBuffer, SecretKey> keyCache(DesAlgorithm algorithm) {
+        return pool(algorithm).keyCache();
+    }
+
+    /**
+    * @Description: 默认密钥解密，密文为 DesEncoding.LEGACY 格式
+    *              Default key decryption of a DesEncoding.LEGACY cipher text
     * @Author: MuHongXin
     * @DateTime: 下午1:36 2022/8/16
     * @Params: [data]
@@ -95,12 +118,12 @@ public class DesUtils {
             throw new IllegalArgumentException("加密内容不能为空! | The encryption content cannot be empty!");
         }
 
-        return desDecrypt(new String(hex2byte(data.getBytes())), KEY);
+        return desDecrypt(data, KEY, DesEncoding.LEGACY);
     }
 
     /**
-    * @Description: 默认密钥加密
-    *               Default key encryption
+    * @Description: 默认密钥加密，密文为 DesEncoding.LEGACY 格式
+    *               Default key encryption into the DesEncoding.LEGACY format
     * @Author: MuHongXin
     * @DateTime: 下午1:37 2022/8/16
     * @Params: [data]
@@ -111,100 +134,45 @@ public class DesUtils {
             throw new IllegalArgumentException("加密内容不能为空! | The encryption content cannot be empty!");
         }
 
-        String encrypt = desEncrypt(data, KEY);
-        if (StringUtils.isEmpty(encrypt)) {
-            throw new RuntimeException("加密失败! | Encryption failure!");
-        }
-
-        return byte2hex(encrypt.getBytes());
+        return desEncrypt(data, KEY, DesEncoding.LEGACY);
     }
 
     /**
-    * @Description: 16进制转byte
-    *               Hexadecimal conversion byte
-    * @Author: MuHongXin
-    * @DateTime: 下午1:37 2022/8/16
-    * @Params: [bytes]
-    * @Return: byte[]
-    */
-    private static byte[] hex2byte(byte[] bytes) {
-        // 如果字节数组长度不是偶数，则抛出 IllegalArgumentException 异常 | If the length of the byte array is not even, throw an IllegalArgumentException
-        if ((bytes.length % 2) != 0) {
-            throw new IllegalArgumentException("长度不是偶数! | The length is not even!");
-        }
-        // 创建一个新的 byte 数组用于存储转换后的结果 | Create a new byte array to store the converted result
-        byte[] b2 = new byte[bytes.length / 2];
-        // 循环遍历字节数组 | Loop through the byte array
-        for (int n = 0; n < bytes.length; n += 2) {
-            // 将当前的两个字节转换为字符串 | Convert the current two bytes to a string
-            String item = new String(bytes, n, 2);
-            // 将转换后的字符串解析为十六进制整数，并存储到新的byte数组中 | Parse the converted string as a hexadecimal integer and store it in the new byte array
-            b2[n / 2] = (byte) Integer.parseInt(item, 16);
-        }
-
-        // 返回转换后的 byte 数组 | Return the converted byte array
-        return b2;
+     * DES加密
+     *
+     * @param plaintext 明文
+     * @return java.lang.String
+     */
+    public static String desEncrypt(String plaintext, String key) {
+        return desEncrypt(plaintext, key, DesEncoding.BASE64);
     }
 
     /**
-    * @Description: byte转16进制数组
+    * @Description: DES 加密，密文按 encoding 编码；密钥为空时使用默认密钥
+    *               DES encryption with the cipher text encoded as 'encoding'; the default key is used when the key is empty
     * @Author: MuHongXin
-    * @DateTime: 下午1:38 2022/8/16
-    * @Params: [bytes]
+    * @DateTime: 下午10:30 2026/10/18
+    * @Params: [plaintext 明文 | plaintext, key 密钥 | key, encoding 密文编码 | cipher text encoding]
     * @Return: java.lang.String
     */
-    private static String byte2hex(byte[] bytes) {
-        // 创建一个 StringBuilder 实例 | Create a StringBuilder instance
-        StringBuilder hs = new StringBuilder();
-        // 定义一个空字符串 | Define an empty string
-        String stmp = "";
-        // 循环遍历字节数组中的每个字节 | Loop through each byte in the byte array
-        for (byte aByte : bytes) {
-            // 将当前字节转换为十六进制字符串 | Convert the current byte to a hexadecimal string
-            stmp = (Integer.toHexString(aByte & 0XFF));
-            // 如果当前转换后的字符串长度为1，则在其前面添加一个0 | If the length of the current converted string is 1, add a 0 in front of it
-            if (stmp.length() == 1) {
-                hs.append("0").append(stmp);
-            } else {
-                // 否则直接将转换后的字符串添加到 StringBuilder 中 | Otherwise, add the converted string directly to the StringBuilder
-                hs.append(stmp);
-            }
-        }
-
-        // 返回转换后的十六进制字符串（字母全部大写）| Return the converted hexadecimal string (all letters in uppercase)
-        return hs.toString().toUpperCase();
+    public static String desEncrypt(String plaintext, String key, DesEncoding encoding) {
+        return desEncrypt(plaintext, key, encoding, DesAlgorithm.DES);
     }
 
     /**
-     * DES加密
-     *
-     * @param plaintext 明文
-     * @return java.lang.String
-     */
-    public static String desEncrypt(String plaintext, String key) {
+    * @Description: DES / 3DES 加密，密文按 encoding 编码；密钥为空时使用默认密钥（默认密钥只有 8 字节，不能用于 3DES）
+    *               DES or 3DES encryption with the cipher text encoded as 'encoding'; the default key is used when the
+    *               key is empty (it has only 8 bytes and does not work for 3DES)
+    * @Author: MuHongXin
+    * @DateTime: 下午10:50 2026/10/18
+    * @Params: [plaintext 明文 | plaintext, key 密钥 | key, encoding 密文编码 | cipher text encoding, algorithm DES / DESEDE]
+    * @Return: java.lang.String
+    */
+    public static String desEncrypt(String plaintext, String key, DesEncoding encoding, DesAlgorithm algorithm) {
         try {
-            // 将密钥转换为 DESKeySpec 类型并指定字符集 | Convert the key to DESKeySpec and specify the character set
-            DESKeySpec dks = new DESKeySpec(key.getBytes(CHARSET));
-            // 获取 SecretKeyFactory，以便使用指定算法生成SecretKey对象 | Get SecretKeyFactory to generate a SecretKey object using the specified algorithm
-            SecretKeyFactory keyFactory = SecretKeyFactory.getInstance(DES);
-            // 生成 SecretKey 对象 | Generate a SecretKey object
-            SecretKey secretKey = keyFactory.generateSecret(dks);
-
-            // 创建用于 CBC 模式的 IV 参数，指定字符集 | Create the IV parameters for CBC mode and specify the character set
-            IvParameterSpec ivParameterSpec = new IvParameterSpec(KEY_IV.getBytes(CHARSET));
-
-            // 获取 Cipher 对象，使用指定算法，指定工作模式和填充方式 | Get the Cipher object, specify the algorithm, working mode and padding mode
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            // 初始化 Cipher 对象，以进行加密操作 | Initialize the Cipher object for encryption
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, ivParameterSpec);
-
-            // 对明文进行加密，并将结果转换为 URL 安全的 Base64 编码 | Encrypt the plaintext and convert the result to URL-safe Base64 encoding
-            byte[] doFinal = cipher.doFinal(plaintext.getBytes());
-            Base64.Encoder encoder = Base64.getUrlEncoder();
-            byte[] base64EnStr = encoder.encode(doFinal);
-
-            // 将加密后的字节数组转换为字符串并返回 | Convert the encrypted byte array to a string and return it
-            return new String(base64EnStr, StandardCharsets.UTF_8);
+            // 使用当前线程按密钥和 IV 初始化好的 Cipher 对明文进行加密，并按 encoding 只编码一次 | Encrypt with the cipher of this thread initialized with the key and IV and encode once as 'encoding'
+            byte[] input = plaintext.getBytes(StandardCharsets.UTF_8);
+            return encoding.encode(pool(algorithm).doFinal(Cipher.ENCRYPT_MODE, key(key), input, 0, input.length));
         } catch (Exception e) {
             System.out.println("desEncrypt|139|abnormal:" + Arrays.toString(e.getStackTrace()));
             throw new RuntimeException("加密失败! | Encryption failure!");
@@ -222,32 +190,324 @@ public class DesUtils {
             throw new IllegalArgumentException("加密内容或秘钥为空! | The encryption content or key is empty!");
         }
 
+        return desDecrypt(cipherText, key, DesEncoding.BASE64);
+    }
+
+    /**
+    * @Description: DES 解密按 encoding 编码的密文；密钥为空时使用默认密钥
+    *               DES decryption of a cipher text encoded as 'encoding'; the default key is used when the key is empty
+    * @Author: MuHongXin
+    * @DateTime: 下午10:30 2026/10/18
+    * @Params: [cipherText 密文 | cipher text, key 密钥 | key, encoding 密文编码 | cipher text encoding]
+    * @Return: java.lang.String
+    */
+    public static String desDecrypt(String cipherText, String key, DesEncoding encoding) {
+        return desDecrypt(cipherText, key, encoding, DesAlgorithm.DES);
+    }
+
+    /**
+    * @Description: DES / 3DES 解密按 encoding 编码的密文；密钥为空时使用默认密钥
+    *               DES or 3DES decryption of a cipher text encoded as 'encoding'; the default key is used when the key is empty
+    * @Author: MuHongXin
+    * @DateTime: 下午10:50 2026/10/18
+    * @Params: [cipherText 密文 | cipher text, key 密钥 | key, encoding 密文编码 | cipher text encoding, algorithm DES / DESEDE]
+    * @Return: java.lang.String
+    */
+    public static String desDecrypt(String cipherText, String key, DesEncoding encoding, DesAlgorithm algorithm) {
+        if (StringUtils.isEmpty(cipherText)) {
+            throw new IllegalArgumentException("加密内容不能为空! | The encryption content cannot be empty!");
+        }
+
         try {
-            // 获取 URL 安全的 Base64 解码器 | Get URL-safe Base64 decoder
-            Base64.Decoder decoder = Base64.getUrlDecoder();
-            // 对密文进行Base64解码 | Base64 decode the cipherText
-            byte[] base64DecodeStr = decoder.decode(cipherText);
-
-            // 将密钥转换为 DESKeySpec 类型并指定字符集 | Convert the key to DESKeySpec and specify the character set
-            DESKeySpec dks = new DESKeySpec(key.getBytes(CHARSET));
-            // 获取 SecretKeyFactory，以便使用指定算法生成SecretKey对象 | Get SecretKeyFactory to generate a SecretKey object using the specified algorithm
-            SecretKeyFactory keyFactory = SecretKeyFactory.getInstance(DES);
-            // 生成 SecretKey 对象 | Generate a SecretKey object
-            SecretKey secretKey = keyFactory.generateSecret(dks);
-
-            // 创建用于 CBC 模式的 IV 参数，指定字符集 | Create the IV parameters for CBC mode and specify the character set
-            IvParameterSpec ivParameterSpec = new IvParameterSpec(KEY_IV.getBytes(CHARSET));
-
-            // 获取 Cipher 对象，使用指定算法，指定工作模式和填充方式 | Get the Cipher object, specify the algorithm, working mode and padding mode
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            // 初始化 Cipher 对象，以进行解密操作 | Initialize the Cipher object for decryption
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, ivParameterSpec);
-
-            // 对密文进行解密，并返回解密后的明文 | Decrypt the cipherText and return the decrypted plaintext
-            return new String(cipher.doFinal(base64DecodeStr), CHARSET);
+            // 按 encoding 解码后，使用当前线程按密钥和 IV 初始化好的 Cipher 解密 | Decode as 'encoding', then decrypt with the cipher of this thread initialized with the key and IV
+            byte[] bytes = encoding.decode(cipherText);
+            return new String(pool(algorithm).doFinal(Cipher.DECRYPT_MODE, key(key), bytes, 0, bytes.length), CHARSET);
         } catch (Exception e) {
             System.out.println("desDecrypt|236|abnormal:" + Arrays.toString(e.getStackTrace()));
             throw new RuntimeException("解密失败! | Decryption failure!");
         }
     }
+
+    /**
+    * @Description: 原始字节 DES 加密，密钥为空时使用默认密钥
+    *               Raw byte DES encryption, the default key is used when the key is empty
+    * @Author: MuHongXin
+    * @DateTime: 下午10:30 2026/10/18
+    * @Params: [plaintext 明文 | plaintext, key 密钥 | key]
+    * @Return: byte[] 原始密文 | raw cipher text
+    */
+    public static byte[] desEncrypt(byte[] plaintext, String key) throws GeneralSecurityException {
+        return desEncrypt(plaintext, key, DesAlgorithm.DES);
+    }
+
+    /**
+    * @Description: 原始字节 DES / 3DES 加密，密钥为空时使用默认密钥
+    *               Raw byte DES or 3DES encryption, the default key is used when the key is empty
+    * @Author: MuHongXin
+    * @DateTime: 下午10:50 2026/10/18
+    * @Params: [plaintext 明文 | plaintext, key 密钥 | key, algorithm DES / DESEDE]
+    * @Return: byte[] 原始密文 | raw cipher text
+    */
+    public static byte[] desEncrypt(byte[] plaintext, String key, DesAlgorithm algorithm) throws GeneralSecurityException {
+        return pool(algorithm).doFinal(Cipher.ENCRYPT_MODE, key(key), plaintext, 0, plaintext.length);
+    }
+
+    /**
+    * @Description: 原始字节 DES 解密，密钥为空时使用默认密钥
+    *               Raw byte DES decryption, the default key is used when the key is empty
+    * @Author: MuHongXin
+    * @DateTime: 下午10:30 2026/10/18
+    * @Params: [cipherText 原始密文 | raw cipher text, key 密钥 | key]
+    * @Return: byte[] 明文 | plaintext
+    */
+    public static byte[] desDecrypt(byte[] cipherText, String key) throws GeneralSecurityException {
+        return desDecrypt(cipherText, key, DesAlgorithm.DES);
+    }
+
+    /**
+    * @Description: 原始字节 DES / 3DES 解密，密钥为空时使用默认密钥
+    *               Raw byte DES or 3DES decryption, the default key is used when the key is empty
+    * @Author: MuHongXin
+    * @DateTime: 下午10:50 2026/10/18
+    * @Params: [cipherText 原始密文 | raw cipher text, key 密钥 | key, algorithm DES / DESEDE]
+    * @Return: byte[] 明文 | plaintext
+    */
+    public static byte[] desDecrypt(byte[] cipherText, String key, DesAlgorithm algorithm) throws GeneralSecurityException {
+        return pool(algorithm).doFinal(Cipher.DECRYPT_MODE, key(key), cipherText, 0, cipherText.length);
+    }
+
+    /**
+    * @Description: 未指定密文编码时的原有格式：默认密钥为 LEGACY，指定密钥为 BASE64
+    *               The original format when no cipher text encoding is given: LEGACY for the default key,
+    *               BASE64 for a given key
+    * @Author: MuHongXin
+    * @DateTime: 下午10:30 2026/10/18
+    * @Params: [key 密钥 | key]
+    * @Return: com.mhx.encryption.util.des.DesEncoding
+    */
+    public static DesEncoding defaultEncoding(String key) {
+        return StringUtils.isEmpty(key) ? DesEncoding.LEGACY : DesEncoding.BASE64;
+    }
+
+    /**
+    * @Description: DES 字节加密，不经过字符集转换和 Base64 编码
+    *               DES byte encryption, without charset conversion or Base64 encoding
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [data 明文 | plaintext, off 偏移量 | offset, len 长度 | length, key 密钥字节 | key bytes]
+    * @Return: byte[]
+    */
+    public static byte[] desEncrypt(byte[] data, int off, int len, byte[] key) throws GeneralSecurityException {
+        return DES_POOL.doFinal(Cipher.ENCRYPT_MODE, key, data, off, len);
+    }
+
+    /**
+    * @Description: DES 字节加密，结果写入调用方提供的数组，输出至少需要 encryptedLength(len) 字节
+    *               DES byte encryption into the array supplied by the caller, the output needs at least encryptedLength(len) bytes
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [data 明文 | plaintext, off 偏移量 | offset, len 长度 | length, key 密钥字节 | key bytes, out 输出 | output, outOff 输出偏移量 | output offset]
+    * @Return: int 输出长度 | output length
+    */
+    public static int desEncrypt(byte[] data, int off, int len, byte[] key, byte[] out, int outOff) throws GeneralSecurityException {
+        return DES_POOL.doFinal(Cipher.ENCRYPT_MODE, key, data, off, len, out, outOff);
+    }
+
+    /**
+    * @Description: DES 缓冲区加密，读取 input 的剩余字节并写入 output，两者的 position 都前移
+    *               DES buffer encryption, reading the remaining bytes of 'input' into 'output' and advancing both positions
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [input 明文 | plaintext, output 密文输出 | cipher text output, key 密钥字节 | key bytes]
+    * @Return: int 输出长度 | output length
+    */
+    public static int desEncrypt(ByteBuffer input, ByteBuffer output, byte[] key) throws GeneralSecurityException {
+        return DES_POOL.doFinal(Cipher.ENCRYPT_MODE, key, input, output);
+    }
+
+    /**
+    * @Description: DES 字节解密，不经过 Base64 解码和字符集转换
+    *               DES byte decryption, without Base64 decoding or charset conversion
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [data 密文 | cipher text, off 偏移量 | offset, len 长度 | length, key 密钥字节 | key bytes]
+    * @Return: byte[]
+    */
+    public static byte[] desDecrypt(byte[] data, int off, int len, byte[] key) throws GeneralSecurityException {
+        return DES_POOL.doFinal(Cipher.DECRYPT_MODE, key, data, off, len);
+    }
+
+    /**
+    * @Description: DES 字节解密，结果写入调用方提供的数组，输出至少需要 len 字节
+    *               DES byte decryption into the array supplied by the caller, the output needs at least len bytes
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [data 密文 | cipher text, off 偏移量 | offset, len 长度 | length, key 密钥字节 | key bytes, out 输出 | output, outOff 输出偏移量 | output offset]
+    * @Return: int 明文长度 | plaintext length
+    */
+    public static int desDecrypt(byte[] data, int off, int len, byte[] key, byte[] out, int outOff) throws GeneralSecurityException {
+        return DES_POOL.doFinal(Cipher.DECRYPT_MODE, key, data, off, len, out, outOff);
+    }
+
+    /**
+    * @Description: DES 缓冲区解密，读取 input 的剩余字节并写入 output，两者的 position 都前移
+    *               DES buffer decryption, reading the remaining bytes of 'input' into 'output' and advancing both positions
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [input 密文 | cipher text, output 明文输出 | plaintext output, key 密钥字节 | key bytes]
+    * @Return: int 明文长度 | plaintext length
+    */
+    public static int desDecrypt(ByteBuffer input, ByteBuffer output, byte[] key) throws GeneralSecurityException {
+        return DES_POOL.doFinal(Cipher.DECRYPT_MODE, key, input, output);
+    }
+
+    /**
+    * @Description: len 字节明文加密后的长度（PKCS5 填充到 8 字节的整数倍）
+    *               Length of the cipher text of 'len' plaintext bytes (PKCS5 padded to a multiple of 8 bytes)
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [len 明文长度 | plaintext length]
+    * @Return: int
+    */
+    public static int encryptedLength(int len) {
+        return (len / 8 + 1) * 8;
+    }
+
+    /**
+    * @Description: DES 批量加密，所有明文共用同一密钥，密钥和 Cipher 只创建一次；单项失败记录在结果中，不影响其他项。
+    *               密钥为空时使用默认密钥，结果格式与 encrypt(String) 相同
+    *               DES batch encryption, every plaintext shares one key and the key and cipher are created once;
+    *               a failed item is recorded in the result without affecting the others.
+    *               The default key is used when the key is empty, with the same result format as encrypt(String)
+    * @Author: MuHongXin
+    * @DateTime: 下午6:40 2026/10/18
+    * @Params: [plaintexts, key]
+    * @Return: com.mhx.encryption.util.cipher.BatchResult
+    */
+    public static BatchResult desEncrypt(List<String> plaintexts, String key) {
+        return desEncrypt(plaintexts, key, defaultEncoding(key));
+    }
+
+    /**
+    * @Description: DES 批量加密，密文按 encoding 编码；密钥为空时使用默认密钥
+    *               DES batch encryption with the cipher texts encoded as 'encoding'; the default key is used when the key is empty
+    * @Author: MuHongXin
+    * @DateTime: 下午10:30 2026/10/18
+    * @Params: [plaintexts, key, encoding]
+    * @Return: com.mhx.encryption.util.cipher.BatchResult
+    */
+    public static BatchResult desEncrypt(List<String> plaintexts, String key, DesEncoding encoding) {
+        return desEncrypt(plaintexts, key, encoding, DesAlgorithm.DES);
+    }
+
+    /**
+    * @Description: DES / 3DES 批量加密，密文按 encoding 编码；整批只查找一次当前线程的 Cipher，密钥无效时所有项都失败
+    *               DES or 3DES batch encryption with the cipher texts encoded as 'encoding'; the cipher of this thread
+    *               is looked up once per batch, every item fails when the key is invalid
+    * @Author: MuHongXin
+    * @DateTime: 下午10:50 2026/10/18
+    * @Params: [plaintexts, key, encoding, algorithm]
+    * @Return: com.mhx.encryption.util.cipher.BatchResult
+    */
+    public static BatchResult desEncrypt(List<String> plaintexts, String key, DesEncoding encoding, DesAlgorithm algorithm) {
+        BatchResult result = new BatchResult(plaintexts.size());
+        CipherPool.Batch cipher = pool(algorithm).batch(Cipher.ENCRYPT_MODE, key(key));
+
+        for (int i = 0; i < plaintexts.size(); i++) {
+            String plaintext = plaintexts.get(i);
+            if (StringUtils.isEmpty(plaintext)) {
+                result.failure(i, "加密内容不能为空! | The encryption content cannot be empty!");
+                continue;
+            }
+
+            try {
+                byte[] input = plaintext.getBytes(StandardCharsets.UTF_8);
+                result.success(i, encoding.encode(cipher.doFinal(input, 0, input.length)));
+            } catch (InvalidKeyException e) {
+                return failAll(result, "加密失败! | Encryption failure!");
+            } catch (GeneralSecurityException e) {
+                result.failure(i, e.getMessage());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+    * @Description: DES 批量解密，所有密文共用同一密钥，密钥和 Cipher 只创建一次；单项失败记录在结果中，不影响其他项。
+    *               密钥为空时使用默认密钥，密文格式与 decrypt(String) 相同
+    *               DES batch decryption, every cipher text shares one key and the key and cipher are created once;
+    *               a failed item is recorded in the result without affecting the others.
+    *               The default key is used when the key is empty, with the same cipher text format as decrypt(String)
+    * @Author: MuHongXin
+    * @DateTime: 下午6:40 2026/10/18
+    * @Params: [cipherTexts, key]
+    * @Return: com.mhx.encryption.util.cipher.BatchResult
+    */
+    public static BatchResult desDecrypt(List<String> cipherTexts, String key) {
+        return desDecrypt(cipherTexts, key, defaultEncoding(key));
+    }
+
+    /**
+    * @Description: DES 批量解密按 encoding 编码的密文；密钥为空时使用默认密钥
+    *               DES batch decryption of cipher texts encoded as 'encoding'; the default key is used when the key is empty
+    * @Author: MuHongXin
+    * @DateTime: 下午10:30 2026/10/18
+    * @Params: [cipherTexts, key, encoding]
+    * @Return: com.mhx.encryption.util.cipher.BatchResult
+    */
+    public static BatchResult desDecrypt(List<String> cipherTexts, String key, DesEncoding encoding) {
+        return desDecrypt(cipherTexts, key, encoding, DesAlgorithm.DES);
+    }
+
+    /**
+    * @Description: DES / 3DES 批量解密按 encoding 编码的密文；整批只查找一次当前线程的 Cipher，密钥无效时所有项都失败
+    *               DES or 3DES batch decryption of cipher texts encoded as 'encoding'; the cipher of this thread is
+    *               looked up once per batch, every item fails when the key is invalid
+    * @Author: MuHongXin
+    * @DateTime: 下午10:50 2026/10/18
+    * @Params: [cipherTexts, key, encoding, algorithm]
+    * @Return: com.mhx.encryption.util.cipher.BatchResult
+    */
+    public static BatchResult desDecrypt(List<String> cipherTexts, String key, DesEncoding encoding, DesAlgorithm algorithm) {
+        BatchResult result = new BatchResult(cipherTexts.size());
+        CipherPool.Batch cipher = pool(algorithm).batch(Cipher.DECRYPT_MODE, key(key));
+
+        for (int i = 0; i < cipherTexts.size(); i++) {
+            String cipherText = cipherTexts.get(i);
+            if (StringUtils.isEmpty(cipherText)) {
+                result.failure(i, "加密内容不能为空! | The encryption content cannot be empty!");
+                continue;
+            }
+
+            try {
+                byte[] bytes = encoding.decode(cipherText);
+                result.success(i, new String(cipher.doFinal(bytes, 0, bytes.length), CHARSET));
+            } catch (InvalidKeyException e) {
+                return failAll(result, "解密失败! | Decryption failure!");
+            } catch (GeneralSecurityException | IllegalArgumentException | UnsupportedEncodingException e) {
+                result.failure(i, e.getMessage());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 密钥字节，密钥为空时为默认密钥 | Key bytes, the default key when the key is empty
+     */
+    private static byte[] key(String key) {
+        return (StringUtils.isEmpty(key) ? KEY : key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static CipherPool pool(DesAlgorithm algorithm) {
+        return algorithm == DesAlgorithm.DESEDE ? DESEDE_POOL : DES_POOL;
+    }
+
+    private static BatchResult failAll(BatchResult result, String error) {
+        for (int i = 0; i < result.size(); i++) {
+            result.failure(i, error);
+        }
+        return result;
+    }
 }
@@ -1,19 +1,23 @@
 package com.mhx.encryption.util.ecc;
 
+import com.mhx.encryption.util.cache.BoundedCache;
+import com.mhx.encryption.util.codec.HexCodec;
 import org.apache.commons.codec.binary.StringUtils;
 import org.bouncycastle.util.encoders.Base64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
+import java.nio.ByteBuffer;
 import java.security.*;
+import java.security.interfaces.ECPublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @className DesUtils
@@ -41,6 +45,29 @@ public class EccUtil {
 
     private static final String SHA256_WITH_ECDSA = "SHA256withECDSA";
 
+
+    private static final int MAXIMUM_PUBLIC_KEYS = 1024;
+
+    /**
+     * BC ECIES 默认 MAC（HmacSHA1）长度 | Length of the default BC ECIES MAC (HmacSHA1)
+     */
+    private static final int MAC_LENGTH = 20;
+
+    /**
+     * 公钥缓存：Base64 公钥字符串 -> 已解码的公钥，省去 Base64 解码、TLV 补齐和 KeyFactory.generatePublic
+     *
+     * ---------------------------------------------------------------------------------------------------------------丨
+     * Public key cache: Base64 public key string -> decoded key, skipping the Base64 decode, the TLV wrap and        丨
+     * KeyFactory.generatePublic.                                                                                     丨
+     * ---------------------------------------------------------------------------------------------------------------丨
+     */
+    private static final BoundedCache<String, PublicKey> PUBLIC_KEY_CACHE = new BoundedCache<>(MAXIMUM_PUBLIC_KEYS);
+
+    /**
+     * 批量验签，在公共 ForkJoin 线程池中并行 | Batch verification, in parallel on the common ForkJoin pool
+     */
+    private static final EcdsaBatchVerifier BATCH_VERIFIER = new EcdsaBatchVerifier(ForkJoinPool.commonPool(), EcdsaBatchVerifier.DEFAULT_THRESHOLD);
+
     static {
         logger.info("初始化 ECCUtil 静态资源 | Initialize the ECCUtil static resource");
         if (null == Security.getProvider(PROVIDER)) {
@@ -87,13 +114,21 @@ public class EccUtil {
     }
 
     /**
-     * @Description: 解密公钥
+     * @Description: 解密公钥，结果按公钥字符串缓存，无效公钥不缓存
      * @Author: MuHongXin
      * @DateTime: 下午6:03 2022/8/10
      * @Params: [keyStr]
      * @Return: java.security.PublicKey
      */
     public static PublicKey decodePublicKey(String keyStr) {
+        return PUBLIC_KEY_CACHE.get(keyStr, EccUtil::generatePublicKey);
+    }
+
+    public static BoundedCache<String, PublicKey> publicKeyCache() {
+        return PUBLIC_KEY_CACHE;
+    }
+
+    private static PublicKey generatePublicKey(String keyStr) {
         try {
             // 从公钥字符串中获取公钥 TLV 字节数组 | Get the public key TLV byte array from the public key string
             byte[] keyBytes = getPubKeyTLV(keyStr);
@@ -188,21 +223,9 @@ public class EccUtil {
      */
     public static String encrypt(byte[] content, String publicKeyStr) {
         try {
-            // 将公钥字符串进行解码得到公钥 | Decode the public key string to get the public key
-            PublicKey publicKey = decodePublicKey(publicKeyStr);
-
-            // 获取 Cipher 实例，指定算法为 ECIES，并指定提供者 | Get a Cipher instance, specify the algorithm as ECIES, and specify the provider
-            Cipher cipher = Cipher.getInstance(EC_IES, PROVIDER);
-
-            // 初始化 Cipher，指定操作模式为 ENCRYPT_MODE 并使用公钥进行加密 | Initialize the Cipher, specify the operating mode as ENCRYPT_MODE and use the public key for encryption
-            cipher.init(Cipher.ENCRYPT_MODE, publicKey);
-
-            // 对原始数据进行加密 | Encrypt the original data
-            byte[] doFinal = cipher.doFinal(content);
-
-            // 将加密后的数据转换为十六进制字符串并返回 | Convert the encrypted data to a hexadecimal string and return it
-            return byte2hex(doFinal);
-        } catch (NoSuchAlgorithmException | NoSuchProviderException | NoSuchPaddingException | BadPaddingException | IllegalBlockSizeException | InvalidKeyException e) {
+            // 将公钥字符串进行解码得到公钥，加密后转换为十六进制字符串 | Decode the public key string, encrypt and convert to a hexadecimal string
+            return HexCodec.encode(encrypt(content, 0, content.length, decodePublicKey(publicKeyStr)));
+        } catch (GeneralSecurityException e) {
             logger.info("encrypt|206|abnormal:{}", Arrays.toString(e.getStackTrace()));
         }
 
@@ -219,27 +242,136 @@ public class EccUtil {
     public static String decrypt(byte[] content, String privateKeyStr) {
         try {
             // 将十六进制字符串转换为字节数组 | Convert the hexadecimal string to a byte array
-            byte[] bytes = hex2byte(content);
+            byte[] bytes = HexCodec.decode(content, 0, content.length);
 
-            // 将私钥字符串进行解码得到私钥 | Decode the private key string to get the private key
-            PrivateKey privateKey = decodePrivateKey(privateKeyStr);
+            // 使用解码后的私钥解密，并将解密后的字节数组转换为字符串 | Decrypt with the decoded private key and convert the result to a string
+            return new String(decrypt(bytes, 0, bytes.length, decodePrivateKey(privateKeyStr)));
+        } catch (GeneralSecurityException e) {
+            logger.info("decrypt|204|abnormal:{}", Arrays.toString(e.getStackTrace()));
+        }
 
-            // 获取 Cipher 实例，指定算法为 ECIES，并指定提供者 | Get a Cipher instance, specify the algorithm as ECIES, and specify the provider
-            Cipher cipher = Cipher.getInstance(EC_IES, PROVIDER);
+        return null;
+    }
+
+    /**
+     * @Description: 二进制公钥加密 content[off, off + len)，不经过十六进制和字符串转换
+     *               Binary public key encryption of content[off, off + len), without the hexadecimal and String conversions
+     * @Author: MuHongXin
+     * @DateTime: 下午9:45 2026/10/18
+     * @Params: [content 明文 | plaintext, off 偏移量 | offset, len 长度 | length, publicKey 公钥 | public key]
+     * @Return: byte[]
+     */
+    public static byte[] encrypt(byte[] content, int off, int len, PublicKey publicKey) throws GeneralSecurityException {
+        return cipher(Cipher.ENCRYPT_MODE, publicKey).doFinal(content, off, len);
+    }
 
-            // 初始化 Cipher，指定操作模式为 DECRYPT_MODE 并使用私钥进行解密 | Initialize the Cipher, specify the operating mode as DECRYPT_MODE and use the private key for decryption
-            cipher.init(Cipher.DECRYPT_MODE, privateKey);
+    /**
+     * @Description: 二进制公钥加密，密文写入调用方提供的数组，输出不足时抛出 ShortBufferException
+     *               Binary public key encryption into the array supplied by the caller, a ShortBufferException is thrown
+     *               when the output is too short
+     * @Author: MuHongXin
+     * @DateTime: 下午9:45 2026/10/18
+     * @Params: [content 明文 | plaintext, off 偏移量 | offset, len 长度 | length, publicKey 公钥 | public key,
+     *           out 输出 | output, outOff 输出偏移量 | output offset]
+     * @Return: int 密文长度 | ciphertext length
+     */
+    public static int encrypt(byte[] content, int off, int len, PublicKey publicKey, byte[] out, int outOff) throws GeneralSecurityException {
+        return copy(encrypt(content, off, len, publicKey), out, outOff);
+    }
 
-            // 对加密后的数据进行解密 | Decrypt the encrypted data
-            byte[] doFinal = cipher.doFinal(bytes);
+    /**
+     * @Description: 缓冲区公钥加密，读取 input 的剩余字节并写入 output，两者的 position 都前移
+     *               Buffer public key encryption, reading the remaining bytes of 'input' into 'output' and advancing both positions
+     * @Author: MuHongXin
+     * @DateTime: 下午9:45 2026/10/18
+     * @Params: [input 明文 | plaintext, output 密文输出 | ciphertext output, publicKey 公钥 | public key]
+     * @Return: int 密文长度 | ciphertext length
+     */
+    public static int encrypt(ByteBuffer input, ByteBuffer output, PublicKey publicKey) throws GeneralSecurityException {
+        return copy(cipher(Cipher.ENCRYPT_MODE, publicKey), input, output);
+    }
 
-            // 将解密后的字节数组转换为字符串并返回 | Convert the decrypted byte array to a string and return it
-            return new String(doFinal);
-        } catch (NoSuchAlgorithmException | NoSuchProviderException | NoSuchPaddingException | BadPaddingException | IllegalBlockSizeException | InvalidKeyException e) {
-            logger.info("decrypt|204|abnormal:{}", Arrays.toString(e.getStackTrace()));
+    /**
+     * @Description: 二进制私钥解密 content[off, off + len)
+     *               Binary private key decryption of content[off, off + len)
+     * @Author: MuHongXin
+     * @DateTime: 下午9:45 2026/10/18
+     * @Params: [content 密文 | ciphertext, off 偏移量 | offset, len 长度 | length, privateKey 私钥 | private key]
+     * @Return: byte[]
+     */
+    public static byte[] decrypt(byte[] content, int off, int len, PrivateKey privateKey) throws GeneralSecurityException {
+        return cipher(Cipher.DECRYPT_MODE, privateKey).doFinal(content, off, len);
+    }
+
+    /**
+     * @Description: 二进制私钥解密，明文写入调用方提供的数组，输出不足时抛出 ShortBufferException
+     *               Binary private key decryption into the array supplied by the caller, a ShortBufferException is thrown
+     *               when the output is too short
+     * @Author: MuHongXin
+     * @DateTime: 下午9:45 2026/10/18
+     * @Params: [content 密文 | ciphertext, off 偏移量 | offset, len 长度 | length, privateKey 私钥 | private key,
+     *           out 输出 | output, outOff 输出偏移量 | output offset]
+     * @Return: int 明文长度 | plaintext length
+     */
+    public static int decrypt(byte[] content, int off, int len, PrivateKey privateKey, byte[] out, int outOff) throws GeneralSecurityException {
+        return copy(decrypt(content, off, len, privateKey), out, outOff);
+    }
+
+    /**
+     * @Description: 缓冲区私钥解密，读取 input 的剩余字节并写入 output，两者的 position 都前移
+     *               Buffer private key decryption, reading the remaining bytes of 'input' into 'output' and advancing both positions
+     * @Author: MuHongXin
+     * @DateTime: 下午9:45 2026/10/18
+     * @Params: [input 密文 | ciphertext, output 明文输出 | plaintext output, privateKey 私钥 | private key]
+     * @Return: int 明文长度 | plaintext length
+     */
+    public static int decrypt(ByteBuffer input, ByteBuffer output, PrivateKey privateKey) throws GeneralSecurityException {
+        return copy(cipher(Cipher.DECRYPT_MODE, privateKey), input, output);
+    }
+
+    /**
+     * @Description: 密文长度：临时公钥点 + 与明文等长的密文 + MAC
+     *               Ciphertext length: ephemeral public key point + ciphertext as long as the plaintext + MAC
+     * @Author: MuHongXin
+     * @DateTime: 下午9:45 2026/10/18
+     * @Params: [publicKey 公钥 | public key, len 明文长度 | plaintext length]
+     * @Return: int
+     */
+    public static int encryptedLength(PublicKey publicKey, int len) {
+        int fieldBytes = (((ECPublicKey) publicKey).getParams().getCurve().getField().getFieldSize() + 7) / 8;
+        return 2 * fieldBytes + 1 + len + MAC_LENGTH;
+    }
+
+    private static Cipher cipher(int opmode, Key key) throws GeneralSecurityException {
+        // 获取 Cipher 实例，指定算法为 ECIES，并指定提供者 | Get a Cipher instance, specify the algorithm as ECIES, and specify the provider
+        Cipher cipher = Cipher.getInstance(EC_IES, PROVIDER);
+        cipher.init(opmode, key);
+        return cipher;
+    }
+
+    /**
+     * BC 的 ECIES 在 doFinal 前缓存全部输入，getOutputSize 还会少算一个字节而越界写入，因此由这里检查长度后复制结果
+     * BC ECIES buffers the whole input before doFinal and its getOutputSize is one byte short and writes out of bounds,
+     * so the length is checked here and the result copied
+     */
+    private static int copy(byte[] result, byte[] out, int outOff) throws ShortBufferException {
+        if (out.length - outOff < result.length) {
+            throw new ShortBufferException("输出缓冲区不足，需要 " + result.length + " 字节! | The output buffer needs " + result.length + " bytes!");
         }
+        System.arraycopy(result, 0, out, outOff, result.length);
+        return result.length;
+    }
 
-        return null;
+    private static int copy(Cipher cipher, ByteBuffer input, ByteBuffer output) throws GeneralSecurityException {
+        byte[] content = new byte[input.remaining()];
+        input.duplicate().get(content);
+        byte[] result = cipher.doFinal(content);
+        if (output.remaining() < result.length) {
+            throw new ShortBufferException("输出缓冲区不足，需要 " + result.length + " 字节! | The output buffer needs " + result.length + " bytes!");
+        }
+        output.put(result);
+        input.position(input.limit());
+        return result.length;
     }
 
     /**
@@ -298,58 +430,17 @@ public class EccUtil {
     }
 
     /**
-     * @Description: 16进制转byte
-     * @Author: MuHongXin
-     * @DateTime: 下午1:37 2022/8/16
-     * @Params: [bytes]
-     * @Return: String
-     */
-    private static byte[] hex2byte(byte[] bytes) {
-        // 如果字节数组长度不是偶数，则抛出 IllegalArgumentException | If the length of the byte array is not even, throw an IllegalArgumentException
-        if ((bytes.length % 2) != 0) {
-            throw new IllegalArgumentException("长度不是偶数 | The length is not even");
-        }
-
-        // 创建一个新的字节数组，长度为原字节数组的一半 | Create a new byte array with a length of half the original byte array length
-        byte[] b2 = new byte[bytes.length / 2];
-
-        // 循环遍历原字节数组 | Loop through the original byte array
-        for (int n = 0; n < bytes.length; n += 2) {
-
-            // 从原字节数组中获取两个字符并转换为字符串 | Get two characters from the original byte array and convert to a string
-            String item = new String(bytes, n, 2);
-
-            // 将字符串解析为十六进制数值并存储到新的字节数组中 | Parse the string as a hexadecimal number and store it in the new byte array
-            b2[n / 2] = (byte) Integer.parseInt(item, 16);
-        }
-
-        // 返回转换后的新字节数组 | Return the converted new byte array
-        return b2;
-    }
-
-    /**
-     * @Description: byte转16进制数组
+     * @Description: 批量公钥验签，第 i 条为 (contents[i], signs[i], publicKeys[i])；按公钥分组复用解码后的公钥和预计算表，
+     *               在公共 ForkJoin 线程池中并行验证，返回验签失败的条目（签名格式错误、公钥无效或为空同样视为失败）
+     *               Batch public key verification, entry i is (contents[i], signs[i], publicKeys[i]); grouped by key to
+     *               reuse the decoded keys and precomputed tables and verified in parallel on the common ForkJoin pool,
+     *               returning the entries that failed (malformed signatures and invalid or null keys fail as well)
      * @Author: MuHongXin
-     * @DateTime: 下午1:38 2022/8/16
-     * @Params: [bytes]
-     * @Return: java.lang.String
+     * @DateTime: 上午12:20 2026/10/19
+     * @Params: [contents 消息 | messages, signs DER 签名 | DER signatures, publicKeys 公钥 | public keys]
+     * @Return: java.util.BitSet
      */
-    private static String byte2hex(byte[] bytes) {
-        // 创建一个 StringBuilder 对象 | Create a StringBuilder object
-        StringBuilder hs = new StringBuilder();
-        // 定义一个字符串变量 stmp | Define a string variable 'stmp'
-        String stmp = "";
-        // 遍历字节数组 | Loop through the byte array
-        for (byte aByte : bytes) {
-
-            // 将字节转换为十六进制字符串 | Convert the byte to a hexadecimal string
-            stmp = String.format("%02X", aByte);
-
-            // 将十六进制字符串添加到 StringBuilder 对象中 | Add the hexadecimal string to the StringBuilder object
-            hs.append(stmp);
-        }
-
-        // 将 StringBuilder 对象转换为字符串，并将所有字母转换为大写形式，然后返回 | Convert the StringBuilder object to a string, convert all letters to uppercase, and return it
-        return hs.toString().toUpperCase();
+    public static BitSet verify(byte[][] contents, byte[][] signs, PublicKey[] publicKeys) {
+        return BATCH_VERIFIER.verify(contents, signs, publicKeys);
     }
 }
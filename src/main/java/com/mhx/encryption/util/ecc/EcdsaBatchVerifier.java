@@ -0,0 +1,225 @@
+package com.mhx.encryption.util.ecc;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.StandardDSAEncoding;
+import org.bouncycastle.jcajce.provider.asymmetric.util.ECUtil;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * @className EcdsaBatchVerifier
+ * @description SHA256withECDSA 批量验签。条目先按公钥分组，每个公钥只转换一次为 BC 的公钥参数，组内所有条目共用同一个公钥点实例，
+ *              u1G + u2Q 的 wNAF 预计算表保存在该实例上，随使用次数增加还会升级为更宽的窗口；
+ *              按组排好的条目切成区间在 ForkJoin 线程池中并行验证，每个线程使用自己的 ECDSASigner 和 SHA256Digest，
+ *              不再每条调用 Signature.getInstance。条目数低于阈值或线程池并行度为 1 时在调用线程上顺序验证。
+ *              结果中置位的下标表示验签失败，包括签名格式错误、公钥无效或为空的条目
+ *              Batch SHA256withECDSA verification. Entries are grouped by public key first, every key is converted to
+ *              BC key parameters once and all entries of a group share one public key point instance, which keeps the
+ *              wNAF tables of u1G + u2Q and is promoted to wider windows as it is used more;
+ *              the grouped entries are cut into ranges verified in parallel on a ForkJoin pool, every thread with its
+ *              own ECDSASigner and SHA256Digest instead of a Signature.getInstance per entry. Below the threshold, or
+ *              when the pool parallelism is 1, the entries are verified on the calling thread.
+ *              Set bits of the result are the entries that failed, including malformed signatures and invalid or
+ *              null keys
+ * @author MuHongXin.
+ * @date 2026/10/19 00:20
+ * @version v1.0.0
+ **/
+
+public class EcdsaBatchVerifier {
+    /**
+     * 默认并行阈值与单个任务的最少条目数：单次验签约 1 毫秒，几十条已足以抵消调度开销
+     *
+     * ------------------------------------------------------------------------------------丨
+     * Default parallel threshold and minimum entries of one task: one verification takes   丨
+     * about a millisecond, a few dozen entries already outweigh the scheduling cost.       丨
+     * ------------------------------------------------------------------------------------丨
+     */
+    public static final int DEFAULT_THRESHOLD = 32;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * @param pool ForkJoin 线程池 | ForkJoin pool
+     * @param threshold 并行阈值（条目数）| parallel threshold in entries
+     */
+    public EcdsaBatchVerifier(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = Math.max(1, threshold);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 上午12:20 2026/10/19
+     * @description: 批量验签，第 i 条为 (contents[i], signs[i], publicKeys[i])，签名为 DER 编码
+     *               Batch verification, entry i is (contents[i], signs[i], publicKeys[i]), signatures are DER encoded
+     * @param contents 消息 | messages
+     * @param signs 签名 | signatures
+     * @param publicKeys 公钥，相同的公钥应尽量使用同一实例（如 EccUtil.decodePublicKey 的缓存）| public keys, preferably one instance per key (such as the EccUtil.decodePublicKey cache)
+     * @return java.util.BitSet 验签失败的条目 | entries that failed
+     **/
+    public BitSet verify(byte[][] contents, byte[][] signs, PublicKey[] publicKeys) {
+        int n = contents.length;
+        if (signs.length != n || publicKeys.length != n) {
+            throw new IllegalArgumentException("消息、签名和公钥的数量不一致! | Messages, signatures and keys differ in count!");
+        }
+
+        // 按公钥分组，空公钥记为 -1 | Group by key, null keys are -1
+        Map<PublicKey, Integer> groups = new HashMap<>();
+        int[] group = new int[n];
+        for (int i = 0; i < n; i++) {
+            PublicKey key = publicKeys[i];
+            if (key == null) {
+                group[i] = -1;
+                continue;
+            }
+            Integer id = groups.get(key);
+            if (id == null) {
+                id = groups.size();
+                groups.put(key, id);
+            }
+            group[i] = id;
+        }
+
+        // 空公钥归入最后一个组（参数为 null，全部失败），再按组计数排序，同组条目在 order 中相邻
+        // Null keys join a last group (null parameters, all fail), then a counting sort by group keeps the entries of a group adjacent in 'order'
+        int groupCount = groups.size() + 1;
+        int[] starts = new int[groupCount + 1];
+        for (int i = 0; i < n; i++) {
+            if (group[i] < 0) {
+                group[i] = groupCount - 1;
+            }
+            starts[group[i] + 1]++;
+        }
+        for (int g = 1; g <= groupCount; g++) {
+            starts[g] += starts[g - 1];
+        }
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[starts[group[i]]++] = i;
+        }
+
+        ECPublicKeyParameters[] parameters = new ECPublicKeyParameters[groupCount];
+        for (Map.Entry<PublicKey, Integer> entry : groups.entrySet()) {
+            parameters[entry.getValue()] = parameters(entry.getKey());
+        }
+
+        boolean[] failed = new boolean[n];
+        Batch batch = new Batch(contents, signs, group, order, parameters, failed);
+        if (n < threshold || pool.getParallelism() <= 1) {
+            batch.verify(0, n);
+        } else {
+            pool.invoke(new RangeTask(batch, 0, n, Math.max(threshold, n / (pool.getParallelism() * 8))));
+        }
+
+        BitSet result = new BitSet(n);
+        for (int i = 0; i < n; i++) {
+            if (failed[i]) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 公钥无效时返回 null，该组的条目全部失败 | null for an invalid key, every entry of its group fails
+     */
+    private static ECPublicKeyParameters parameters(PublicKey publicKey) {
+        try {
+            return (ECPublicKeyParameters) ECUtil.generatePublicKeyParameter(publicKey);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class Batch {
+        private final byte[][] contents;
+        private final byte[][] signs;
+        private final int[] group;
+        private final int[] order;
+        private final ECPublicKeyParameters[] parameters;
+        private final boolean[] failed;
+
+        private Batch(byte[][] contents, byte[][] signs, int[] group, int[] order, ECPublicKeyParameters[] parameters, boolean[] failed) {
+            this.contents = contents;
+            this.signs = signs;
+            this.group = group;
+            this.order = order;
+            this.parameters = parameters;
+            this.failed = failed;
+        }
+
+        /**
+         * 验证 order[from, to) 中的条目，组变化时才重新初始化 ECDSASigner | Verify the entries in order[from, to), the signer is re-initialized only when the group changes
+         */
+        private void verify(int from, int to) {
+            ECDSASigner signer = new ECDSASigner();
+            SHA256Digest digest = new SHA256Digest();
+            byte[] hash = new byte[digest.getDigestSize()];
+            int current = -1;
+            for (int k = from; k < to; k++) {
+                int i = order[k];
+                ECPublicKeyParameters key = parameters[group[i]];
+                if (key == null || contents[i] == null || signs[i] == null) {
+                    failed[i] = true;
+                    continue;
+                }
+                if (group[i] != current) {
+                    signer.init(false, key);
+                    current = group[i];
+                }
+
+                digest.update(contents[i], 0, contents[i].length);
+                digest.doFinal(hash, 0);
+                failed[i] = !verify(signer, key.getParameters().getN(), hash, signs[i]);
+            }
+        }
+
+        private static boolean verify(ECDSASigner signer, BigInteger n, byte[] hash, byte[] sign) {
+            BigInteger[] rs;
+            try {
+                rs = StandardDSAEncoding.INSTANCE.decode(n, sign);
+            } catch (Exception e) {
+                return false;
+            }
+            return signer.verifySignature(hash, rs[0], rs[1]);
+        }
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Batch batch;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        private RangeTask(Batch batch, int from, int to, int grain) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                batch.verify(from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(batch, from, middle, grain), new RangeTask(batch, middle, to, grain));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.mhx.encryption.util.keypair;
+
+import com.mhx.encryption.util.ecc.EccUtil;
+import com.mhx.encryption.util.rsa.RsaUtils;
+import com.mhx.encryption.util.sm.SM2KeyPair;
+import com.mhx.encryption.util.sm.SM2Util;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @className KeyPairFactory
+ * @description 密钥对工厂：SM2、ECC 和各 RSA 模数长度分别使用独立的预生成池，没有配置池的算法或长度直接生成。
+ *              每个密钥对只交给一个调用方
+ *              Key pair factory: SM2, ECC and every RSA modulus length use their own pre-generation
+ *              pool, algorithms or lengths without a pool are generated directly. Every key pair is handed to one
+ *              caller only
+ * @author MuHongXin.
+ * @date 2026/10/19 02:10
+ * @version v1.0.0
+ **/
+
+public class KeyPairFactory implements AutoCloseable {
+    private final KeyPairPool<SM2KeyPair> sm2;
+    private final KeyPairPool<KeyPair> ecc;
+    private final Map<Integer, KeyPairPool<KeyPair>> rsa;
+
+    /**
+     * 不使用预生成池，所有密钥对都直接生成 | No pre-generation pools, every key pair is generated directly
+     */
+    public KeyPairFactory() {
+        this(null, null, Collections.emptyMap());
+    }
+
+    /**
+     * @param sm2 SM2 密钥对池，为 null 时直接生成 | SM2 pool, generated directly when null
+     * @param ecc ECC 密钥对池，为 null 时直接生成 | ECC pool, generated directly when null
+     * @param rsa RSA 模数长度 -> 密钥对池 | RSA modulus length -> pool
+     */
+    public KeyPairFactory(KeyPairPool<SM2KeyPair> sm2, KeyPairPool<KeyPair> ecc, Map<Integer, KeyPairPool<KeyPair>> rsa) {
+        this.sm2 = sm2;
+        this.ecc = ecc;
+        this.rsa = new TreeMap<>(rsa);
+    }
+
+    public static KeyPairPool<SM2KeyPair> sm2Pool(int capacity, int producerCount) {
+        return new KeyPairPool<>("sm2", SM2Util::generateKeyPair, capacity, producerCount);
+    }
+
+    public static KeyPairPool<KeyPair> eccPool(int capacity, int producerCount) {
+        return new KeyPairPool<>("ecc", EccUtil::genKeyPair, capacity, producerCount);
+    }
+
+    public static KeyPairPool<KeyPair> rsaPool(int keySize, int capacity, int producerCount) {
+        return new KeyPairPool<>("rsa-" + keySize, () -> {
+            try {
+                return RsaUtils.generateKeyPair(keySize);
+            } catch (GeneralSecurityException e) {
+                throw new GenerationFailure(e);
+            }
+        }, capacity, producerCount);
+    }
+
+    public void start() {
+        for (KeyPairPool<?> pool : pools()) {
+            pool.start();
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 上午2:10 2026/10/19
+     * @description: SM2 密钥对，十六进制公钥（非压缩点）和私钥
+     *               SM2 key pair, hex public key (uncompressed point) and private key
+     * @return com.mhx.encryption.util.sm.SM2KeyPair
+     **/
+    public SM2KeyPair sm2() {
+        return sm2 != null ? sm2.take() : SM2Util.generateKeyPair();
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 上午2:10 2026/10/19
+     * @description: ECC 256 位密钥对，与 EccUtil.genKeyPair 相同，生成失败时为 null
+     *               ECC 256 bit key pair as EccUtil.genKeyPair, null when the generation fails
+     * @return java.security.KeyPair
+     **/
+    public KeyPair ecc() {
+        return ecc != null ? ecc.take() : EccUtil.genKeyPair();
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 上午2:10 2026/10/19
+     * @description: RSA 密钥对，公钥指数 65537，私钥为 CRT 形式；该长度没有预生成池时直接生成。
+     *               队列为空、在当前线程上生成失败时抛出原始的 GeneralSecurityException
+     *               RSA key pair, public exponent 65537, the private key in CRT form; generated directly when the
+     *               length has no pool. A failed generation on an empty queue throws the original
+     *               GeneralSecurityException
+     * @param keySize 模数长度（比特）| modulus length in bits
+     * @return java.security.KeyPair
+     **/
+    public KeyPair rsa(int keySize) throws GeneralSecurityException {
+        KeyPairPool<KeyPair> pool = rsa.get(keySize);
+        if (pool == null) {
+            return RsaUtils.generateKeyPair(keySize);
+        }
+
+        try {
+            return pool.take();
+        } catch (GenerationFailure e) {
+            throw (GeneralSecurityException) e.getCause();
+        }
+    }
+
+    /**
+     * 所有预生成池，用于导出指标 | All pre-generation pools, for the metrics
+     */
+    public List<KeyPairPool<?>> pools() {
+        List<KeyPairPool<?>> pools = new ArrayList<>();
+        if (sm2 != null) {
+            pools.add(sm2);
+        }
+        if (ecc != null) {
+            pools.add(ecc);
+        }
+        pools.addAll(rsa.values());
+        return pools;
+    }
+
+    @Override
+    public void close() {
+        for (KeyPairPool<?> pool : pools()) {
+            pool.close();
+        }
+    }
+
+    private static final class GenerationFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private GenerationFailure(GeneralSecurityException cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.mhx.encryption.util.keypair;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * @className KeyPairPool
+ * @description 密钥对预生成池。后台低优先级线程在空闲 CPU 上生成密钥对并放入有界队列，每个密钥对只会被取出一次；
+ *              队列为空时在请求线程上直接生成，不等待后台线程。记录后台生成耗时（补充延迟）、命中和回退数量
+ *              Key pair pre-generation pool. Low priority background threads generate key pairs on idle CPUs into a
+ *              bounded queue, every pair is taken exactly once; when the queue is empty the pair is generated on the
+ *              request thread instead of waiting for the producers. Records the background generation time (refill
+ *              latency) and the hit and fallback counts
+ * @author MuHongXin.
+ * @date 2026/10/19 02:10
+ * @version v1.0.0
+ **/
+
+public class KeyPairPool<T> implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(KeyPairPool.class);
+
+    /**
+     * 生成失败后后台线程的等待时间，避免在持续失败时空转
+     *
+     * -----------------------------------------------------------------------------丨
+     * Pause of a producer after a failed generation, so lasting failures do not spin. 丨
+     * -----------------------------------------------------------------------------丨
+     */
+    private static final long FAILURE_BACKOFF_MILLIS = 1000;
+
+    private final String name;
+
+    /**
+     * 密钥对生成方法，失败时返回 null 或抛出运行时异常
+     *
+     * --------------------------------------------------------------------------丨
+     * Key pair generator, returns null or throws a runtime exception on failure.  丨
+     * --------------------------------------------------------------------------丨
+     */
+    private final Supplier<T> generator;
+
+    /**
+     * 已生成、尚未取出的密钥对
+     *
+     * -------------------------------------------------丨
+     * Generated key pairs not taken yet.               丨
+     * -------------------------------------------------丨
+     */
+    private final BlockingQueue<T> queue;
+
+    /**
+     * 后台生成线程
+     *
+     * ----------------------------丨
+     * Background producers.       丨
+     * ----------------------------丨
+     */
+    private final List<Thread> producers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * 后台生成数量与总耗时、从队列取出的数量、队列为空时直接生成的数量
+     *
+     * ---------------------------------------------------------------------------------------------丨
+     * Pairs produced in the background and their total time, pairs taken from the queue, and pairs    丨
+     * generated inline on an empty queue.                                                             丨
+     * ---------------------------------------------------------------------------------------------丨
+     */
+    private final LongAdder produced = new LongAdder();
+    private final LongAdder refillNanos = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * @param name 名称，用于线程名和日志 | name of the threads and in logs
+     * @param generator 密钥对生成方法 | key pair generator
+     * @param capacity 队列深度 | queue depth
+     * @param producerCount 后台生成线程数 | number of background producers
+     */
+    public KeyPairPool(String name, Supplier<T> generator, int capacity, int producerCount) {
+        if (capacity <= 0 || producerCount <= 0) {
+            throw new IllegalArgumentException("队列容量和生成线程数必须大于0! | The capacity and the producer count must be greater than 0!");
+        }
+
+        this.name = name;
+        this.generator = generator;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        for (int i = 0; i < producerCount; i++) {
+            Thread producer = new Thread(this::produce, "key-pair-" + name + "-" + i);
+            producer.setDaemon(true);
+            producer.setPriority(Thread.MIN_PRIORITY);
+            producers.add(producer);
+        }
+    }
+
+    public void start() {
+        running = true;
+        for (Thread producer : producers) {
+            producer.start();
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 上午2:10 2026/10/19
+     * @description: 取出一个密钥对，队列为空时在当前线程上生成；取出的密钥对不会再交给其他调用方
+     *               Take one key pair, generated on the current thread when the queue is empty; a pair taken is never
+     *               handed to another caller
+     * @return T 密钥对，生成失败时为生成方法的结果（如 null）| key pair, the generator result (such as null) on failure
+     **/
+    public T take() {
+        T keyPair = queue.poll();
+        if (keyPair != null) {
+            hits.increment();
+            return keyPair;
+        }
+
+        fallbacks.increment();
+        return generator.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        for (Thread producer : producers) {
+            producer.interrupt();
+        }
+        queue.clear();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public int capacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    public long producedCount() {
+        return produced.sum();
+    }
+
+    public long refillNanos() {
+        return refillNanos.sum();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long fallbackCount() {
+        return fallbacks.sum();
+    }
+
+    private void produce() {
+        try {
+            while (running) {
+                long start = System.nanoTime();
+                T keyPair = generate();
+                if (keyPair == null) {
+                    TimeUnit.MILLISECONDS.sleep(FAILURE_BACKOFF_MILLIS);
+                    continue;
+                }
+                refillNanos.add(System.nanoTime() - start);
+                produced.increment();
+
+                // 队列已满时阻塞，不占用 CPU | Blocks while the queue is full without using CPU
+                queue.put(keyPair);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private T generate() {
+        try {
+            T keyPair = generator.get();
+            if (keyPair == null) {
+                logger.warn("produce|{}|密钥对生成失败 | Key pair generation failed", name);
+            }
+            return keyPair;
+        } catch (RuntimeException e) {
+            logger.warn("produce|{}|密钥对生成失败 | Key pair generation failed:", name, e);
+            return null;
+        }
+    }
+}
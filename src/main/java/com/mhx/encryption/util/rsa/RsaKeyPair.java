@@ -0,0 +1,30 @@
+package com.mhx.encryption.util.rsa;
+
+/**
+ * @className RsaKeyPair
+ * @description RSA密钥对，公钥为 X.509、私钥为 PKCS#8（含 CRT 参数），均为 Base64
+ *              RSA key pair, X.509 public key and PKCS#8 private key (with the CRT parameters), both Base64
+ * @author MuHongXin.
+ * @date 2026/10/19 01:20
+ * @version v1.0.0
+ **/
+
+public class RsaKeyPair {
+    /**
+     * 公钥/私钥
+     */
+    private final String publicKey, privateKey;
+
+    public RsaKeyPair(String publicKey, String privateKey) {
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+    }
+
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public String getPrivateKey() {
+        return privateKey;
+    }
+}
@@ -1,10 +1,465 @@
 package com.mhx.encryption.util.rsa;
 
+import com.mhx.encryption.util.cache.BoundedCache;
+import com.mhx.encryption.util.cipher.BatchResult;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.RSAKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.PSSParameterSpec;
+import java.security.spec.RSAKeyGenParameterSpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.List;
+
 /**
  * @author MuHongXin.
- * @Description:
+ * @Description: RSA加密算法工具：RSAES-OAEP 加解密和 RSASSA-PSS 签名，摘要与 MGF1 均为 SHA-256，PSS 盐长 32 字节。
+ *               公钥（X.509）和私钥（PKCS#8）按编码的 SHA-256 指纹缓存解析结果，缓存中不保存私钥编码本身；
+ *               私钥使用 CRT 形式（RSAPrivateCrtKey），私钥运算按中国剩余定理分成两个一半长度的模幂；
+ *               每个线程复用自己的 Cipher 和 Signature 实例，每次只按密钥重新初始化，不再调用 getInstance。
+ *               密钥和密文、签名在字符串接口中为 Base64
+ *               RSA utilities: RSAES-OAEP encryption and RSASSA-PSS signatures, SHA-256 digest and MGF1, 32 byte PSS salt.
+ *               Parsed public (X.509) and private (PKCS#8) keys are cached by the SHA-256 fingerprint of their
+ *               encoding, the cache keeps no private key encoding itself; private keys are in CRT form
+ *               (RSAPrivateCrtKey), so private key operations run as two half size modular exponentiations;
+ *               every thread reuses its own Cipher and Signature, only re-initialized with the key instead of
+ *               another getInstance. Keys, cipher texts and signatures are Base64 in the String methods
  * @data 2024/5/8 15:12
  */
 
 public class RsaUtils {
+    private static final Logger logger = LoggerFactory.getLogger(RsaUtils.class);
+
+    private static final String KEY_ALGORITHM = "RSA";
+
+    /**
+     * 默认密钥长度 | Default key size
+     */
+    public static final int DEFAULT_KEY_SIZE = 2048;
+
+    /**
+     * RSAES-OAEP，显式指定 MGF1 使用 SHA-256：JCE 的 OAEPWithSHA-256AndMGF1Padding 默认 MGF1 为 SHA-1，与多数合作方实现不一致
+     *
+     * -----------------------------------------------------------------------------------------------------------丨
+     * RSAES-OAEP with MGF1 explicitly on SHA-256: the JCE OAEPWithSHA-256AndMGF1Padding defaults MGF1 to SHA-1,  丨
+     * which most partner implementations do not.                                                                 丨
+     * -----------------------------------------------------------------------------------------------------------丨
+     */
+    private static final String OAEP_TRANSFORMATION = "RSA/ECB/OAEPPadding";
+    private static final OAEPParameterSpec OAEP_PARAMETERS = new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+
+    /**
+     * OAEP 的填充开销 2 * 32 + 2 字节 | OAEP padding overhead, 2 * 32 + 2 bytes
+     */
+    private static final int OAEP_OVERHEAD = 2 * 32 + 2;
+
+    /**
+     * RSASSA-PSS，SHA-256 / MGF1-SHA-256 / 32 字节盐
+     *
+     * -------------------------------------------------丨
+     * RSASSA-PSS, SHA-256 / MGF1-SHA-256 / 32 byte salt. 丨
+     * -------------------------------------------------丨
+     */
+    private static final String PSS_ALGORITHM = "RSASSA-PSS";
+    private static final PSSParameterSpec PSS_PARAMETERS = new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 32, 1);
+
+    private static final int MAXIMUM_KEYS = 256;
+
+    /**
+     * 密钥缓存：编码的 SHA-256 指纹 -> 解析后的密钥
+     */
+    private static final BoundedCache<ByteBuffer, PublicKey> PUBLIC_KEY_CACHE = new BoundedCache<>(MAXIMUM_KEYS);
+    private static final BoundedCache<ByteBuffer, PrivateKey> PRIVATE_KEY_CACHE = new BoundedCache<>(MAXIMUM_KEYS);
+
+    /**
+     * 每个线程复用的 Cipher 和 Signature，首次使用时创建
+     */
+    private static final ThreadLocal<Cipher> CIPHERS = new ThreadLocal<>();
+    private static final ThreadLocal<Signature> SIGNATURES = new ThreadLocal<>();
+
+    /**
+     * @Description: 生成 RSA 密钥对，公钥指数 65537，私钥为 CRT 形式
+     *               Generate an RSA key pair, public exponent 65537, the private key in CRT form
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [keySize 模数长度（比特）| modulus length in bits]
+     * @Return: java.security.KeyPair
+     */
+    public static KeyPair generateKeyPair(int keySize) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+        generator.initialize(new RSAKeyGenParameterSpec(keySize, RSAKeyGenParameterSpec.F4));
+        return generator.generateKeyPair();
+    }
+
+    /**
+     * @Description: 密钥编码为 Base64（公钥 X.509，私钥 PKCS#8）
+     *               Encode a key as Base64 (X.509 public key, PKCS#8 private key)
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [key 密钥 | key]
+     * @Return: java.lang.String
+     */
+    public static String encodeKey(java.security.Key key) {
+        return Base64.getEncoder().encodeToString(key.getEncoded());
+    }
+
+    /**
+     * @Description: 解析 X.509 公钥，按指纹缓存，无效公钥不缓存
+     *               Parse an X.509 public key, cached by fingerprint, invalid keys are not cached
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [encoded X.509 编码 | X.509 encoding]
+     * @Return: java.security.PublicKey
+     */
+    public static PublicKey decodePublicKey(byte[] encoded) throws GeneralSecurityException {
+        try {
+            return PUBLIC_KEY_CACHE.get(fingerprint(encoded), k -> {
+                try {
+                    return KeyFactory.getInstance(KEY_ALGORITHM).generatePublic(new X509EncodedKeySpec(encoded));
+                } catch (GeneralSecurityException e) {
+                    throw new KeyFailure(e);
+                }
+            });
+        } catch (KeyFailure e) {
+            throw (GeneralSecurityException) e.getCause();
+        }
+    }
+
+    /**
+     * @Description: 解析 PKCS#8 私钥，按指纹缓存，无效私钥不缓存；缺少 CRT 参数的私钥仍可使用，但私钥运算慢约 3 倍
+     *               Parse a PKCS#8 private key, cached by fingerprint, invalid keys are not cached; a key without the CRT
+     *               parameters still works, but its private key operations are about 3 times slower
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [encoded PKCS#8 编码 | PKCS#8 encoding]
+     * @Return: java.security.PrivateKey
+     */
+    public static PrivateKey decodePrivateKey(byte[] encoded) throws GeneralSecurityException {
+        try {
+            return PRIVATE_KEY_CACHE.get(fingerprint(encoded), k -> {
+                try {
+                    PrivateKey key = KeyFactory.getInstance(KEY_ALGORITHM).generatePrivate(new PKCS8EncodedKeySpec(encoded));
+                    if (!(key instanceof RSAPrivateCrtKey)) {
+                        logger.warn("decodePrivateKey|RSA私钥没有 CRT 参数 | The RSA private key has no CRT parameters");
+                    }
+                    return key;
+                } catch (GeneralSecurityException e) {
+                    throw new KeyFailure(e);
+                }
+            });
+        } catch (KeyFailure e) {
+            throw (GeneralSecurityException) e.getCause();
+        }
+    }
+
+    public static PublicKey decodePublicKey(String key) throws GeneralSecurityException {
+        return decodePublicKey(base64(key));
+    }
+
+    public static PrivateKey decodePrivateKey(String key) throws GeneralSecurityException {
+        return decodePrivateKey(base64(key));
+    }
+
+    public static BoundedCache<ByteBuffer, PublicKey> publicKeyCache() {
+        return PUBLIC_KEY_CACHE;
+    }
+
+    public static BoundedCache<ByteBuffer, PrivateKey> privateKeyCache() {
+        return PRIVATE_KEY_CACHE;
+    }
+
+    /**
+     * @Description: 密钥编码的 SHA-256 指纹
+     *               SHA-256 fingerprint of a key encoding
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [encoded 密钥编码 | key encoding]
+     * @Return: java.nio.ByteBuffer
+     */
+    public static ByteBuffer fingerprint(byte[] encoded) {
+        SHA256Digest digest = new SHA256Digest();
+        digest.update(encoded, 0, encoded.length);
+        byte[] out = new byte[digest.getDigestSize()];
+        digest.doFinal(out, 0);
+        return ByteBuffer.wrap(out);
+    }
+
+    /**
+     * @Description: 单次 OAEP 加密的最大明文长度：模数字节数 - 66
+     *               Maximum plaintext length of one OAEP encryption: modulus bytes - 66
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [key RSA 密钥 | RSA key]
+     * @Return: int
+     */
+    public static int maximumPlaintextLength(java.security.Key key) {
+        return (((RSAKey) key).getModulus().bitLength() + 7) / 8 - OAEP_OVERHEAD;
+    }
+
+    /**
+     * @Description: 二进制公钥加密 data[off, off + len)，RSAES-OAEP
+     *               Binary public key encryption of data[off, off + len), RSAES-OAEP
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [data 明文 | plaintext, off 偏移量 | offset, len 长度 | length, publicKey 公钥 | public key]
+     * @Return: byte[]
+     */
+    public static byte[] encrypt(byte[] data, int off, int len, PublicKey publicKey) throws GeneralSecurityException {
+        Cipher cipher = cipher();
+        cipher.init(Cipher.ENCRYPT_MODE, publicKey, OAEP_PARAMETERS);
+        return cipher.doFinal(data, off, len);
+    }
+
+    /**
+     * @Description: 二进制私钥解密 data[off, off + len)，RSAES-OAEP；填充校验失败时抛出 BadPaddingException
+     *               Binary private key decryption of data[off, off + len), RSAES-OAEP; a failed padding check throws
+     *               BadPaddingException
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [data 密文 | cipher text, off 偏移量 | offset, len 长度 | length, privateKey 私钥 | private key]
+     * @Return: byte[]
+     */
+    public static byte[] decrypt(byte[] data, int off, int len, PrivateKey privateKey) throws GeneralSecurityException {
+        Cipher cipher = cipher();
+        cipher.init(Cipher.DECRYPT_MODE, privateKey, OAEP_PARAMETERS);
+        return cipher.doFinal(data, off, len);
+    }
+
+    /**
+     * @Description: 二进制私钥签名 data[off, off + len)，RSASSA-PSS
+     *               Binary private key signature of data[off, off + len), RSASSA-PSS
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [data 消息 | message, off 偏移量 | offset, len 长度 | length, privateKey 私钥 | private key]
+     * @Return: byte[]
+     */
+    public static byte[] sign(byte[] data, int off, int len, PrivateKey privateKey) throws GeneralSecurityException {
+        Signature signature = signature();
+        signature.initSign(privateKey);
+        signature.update(data, off, len);
+        return signature.sign();
+    }
+
+    /**
+     * @Description: 二进制公钥验签 data[off, off + len)，RSASSA-PSS；签名格式不合法时返回 false
+     *               Binary public key verification of data[off, off + len), RSASSA-PSS; a malformed signature returns false
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [data 消息 | message, off 偏移量 | offset, len 长度 | length, sign 签名 | signature, publicKey 公钥 | public key]
+     * @Return: boolean
+     */
+    public static boolean verify(byte[] data, int off, int len, byte[] sign, PublicKey publicKey) throws GeneralSecurityException {
+        Signature signature = signature();
+        signature.initVerify(publicKey);
+        signature.update(data, off, len);
+        try {
+            return signature.verify(sign);
+        } catch (SignatureException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @Description: 公钥加密，明文按 UTF-8 编码，返回 Base64 密文
+     *               Public key encryption of the UTF-8 plaintext, returning Base64 cipher text
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [plaintext 明文 | plaintext, publicKey Base64 公钥 | Base64 public key]
+     * @Return: java.lang.String
+     */
+    public static String encrypt(String plaintext, String publicKey) throws GeneralSecurityException {
+        byte[] data = plaintext.getBytes(StandardCharsets.UTF_8);
+        return Base64.getEncoder().encodeToString(encrypt(data, 0, data.length, decodePublicKey(publicKey)));
+    }
+
+    /**
+     * @Description: 私钥解密 Base64 密文，返回 UTF-8 明文
+     *               Private key decryption of Base64 cipher text, returning the UTF-8 plaintext
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [cipherText Base64 密文 | Base64 cipher text, privateKey Base64 私钥 | Base64 private key]
+     * @Return: java.lang.String
+     */
+    public static String decrypt(String cipherText, String privateKey) throws GeneralSecurityException {
+        byte[] data = base64(cipherText);
+        return new String(decrypt(data, 0, data.length, decodePrivateKey(privateKey)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @Description: 私钥签名，消息按 UTF-8 编码，返回 Base64 签名
+     *               Private key signature of the UTF-8 message, returning a Base64 signature
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [message 消息 | message, privateKey Base64 私钥 | Base64 private key]
+     * @Return: java.lang.String
+     */
+    public static String sign(String message, String privateKey) throws GeneralSecurityException {
+        byte[] data = message.getBytes(StandardCharsets.UTF_8);
+        return Base64.getEncoder().encodeToString(sign(data, 0, data.length, decodePrivateKey(privateKey)));
+    }
+
+    /**
+     * @Description: 公钥验签，签名不是 Base64 或格式不合法时返回 false
+     *               Public key verification, a signature that is no Base64 or malformed returns false
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [message 消息 | message, signature Base64 签名 | Base64 signature, publicKey Base64 公钥 | Base64 public key]
+     * @Return: boolean
+     */
+    public static boolean verify(String message, String signature, String publicKey) throws GeneralSecurityException {
+        PublicKey key = decodePublicKey(publicKey);
+        byte[] sign;
+        try {
+            sign = base64(signature);
+        } catch (InvalidKeyException e) {
+            return false;
+        }
+        byte[] data = message.getBytes(StandardCharsets.UTF_8);
+        return verify(data, 0, data.length, sign, key);
+    }
+
+    /**
+     * @Description: 批量公钥加密，公钥只解析一次，整批复用当前线程的 Cipher；公钥无效时所有项都失败
+     *               Batch public key encryption, the key is parsed once and the cipher of this thread is reused for
+     *               the whole batch; every item fails when the key is invalid
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [plaintexts 明文 | plaintexts, publicKey Base64 公钥 | Base64 public key]
+     * @Return: com.mhx.encryption.util.cipher.BatchResult
+     */
+    public static BatchResult encrypt(List<String> plaintexts, String publicKey) {
+        BatchResult result = new BatchResult(plaintexts.size());
+        PublicKey key;
+        try {
+            key = decodePublicKey(publicKey);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            return failAll(result, "公钥无效! | Invalid public key!");
+        }
+
+        int maximum = maximumPlaintextLength(key);
+        for (int i = 0; i < plaintexts.size(); i++) {
+            String plaintext = plaintexts.get(i);
+            if (plaintext == null) {
+                result.failure(i, "加密内容不能为空! | The encryption content cannot be empty!");
+                continue;
+            }
+
+            byte[] data = plaintext.getBytes(StandardCharsets.UTF_8);
+            if (data.length > maximum) {
+                result.failure(i, "明文超过 " + maximum + " 字节! | The plaintext exceeds " + maximum + " bytes!");
+                continue;
+            }
+
+            try {
+                result.success(i, Base64.getEncoder().encodeToString(encrypt(data, 0, data.length, key)));
+            } catch (GeneralSecurityException e) {
+                result.failure(i, e.getMessage());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @Description: 批量私钥签名，私钥只解析一次，整批复用当前线程的 Signature；私钥无效时所有项都失败
+     *               Batch private key signatures, the key is parsed once and the signature of this thread is reused
+     *               for the whole batch; every item fails when the key is invalid
+     * @Author: MuHongXin
+     * @DateTime: 上午1:20 2026/10/19
+     * @Params: [messages 消息 | messages, privateKey Base64 私钥 | Base64 private key]
+     * @Return: com.mhx.encryption.util.cipher.BatchResult
+     */
+    public static BatchResult sign(List<String> messages, String privateKey) {
+        BatchResult result = new BatchResult(messages.size());
+        PrivateKey key;
+        try {
+            key = decodePrivateKey(privateKey);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            return failAll(result, "私钥无效! | Invalid private key!");
+        }
+
+        for (int i = 0; i < messages.size(); i++) {
+            String message = messages.get(i);
+            if (message == null) {
+                result.failure(i, "签名内容不能为空! | The signature content cannot be empty!");
+                continue;
+            }
+
+            try {
+                byte[] data = message.getBytes(StandardCharsets.UTF_8);
+                result.success(i, Base64.getEncoder().encodeToString(sign(data, 0, data.length, key)));
+            } catch (GeneralSecurityException e) {
+                result.failure(i, e.getMessage());
+            }
+        }
+
+        return result;
+    }
+
+    private static Cipher cipher() throws GeneralSecurityException {
+        Cipher cipher = CIPHERS.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(OAEP_TRANSFORMATION);
+            CIPHERS.set(cipher);
+        }
+        return cipher;
+    }
+
+    /**
+     * PSS 参数只在创建时设置一次，之后的 initSign / initVerify 保留参数 | The PSS parameters are set once at creation and kept by later initSign / initVerify
+     */
+    private static Signature signature() throws GeneralSecurityException {
+        Signature signature = SIGNATURES.get();
+        if (signature == null) {
+            signature = Signature.getInstance(PSS_ALGORITHM);
+            signature.setParameter(PSS_PARAMETERS);
+            SIGNATURES.set(signature);
+        }
+        return signature;
+    }
+
+    /**
+     * Base64 解码，格式错误时抛出 InvalidKeyException | Base64 decoding, malformed input throws InvalidKeyException
+     */
+    private static byte[] base64(String value) throws InvalidKeyException {
+        try {
+            return Base64.getDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidKeyException("Base64 格式错误! | Malformed Base64!");
+        }
+    }
+
+    private static BatchResult failAll(BatchResult result, String error) {
+        for (int i = 0; i < result.size(); i++) {
+            result.failure(i, error);
+        }
+        return result;
+    }
+
+    private static final class KeyFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private KeyFailure(GeneralSecurityException cause) {
+            super(cause);
+        }
+    }
 }
@@ -35,13 +35,24 @@ public class Cipher {
     private ECPoint p2;
 
     /**
-     * 定义 SM3 摘要算法对象 sm3keybase
+     * 处理完 Z = x2 || y2 这一个完整分组后的 SM3 中间状态，KDF 的每个 32 字节密钥块只需再做一次压缩
      *
-     * ----------------------------------------------------丨
-     * Define an SM3 digest algorithm object 'sm3keybase'  丨
-     * ----------------------------------------------------丨
+     * ---------------------------------------------------------------------------------------------------丨
+     * SM3 midstate after the single full block Z = x2 || y2, every 32 byte KDF block only needs one more  丨
+     * compression.                                                                                        丨
+     * ---------------------------------------------------------------------------------------------------丨
      */
-    private SM3Digest sm3keybase;
+    private final int[] kdfState = new int[8];
+
+    /**
+     * KDF 使用的压缩函数引擎和计数器分组（ct || 0x80 || 0 ... || 544 位消息长度）
+     *
+     * ---------------------------------------------------------------------------------------丨
+     * Compression engine of the KDF and its counter block (ct || 0x80 || 0 ... || 544 bits).  丨
+     * ---------------------------------------------------------------------------------------丨
+     */
+    private final SM3Engine kdfEngine = new SM3Engine();
+    private final int[] kdfBlock = new int[16];
 
     /**
      * 定义 SM3 摘要算法对象 sm3c3
@@ -53,22 +64,33 @@ public class Cipher {
     private SM3Digest sm3c3;
 
     /**
-     * 定义字节数组 key
+     * Z = x2 || y2，p2 的坐标各 32 字节，计算 c3 时也使用
      *
-     * ---------------------------丨
-     * Define a byte array 'key'  丨
-     * ---------------------------丨
+     * ----------------------------------------------------------------------丨
+     * Z = x2 || y2, the 32 byte coordinates of p2, also used for c3.        丨
+     * ----------------------------------------------------------------------丨
      */
-    private byte key[];
+    private final byte[] z = new byte[64];
 
     /**
-     * 定义字节型变量 keyOff
+     * 批量生成的密钥流，最多 KEYSTREAM_BLOCKS 个 32 字节密钥块，数组按需增长
      *
-     * ---------------------------------丨
-     * Define a byte variable 'keyOff'  丨
-     * ---------------------------------丨
+     * --------------------------------------------------------------------------------------------------丨
+     * Keystream generated in batches of up to KEYSTREAM_BLOCKS 32 byte blocks, the array grows on demand.丨
+     * --------------------------------------------------------------------------------------------------丨
+     */
+    private static final int KEYSTREAM_BLOCKS = 64;
+    private byte[] key;
+
+    /**
+     * 密钥流中下一个未使用字节的偏移量和已生成的长度
+     *
+     * ------------------------------------------------------------------------------丨
+     * Offset of the next unused keystream byte and the length generated so far.     丨
+     * ------------------------------------------------------------------------------丨
      */
-    private byte keyOff;
+    private int keyOff;
+    private int keyLen;
 
     /**
      * @author: MuHongXin.
@@ -79,8 +101,8 @@ public class Cipher {
      *               具体步骤：
      *
      *               1. 将当前数据块数量 ct 设为 1。
-     *               2. 创建一个长度为 32 的新字节数组 key，用于存储密钥数据。
-     *               3. 将密钥偏移量 keyOff 设为 0，表示当前还未开始使用密钥数组中的任何数据。
+     *               2. 创建长度为 32 的密钥流数组 key，批量生成时按需增长到最多 KEYSTREAM_BLOCKS 个密钥块。
+     *               3. 将密钥偏移量 keyOff 和已生成长度 keyLen 设为 0，表示当前还没有可用的密钥流。
      *
      *               该构造函数是 Cipher 类的一个初始状态，当对象被创建时会调用该函数，然后会通过其他方法逐渐更新对象的状态，
      *               比如设置密钥、加密数据、重置状态等等。
@@ -89,8 +111,8 @@ public class Cipher {
      *               Specific steps:                                                                                            丨
      *                                                                                                                          丨
      *               1. Set the current number of data blocks ct to 1.                                                          丨
-     *               2. Creates a new byte array key of length 32 to store the key data.                                        丨
-     *               3. Setting the key offset key off to 0 indicates that no data in the key array is currently being used.    丨
+     *               2. Create the keystream array key of length 32, it grows up to KEYSTREAM_BLOCKS blocks for batches.        丨
+     *               3. Set the key offset keyOff and the generated length keyLen to 0, no keystream is available yet.          丨
      *                                                                                                                          丨
      *               This constructor is an initial state of the cipher class that is called when the object is created,        丨
      *               and then gradually updates the state of the object through other methods, such as setting the key,         丨
@@ -101,11 +123,12 @@ public class Cipher {
         // 将 ct 设为 1，表示当前数据块数量为 1 | Set 'ct' to 1, indicating the number of current data blocks is 1
         this.ct = 1;
 
-        // 创建长度为 32 的新字节数组 key | Create a new byte array 'key' with length 32
+        // 创建长度为 32 的密钥流数组 key | Create the keystream array 'key' with length 32
         this.key = new byte[32];
 
-        // 将 keyOff 设为 0，表示当前密钥偏移量为 0 | Set 'keyOff' to 0, indicating the current key offset is 0
+        // 当前没有可用的密钥流 | No keystream is available yet
         this.keyOff = 0;
+        this.keyLen = 0;
     }
 
     /**
@@ -116,97 +139,141 @@ public class Cipher {
      *
      *               具体步骤：
      *
-     *               1. 初始化 SM3Digest 对象 sm3keybase 和 sm3c3。
-     *               2. 获取椭圆曲线上点 p2 的横坐标，并转换为长度为 32 的字节数组，然后更新到 sm3keybase 和 sm3c3 对象中。
-     *               3. 获取椭圆曲线上点 p2 的纵坐标，并转换为长度为 32 的字节数组，然后更新到 sm3keybase 对象中。
-     *               4. 将当前数据块数量 ct 设为 1。
-     *               5. 调用 nextKey 方法，生成加密密钥。
+     *               1. 获取椭圆曲线上点 p2 的横坐标 x2 和纵坐标 y2，分别转换为长度为 32 的字节数组。
+     *               2. 初始化 SM3Digest 对象 sm3c3，并将 x2 更新到 sm3c3 中。
+     *               3. 将 Z = x2 || y2 恰好作为一个 64 字节分组压缩，保存压缩后的中间状态 kdfState。
+     *               4. 将当前数据块数量 ct 设为 1，清空已生成的密钥流。
      *
      *               该函数是 Cipher 类的一个重置状态，用于在切换密钥或加密数据块时重置 Cipher 对象的状态，以便下一次加密或解密操作能够顺利进行。
-     *               在重置状态的过程中，还会更新 SM3 摘要状态和生成下一个加密密钥。
+     *               密钥流在加密或解密时按需批量生成。
      *
      * -------------------------------------------------------------------------------------------------------------------------丨
      *               Specific steps:                                                                                            丨
      *                                                                                                                          丨
-     *               1. Example Initialize m3 digest objects sm3keybase and sm3c3.                                              丨
-     *               2. Gets the horizontal coordinate of point p2 on the elliptic curve, converts it to a byte array           丨
-     *               of length 32, and then updates it to sm3keybase and sm3c3 objects.                                         丨
-     *               3. Gets the ordinate of point p2 on the elliptic curve, converts it to a byte array of length 32,          丨
-     *               and then updates it into the sm3keybase object.                                                            丨
-     *               4. Set the current number of data blocks ct to 1.                                                          丨
-     *               5. Invoke the next key method to generate the encryption key.                                              丨
+     *               1. Get the abscissa x2 and the ordinate y2 of point p2 on the elliptic curve, each converted to            丨
+     *               a byte array of length 32.                                                                                 丨
+     *               2. Initialize the SM3 digest object sm3c3 and update it with x2.                                           丨
+     *               3. Compress Z = x2 || y2, which is exactly one 64 byte block, and keep the midstate kdfState.              丨
+     *               4. Set the current number of data blocks ct to 1 and drop any generated keystream.                         丨
      *                                                                                                                          丨
      *               This function is a reset status of the cipher class. It is used to reset the status of the                 丨
      *               cipher object when switching keys or encrypting data blocks, so that the next encryption or                丨
-     *               decryption operation can proceed smoothly. During the state reset process, the m3 summary                  丨
-     *               state is also updated and the next encryption key is generated.                                            丨
+     *               decryption operation can proceed smoothly. The keystream is generated in batches on demand                 丨
+     *               while encrypting or decrypting.                                                                            丨
      * -------------------------------------------------------------------------------------------------------------------------丨
     **/
     private void reset() {
-        // 初始化 sm3keybase 和 sm3c3 对象 | Initialize the 'sm3keybase' and 'sm3c3' objects
-        this.sm3keybase = new SM3Digest();
-        this.sm3c3 = new SM3Digest();
+        // 获取 p2 的横坐标和纵坐标，转换为长度为 32 的字节数组 | Get the coordinates of p2 as byte arrays of length 32
+        System.arraycopy(DataConversionUtils.byteConvert32Bytes(p2.getAffineXCoord().toBigInteger()), 0, z, 0, 32);
+        System.arraycopy(DataConversionUtils.byteConvert32Bytes(p2.getAffineYCoord().toBigInteger()), 0, z, 32, 32);
 
-        // 获取椭圆曲线上点 p2 的横坐标，并转换为长度为 32 的字节数组，然后更新到 sm3keybase 和 sm3c3 对象中 | Get the x-coordinate of point p2 on the elliptic curve, convert it to a byte array with length 32, and then update it to the 'sm3keybase' and 'sm3c3' objects
-        byte p[] = DataConversionUtils.byteConvert32Bytes(p2.getX().toBigInteger());
-        this.sm3keybase.update(p, 0, p.length);
-        this.sm3c3.update(p, 0, p.length);
+        // Z = x2 || y2 恰好是一个分组，压缩后保存中间状态 | Z = x2 || y2 is exactly one block, keep the midstate after it
+        kdfEngine.reset();
+        kdfEngine.processBlock(z, 0);
+        kdfEngine.getState(kdfState, 0);
 
-        // 获取椭圆曲线上点 p2 的纵坐标，并转换为长度为 32 的字节数组，然后更新到 sm3keybase 对象中 | Get the y-coordinate of point p2 on the elliptic curve, convert it to a byte array with length 32, and then update it to the 'sm3keybase' object
-        p = DataConversionUtils.byteConvert32Bytes(p2.getY().toBigInteger());
-        this.sm3keybase.update(p, 0, p.length);
+        restart();
+    }
 
-        // 将 ct 设为 1，表示当前数据块数量为 1 | Set 'ct' to 1, indicating the number of current data blocks is 1
-        this.ct = 1;
+    /**
+     * p2 不变时重新开始：sm3c3 重新输入 x2，ct 设为 1，清空密钥流，Z 之后的中间状态继续沿用
+     *
+     * --------------------------------------------------------------------------------------------------------丨
+     * Restart while p2 is unchanged: sm3c3 starts again with x2, ct is 1 and the keystream is dropped,         丨
+     * the midstate after Z stays valid.                                                                        丨
+     * --------------------------------------------------------------------------------------------------------丨
+     */
+    private void restart() {
+        // 初始化 sm3c3 对象并更新 x2 | Initialize the 'sm3c3' object and update it with x2
+        if (this.sm3c3 == null) {
+            this.sm3c3 = new SM3Digest();
+        } else {
+            this.sm3c3.reset();
+        }
+        this.sm3c3.update(z, 0, 32);
 
-        // 调用 nextKey 方法，生成加密密钥 | Call the 'nextKey' method to generate the encryption key
-        nextKey();
+        // 将 ct 设为 1，清空密钥流 | Set 'ct' to 1 and drop the keystream
+        this.ct = 1;
+        this.keyOff = 0;
+        this.keyLen = 0;
     }
 
     /**
      * @author: MuHongXin.
      * @dateTime:  下午6:33 2022/8/17
-     * @description: 生成SM3密钥
-     *               Generate m3 key
+     * @description: 批量生成 KDF 密钥流
+     *               Generate the KDF keystream in a batch
      *
      *               具体步骤：
      *
-     *               1. 基于 sm3keybase 创建一个 SM3Digest 对象 sm3Digest。
-     *               2. 将当前数据块数量 ct 转换为四个字节，依次将其更新到 SM3Digest 对象 sm3Digest 中。
-     *               3. 调用 SM3Digest 对象的 doFinal 方法，计算 SM3 摘要值，并将结果存储在长度为 32 的字节数组 key 中。
-     *               4. 将密钥偏移量 keyOff 设为 0，表示从 key 数组的起始位置开始使用密钥。
-     *               5. 将当前数据块数量 ct 自增 1，以便下次生成新的密钥。
+     *               1. 每个密钥块为 SM3(Z || ct)，消息共 68 字节，第二个分组固定为 ct || 0x80 || 0 ... || 544 位消息长度。
+     *               2. 从中间状态 kdfState 出发，每个密钥块只需对该分组做一次压缩，不再复制摘要对象。
+     *               3. 依次生成 blocks 个密钥块存入 key（长度不足时扩容），ct 每次自增 1。
+     *               4. 将密钥偏移量 keyOff 设为 0，keyLen 设为生成的字节数。
      *
      * -------------------------------------------------------------------------------------------------------------------------丨
      *               Specific steps:                                                                                            丨
      *                                                                                                                          丨
-     *               1. Create an S3 digest object sm3 digest based on sm3keybase.                                              丨
-     *               2. Convert the current number of data blocks ct into four bytes and update them to the m3 digest           丨
-     *               object sm3 digest in sequence.                                                                             丨
-     *               3. Call the do final method of the m3 digest object to calculate the m3 digest value and store the         丨
-     *               result in the 32 byte array key.                                                                           丨
-     *               4. Set key offset key off to 0, indicating that the key is used from the start position of the key array.  丨
-     *               5. Increase the number of current data blocks ct by 1, so that a new key can be generated next time.       丨
+     *               1. Every key block is SM3(Z || ct), the message is 68 bytes and its second block is always                 丨
+     *               ct || 0x80 || 0 ... || the 544 bit message length.                                                         丨
+     *               2. Starting from the midstate kdfState every key block is one compression of that block,                   丨
+     *               the digest object is no longer copied.                                                                     丨
+     *               3. Generate 'blocks' key blocks into key (grown when too short), increasing ct by 1 for each.              丨
+     *               4. Set key offset keyOff to 0 and keyLen to the number of generated bytes.                                 丨
      * -------------------------------------------------------------------------------------------------------------------------丨
+     *
+     * @param blocks 生成的密钥块数量 | number of key blocks to generate
     **/
-    private void nextKey() {
-        // 基于 sm3keybase 创建一个 SM3Digest 对象 | Create an SM3Digest object 'sm3Digest' based on 'sm3keybase'
-        SM3Digest sm3Digest = new SM3Digest(this.sm3keybase);
+    private void nextKey(int blocks) {
+        if (key.length < blocks * 32) {
+            key = new byte[blocks * 32];
+        }
 
-        // 将 ct 转换为四个字节，依次更新到 sm3Digest 对象中 | Convert 'ct' to four bytes and update them to 'sm3Digest' object one by one
-        sm3Digest.update((byte) (ct >> 24 & 0xff));
-        sm3Digest.update((byte) (ct >> 16 & 0xff));
-        sm3Digest.update((byte) (ct >> 8 & 0xff));
-        sm3Digest.update((byte) (ct & 0xff));
+        int[] block = this.kdfBlock;
+        block[1] = 0x80000000;
+        block[15] = (64 + 4) * 8;
 
-        // 计算 SM3 摘要结果，结果存储在 key 数组中 | Calculate the SM3 digest result and store it in the 'key' array
-        sm3Digest.doFinal(key, 0);
+        for (int i = 0; i < blocks; i++) {
+            block[0] = ct++;
+            kdfEngine.setState(kdfState, 0);
+            kdfEngine.processBlock(block, 0);
+            kdfEngine.getDigest(key, i * 32);
+        }
 
-        // 将密钥偏移量 keyOff 设为 0 | Set the key offset 'keyOff' to 0
         this.keyOff = 0;
+        this.keyLen = blocks * 32;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime:  下午6:33 2022/8/17
+     * @description: 将 data[off, off + len) 与密钥流异或，密钥流用完时按剩余长度批量生成，异或为两个数组之间的紧凑循环，可被 JIT 向量化
+     *
+     * -------------------------------------------------------------------------------------------------------------------------丨
+     *               XOR data[off, off + len) with the keystream, generating the next batch sized to the remaining length       丨
+     *               when it runs out. The XOR is a tight loop over two arrays that the JIT can vectorize.                      丨
+     * -------------------------------------------------------------------------------------------------------------------------丨
+     *
+     * @param data 数据 | data
+     * @param off 偏移量 | offset
+     * @param len 长度 | length
+    **/
+    private void xorKeystream(byte[] data, int off, int len) {
+        while (len > 0) {
+            if (keyOff == keyLen) {
+                nextKey(Math.min(KEYSTREAM_BLOCKS, (len + 31) >>> 5));
+            }
 
-        // 将当前数据块数量 ct 自增 1 | Increase the current data block count 'ct' by 1
-        this.ct++;
+            byte[] key = this.key;
+            int n = Math.min(len, keyLen - keyOff);
+            int k = keyOff;
+            for (int i = 0; i < n; i++) {
+                data[off + i] ^= key[k + i];
+            }
+            keyOff += n;
+            off += n;
+            len -= n;
+        }
     }
 
     /**
@@ -257,8 +324,8 @@ public class Cipher {
         BigInteger k = ecPrivateKeyParameters.getD();
         ECPoint c1 = ecPublicKeyParameters.getQ();
 
-        // 计算 SM2 加密参数 p2 | Calculate the SM2 encryption parameter 'p2'
-        this.p2 = userKey.multiply(k);
+        // 计算 SM2 加密参数 p2，公钥已预计算时查表 | Calculate the SM2 encryption parameter 'p2', using the table of a precomputed public key
+        this.p2 = sm2.multiply(userKey, k).normalize();
 
         // 重置系统状态 | Reset the system status
         reset();
@@ -267,6 +334,27 @@ public class Cipher {
         return c1;
     }
 
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午5:20 2026/10/18
+     * @description: 使用已经生成好的一次性临时密钥对 (k, c1 = kG) 初始化加密，请求线程上只做可变基点乘法 p2 = userKey * k
+     *               Initialize encryption with an already generated single use ephemeral pair (k, c1 = kG),
+     *               only the variable base multiplication p2 = userKey * k runs on the request thread
+     * @param userKey 用户公钥点 | User public key point
+     * @param ephemeralKey 一次性临时密钥对 | Single use ephemeral pair
+     * @return org.bouncycastle.math.ec.ECPoint
+    **/
+    public ECPoint initEnc(ECPoint userKey, SM2EphemeralKeyPool.EphemeralKey ephemeralKey) {
+        // 计算 SM2 加密参数 p2，公钥已预计算时查表 | Calculate the SM2 encryption parameter 'p2', using the table of a precomputed public key
+        this.p2 = SM2.instance().multiply(userKey, ephemeralKey.getK()).normalize();
+
+        // 重置系统状态 | Reset the system status
+        reset();
+
+        // 返回公钥点 c1 | Return the public key point 'c1'
+        return ephemeralKey.getC1();
+    }
+
     /**
      * @author: MuHongXin.
      * @dateTime:  上午9:32 2022/8/18
@@ -297,25 +385,18 @@ public class Cipher {
      * @return void
     **/
     public void encrypt(byte data[]) {
-        // 将数据更新到 sm3c3 对象中 | Update the data to 'sm3c3' object
-        this.sm3c3.update(data, 0, data.length);
-
-        // 遍历加密数据的每个字节，进行加密操作 | Traverse each byte of the data to perform encryption operation
-        for (int i = 0; i < data.length; i++) {
-
-            // 如果密钥偏移量 keyOff 等于密钥长度 key.length，使用 nextKey 方法生成下一个密钥 | If the key offset 'keyOff' is equal to the key length 'key.length', use the 'nextKey' method to generate the next key
-            if (keyOff == key.length) {
-                nextKey();
-            }
+        encrypt(data, 0, data.length);
+    }
 
-            // 将当前字节与密钥中对应字节进行异或运算 | Use XOR operation to encrypt the current byte with the corresponding byte in the key
-            data[i] ^= key[keyOff++];
+    /**
+     * 对 data[off, off + len) 原地加密 | Encrypt data[off, off + len) in place
+     */
+    public void encrypt(byte[] data, int off, int len) {
+        // 将明文更新到 sm3c3 对象中 | Update the plaintext to 'sm3c3' object
+        this.sm3c3.update(data, off, len);
 
-            // 如果密钥偏移量 keyOff 等于密钥长度 key.length，使用 nextKey 方法生成下一个密钥 | If the key offset 'keyOff' is equal to the key length 'key.length', use the 'nextKey' method to generate the next key
-            if (keyOff == key.length) {
-                nextKey();
-            }
-        }
+        // 与 KDF 密钥流异或 | XOR with the KDF keystream
+        xorKeystream(data, off, len);
     }
 
     /**
@@ -350,12 +431,20 @@ public class Cipher {
     **/
     public void initDec(BigInteger userD, ECPoint c1) {
         // 计算 SM2 加密参数 p2 | Calculate the SM2 encryption parameter 'p2'
-        this.p2 = c1.multiply(userD);
+        this.p2 = c1.multiply(userD).normalize();
 
         // 重置系统状态 | Reset the system status
         reset();
     }
 
+    /**
+     * 直接以已计算好的共享点 p2 = (x2, y2) 初始化 | Initialize straight from an already computed shared point p2 = (x2, y2)
+     */
+    void init(ECPoint p2) {
+        this.p2 = p2.normalize();
+        reset();
+    }
+
     /**
      * @author: MuHongXin.
      * @dateTime:  上午10:18 2022/8/18
@@ -386,25 +475,18 @@ public class Cipher {
      * @param data
     **/
     public void decrypt(byte data[]) {
-        // 遍历加密数据的每个字节，进行加密操作 | Traverse each byte of the data to perform encryption operation
-        for (int i = 0; i < data.length; i++) {
-
-            // 如果密钥偏移量 keyOff 等于密钥长度 key.length，使用 nextKey 方法生成下一个密钥 | If the key offset 'keyOff' is equal to the key length 'key.length', use the 'nextKey' method to generate the next key
-            if (keyOff == key.length) {
-                nextKey();
-            }
-
-            // 将当前字节与密钥中对应字节进行异或运算 | Use XOR operation to encrypt the current byte with the corresponding byte in the key
-            data[i] ^= key[keyOff++];
+        decrypt(data, 0, data.length);
+    }
 
-            // 如果密钥偏移量 keyOff 等于密钥长度 key.length，使用 nextKey 方法生成下一个密钥 | If the key offset 'keyOff' is equal to the key length 'key.length', use the 'nextKey' method to generate the next key
-            if (keyOff == key.length) {
-                nextKey();
-            }
-        }
+    /**
+     * 对 data[off, off + len) 原地解密 | Decrypt data[off, off + len) in place
+     */
+    public void decrypt(byte[] data, int off, int len) {
+        // 与 KDF 密钥流异或 | XOR with the KDF keystream
+        xorKeystream(data, off, len);
 
-        // 将加密后的数据更新到 sm3c3 对象中 | Update the encrypted data to 'sm3c3' object
-        this.sm3c3.update(data, 0, data.length);
+        // 将解密后的明文更新到 sm3c3 对象中 | Update the decrypted plaintext to 'sm3c3' object
+        this.sm3c3.update(data, off, len);
     }
 
     /**
@@ -437,16 +519,20 @@ public class Cipher {
      * @param c3
     **/
     public void doFinal(byte c3[]) {
-        // 将加密参数 p2 的 y 坐标转换为长度为 32 字节的 byte 数组 | Convert the 'y' coordinate of encryption parameter 'p2' to a 32-byte byte array
-        byte p[] = DataConversionUtils.byteConvert32Bytes(p2.getY().toBigInteger());
+        doFinal(c3, 0);
+    }
 
-        // 将 p 更新到 sm3c3 对象中 | Update 'p' to 'sm3c3' object
-        this.sm3c3.update(p, 0, p.length);
+    /**
+     * 将 c3 写入 out[outOff, outOff + 32) | Write c3 into out[outOff, outOff + 32)
+     */
+    public void doFinal(byte[] out, int outOff) {
+        // 将 p2 的 y 坐标更新到 sm3c3 对象中 | Update the 'y' coordinate of 'p2' to 'sm3c3' object
+        this.sm3c3.update(z, 32, 32);
 
-        // 计算摘要 c3 | Calculate the digest 'c3'
-        this.sm3c3.doFinal(c3, 0);
+        // 计算摘要 c3，摘要对象随之重置 | Calculate the digest 'c3', which also resets the digest object
+        this.sm3c3.doFinal(out, outOff);
 
-        // 重置系统状态 | Reset the system status
-        reset();
+        // 重置系统状态，p2 未变，沿用 Z 之后的中间状态 | Reset the system status, p2 is unchanged so the midstate after Z is kept
+        restart();
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.mhx.encryption.util.sm;
 
+import com.mhx.encryption.util.codec.HexCodec;
+
 import java.math.BigInteger;
 
 /**
@@ -248,29 +250,18 @@ public class DataConversionUtils {
      * @description: 将 byte 数组转换为十六进制字符串
      *               Convert a byte array to a hexadecimal string
      *
-     *               该方法用于将给定的 byte 数组转换为一个十六进制字符串。
-     *               具体实现：
-     *               1. 遍历给定的 byte 数组，对于数组中的每个字节，使用位运算符和与操作将其转换为一个两位十六进制数，并将其添加到结果字符串 ret 中。
-     *               2. 最后判断 upperCase 参数是否为 true，如果是，则将 ret 中的字符全部转换成大写字母，并返回这个十六进制字符串。
+     *               该方法用于将给定的 byte 数组转换为一个十六进制字符串，由 HexCodec 查表完成，每个字节查一次字符对表。
      *
      * -------------------------------------------------------------------------------------------------------------------------丨
-     *               This method is used to convert the given byte array to a hexadecimal string.                               丨
-     *               Specific implementation:                                                                                   丨
-     *               1. Traverse the given byte array and, for each byte in the array, convert it to a two-digit                丨
-     *               hexadecimal number using the bit operator and and operation, and add it to the resulting string ret.       丨
-     *               2. Finally determine whether the upper case parameter is true. If yes, convert all characters in ret       丨
-     *               to uppercase letters and return the hexadecimal string.                                                    丨
+     *               This method is used to convert the given byte array to a hexadecimal string, done by the table driven      丨
+     *               HexCodec with one character pair lookup per byte.                                                          丨
      * -------------------------------------------------------------------------------------------------------------------------丨
      * @param bytes byte 数组 | a byte array
      * @param upperCase 是否将字符转换为大写 | whether to convert characters to uppercase
      * @return 十六进制字符串 | a hexadecimal string
      **/
     public static String getHexString(byte[] bytes, boolean upperCase) {
-        String ret = "";
-        for (int i = 0; i < bytes.length; i++) {
-            ret += Integer.toString((bytes[i] & 0xff) + 0x100, 16).substring(1);
-        }
-        return upperCase ? ret.toUpperCase() : ret;
+        return HexCodec.encode(bytes, 0, bytes.length, !upperCase);
     }
 
     /**
@@ -319,23 +310,14 @@ public class DataConversionUtils {
      *               该方法用于将给定的十六进制字符串转换为一个 byte 数组。
      *               具体实现是：
      *               1. 首先判断要转换的字符串是否为空或者其长度是否为 0，如果是，则返回 null。
-     *               2. 然后将字符串中的小写字母全部转换为大写字母，然后根据字符串的长度计算出最终 byte 数组的长度。
-     *               3. 接着遍历字符串中的每一对（两位）字符，将其转换为对应的一个 byte 数组元素。
-     *               在转换过程中，对于每一对字符，先使用 charToByte 方法将其转换为对应的 byte 值，
-     *               4. 然后使用位运算符进行移位和或运算，最终得到要转换的 byte 数组的一个元素。最后返回转换后的 byte 数组。
+     *               2. 然后由 HexCodec 查表解码，大小写都接受，非法字符抛出 IllegalArgumentException；奇数长度时忽略最后一个字符。
      *
      * -------------------------------------------------------------------------------------------------------------------------丨
      *               This method converts the given hexadecimal string to a byte array.                                         丨
      *               The specific implementation is:                                                                            丨
      *               1. First determine whether the string to be converted is empty or its length is 0, if so, return null.     丨
-     *               2. Then convert all lowercase letters in the string to uppercase letters, and calculate the length         丨
-     *               of the final byte array based on the length of the string.                                                 丨
-     *               3. Then iterate over each pair (two bits) of characters in the string, converting it to                    丨
-     *               a corresponding byte array element.                                                                        丨
-     *               In the conversion process, for each pair of characters, the char to byte method is first used              丨
-     *               to convert it to the corresponding byte value.                                                             丨
-     *               4. The bit operator is then used for the shift and or operation, resulting in an element of                丨
-     *               the byte array to be converted. Finally, the converted byte array is returned.                             丨
+     *               2. Then the table driven HexCodec decodes it, accepting both cases and throwing IllegalArgumentException   丨
+     *               for illegal characters; with an odd length the last character is ignored.                                  丨
      * -------------------------------------------------------------------------------------------------------------------------丨
      * @param hexString 要转换的十六进制字符串 | the hexadecimal string to be converted
      * @return 转换后的 byte 数组 | the resulting byte array
@@ -347,23 +329,9 @@ public class DataConversionUtils {
             return null;
         }
 
-        // 将要转换的字符串全都转换成大写字母
-        // Convert all characters in the string to uppercase
-        hexString = hexString.toUpperCase();
-
-        // 用于存储转换后的 byte 数组
-        // A byte array used to store the converted result
-        int length = hexString.length() / 2;
-        char[] hexChars = hexString.toCharArray();
-        byte[] d = new byte[length];
-
-        // 遍历十六进制字符串中的每一对字符，将其转换为相应的 byte 数组元素
-        // Traverse each pair of characters in the hexadecimal string and convert them to the corresponding byte array elements
-        for (int i = 0; i < length; i++) {
-            int pos = i * 2;
-            d[i] = (byte) (charToByte(hexChars[pos]) << 4 | charToByte(hexChars[pos + 1]));
-        }
-        return d;
+        // 查表解码，大小写都接受；奇数长度时与原实现一样忽略最后一个字符
+        // Table driven decoding accepting both cases; with an odd length the last character is ignored as before
+        return HexCodec.decode(hexString, 0, hexString.length() & ~1);
     }
 
     /**
@@ -393,26 +361,6 @@ public class DataConversionUtils {
         return (byte) "0123456789ABCDEF".indexOf(c);
     }
 
-    /**
-     * 十六进制字符集，包含 '0' 到 '9' 和 'a' 到 'f' 的所有字符
-     *
-     * -----------------------------------------------------------------------------------------------丨
-     * A hexadecimal character set that includes all characters from '0' to '9' and 'a' to 'f'        丨
-     * -----------------------------------------------------------------------------------------------丨
-     */
-    private static final char[] DIGITS_LOWER = {'0', '1', '2', '3', '4', '5',
-            '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
-
-    /**
-     * 十六进制字符集，包含 '0' 到 '9' 和 'A' 到 'F' 的所有字符
-     *
-     * -----------------------------------------------------------------------------------------------丨
-     * A hexadecimal character set that includes all characters from '0' to '9' and 'A' to 'F'        丨
-     * -----------------------------------------------------------------------------------------------丨
-     */
-    private static final char[] DIGITS_UPPER = {'0', '1', '2', '3', '4', '5',
-            '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
-
     /**
      * @author: MuHongXin.
      * @dateTime: 下午5:48 2023/6/19
@@ -449,26 +397,20 @@ public class DataConversionUtils {
      *
      *               该方法用于将给定的 byte 数组转换为其对应的十六进制字符串。
      *               具体实现是：
-     *               根据参数 toLowerCase 的值选择要使用的字符集，如果 toLowerCase 为 true，
-     *               则使用字符集 DIGITS_LOWER，否则使用字符集 DIGITS_UPPER。
-     *               然后调用 encodeHex 方法完成具体的转换工作，并将转换后的字符数组作为返回值返回。
+     *               由 HexCodec 按 toLowerCase 选择大写或小写字符对表，每个字节查一次表，并将转换后的字符数组作为返回值返回。
      *
      * -----------------------------------------------------------------------------------------------------------------------------丨
      *               This method is used to convert a given byte array to its corresponding hexadecimal string.                     丨
      *               The specific implementation is:                                                                                丨
-     *               Select the character set to use according to the value of the to lower case argument. If to lower case is true,丨
-     *               The character set DIGITS_LOWER is used, otherwise the character set DIGITS_UPPER is used.                      丨
-     *               The encode hex method is then called to complete the conversion work, and the converted character array        丨
-     *               is returned as the return value.                                                                               丨
+     *               HexCodec picks the upper or lower case character pair table by to lower case, looks it up once per byte,       丨
+     *               and the converted character array is returned as the return value.                                             丨
      * -----------------------------------------------------------------------------------------------------------------------------丨
      * @param data         要转换的 byte 数组 | the byte array to be converted
      * @param toLowerCase 是否使用小写字母作为十六进制数字 | whether to use lowercase letters for hexadecimal digits
      * @return 转换后得到的十六进制字符串 | the resulting hexadecimal string
      **/
     public static char[] encodeHex(byte[] data, boolean toLowerCase) {
-        // 如果 toLowerCase 为true，将字母字符集设置为小写字母字符集 DIGITS_LOWER；否则设置为大写字母字符集 DIGITS_UPPER
-        // If toLowerCase is true, set the character set to the lowercase character set DIGITS_LOWER; otherwise, set it to the uppercase character set DIGITS_UPPER
-        return encodeHex(data, toLowerCase ? DIGITS_LOWER : DIGITS_UPPER);
+        return HexCodec.encodeToChars(data, 0, data.length, toLowerCase);
     }
 
     /**
@@ -542,7 +484,7 @@ public class DataConversionUtils {
      * @return 十六进制String
      **/
     public static String encodeHexString(byte[] data, boolean toLowerCase) {
-        return encodeHexString(data, toLowerCase ? DIGITS_LOWER : DIGITS_UPPER);
+        return HexCodec.encode(data, 0, data.length, toLowerCase);
     }
 
     /**
@@ -575,24 +517,7 @@ public class DataConversionUtils {
      * @throws RuntimeException 如果源十六进制字符数组是一个奇怪的长度，将抛出运行时异常
      **/
     public static byte[] decodeHex(char[] data) {
-        int len = data.length;
-
-        if ((len & 0x01) != 0) {
-            throw new RuntimeException("Odd number of characters.");
-        }
-
-        byte[] out = new byte[len >> 1];
-
-        // two characters form the hex value.
-        for (int i = 0, j = 0; j < len; i++) {
-            int f = toDigit(data[j], j) << 4;
-            j++;
-            f = f | toDigit(data[j], j);
-            j++;
-            out[i] = (byte) (f & 0xFF);
-        }
-
-        return out;
+        return HexCodec.decode(data, 0, data.length);
     }
 
     /**
@@ -926,17 +851,7 @@ public class DataConversionUtils {
      **/
     public static byte[] hexToByte(String hex)
             throws IllegalArgumentException {
-        if (hex.length() % 2 != 0) {
-            throw new IllegalArgumentException();
-        }
-        char[] arr = hex.toCharArray();
-        byte[] b = new byte[hex.length() / 2];
-        for (int i = 0, j = 0, l = hex.length(); i < l; i++, j++) {
-            String swap = "" + arr[i++] + arr[i];
-            int byteint = Integer.parseInt(swap, 16) & 0xFF;
-            b[j] = new Integer(byteint).byteValue();
-        }
-        return b;
+        return HexCodec.decode(hex);
     }
 
     /**
@@ -953,17 +868,7 @@ public class DataConversionUtils {
             throw new IllegalArgumentException(
                     "Argument b ( byte array ) is null! ");
         }
-        String hs = "";
-        String stmp = "";
-        for (int n = 0; n < b.length; n++) {
-            stmp = Integer.toHexString(b[n] & 0xff);
-            if (stmp.length() == 1) {
-                hs = hs + "0" + stmp;
-            } else {
-                hs = hs + stmp;
-            }
-        }
-        return hs.toUpperCase();
+        return HexCodec.encode(b);
     }
 
     /**
@@ -1,12 +1,15 @@
 package com.mhx.encryption.util.sm;
 
+import org.bouncycastle.asn1.gm.GMNamedCurves;
+import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.crypto.generators.ECKeyPairGenerator;
 import org.bouncycastle.crypto.params.ECDomainParameters;
 import org.bouncycastle.crypto.params.ECKeyGenerationParameters;
 import org.bouncycastle.math.ec.ECCurve;
 import org.bouncycastle.math.ec.ECFieldElement;
-import org.bouncycastle.math.ec.ECFieldElement.Fp;
 import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.bouncycastle.math.ec.FixedPointUtil;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
@@ -44,15 +47,33 @@ public class SM2 {
             "BC3736A2F4F6779C59BDCEE36B692153D0A9877CC62A474002DF32E52139F0A0"
     };
 
+    /**
+     * 国密标准曲线名称
+     *
+     * ---------------------------------------------------------------丨
+     * Name of the GM standard curve.                                 丨
+     * ---------------------------------------------------------------丨
+     */
+    public static final String CURVE_NAME = "sm2p256v1";
+
+    /**
+     * 共享的 SM2 域参数上下文，只构建一次，构建完成后不可变且线程安全
+     *
+     * ----------------------------------------------------------------------------------------------丨
+     * The shared SM2 domain context, built once, immutable and thread safe after construction.     丨
+     * ----------------------------------------------------------------------------------------------丨
+     */
+    private static final SM2 INSTANCE = new SM2(GMNamedCurves.getByName(CURVE_NAME));
+
     /**
      * @author: MuHongXin.
      * @dateTime: 下午4:16 2022/8/10
-     * @description:    实例化 SM 对象
-     *                  SM Object construction
+     * @description:    获取共享的 SM 对象
+     *                  Get the shared SM object
      * @return com.learningProject.util.encryption.sm.SM2
     **/
     public static SM2 instance() {
-        return new SM2();
+        return INSTANCE;
     }
 
     /**
@@ -94,21 +115,21 @@ public class SM2 {
     public final BigInteger eccGy;
 
     /**
-     * 代表椭圆曲线对象，包含有限域和椭圆曲线方程等信息，通过调用ECCurve.Fp来生成椭圆曲线
+     * 代表椭圆曲线对象，包含有限域和椭圆曲线方程等信息，使用 BC 针对 SM2P256V1 优化的曲线实现
      *
      * ----------------------------------------------------------------------------------------------------------------------------------丨
      * Represents an elliptic curve object, contains information about finite fields and elliptic curve equations,                       丨
-     * and generates an elliptic curve by calling e c curve. fp.                                                                         丨
+     * backed by the BC curve implementation optimized for SM2P256V1.                                                                    丨
      * ----------------------------------------------------------------------------------------------------------------------------------丨
      */
     public final ECCurve eccCurve;
 
     /**
-     * 代表椭圆曲线上的基点G，即椭圆曲线上的一个点。通过定义 ECPoint.Fp 指定椭圆曲线、X和Y坐标即可生成基点G
+     * 代表椭圆曲线上的基点G，即椭圆曲线上的一个点。构建时预计算好固定基点的倍点表，密钥生成和加密时的 kG 直接查表
      *
      * ----------------------------------------------------------------------------------------------------------------------------------丨
      * Represents the base point g on the elliptic curve, which is a point on the elliptic curve.                                        丨
-     * The base point g is generated by specifying the elliptic curve, x and y coordinates by defining e c point.fp                      丨
+     * The multiples of the fixed base point are precomputed at construction, so kG in key generation and encryption uses the table.     丨
      * ----------------------------------------------------------------------------------------------------------------------------------丨
      */
     public final ECPoint eccPointG;
@@ -132,70 +153,75 @@ public class SM2 {
     public final ECKeyPairGenerator eccKeyPairGenerator;
 
     /**
-     * 是 X,Y坐标的大整数对象，在定义基点G时被使用。Fp 指示这些元素所在的有限域是一个素数域(GF§)
+     * 是基点G的 X,Y坐标所在的有限域元素，该有限域是一个素数域(GF§)
      *
      * ----------------------------------------------------------------------------------------------------------------------------------丨
-     * Is a large integer object in x and y coordinates, used when defining base point g. fp indicates that the finite                   丨
-     * field in which these elements reside is a prime field (g f§).                                                                     丨
+     * Are the field elements of the x and y coordinates of base point g, the finite field in which these elements                       丨
+     * reside is a prime field (g f§).                                                                                                   丨
      * ----------------------------------------------------------------------------------------------------------------------------------丨
      */
     public final ECFieldElement eccGxFieldElement;
     public final ECFieldElement eccGyFieldElement;
 
+    /**
+     * 固定窗口梳状乘法器，用于已预计算倍点表的点
+     *
+     * ------------------------------------------------------------------------丨
+     * Fixed window comb multiplier, used for points carrying a precomputed table. 丨
+     * ------------------------------------------------------------------------丨
+     */
+    private final FixedPointCombMultiplier combMultiplier = new FixedPointCombMultiplier();
+
     /**
      * @author: MuHongXin.
      * @dateTime: 下午4:35 2022/8/10
-     * @description: 首先根据前面定义的 eccParam 参数数组中对应的六个元素，创建大整数 BigInteger 对象，
-     *               表示椭圆曲线的有限域特征 eccP、 eccA 和 eccB，大质数 eccN，及基点坐标 eccGx和 eccGy，
-     *               这些参数通过十六进制字符串表示，并以16为基数解析。
-     *               然后，SM2 加密算法先通过 eccGx 和 eccGy 分别构造 ECFieldElement 类型的对象 eccGxFieldElement 和 eccGyFieldElement，
-     *               用于表示 elliptic curve binary field Fp 中基点 G 的坐标。这些对象是通过 Fp 类的构造函数初始化的，Fp 表示素数域（Galois field）。
-     *               接下来，SM2算法使用这些参数构建 ECCurve 类型的对象 eccCurve，代表椭圆曲线。
-     *               具体地，可通过调用 ECCurve.Fp 构造函数生成椭圆曲线 eccCurve，该函数的参数为椭圆曲线的有限域特征 eccP、椭圆曲线系数 eccA 和 eccB。
-     *               再然后，使用这个 eccCurve、eccGxFieldElement 和 eccGyFieldElement 参数构建 ECPoint.Fp 类型的对象 eccPointG，即椭圆曲线上的基点G。
-     *               再然后使用 ECDomainParameters 构造函数和上述参数构造椭圆曲线参数域 eccBcSpec，
-     *               这个参数域包括椭圆曲线 eccCurve、基点G eccPointG 和大质数 eccN。
-     *               再然后使用 eccBcSpec 和随机数生成器对象 SecureRandom 构造 ECKeyGenerationParameters 类型的对象 eccEcGenParam。
-     *               最后使用 eccEcGenParam 初始化 ECKeyPairGenerator 类型的对象 eccKeyPairGenerator，该对象可生成用于 SM2加密算法的密钥对。
+     * @description: 根据曲线参数构建 SM2 域参数上下文。
+     *               椭圆曲线 eccCurve 和基点 eccPointG 直接取自 BC 的 SM2P256V1 实现，其有限域运算针对该素数专门优化，
+     *               有限域特征 eccP、系数 eccA 和 eccB、大质数 eccN 及基点坐标 eccGx 和 eccGy 均从曲线中读取，与 eccParam 中的十六进制参数一致。
+     *               然后使用椭圆曲线、基点G和大质数构造椭圆曲线参数域 eccBcSpec，并对基点G预计算固定基点倍点表，
+     *               之后所有 kG 运算（密钥生成、加密时的 C1）都直接使用该表，不再冷启动标量乘法。
+     *               最后使用 eccBcSpec 和共享的随机数生成器 SecureRandom 初始化密钥对生成器 eccKeyPairGenerator。
+     *               构建完成后所有字段均不再修改，SecureRandom 本身线程安全，因此该对象可以在线程之间共享。
      *
      * ---------------------------------------------------------------------------------------------------------------------------------------------------------------------丨
-     *               The above code first creates BigInteger objects representing the field characteristic eccP,                                                            丨
-     *               curve coefficient eccA, and eccB, large prime number eccN, and coordinates of the base point eccGx and eccGy,                                          丨
-     *               respectively, by parsing hexadecimal strings using a radix of 16 from the eccParam parameter array.                                                    丨
-     *               Next, SM2 encryption algorithm constructs ECFieldElement objects eccGxFieldElement and eccGyFieldElement                                               丨
-     *               representing the coordinates of the base point G in the elliptic curve binary field Fp using eccGx and eccGy, respectively.                            丨
-     *               These objects are initialized using the Fp class constructor, which represents a prime field (Galois field).                                           丨
-     *               Then the SM2 algorithm uses these parameters to construct ECCurve object eccCurve, which represents the elliptic curve.                                丨
-     *               Specifically, the ECCurve.Fp constructor is called to generate eccCurve using the finite field characteristic eccP, curve coefficients eccA and eccB.  丨
-     *               Then the ECPoint.Fp object eccPointG representing the base point G on the elliptic curve is constructed using this eccCurve object                     丨
-     *               along with the eccGxFieldElement and eccGyFieldElement parameters.                                                                                     丨
-     *               Finally, the elliptic curve domain parameters eccBcSpec are constructed using ECDomainParameters constructor along with the eccCurve,                  丨
-     *               eccPointG, and eccN parameters. ECKeyGenerationParameters object eccEcGenParam is constructed using eccBcSpec and the SecureRandom                     丨
-     *               random number generator, and is used to initialize ECKeyPairGenerator object eccKeyPairGenerator, which generates key pairs for use in the SM2         丨
-     *               encryption algorithm.                                                                                                                                  丨
+     *               Builds the SM2 domain context from the curve parameters.                                                                                               丨
+     *               The elliptic curve eccCurve and base point eccPointG come straight from the BC SM2P256V1 implementation, whose field arithmetic is                     丨
+     *               specialized for this prime. The field characteristic eccP, curve coefficients eccA and eccB, large prime eccN and the base point                       丨
+     *               coordinates eccGx and eccGy are read from the curve, and match the hexadecimal parameters in eccParam.                                                 丨
+     *               The domain parameters eccBcSpec are then built from the curve, base point G and eccN, and the fixed base point table of G is                           丨
+     *               precomputed, so every kG (key generation, C1 of encryption) uses the table instead of a cold scalar multiplication.                                    丨
+     *               Finally the key pair generator eccKeyPairGenerator is initialized with eccBcSpec and a shared SecureRandom.                                            丨
+     *               No field changes after construction and SecureRandom is thread safe itself, so the object can be shared between threads.                               丨
      * ---------------------------------------------------------------------------------------------------------------------------------------------------------------------丨
+     *
+     * @param x9 曲线参数 | curve parameters
     **/
-    public SM2() {
-        // 初始化参数 (使用十六进制字符串创建 BigInteger 对象) | Initialization parameters (Create a big integer object with a hexadecimal string)
-        this.eccP = new BigInteger(eccParam[0], 16);
-        this.eccA = new BigInteger(eccParam[1], 16);
-        this.eccB = new BigInteger(eccParam[2], 16);
-        this.eccN = new BigInteger(eccParam[3], 16);
-        this.eccGx = new BigInteger(eccParam[4], 16);
-        this.eccGy = new BigInteger(eccParam[5], 16);
+    SM2(X9ECParameters x9) {
+        this(x9.getCurve(), x9.getG(), x9.getN(), x9.getH(), true);
+    }
 
-        // 创建有限域元素对象 | Create finite field element objects
-        this.eccGxFieldElement = new Fp(this.eccP, this.eccGx);
-        this.eccGyFieldElement = new Fp(this.eccP, this.eccGy);
+    SM2(ECCurve curve, ECPoint g, BigInteger n, BigInteger h, boolean precompute) {
+        // 创建椭圆曲线参数对象，基点取参数域中规范化后的实例 | Create elliptic curve parameter objects, the base point is the normalized instance held by the domain parameters
+        this.eccCurve = curve;
+        this.eccBcSpec = new ECDomainParameters(curve, g, n, h);
+        this.eccPointG = this.eccBcSpec.getG();
 
-        // 创建椭圆曲线对象 | Create elliptic curve objects
-        this.eccCurve = new ECCurve.Fp(this.eccP, this.eccA, this.eccB);
+        // 初始化参数 | Initialization parameters
+        this.eccP = curve.getField().getCharacteristic();
+        this.eccA = curve.getA().toBigInteger();
+        this.eccB = curve.getB().toBigInteger();
+        this.eccN = n;
 
-        // 创建基点对象 | Create base point objects
-        this.eccPointG = new ECPoint.Fp(this.eccCurve, this.eccGxFieldElement, this.eccGyFieldElement);
+        // 基点坐标的有限域元素对象 | Finite field element objects of the base point coordinates
+        this.eccGxFieldElement = this.eccPointG.getAffineXCoord();
+        this.eccGyFieldElement = this.eccPointG.getAffineYCoord();
+        this.eccGx = this.eccGxFieldElement.toBigInteger();
+        this.eccGy = this.eccGyFieldElement.toBigInteger();
 
-        // 创建椭圆曲线参数对象 | Create elliptic curve parameter objects
-        this.eccBcSpec = new ECDomainParameters(this.eccCurve, this.eccPointG, this.eccN);
+        // 预计算固定基点倍点表 | Precompute the fixed base point table
+        if (precompute) {
+            FixedPointUtil.precompute(this.eccPointG);
+        }
 
         // 创建密钥生成参数对象 | Create key generation parameter objects
         ECKeyGenerationParameters eccEcGenParam;
@@ -207,4 +233,36 @@ public class SM2 {
         // 初始化密钥对生成器 | Initialize key pair generator
         this.eccKeyPairGenerator.init(eccEcGenParam);
     }
-}
\ No newline at end of file
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午5:50 2026/10/18
+     * @description: 为经常使用的点（如接收方公钥）预计算固定窗口梳状倍点表，倍点表保存在返回的点实例上，需要缓存并复用该实例
+     *               Precompute the fixed window comb table of a frequently used point (such as a recipient public key),
+     *               the table lives on the returned point instance, which must be cached and reused
+     * @param point 椭圆曲线上的点 | point on the curve
+     * @return org.bouncycastle.math.ec.ECPoint
+    **/
+    public ECPoint precompute(ECPoint point) {
+        ECPoint normalized = point.normalize();
+        FixedPointUtil.precompute(normalized);
+        return normalized;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午5:50 2026/10/18
+     * @description: 标量乘法 k * point，点上已有预计算倍点表时使用梳状乘法查表，否则使用曲线默认乘法
+     *               Scalar multiplication k * point, the comb multiplier reads the table when the point carries one,
+     *               otherwise the default multiplier of the curve is used
+     * @param point 椭圆曲线上的点 | point on the curve
+     * @param k 标量 | scalar
+     * @return org.bouncycastle.math.ec.ECPoint
+    **/
+    public ECPoint multiply(ECPoint point, BigInteger k) {
+        if (point.getCurve().getPreCompInfo(point, FixedPointUtil.PRECOMP_NAME) != null) {
+            return combMultiplier.multiply(point, k);
+        }
+        return point.multiply(k);
+    }
+}
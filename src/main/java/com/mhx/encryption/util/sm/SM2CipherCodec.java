@@ -0,0 +1,418 @@
+package com.mhx.encryption.util.sm;
+
+import org.bouncycastle.math.ec.ECPoint;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * @className SM2CipherCodec
+ * @description SM2 二进制密文编解码：C1C2C3、C1C3C2（GM/T 0009）和 ASN.1 DER 三种排列方式。
+ *              加密时 C1、C2、C3 直接写入同一个输出数组，C2 在输出数组中原地加密；
+ *              解密时只解析 C1、C2、C3 在输入数组中的位置，不切分子数组，C2 只复制一次作为明文输出，C3 在原位置校验。
+ *              十六进制、Base64 等文本编码只在接口层使用。
+ *              SM2 binary ciphertext codec for the C1C2C3, C1C3C2 (GM/T 0009) and ASN.1 DER layouts.
+ *              Encryption writes C1, C2 and C3 straight into one output array and encrypts C2 in place there;
+ *              decryption only locates C1, C2 and C3 inside the input array without slicing sub arrays, copies C2
+ *              once as the plaintext output and checks C3 where it lies. Text encodings such as hex or Base64
+ *              belong to the interface layer only.
+ * @author MuHongXin.
+ * @date 2026/10/18 16:50
+ * @version v1.0.0
+ **/
+
+public class SM2CipherCodec {
+    /**
+     * C1 非压缩点长度 04 || x1 || y1，C3 摘要长度，坐标长度
+     *
+     * --------------------------------------------------------------------------------丨
+     * Length of the uncompressed C1 point, of the C3 digest and of a coordinate.      丨
+     * --------------------------------------------------------------------------------丨
+     */
+    public static final int C1_LENGTH = 65;
+    public static final int C3_LENGTH = 32;
+    private static final int COORDINATE_LENGTH = 32;
+
+    /**
+     * DER 标签
+     *
+     * ----------------丨
+     * DER tags.       丨
+     * ----------------丨
+     */
+    private static final int TAG_SEQUENCE = 0x30;
+    private static final int TAG_INTEGER = 0x02;
+    private static final int TAG_OCTET_STRING = 0x04;
+
+    private SM2CipherCodec() {
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午4:50 2026/10/18
+     * @description: 加密 data[off, off + len)，按 mode 排列输出，输入数组不被修改
+     *               Encrypt data[off, off + len) and lay the output out as 'mode', the input array is not modified
+     * @param userKey 用户公钥点 | user public key point
+     * @param data 明文 | plaintext
+     * @param off 明文偏移量 | plaintext offset
+     * @param len 明文长度 | plaintext length
+     * @param mode 密文排列方式 | ciphertext layout
+     * @return byte[]
+     **/
+    public static byte[] encrypt(ECPoint userKey, byte[] data, int off, int len, SM2CipherMode mode) {
+        return encryptInto(userKey, data, off, len, mode, null, 0).out;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: 加密 data[off, off + len)，按 mode 排列写入调用方提供的数组；输出至少需要 maximumLength(len, mode) 字节，
+     *               否则可能在计算 C1 之后抛出 IllegalArgumentException；输出区域不能与输入区域重叠
+     *               Encrypt data[off, off + len) into the array supplied by the caller laid out as 'mode'; the output
+     *               needs maximumLength(len, mode) bytes, otherwise an IllegalArgumentException may be thrown after C1
+     *               is computed; the output must not overlap the input
+     * @param userKey 用户公钥点 | user public key point
+     * @param data 明文 | plaintext
+     * @param off 明文偏移量 | plaintext offset
+     * @param len 明文长度 | plaintext length
+     * @param mode 密文排列方式 | ciphertext layout
+     * @param out 输出 | output
+     * @param outOff 输出偏移量 | output offset
+     * @return int 密文长度 | ciphertext length
+     **/
+    public static int encrypt(ECPoint userKey, byte[] data, int off, int len, SM2CipherMode mode, byte[] out, int outOff) {
+        return encryptInto(userKey, data, off, len, mode, out, outOff).length;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午4:50 2026/10/18
+     * @description: 解密 in[off, off + len) 中按 mode 排列的密文并校验 C3，校验失败时抛出 IllegalArgumentException
+     *               Decrypt the ciphertext laid out as 'mode' in in[off, off + len) and check C3,
+     *               an IllegalArgumentException is thrown when the check fails
+     * @param userD 用户私钥 | user private key
+     * @param in 密文 | ciphertext
+     * @param off 密文偏移量 | ciphertext offset
+     * @param len 密文长度 | ciphertext length
+     * @param mode 密文排列方式 | ciphertext layout
+     * @return byte[]
+     **/
+    public static byte[] decrypt(BigInteger userD, byte[] in, int off, int len, SM2CipherMode mode) {
+        Parts parts = parse(in, off, len, mode);
+        byte[] plaintext = new byte[parts.c2Len];
+        decryptInto(userD, in, parts, plaintext, 0);
+        return plaintext;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: 解密 in[off, off + len) 中按 mode 排列的密文写入调用方提供的数组并校验 C3；
+     *               校验失败时清零已写出的明文并抛出 IllegalArgumentException；输出区域不能与输入区域重叠
+     *               Decrypt the ciphertext laid out as 'mode' in in[off, off + len) into the array supplied by the
+     *               caller and check C3; when the check fails the written plaintext is zeroed and an
+     *               IllegalArgumentException is thrown; the output must not overlap the input
+     * @param userD 用户私钥 | user private key
+     * @param in 密文 | ciphertext
+     * @param off 密文偏移量 | ciphertext offset
+     * @param len 密文长度 | ciphertext length
+     * @param mode 密文排列方式 | ciphertext layout
+     * @param out 输出 | output
+     * @param outOff 输出偏移量 | output offset
+     * @return int 明文长度 | plaintext length
+     **/
+    public static int decrypt(BigInteger userD, byte[] in, int off, int len, SM2CipherMode mode, byte[] out, int outOff) {
+        Parts parts = parse(in, off, len, mode);
+        checkOutput(out, outOff, parts.c2Len);
+        decryptInto(userD, in, parts, out, outOff);
+        return parts.c2Len;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午9:40 2026/10/18
+     * @description: len 字节明文按 mode 排列的密文的最大长度，C1C2C3 / C1C3C2 为固定长度
+     *               Maximum length of the ciphertext of 'len' plaintext bytes laid out as 'mode',
+     *               exact for C1C2C3 and C1C3C2
+     * @param len 明文长度 | plaintext length
+     * @param mode 密文排列方式 | ciphertext layout
+     * @return int
+     **/
+    public static int maximumLength(int len, SM2CipherMode mode) {
+        if (mode == SM2CipherMode.ASN1) {
+            int coordinate = tlvLength(COORDINATE_LENGTH + 1);
+            return tlvLength(coordinate * 2 + tlvLength(C3_LENGTH) + tlvLength(len));
+        }
+        return C1_LENGTH + len + C3_LENGTH;
+    }
+
+    private static Layout encryptInto(ECPoint userKey, byte[] data, int off, int len, SM2CipherMode mode, byte[] out, int outOff) {
+        // 临时密钥对来自已安装的预生成池，没有时直接生成 | The ephemeral pair comes from the installed pool, or is generated inline
+        Cipher cipher = new Cipher();
+        ECPoint c1 = cipher.initEnc(userKey, SM2EphemeralKeyPool.acquire(SM2.instance()));
+
+        Layout layout = layout(c1, len, mode, out, outOff);
+
+        // C2 在输出数组中原地加密，C3 直接写入其位置 | C2 is encrypted in place in the output, C3 is written where it belongs
+        System.arraycopy(data, off, layout.out, layout.c2Off, len);
+        cipher.encrypt(layout.out, layout.c2Off, len);
+        cipher.doFinal(layout.out, layout.c3Off);
+        return layout;
+    }
+
+    private static void decryptInto(BigInteger userD, byte[] in, Parts parts, byte[] out, int outOff) {
+        System.arraycopy(in, parts.c2Off, out, outOff, parts.c2Len);
+        Cipher cipher = new Cipher();
+        cipher.initDec(userD, parts.c1);
+        cipher.decrypt(out, outOff, parts.c2Len);
+
+        byte[] c3 = new byte[C3_LENGTH];
+        cipher.doFinal(c3, 0);
+        int diff = 0;
+        for (int i = 0; i < C3_LENGTH; i++) {
+            diff |= c3[i] ^ in[parts.c3Off + i];
+        }
+        if (diff != 0) {
+            // 未通过校验的明文不留在调用方的数组中 | Unverified plaintext is not left in the caller's array
+            Arrays.fill(out, outOff, outOff + parts.c2Len, (byte) 0);
+            throw new IllegalArgumentException("SM2 密文校验失败! | SM2 ciphertext verification failed!");
+        }
+    }
+
+    private static void checkOutput(byte[] out, int outOff, int length) {
+        if (outOff < 0 || out.length - outOff < length) {
+            throw new IllegalArgumentException("输出缓冲区不足，需要 " + length + " 字节! | The output buffer needs " + length + " bytes!");
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午4:50 2026/10/18
+     * @description: 不解密，直接把密文从一种排列方式转换为另一种
+     *               Convert a ciphertext from one layout to another without decrypting it
+     * @param in 密文 | ciphertext
+     * @param off 密文偏移量 | ciphertext offset
+     * @param len 密文长度 | ciphertext length
+     * @param from 原排列方式 | source layout
+     * @param to 目标排列方式 | target layout
+     * @return byte[]
+     **/
+    public static byte[] convert(byte[] in, int off, int len, SM2CipherMode from, SM2CipherMode to) {
+        Parts parts = parse(in, off, len, from);
+        Layout layout = layout(parts.c1, parts.c2Len, to, null, 0);
+        System.arraycopy(in, parts.c2Off, layout.out, layout.c2Off, parts.c2Len);
+        System.arraycopy(in, parts.c3Off, layout.out, layout.c3Off, C3_LENGTH);
+        return layout.out;
+    }
+
+    /**
+     * 按 mode 写入 C1 以及 C3、C2 的头部，返回 C2、C3 应写入的位置；out 为 null 时分配恰好大小的数组
+     * Write C1 and the C3 and C2 headers laid out as 'mode' and return where C2 and C3 go; an array of the exact
+     * size is allocated when 'out' is null
+     */
+    private static Layout layout(ECPoint c1, int c2Len, SM2CipherMode mode, byte[] out, int outOff) {
+        if (mode == SM2CipherMode.ASN1) {
+            byte[] x = c1.getAffineXCoord().getEncoded();
+            byte[] y = c1.getAffineYCoord().getEncoded();
+            int xLen = integerLength(x);
+            int yLen = integerLength(y);
+            int body = tlvLength(xLen) + tlvLength(yLen) + tlvLength(C3_LENGTH) + tlvLength(c2Len);
+            int length = tlvLength(body);
+            if (out == null) {
+                out = new byte[length];
+            } else {
+                checkOutput(out, outOff, length);
+            }
+
+            int pos = writeHeader(out, outOff, TAG_SEQUENCE, body);
+            pos = writeInteger(out, pos, x, xLen);
+            pos = writeInteger(out, pos, y, yLen);
+            int c3Off = writeHeader(out, pos, TAG_OCTET_STRING, C3_LENGTH);
+            int c2Off = writeHeader(out, c3Off + C3_LENGTH, TAG_OCTET_STRING, c2Len);
+            return new Layout(out, c2Off, c3Off, length);
+        }
+
+        int length = C1_LENGTH + c2Len + C3_LENGTH;
+        if (out == null) {
+            out = new byte[length];
+        } else {
+            checkOutput(out, outOff, length);
+        }
+        System.arraycopy(c1.getEncoded(false), 0, out, outOff, C1_LENGTH);
+        return mode == SM2CipherMode.C1C2C3
+                ? new Layout(out, outOff + C1_LENGTH, outOff + C1_LENGTH + c2Len, length)
+                : new Layout(out, outOff + C1_LENGTH + C3_LENGTH, outOff + C1_LENGTH, length);
+    }
+
+    /**
+     * 解析 C1，并定位 C2、C3 在输入数组中的位置 | Parse C1 and locate C2 and C3 inside the input array
+     */
+    private static Parts parse(byte[] in, int off, int len, SM2CipherMode mode) {
+        if (off < 0 || len < 0 || off + len > in.length) {
+            throw new IllegalArgumentException("SM2 密文越界! | SM2 ciphertext out of bounds!");
+        }
+
+        SM2 sm2 = SM2.instance();
+        if (mode != SM2CipherMode.ASN1) {
+            if (len < C1_LENGTH + C3_LENGTH || in[off] != 0x04) {
+                throw new IllegalArgumentException("SM2 密文格式错误! | Malformed SM2 ciphertext!");
+            }
+
+            ECPoint c1 = sm2.eccCurve.decodePoint(Arrays.copyOfRange(in, off, off + C1_LENGTH));
+            int c2Len = len - C1_LENGTH - C3_LENGTH;
+            return mode == SM2CipherMode.C1C2C3
+                    ? new Parts(c1, off + C1_LENGTH, c2Len, off + C1_LENGTH + c2Len)
+                    : new Parts(c1, off + C1_LENGTH + C3_LENGTH, c2Len, off + C1_LENGTH);
+        }
+
+        int end = off + len;
+        int[] cursor = {off};
+        int bodyLen = readHeader(in, cursor, end, TAG_SEQUENCE);
+        if (cursor[0] + bodyLen != end) {
+            throw new IllegalArgumentException("SM2 密文格式错误! | Malformed SM2 ciphertext!");
+        }
+
+        BigInteger x = readInteger(in, cursor, end);
+        BigInteger y = readInteger(in, cursor, end);
+        if (readHeader(in, cursor, end, TAG_OCTET_STRING) != C3_LENGTH) {
+            throw new IllegalArgumentException("SM2 密文格式错误! | Malformed SM2 ciphertext!");
+        }
+        int c3Off = cursor[0];
+        cursor[0] += C3_LENGTH;
+        int c2Len = readHeader(in, cursor, end, TAG_OCTET_STRING);
+        int c2Off = cursor[0];
+        if (c2Off + c2Len != end) {
+            throw new IllegalArgumentException("SM2 密文格式错误! | Malformed SM2 ciphertext!");
+        }
+
+        // validatePoint 校验点在曲线上 | validatePoint checks that the point is on the curve
+        ECPoint c1 = sm2.eccCurve.validatePoint(x, y);
+        return new Parts(c1, c2Off, c2Len, c3Off);
+    }
+
+    private static int integerLength(byte[] magnitude) {
+        int start = 0;
+        while (start < magnitude.length - 1 && magnitude[start] == 0) {
+            start++;
+        }
+        return magnitude.length - start + ((magnitude[start] & 0x80) != 0 ? 1 : 0);
+    }
+
+    private static int writeInteger(byte[] out, int pos, byte[] magnitude, int contentLen) {
+        pos = writeHeader(out, pos, TAG_INTEGER, contentLen);
+        int start = magnitude.length - contentLen;
+        if (start < 0) {
+            // 最高位为 1 时补 0x00 保持正数 | Pad 0x00 when the top bit is set so the integer stays positive
+            out[pos++] = 0;
+            start = 0;
+        }
+        System.arraycopy(magnitude, start, out, pos, magnitude.length - start);
+        return pos + magnitude.length - start;
+    }
+
+    private static int tlvLength(int contentLen) {
+        return 1 + lengthSize(contentLen) + contentLen;
+    }
+
+    private static int lengthSize(int len) {
+        if (len < 0x80) {
+            return 1;
+        }
+        int size = 1;
+        while (len != 0) {
+            size++;
+            len >>>= 8;
+        }
+        return size;
+    }
+
+    private static int writeHeader(byte[] out, int pos, int tag, int len) {
+        out[pos++] = (byte) tag;
+        if (len < 0x80) {
+            out[pos++] = (byte) len;
+            return pos;
+        }
+
+        int n = lengthSize(len) - 1;
+        out[pos++] = (byte) (0x80 | n);
+        for (int i = n - 1; i >= 0; i--) {
+            out[pos++] = (byte) (len >>> (i * 8));
+        }
+        return pos;
+    }
+
+    private static int readHeader(byte[] in, int[] cursor, int end, int tag) {
+        int pos = cursor[0];
+        if (end - pos < 2 || (in[pos] & 0xff) != tag) {
+            throw new IllegalArgumentException("SM2 密文格式错误! | Malformed SM2 ciphertext!");
+        }
+
+        int len = in[pos + 1] & 0xff;
+        pos += 2;
+        if (len >= 0x80) {
+            int n = len & 0x7f;
+            if (n == 0 || n > 4 || end - pos < n || in[pos] == 0) {
+                throw new IllegalArgumentException("SM2 密文格式错误! | Malformed SM2 ciphertext!");
+            }
+
+            len = 0;
+            for (int i = 0; i < n; i++) {
+                len = (len << 8) | (in[pos++] & 0xff);
+            }
+            if (len < 0x80) {
+                throw new IllegalArgumentException("SM2 密文格式错误! | Malformed SM2 ciphertext!");
+            }
+        }
+
+        if (len < 0 || len > end - pos) {
+            throw new IllegalArgumentException("SM2 密文格式错误! | Malformed SM2 ciphertext!");
+        }
+        cursor[0] = pos;
+        return len;
+    }
+
+    private static BigInteger readInteger(byte[] in, int[] cursor, int end) {
+        int len = readHeader(in, cursor, end, TAG_INTEGER);
+        int pos = cursor[0];
+        if (len == 0 || len > COORDINATE_LENGTH + 1 || (in[pos] & 0x80) != 0) {
+            throw new IllegalArgumentException("SM2 密文格式错误! | Malformed SM2 ciphertext!");
+        }
+
+        cursor[0] = pos + len;
+        return new BigInteger(1, Arrays.copyOfRange(in, pos, pos + len));
+    }
+
+    /**
+     * 输出数组、C2、C3 应写入的位置以及密文长度 | Output array, where C2 and C3 go, and the ciphertext length
+     */
+    private static final class Layout {
+        private final byte[] out;
+        private final int c2Off;
+        private final int c3Off;
+        private final int length;
+
+        private Layout(byte[] out, int c2Off, int c3Off, int length) {
+            this.out = out;
+            this.c2Off = c2Off;
+            this.c3Off = c3Off;
+            this.length = length;
+        }
+    }
+
+    /**
+     * C1 以及 C2、C3 在输入数组中的位置 | C1 and the positions of C2 and C3 inside the input array
+     */
+    private static final class Parts {
+        private final ECPoint c1;
+        private final int c2Off;
+        private final int c2Len;
+        private final int c3Off;
+
+        private Parts(ECPoint c1, int c2Off, int c2Len, int c3Off) {
+            this.c1 = c1;
+            this.c2Off = c2Off;
+            this.c2Len = c2Len;
+            this.c3Off = c3Off;
+        }
+    }
+}
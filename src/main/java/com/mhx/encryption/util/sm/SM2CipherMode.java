@@ -0,0 +1,39 @@
+package com.mhx.encryption.util.sm;
+
+/**
+ * @className SM2CipherMode
+ * @description SM2 密文的二进制排列方式
+ *              Binary layouts of the SM2 ciphertext
+ * @author MuHongXin.
+ * @date 2026/10/18 16:50
+ * @version v1.0.0
+ **/
+
+public enum SM2CipherMode {
+    /**
+     * C1 || C2 || C3，本项目原有的排列方式，C1 为 65 字节的非压缩点 04 || x1 || y1
+     *
+     * ----------------------------------------------------------------------------------------------丨
+     * C1 || C2 || C3, the original layout of this project, C1 is the 65 byte uncompressed point.    丨
+     * ----------------------------------------------------------------------------------------------丨
+     */
+    C1C2C3,
+
+    /**
+     * C1 || C3 || C2，GM/T 0009 规定的排列方式
+     *
+     * ----------------------------------------------------丨
+     * C1 || C3 || C2, the layout defined by GM/T 0009.    丨
+     * ----------------------------------------------------丨
+     */
+    C1C3C2,
+
+    /**
+     * GM/T 0009 ASN.1 DER 编码：SEQUENCE { XCoordinate INTEGER, YCoordinate INTEGER, HASH OCTET STRING, CipherText OCTET STRING }
+     *
+     * ------------------------------------------------------------------------------------------------------------------------丨
+     * GM/T 0009 ASN.1 DER: SEQUENCE { XCoordinate INTEGER, YCoordinate INTEGER, HASH OCTET STRING, CipherText OCTET STRING }  丨
+     * ------------------------------------------------------------------------------------------------------------------------丨
+     */
+    ASN1
+}
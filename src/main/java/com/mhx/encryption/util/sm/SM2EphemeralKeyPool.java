@@ -0,0 +1,162 @@
+package com.mhx.encryption.util.sm;
+
+import com.mhx.encryption.util.keypair.KeyPairPool;
+import org.bouncycastle.crypto.AsymmetricCipherKeyPair;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.math.ec.ECPoint;
+
+import java.math.BigInteger;
+
+/**
+ * @className SM2EphemeralKeyPool
+ * @description SM2 加密临时密钥对 (k, C1 = kG) 预生成池。后台低优先级线程在空闲 CPU 上执行固定基点乘法，
+ *              生成的密钥对放入有界队列，每个密钥对只会被取出使用一次；队列为空时在请求线程上直接生成。
+ *              安装后 SM2 加密在请求线程上只剩下可变基点乘法 k * userKey。
+ *              Pre-generation pool of SM2 encryption ephemeral key pairs (k, C1 = kG). Low priority background threads
+ *              run the fixed base multiplication on idle CPUs and put the pairs into a bounded queue, every pair is taken
+ *              and used exactly once; when the queue is empty the pair is generated on the request thread.
+ *              Once installed, SM2 encryption only does the variable base multiplication k * userKey on the request thread.
+ *              队列、后台线程和计数由 KeyPairPool 实现，本类只负责生成 (k, C1) 和全局安装
+ *              The queue, producers and counters are KeyPairPool's, this class only generates (k, C1) and handles the
+ *              global installation
+ * @author MuHongXin.
+ * @date 2026/10/18 17:20
+ * @version v1.0.0
+ **/
+
+public class SM2EphemeralKeyPool implements AutoCloseable {
+    /**
+     * 当前安装的共享密钥池，未安装时为 null，加密时直接生成临时密钥对
+     *
+     * --------------------------------------------------------------------------------------------------丨
+     * The installed shared pool, null when none is installed and the ephemeral pair is generated inline. 丨
+     * --------------------------------------------------------------------------------------------------丨
+     */
+    private static volatile SM2EphemeralKeyPool installed;
+
+    /**
+     * SM2 域参数上下文
+     *
+     * --------------------------丨
+     * SM2 domain context.       丨
+     * --------------------------丨
+     */
+    private final SM2 sm2;
+
+    /**
+     * 预生成池，C1 在后台线程上规范化，请求线程取出后直接使用
+     *
+     * --------------------------------------------------------------------------------------丨
+     * Pre-generation pool, C1 is normalized on the producer so the request thread uses it as is. 丨
+     * --------------------------------------------------------------------------------------丨
+     */
+    private final KeyPairPool<EphemeralKey> pool;
+
+    public SM2EphemeralKeyPool(SM2 sm2, int capacity, int producerCount) {
+        this.sm2 = sm2;
+        this.pool = new KeyPairPool<>("sm2-ephemeral", () -> generate(sm2), capacity, producerCount);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午5:20 2026/10/18
+     * @description: 安装共享密钥池，传入 null 时卸载，之后的 SM2 加密通过 acquire 获取临时密钥对
+     *               Install the shared pool, null uninstalls it, later SM2 encryptions get their ephemeral pair via acquire
+     * @param pool 密钥池 | key pool
+     **/
+    public static void install(SM2EphemeralKeyPool pool) {
+        installed = pool;
+    }
+
+    public static SM2EphemeralKeyPool installed() {
+        return installed;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午5:20 2026/10/18
+     * @description: 获取一个临时密钥对：已安装密钥池时从池中取出，否则直接生成
+     *               Get one ephemeral pair: taken from the installed pool, or generated inline when there is none
+     * @param sm2 SM2 域参数上下文 | SM2 domain context
+     * @return com.mhx.encryption.util.sm.SM2EphemeralKeyPool.EphemeralKey
+     **/
+    public static EphemeralKey acquire(SM2 sm2) {
+        SM2EphemeralKeyPool pool = installed;
+        return pool != null && pool.sm2 == sm2 ? pool.take() : generate(sm2);
+    }
+
+    public void start() {
+        pool.start();
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午5:20 2026/10/18
+     * @description: 从队列中取出一个临时密钥对，队列为空时在当前线程上生成，不等待后台线程
+     *               Take one ephemeral pair from the queue, generated on the current thread when the queue is empty
+     *               instead of waiting for the producers
+     * @return com.mhx.encryption.util.sm.SM2EphemeralKeyPool.EphemeralKey
+     **/
+    public EphemeralKey take() {
+        return pool.take();
+    }
+
+    @Override
+    public void close() {
+        if (installed == this) {
+            installed = null;
+        }
+        pool.close();
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    public int capacity() {
+        return pool.capacity();
+    }
+
+    public long producedCount() {
+        return pool.producedCount();
+    }
+
+    public long hitCount() {
+        return pool.hitCount();
+    }
+
+    public long fallbackCount() {
+        return pool.fallbackCount();
+    }
+
+    private static EphemeralKey generate(SM2 sm2) {
+        AsymmetricCipherKeyPair key = sm2.eccKeyPairGenerator.generateKeyPair();
+        BigInteger k = ((ECPrivateKeyParameters) key.getPrivate()).getD();
+        ECPoint c1 = ((ECPublicKeyParameters) key.getPublic()).getQ().normalize();
+        return new EphemeralKey(k, c1);
+    }
+
+    /**
+     * @className EphemeralKey
+     * @description 一次性临时密钥对，k 为随机数，c1 = kG
+     *              Single use ephemeral pair, k is the random scalar and c1 = kG
+     **/
+    public static final class EphemeralKey {
+        private final BigInteger k;
+        private final ECPoint c1;
+
+        private EphemeralKey(BigInteger k, ECPoint c1) {
+            this.k = k;
+            this.c1 = c1;
+        }
+
+        public BigInteger getK() {
+            return k;
+        }
+
+        public ECPoint getC1() {
+            return c1;
+        }
+    }
+}
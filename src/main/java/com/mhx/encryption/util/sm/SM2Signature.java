@@ -0,0 +1,198 @@
+package com.mhx.encryption.util.sm;
+
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.util.BigIntegers;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @className SM2Signature
+ * @description SM2 数字签名（GM/T 0003.2）：e = SM3(ZA || M)，ZA = SM3(ENTL || ID || a || b || xG || yG || xA || yA)。
+ *              签名的 kG 来自临时密钥对（SM2EphemeralKeyPool，固定基点倍点表），验签的 s'G + tPA 使用 Shamir 交错
+ *              多标量乘法一次完成，G 和已缓存公钥点的 wNAF 预计算表保存在点实例上复用。
+ *              签名为定长 64 字节 r || s，十六进制等文本编码只在接口层使用；ZA 的缓存由调用方（SM2Util）负责
+ *              SM2 digital signature (GM/T 0003.2): e = SM3(ZA || M), ZA = SM3(ENTL || ID || a || b || xG || yG || xA || yA).
+ *              kG of signing comes from an ephemeral pair (SM2EphemeralKeyPool, fixed base table), s'G + tPA of
+ *              verification runs as one interleaved Shamir multi scalar multiplication, the wNAF tables of G and of
+ *              cached public key points live on the point instances and are reused.
+ *              Signatures are a fixed 64 byte r || s, text encodings such as hex belong to the interface layer only;
+ *              caching ZA is up to the caller (SM2Util)
+ * @author MuHongXin.
+ * @date 2026/10/18 23:55
+ * @version v1.0.0
+ **/
+
+public class SM2Signature {
+    /**
+     * 签名长度 r || s，坐标和标量长度
+     *
+     * ------------------------------------------------------丨
+     * Signature length r || s, coordinate and scalar length. 丨
+     * ------------------------------------------------------丨
+     */
+    public static final int SIGNATURE_LENGTH = 64;
+    private static final int SCALAR_LENGTH = 32;
+
+    /**
+     * GM/T 0009 规定的默认用户标识
+     *
+     * ---------------------------------------------丨
+     * Default user ID defined by GM/T 0009.        丨
+     * ---------------------------------------------丨
+     */
+    public static final byte[] DEFAULT_USER_ID = "1234567812345678".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * ENTL 为两字节的用户标识比特长度 | ENTL is the bit length of the user ID in two bytes
+     */
+    private static final int MAXIMUM_USER_ID_LENGTH = 0xFFFF / 8;
+
+    private SM2Signature() {
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午11:55 2026/10/18
+     * @description: 计算用户杂凑值 ZA，同一公钥和用户标识的结果不变，应由调用方缓存
+     *               Compute the user hash ZA, it never changes for the same public key and user ID and should be
+     *               cached by the caller
+     * @param userId 用户标识 | user ID
+     * @param publicKey 用户公钥点 | user public key point
+     * @return byte[] 32 字节 ZA | 32 byte ZA
+     **/
+    public static byte[] z(byte[] userId, ECPoint publicKey) {
+        if (userId.length > MAXIMUM_USER_ID_LENGTH) {
+            throw new IllegalArgumentException("用户标识过长! | The user ID is too long!");
+        }
+
+        SM2 sm2 = SM2.instance();
+        ECPoint point = publicKey.normalize();
+        int entl = userId.length * 8;
+
+        SM3Digest digest = new SM3Digest();
+        digest.update((byte) (entl >>> 8));
+        digest.update((byte) entl);
+        digest.update(userId, 0, userId.length);
+        update(digest, sm2.eccCurve.getA().getEncoded());
+        update(digest, sm2.eccCurve.getB().getEncoded());
+        update(digest, sm2.eccGxFieldElement.getEncoded());
+        update(digest, sm2.eccGyFieldElement.getEncoded());
+        update(digest, point.getAffineXCoord().getEncoded());
+        update(digest, point.getAffineYCoord().getEncoded());
+
+        byte[] z = new byte[digest.getDigestSize()];
+        digest.doFinal(z, 0);
+        return z;
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午11:55 2026/10/18
+     * @description: 签名 data[off, off + len)：r = (e + x1) mod n，s = ((1 + d)^-1 * (k - r * d)) mod n
+     *               Sign data[off, off + len): r = (e + x1) mod n, s = ((1 + d)^-1 * (k - r * d)) mod n
+     * @param userD 用户私钥 | user private key
+     * @param z 签名者的 ZA | ZA of the signer
+     * @param data 消息 | message
+     * @param off 消息偏移量 | message offset
+     * @param len 消息长度 | message length
+     * @return byte[] 64 字节 r || s | 64 byte r || s
+     **/
+    public static byte[] sign(BigInteger userD, byte[] z, byte[] data, int off, int len) {
+        SM2 sm2 = SM2.instance();
+        BigInteger n = sm2.eccN;
+        if (userD.signum() <= 0 || userD.compareTo(n.subtract(BigInteger.ONE)) >= 0) {
+            throw new IllegalArgumentException("SM2私钥不在 [1, n - 2] 范围内! | The SM2 private key is out of [1, n - 2]!");
+        }
+
+        BigInteger e = digest(z, data, off, len);
+        BigInteger inverse = userD.add(BigInteger.ONE).modInverse(n);
+        while (true) {
+            SM2EphemeralKeyPool.EphemeralKey key = SM2EphemeralKeyPool.acquire(sm2);
+            BigInteger k = key.getK();
+            BigInteger r = e.add(key.getC1().getAffineXCoord().toBigInteger()).mod(n);
+            // r = 0 或 r + k = n 时换一个 k | Another k when r = 0 or r + k = n
+            if (r.signum() == 0 || r.add(k).equals(n)) {
+                continue;
+            }
+
+            BigInteger s = inverse.multiply(k.subtract(r.multiply(userD))).mod(n);
+            if (s.signum() == 0) {
+                continue;
+            }
+
+            byte[] signature = new byte[SIGNATURE_LENGTH];
+            BigIntegers.asUnsignedByteArray(r, signature, 0, SCALAR_LENGTH);
+            BigIntegers.asUnsignedByteArray(s, signature, SCALAR_LENGTH, SCALAR_LENGTH);
+            return signature;
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午11:55 2026/10/18
+     * @description: 验证 data[off, off + len) 的签名：t = (r + s) mod n，(x1, y1) = sG + tPA，R = (e + x1) mod n 应等于 r。
+     *               签名格式或取值不合法时返回 false，不抛出异常
+     *               Verify the signature of data[off, off + len): t = (r + s) mod n, (x1, y1) = sG + tPA and
+     *               R = (e + x1) mod n must equal r. A malformed or out of range signature returns false instead of throwing
+     * @param publicKey 签名者公钥点，重复使用同一实例时 wNAF 预计算表可以复用 | signer public key point, reusing one instance reuses its wNAF table
+     * @param z 签名者的 ZA | ZA of the signer
+     * @param data 消息 | message
+     * @param off 消息偏移量 | message offset
+     * @param len 消息长度 | message length
+     * @param signature 签名 | signature
+     * @param sigOff 签名偏移量 | signature offset
+     * @param sigLen 签名长度 | signature length
+     * @return boolean
+     **/
+    public static boolean verify(ECPoint publicKey, byte[] z, byte[] data, int off, int len, byte[] signature, int sigOff, int sigLen) {
+        if (sigLen != SIGNATURE_LENGTH) {
+            return false;
+        }
+
+        SM2 sm2 = SM2.instance();
+        BigInteger n = sm2.eccN;
+        BigInteger r = new BigInteger(1, slice(signature, sigOff));
+        BigInteger s = new BigInteger(1, slice(signature, sigOff + SCALAR_LENGTH));
+        if (r.signum() == 0 || r.compareTo(n) >= 0 || s.signum() == 0 || s.compareTo(n) >= 0) {
+            return false;
+        }
+
+        BigInteger t = r.add(s).mod(n);
+        if (t.signum() == 0) {
+            return false;
+        }
+
+        // Shamir：一次交错的加倍-加法链同时完成 sG 和 tPA | Shamir: one interleaved double and add chain computes sG and tPA together
+        ECPoint point = ECAlgorithms.sumOfTwoMultiplies(sm2.eccPointG, s, publicKey, t).normalize();
+        if (point.isInfinity()) {
+            return false;
+        }
+
+        BigInteger e = digest(z, data, off, len);
+        return e.add(point.getAffineXCoord().toBigInteger()).mod(n).equals(r);
+    }
+
+    /**
+     * e = SM3(ZA || M)
+     */
+    private static BigInteger digest(byte[] z, byte[] data, int off, int len) {
+        SM3Digest digest = new SM3Digest();
+        digest.update(z, 0, z.length);
+        digest.update(data, off, len);
+        byte[] e = new byte[digest.getDigestSize()];
+        digest.doFinal(e, 0);
+        return new BigInteger(1, e);
+    }
+
+    private static void update(SM3Digest digest, byte[] in) {
+        digest.update(in, 0, in.length);
+    }
+
+    private static byte[] slice(byte[] in, int off) {
+        byte[] out = new byte[SCALAR_LENGTH];
+        System.arraycopy(in, off, out, 0, SCALAR_LENGTH);
+        return out;
+    }
+}
@@ -2,15 +2,19 @@ package com.mhx.encryption.util.sm;
 
 import com.alibaba.fastjson.JSON;
 import com.mhx.encryption.common.ErrorCodeEnum;
+import com.mhx.encryption.util.cache.BoundedCache;
+import com.mhx.encryption.util.codec.HexCodec;
 import org.bouncycastle.crypto.AsymmetricCipherKeyPair;
 import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.util.BigIntegers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.thymeleaf.util.StringUtils;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
@@ -23,6 +27,26 @@ import java.util.Arrays;
 public class SM2Util {
     private static final Logger logger = LoggerFactory.getLogger(SM2Util.class);
 
+    /**
+     * 最多缓存的接收方公钥数量
+     */
+    private static final int MAXIMUM_PUBLIC_KEYS = 1024;
+
+    /**
+     * 接收方公钥缓存：公钥编码 -> 已解码并预计算倍点表的点
+     */
+    private static final BoundedCache<ByteBuffer, ECPoint> PUBLIC_KEY_CACHE = new BoundedCache<>(MAXIMUM_PUBLIC_KEYS);
+
+    /**
+     * 签名者 ZA 缓存：用户标识长度 || 用户标识 || 公钥编码 -> ZA
+     */
+    private static final BoundedCache<ByteBuffer, byte[]> Z_CACHE = new BoundedCache<>(MAXIMUM_PUBLIC_KEYS);
+
+    /**
+     * 已校验匹配的签名密钥对：SM3(私钥 || 公钥编码) -> TRUE，只保存摘要而不保存私钥本身，不匹配的密钥对不进入缓存
+     */
+    private static final BoundedCache<ByteBuffer, Boolean> KEY_PAIR_CACHE = new BoundedCache<>(MAXIMUM_PUBLIC_KEYS);
+
     //生成随机秘钥对  
     public static SM2KeyPair generateKeyPair() {
         SM2 sm2 = SM2.instance();
@@ -33,7 +57,7 @@ public class SM2Util {
         BigInteger privateKey = ecPrivateKeyParameters.getD();
         ECPoint publicKey = ecPublicKeyParameters.getQ();
 
-        return new SM2KeyPair(DataConversionUtils.byteToHex(publicKey.getEncoded()), DataConversionUtils.byteToHex(privateKey.toByteArray()));
+        return new SM2KeyPair(HexCodec.encode(publicKey.getEncoded(false)), HexCodec.encode(privateKey.toByteArray()));
     }
 
     public static <T> T JSON2Entity(String data, Class<T> clazz) {
@@ -52,7 +76,7 @@ public class SM2Util {
     }
 
     /**
-    * @Description: 加密
+    * @Description: 加密，返回 C1C2C3 排列的十六进制密文
     * @Author: MuHongXin
     * @DateTime: 下午6:25 2022/8/17
     * @Params: [publicKey, data]
@@ -62,64 +86,319 @@ public class SM2Util {
         if (StringUtils.isEmpty(publicKey) || StringUtils.isEmpty(data)) {
             return null;
         }
-        byte[] publicKeyBytes = DataConversionUtils.hexToByte(publicKey);
-        byte[] dataBytes = data.getBytes();
-        byte[] source = new byte[dataBytes.length];
-        System.arraycopy(dataBytes, 0, source, 0, dataBytes.length);
 
-        Cipher cipher = new Cipher();
-        SM2 sm2 = SM2.instance();
-        ECPoint userKey = sm2.eccCurve.decodePoint(publicKeyBytes);
-
-        ECPoint c1 = cipher.initEnc(sm2, userKey);
-        cipher.encrypt(source);
-        byte[] c3 = new byte[32];
-        cipher.doFinal(c3);
-
-        //C1 C2 C3拼装成加密字串
-        return DataConversionUtils.byteToHex(c1.getEncoded()) + DataConversionUtils.byteToHex(source) + DataConversionUtils.byteToHex(c3);
+        //C1 C2 C3拼装成加密字节，十六进制只在输出时编码一次
+        return HexCodec.encode(encrypt(HexCodec.decode(publicKey), data.getBytes(), SM2CipherMode.C1C2C3));
     }
 
     /**
-    * @Description: 解密
+    * @Description: 解密 C1C2C3 排列的十六进制密文，C3 校验失败时抛出 IllegalArgumentException
     * @Author: MuHongXin
     * @DateTime: 下午6:25 2022/8/17
     * @Params: [privateKey, encryptedData]
-    * @Return: byte[]
+    * @Return: java.lang.String
     */
     public static String decrypt(String privateKey, String encryptedData) {
         if (StringUtils.isEmpty(privateKey) || StringUtils.isEmpty(encryptedData)) {
             return null;
         }
 
-        byte[] privateBytes = DataConversionUtils.hexToByte(privateKey);
-        byte[] encryptedDataBytes = DataConversionUtils.hexToByte(encryptedData);
-
-        //加密字节数组转换为十六进制的字符串 长度变为encryptedData.length * 2  
-        String data = DataConversionUtils.byteToHex(encryptedDataBytes);
-        /**
-         * 分解加密字串
-         * （C1 = C1标志位2位 + C1实体部分128位 = 130） 
-         * （C3 = C3实体部分64位  = 64） 
-         * （C2 = encryptedData.length * 2 - C1长度  - C2长度） 
-         */
-        byte[] c1Bytes = DataConversionUtils.hexToByte(data.substring(0, 130));
-        int c2Len = encryptedDataBytes.length - 97;
-        byte[] c2 = DataConversionUtils.hexToByte(data.substring(130, 130 + 2 * c2Len));
-        byte[] c3 = DataConversionUtils.hexToByte(data.substring(130 + 2 * c2Len, 194 + 2 * c2Len));
+        //返回解密结果  
+        byte[] plaintext = decrypt(HexCodec.decode(privateKey), HexCodec.decode(encryptedData), SM2CipherMode.C1C2C3);
+        return new String(plaintext, StandardCharsets.UTF_8);
+    }
+
+    /**
+    * @Description: 二进制加密，按 mode 排列 C1、C2、C3
+    *               Binary encryption, C1, C2 and C3 are laid out as 'mode'
+    * @Author: MuHongXin
+    * @DateTime: 下午4:50 2026/10/18
+    * @Params: [publicKey 公钥点编码 | encoded public key point, data 明文 | plaintext, mode 密文排列方式 | ciphertext layout]
+    * @Return: byte[]
+    */
+    public static byte[] encrypt(byte[] publicKey, byte[] data, SM2CipherMode mode) {
+        return encrypt(publicKey, data, 0, data.length, mode);
+    }
+
+    /**
+    * @Description: 二进制加密 data[off, off + len)，按 mode 排列 C1、C2、C3
+    *               Binary encryption of data[off, off + len), C1, C2 and C3 are laid out as 'mode'
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [publicKey 公钥点编码 | encoded public key point, data 明文 | plaintext, off 偏移量 | offset, len 长度 | length, mode 密文排列方式 | ciphertext layout]
+    * @Return: byte[]
+    */
+    public static byte[] encrypt(byte[] publicKey, byte[] data, int off, int len, SM2CipherMode mode) {
+        return SM2CipherCodec.encrypt(decodePublicKey(publicKey), data, off, len, mode);
+    }
+
+    /**
+    * @Description: 二进制加密，密文写入调用方提供的数组，输出至少需要 SM2CipherCodec.maximumLength(len, mode) 字节
+    *               Binary encryption into the array supplied by the caller, the output needs
+    *               SM2CipherCodec.maximumLength(len, mode) bytes
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [publicKey 公钥点编码 | encoded public key point, data 明文 | plaintext, off 偏移量 | offset, len 长度 | length,
+    *           mode 密文排列方式 | ciphertext layout, out 输出 | output, outOff 输出偏移量 | output offset]
+    * @Return: int 密文长度 | ciphertext length
+    */
+    public static int encrypt(byte[] publicKey, byte[] data, int off, int len, SM2CipherMode mode, byte[] out, int outOff) {
+        return SM2CipherCodec.encrypt(decodePublicKey(publicKey), data, off, len, mode, out, outOff);
+    }
+
+    /**
+    * @Description: 缓冲区加密，读取 input 的剩余字节并写入 output，两者的 position 都前移；非堆缓冲区经过一次复制，
+    *               与椭圆曲线运算相比可以忽略
+    *               Buffer encryption, reading the remaining bytes of 'input' into 'output' and advancing both positions;
+    *               buffers without an array are copied once, which is negligible next to the curve arithmetic
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [publicKey 公钥点编码 | encoded public key point, input 明文 | plaintext, output 密文输出 | ciphertext output, mode 密文排列方式 | ciphertext layout]
+    * @Return: int 密文长度 | ciphertext length
+    */
+    public static int encrypt(byte[] publicKey, ByteBuffer input, ByteBuffer output, SM2CipherMode mode) {
+        ECPoint userKey = decodePublicKey(publicKey);
+        byte[] data = array(input);
+        int off = input.hasArray() ? input.arrayOffset() + input.position() : 0;
+        int len = input.remaining();
+        if (output.hasArray()) {
+            int n = SM2CipherCodec.encrypt(userKey, data, off, len, mode, output.array(), output.arrayOffset() + output.position());
+            output.position(output.position() + n);
+            input.position(input.limit());
+            return n;
+        }
+
+        byte[] cipherText = SM2CipherCodec.encrypt(userKey, data, off, len, mode);
+        if (output.remaining() < cipherText.length) {
+            throw new IllegalArgumentException("输出缓冲区不足，需要 " + cipherText.length + " 字节! | The output buffer needs " + cipherText.length + " bytes!");
+        }
+        output.put(cipherText);
+        input.position(input.limit());
+        return cipherText.length;
+    }
+
+    /**
+    * @Description: 解码接收方公钥，结果连同预计算的倍点表一起缓存，重复加密给同一接收方时不再解码和冷启动标量乘法
+    *               Decode a recipient public key, the point is cached together with its precomputed table, so repeated
+    *               encryption to the same recipient neither decodes again nor runs a cold scalar multiplication
+    * @Author: MuHongXin
+    * @DateTime: 下午5:50 2026/10/18
+    * @Params: [publicKey 公钥点编码 | encoded public key point]
+    * @Return: org.bouncycastle.math.ec.ECPoint
+    */
+    public static ECPoint decodePublicKey(byte[] publicKey) {
+        return PUBLIC_KEY_CACHE.get(ByteBuffer.wrap(publicKey.clone()), key -> {
+            SM2 sm2 = SM2.instance();
+            return sm2.precompute(sm2.eccCurve.decodePoint(publicKey));
+        });
+    }
+
+    public static BoundedCache<ByteBuffer, ECPoint> publicKeyCache() {
+        return PUBLIC_KEY_CACHE;
+    }
+
+    /**
+    * @Description: 签名，使用默认用户标识，返回十六进制 r || s
+    *               Sign with the default user ID, returning hex r || s
+    * @Author: MuHongXin
+    * @DateTime: 下午11:55 2026/10/18
+    * @Params: [privateKey 十六进制私钥 | hex private key, publicKey 十六进制公钥 | hex public key, data 消息 | message]
+    * @Return: java.lang.String
+    */
+    public static String sign(String privateKey, String publicKey, String data) {
+        if (StringUtils.isEmpty(privateKey) || StringUtils.isEmpty(publicKey) || data == null) {
+            return null;
+        }
+
+        byte[] signature = sign(HexCodec.decode(privateKey), HexCodec.decode(publicKey), SM2Signature.DEFAULT_USER_ID,
+                data.getBytes(StandardCharsets.UTF_8));
+        return HexCodec.encode(signature);
+    }
+
+    /**
+    * @Description: 验签，使用默认用户标识，签名为十六进制 r || s；签名格式不合法时返回 false
+    *               Verify with the default user ID, the signature is hex r || s; a malformed signature returns false
+    * @Author: MuHongXin
+    * @DateTime: 下午11:55 2026/10/18
+    * @Params: [publicKey 十六进制公钥 | hex public key, data 消息 | message, signature 十六进制签名 | hex signature]
+    * @Return: boolean
+    */
+    public static boolean verify(String publicKey, String data, String signature) {
+        if (StringUtils.isEmpty(publicKey) || data == null || StringUtils.isEmpty(signature)) {
+            return false;
+        }
+
+        byte[] sig;
+        try {
+            sig = HexCodec.decode(signature);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return verify(HexCodec.decode(publicKey), SM2Signature.DEFAULT_USER_ID, data.getBytes(StandardCharsets.UTF_8), sig);
+    }
 
+    /**
+    * @Description: 二进制签名，返回 64 字节 r || s；签名者的 ZA 按公钥和用户标识缓存。ZA 来自传入的公钥，
+    *               公钥不是 d·G 时签出的签名用该公钥永远验证不过，因此先校验密钥对，不匹配时抛出 IllegalArgumentException
+    *               Binary signing, returning a 64 byte r || s; ZA of the signer is cached by public key and user ID.
+    *               ZA comes from the given public key, a public key other than d·G would give signatures that never
+    *               verify under it, so the key pair is checked first and a mismatch throws IllegalArgumentException
+    * @Author: MuHongXin
+    * @DateTime: 下午11:55 2026/10/18
+    * @Params: [privateKey 私钥 | private key, publicKey 公钥点编码 | encoded public key point, userId 用户标识 | user ID, data 消息 | message]
+    * @Return: byte[]
+    */
+    public static byte[] sign(byte[] privateKey, byte[] publicKey, byte[] userId, byte[] data) {
+        BigInteger userD = new BigInteger(1, privateKey);
+        checkKeyPair(userD, publicKey);
+        return SM2Signature.sign(userD, z(publicKey, userId), data, 0, data.length);
+    }
+
+    /**
+    * @Description: 校验公钥是否等于 d·G；同一密钥对只做一次固定基点乘法，之后按 SM3(私钥 || 公钥编码) 命中缓存
+    *               Check that the public key equals d·G; one fixed base multiplication per key pair, afterwards
+    *               SM3(private key || encoded public key) hits the cache
+    * @Author: MuHongXin
+    * @DateTime: 下午4:20 2026/10/19
+    * @Params: [userD 私钥 | private key, publicKey 公钥点编码 | encoded public key point]
+    * @Return: void
+    */
+    private static void checkKeyPair(BigInteger userD, byte[] publicKey) {
         SM2 sm2 = SM2.instance();
-        BigInteger userD = new BigInteger(1, privateBytes);
+        if (userD.signum() <= 0 || userD.compareTo(sm2.eccN.subtract(BigInteger.ONE)) >= 0) {
+            throw new IllegalArgumentException("SM2私钥不在 [1, n - 2] 范围内! | The SM2 private key is out of [1, n - 2]!");
+        }
 
-        //通过C1实体字节来生成ECPoint  
-        ECPoint c1 = sm2.eccCurve.decodePoint(c1Bytes);
-        Cipher cipher = new Cipher();
-        cipher.initDec(userD, c1);
-        cipher.decrypt(c2);
-        cipher.doFinal(c3);
+        byte[] d = BigIntegers.asUnsignedByteArray(32, userD);
+        SM3Digest digest = new SM3Digest();
+        digest.update(d, 0, d.length);
+        digest.update(publicKey, 0, publicKey.length);
+        byte[] fingerprint = new byte[digest.getDigestSize()];
+        digest.doFinal(fingerprint, 0);
+        Arrays.fill(d, (byte) 0);
 
-        //返回解密结果  
-        return new String(c2, StandardCharsets.UTF_8);
+        KEY_PAIR_CACHE.get(ByteBuffer.wrap(fingerprint), key -> {
+            if (!sm2.multiply(sm2.eccPointG, userD).equals(decodePublicKey(publicKey))) {
+                throw new IllegalArgumentException("公钥与私钥不匹配! | The public key does not match the private key!");
+            }
+            return Boolean.TRUE;
+        });
+    }
+
+    public static BoundedCache<ByteBuffer, Boolean> keyPairCache() {
+        return KEY_PAIR_CACHE;
+    }
+
+    /**
+    * @Description: 二进制验签，签名为 64 字节 r || s；公钥点和 ZA 都来自缓存
+    *               Binary verification of a 64 byte r || s signature; both the public key point and ZA come from the caches
+    * @Author: MuHongXin
+    * @DateTime: 下午11:55 2026/10/18
+    * @Params: [publicKey 公钥点编码 | encoded public key point, userId 用户标识 | user ID, data 消息 | message, signature 签名 | signature]
+    * @Return: boolean
+    */
+    public static boolean verify(byte[] publicKey, byte[] userId, byte[] data, byte[] signature) {
+        return SM2Signature.verify(decodePublicKey(publicKey), z(publicKey, userId), data, 0, data.length,
+                signature, 0, signature.length);
+    }
+
+    /**
+    * @Description: 获取签名者的 ZA，同一公钥和用户标识只计算一次
+    *               Get ZA of the signer, computed once per public key and user ID
+    * @Author: MuHongXin
+    * @DateTime: 下午11:55 2026/10/18
+    * @Params: [publicKey 公钥点编码 | encoded public key point, userId 用户标识 | user ID]
+    * @Return: byte[]
+    */
+    public static byte[] z(byte[] publicKey, byte[] userId) {
+        // 标识长度前缀使键无歧义 | The ID length prefix keeps the key unambiguous
+        ByteBuffer key = ByteBuffer.allocate(2 + userId.length + publicKey.length);
+        key.putShort((short) userId.length).put(userId).put(publicKey).flip();
+        return Z_CACHE.get(key, k -> SM2Signature.z(userId, decodePublicKey(publicKey)));
+    }
+
+    public static BoundedCache<ByteBuffer, byte[]> zCache() {
+        return Z_CACHE;
+    }
+
+    /**
+    * @Description: 二进制解密，按 mode 解析密文并校验 C3，校验失败时抛出 IllegalArgumentException
+    *               Binary decryption, the ciphertext is parsed as 'mode' and C3 is checked,
+    *               an IllegalArgumentException is thrown when the check fails
+    * @Author: MuHongXin
+    * @DateTime: 下午4:50 2026/10/18
+    * @Params: [privateKey 私钥 | private key, cipherText 密文 | ciphertext, mode 密文排列方式 | ciphertext layout]
+    * @Return: byte[]
+    */
+    public static byte[] decrypt(byte[] privateKey, byte[] cipherText, SM2CipherMode mode) {
+        return decrypt(privateKey, cipherText, 0, cipherText.length, mode);
+    }
+
+    /**
+    * @Description: 二进制解密 cipherText[off, off + len)，校验失败时抛出 IllegalArgumentException
+    *               Binary decryption of cipherText[off, off + len), an IllegalArgumentException is thrown when the check fails
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [privateKey 私钥 | private key, cipherText 密文 | ciphertext, off 偏移量 | offset, len 长度 | length, mode 密文排列方式 | ciphertext layout]
+    * @Return: byte[]
+    */
+    public static byte[] decrypt(byte[] privateKey, byte[] cipherText, int off, int len, SM2CipherMode mode) {
+        return SM2CipherCodec.decrypt(new BigInteger(1, privateKey), cipherText, off, len, mode);
+    }
+
+    /**
+    * @Description: 二进制解密，明文写入调用方提供的数组；校验失败时已写出的明文被清零并抛出 IllegalArgumentException
+    *               Binary decryption into the array supplied by the caller; when the check fails the written plaintext
+    *               is zeroed and an IllegalArgumentException is thrown
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [privateKey 私钥 | private key, cipherText 密文 | ciphertext, off 偏移量 | offset, len 长度 | length,
+    *           mode 密文排列方式 | ciphertext layout, out 输出 | output, outOff 输出偏移量 | output offset]
+    * @Return: int 明文长度 | plaintext length
+    */
+    public static int decrypt(byte[] privateKey, byte[] cipherText, int off, int len, SM2CipherMode mode, byte[] out, int outOff) {
+        return SM2CipherCodec.decrypt(new BigInteger(1, privateKey), cipherText, off, len, mode, out, outOff);
+    }
+
+    /**
+    * @Description: 缓冲区解密，读取 input 的剩余字节并写入 output，两者的 position 都前移
+    *               Buffer decryption, reading the remaining bytes of 'input' into 'output' and advancing both positions
+    * @Author: MuHongXin
+    * @DateTime: 下午9:40 2026/10/18
+    * @Params: [privateKey 私钥 | private key, input 密文 | ciphertext, output 明文输出 | plaintext output, mode 密文排列方式 | ciphertext layout]
+    * @Return: int 明文长度 | plaintext length
+    */
+    public static int decrypt(byte[] privateKey, ByteBuffer input, ByteBuffer output, SM2CipherMode mode) {
+        BigInteger userD = new BigInteger(1, privateKey);
+        byte[] cipherText = array(input);
+        int off = input.hasArray() ? input.arrayOffset() + input.position() : 0;
+        int len = input.remaining();
+        if (output.hasArray()) {
+            int n = SM2CipherCodec.decrypt(userD, cipherText, off, len, mode, output.array(), output.arrayOffset() + output.position());
+            output.position(output.position() + n);
+            input.position(input.limit());
+            return n;
+        }
+
+        byte[] plaintext = SM2CipherCodec.decrypt(userD, cipherText, off, len, mode);
+        if (output.remaining() < plaintext.length) {
+            throw new IllegalArgumentException("输出缓冲区不足，需要 " + plaintext.length + " 字节! | The output buffer needs " + plaintext.length + " bytes!");
+        }
+        output.put(plaintext);
+        input.position(input.limit());
+        return plaintext.length;
+    }
+
+    /**
+     * 堆缓冲区直接返回其数组，其余缓冲区复制剩余字节 | The array of a heap buffer, or a copy of the remaining bytes of any other buffer
+     */
+    private static byte[] array(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return buffer.array();
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return copy;
     }
 
 //    public static void main(String[] args) throws Exception {
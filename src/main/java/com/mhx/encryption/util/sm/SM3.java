@@ -27,169 +27,51 @@ public class SM3 {
         }
     }
 
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午1:30 2026/10/18
+     * @description: 压缩函数，V 和 B 均为大端字节序，计算由 SM3Engine 在 int 状态上完成
+     *               Compression function, V and B are big endian bytes, the work is done on int state by SM3Engine
+     * @param V 32 字节链接变量 | 32 byte chaining variable
+     * @param B 64 字节消息分组 | 64 byte message block
+     * @return byte[] 新的链接变量 | the new chaining variable
+     **/
     public static byte[] CF(byte[] V, byte[] B) {
-        int[] v, b;
-        v = convert(V);
-        b = convert(B);
-        return convert(CF(v, b));
+        SM3Engine engine = new SM3Engine();
+        engine.setState(convert(V), 0);
+        engine.processBlock(B, 0);
+        byte[] out = new byte[32];
+        engine.getDigest(out, 0);
+        return out;
     }
 
     private static int[] convert(byte[] arr) {
         int[] out = new int[arr.length / 4];
-        byte[] tmp = new byte[4];
-        for (int i = 0; i < arr.length; i += 4) {
-            System.arraycopy(arr, i, tmp, 0, 4);
-            out[i / 4] = bigEndianByteToInt(tmp);
-        }
-        return out;
-    }
-
-    private static byte[] convert(int[] arr) {
-        byte[] out = new byte[arr.length * 4];
-        byte[] tmp = null;
-        for (int i = 0; i < arr.length; i++) {
-            tmp = bigEndianIntToByte(arr[i]);
-            System.arraycopy(tmp, 0, out, i * 4, 4);
+        for (int i = 0; i < out.length; i++) {
+            int j = i * 4;
+            out[i] = (arr[j] << 24) | ((arr[j + 1] & 0xff) << 16) | ((arr[j + 2] & 0xff) << 8) | (arr[j + 3] & 0xff);
         }
         return out;
     }
 
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午1:30 2026/10/18
+     * @description: 压缩函数，V 为 8 个 int，B 为 16 个 int
+     *               Compression function, V is 8 ints and B is 16 ints
+     * @param V 链接变量 | chaining variable
+     * @param B 消息分组 | message block
+     * @return int[] 新的链接变量 | the new chaining variable
+     **/
     public static int[] CF(int[] V, int[] B) {
-        int a, b, c, d, e, f, g, h;
-        int ss1, ss2, tt1, tt2;
-        a = V[0];
-        b = V[1];
-        c = V[2];
-        d = V[3];
-        e = V[4];
-        f = V[5];
-        g = V[6];
-        h = V[7];
-
-        int[][] arr = expand(B);
-        int[] w = arr[0];
-        int[] w1 = arr[1];
-
-        for (int j = 0; j < 64; j++) {
-            ss1 = (bitCycleLeft(a, 12) + e + bitCycleLeft(Tj[j], j));
-            ss1 = bitCycleLeft(ss1, 7);
-            ss2 = ss1 ^ bitCycleLeft(a, 12);
-            tt1 = FFj(a, b, c, j) + d + ss2 + w1[j];
-            tt2 = GGj(e, f, g, j) + h + ss1 + w[j];
-            d = c;
-            c = bitCycleLeft(b, 9);
-            b = a;
-            a = tt1;
-            h = g;
-            g = bitCycleLeft(f, 19);
-            f = e;
-            e = P0(tt2);
-
-		            /*System.out.print(j+" ");
-		            System.out.print(Integer.toHexString(a)+" ");
-		            System.out.print(Integer.toHexString(b)+" ");
-		            System.out.print(Integer.toHexString(c)+" ");
-		            System.out.print(Integer.toHexString(d)+" ");
-		            System.out.print(Integer.toHexString(e)+" ");
-		            System.out.print(Integer.toHexString(f)+" ");
-		            System.out.print(Integer.toHexString(g)+" ");
-		            System.out.print(Integer.toHexString(h)+" ");
-		            System.out.println("");*/
-        }
-//		      System.out.println("");
-
+        SM3Engine engine = new SM3Engine();
+        engine.setState(V, 0);
+        engine.processBlock(B, 0);
         int[] out = new int[8];
-        out[0] = a ^ V[0];
-        out[1] = b ^ V[1];
-        out[2] = c ^ V[2];
-        out[3] = d ^ V[3];
-        out[4] = e ^ V[4];
-        out[5] = f ^ V[5];
-        out[6] = g ^ V[6];
-        out[7] = h ^ V[7];
-
+        engine.getState(out, 0);
         return out;
     }
 
-    private static int[][] expand(int[] B) {
-        int W[] = new int[68];
-        int W1[] = new int[64];
-        for (int i = 0; i < B.length; i++) {
-            W[i] = B[i];
-        }
-
-        for (int i = 16; i < 68; i++) {
-            W[i] = P1(W[i - 16] ^ W[i - 9] ^ bitCycleLeft(W[i - 3], 15))
-                    ^ bitCycleLeft(W[i - 13], 7) ^ W[i - 6];
-        }
-
-        for (int i = 0; i < 64; i++) {
-            W1[i] = W[i] ^ W[i + 4];
-        }
-
-        int arr[][] = new int[][]{W, W1};
-        return arr;
-    }
-
-    private static byte[] bigEndianIntToByte(int num) {
-        return back(DataConversionUtils.intToBytes(num));
-    }
-
-    private static int bigEndianByteToInt(byte[] bytes) {
-        return DataConversionUtils.byteToInt(back(bytes));
-    }
-
-    private static int FFj(int X, int Y, int Z, int j) {
-        if (j >= 0 && j <= 15) {
-            return FF1j(X, Y, Z);
-        } else {
-            return FF2j(X, Y, Z);
-        }
-    }
-
-    private static int GGj(int X, int Y, int Z, int j) {
-        if (j >= 0 && j <= 15) {
-            return GG1j(X, Y, Z);
-        } else {
-            return GG2j(X, Y, Z);
-        }
-    }
-
-    // 逻辑位运算函数
-    private static int FF1j(int X, int Y, int Z) {
-        int tmp = X ^ Y ^ Z;
-        return tmp;
-    }
-
-    private static int FF2j(int X, int Y, int Z) {
-        int tmp = ((X & Y) | (X & Z) | (Y & Z));
-        return tmp;
-    }
-
-    private static int GG1j(int X, int Y, int Z) {
-        int tmp = X ^ Y ^ Z;
-        return tmp;
-    }
-
-    private static int GG2j(int X, int Y, int Z) {
-        int tmp = (X & Y) | (~X & Z);
-        return tmp;
-    }
-
-    private static int P0(int X) {
-        int y = rotateLeft(X, 9);
-        y = bitCycleLeft(X, 9);
-        int z = rotateLeft(X, 17);
-        z = bitCycleLeft(X, 17);
-        int t = X ^ y ^ z;
-        return t;
-    }
-
-    private static int P1(int X) {
-        int t = X ^ bitCycleLeft(X, 15) ^ bitCycleLeft(X, 23);
-        return t;
-    }
-
     /**
      * 对最后一个分组字节数据padding
      *
@@ -205,7 +87,7 @@ public class SM3 {
         k += 1;
         byte[] padd = new byte[k / 8];
         padd[0] = (byte) 0x80;
-        long n = in.length * 8 + bLen * 512;
+        long n = in.length * 8L + bLen * 512L;
         byte[] out = new byte[in.length + k / 8 + 64 / 8];
         int pos = 0;
         System.arraycopy(in, 0, out, 0, in.length);
@@ -233,42 +115,6 @@ public class SM3 {
     }
 
     public static int rotateLeft(int x, int n) {
-        return (x << n) | (x >> (32 - n));
-    }
-
-    private static int bitCycleLeft(int n, int bitLen) {
-        bitLen %= 32;
-        byte[] tmp = bigEndianIntToByte(n);
-        int byteLen = bitLen / 8;
-        int len = bitLen % 8;
-        if (byteLen > 0) {
-            tmp = byteCycleLeft(tmp, byteLen);
-        }
-
-        if (len > 0) {
-            tmp = bitSmall8CycleLeft(tmp, len);
-        }
-
-        return bigEndianByteToInt(tmp);
-    }
-
-    private static byte[] bitSmall8CycleLeft(byte[] in, int len) {
-        byte[] tmp = new byte[in.length];
-        int t1, t2, t3;
-        for (int i = 0; i < tmp.length; i++) {
-            t1 = (byte) ((in[i] & 0x000000ff) << len);
-            t2 = (byte) ((in[(i + 1) % tmp.length] & 0x000000ff) >> (8 - len));
-            t3 = (byte) (t1 | t2);
-            tmp[i] = (byte) t3;
-        }
-
-        return tmp;
-    }
-
-    private static byte[] byteCycleLeft(byte[] in, int byteLen) {
-        byte[] tmp = new byte[in.length];
-        System.arraycopy(in, byteLen, tmp, 0, in.length - byteLen);
-        System.arraycopy(in, 0, tmp, in.length - byteLen, byteLen);
-        return tmp;
+        return Integer.rotateLeft(x, n);
     }
 }
@@ -1,10 +1,21 @@
 package com.mhx.encryption.util.sm;
 
-import org.bouncycastle.util.encoders.Hex;
+import com.mhx.encryption.util.codec.HexCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * @author MuHongXin.
  * @Description: SM3 信息摘要加密工具
+ *               完整的 64 字节分组直接从调用方的缓冲区压缩，只有不足一个分组的尾部进入内部缓冲区，
+ *               doFinal 在内部缓冲区中原地填充，不再复制数据，因此哈希任意大小的输入时堆内存占用保持不变
+ *
+ *               Full 64 byte blocks are compressed straight from the caller's buffer, only the tail shorter
+ *               than a block goes to the internal buffer, and doFinal pads in place without copying,
+ *               so hashing inputs of any size keeps a flat heap
  * @data 2022/8/17 下午5:03
  */
 
@@ -24,6 +35,11 @@ public class SM3Digest {
      */
     private static final int BUFFER_LENGTH = BLOCK_LENGTH * 1;
 
+    /**
+     * 读取输入流和文件通道时使用的缓冲区长度
+     */
+    private static final int STREAM_BUFFER_LENGTH = 256 * 1024;
+
     /**
      * 缓冲区
      */
@@ -35,11 +51,20 @@ public class SM3Digest {
     private int xBufOff;
 
     /**
-     * 初始向量
+     * 压缩函数引擎，持有 int 形式的链接变量
+     */
+    private final SM3Engine engine = new SM3Engine();
+
+    /**
+     * 已输入的消息字节数
      */
-    private byte[] V = SM3.iv.clone();
+    private long byteCount;
 
-    private int cntBlock = 0;
+    /**
+     * 读取输入流和文件通道时复用的缓冲区，首次使用时创建
+     */
+    private byte[] streamBuf;
+    private ByteBuffer channelBuf;
 
     public SM3Digest() {
     }
@@ -47,26 +72,42 @@ public class SM3Digest {
     public SM3Digest(SM3Digest t) {
         System.arraycopy(t.xBuf, 0, this.xBuf, 0, t.xBuf.length);
         this.xBufOff = t.xBufOff;
-        System.arraycopy(t.V, 0, this.V, 0, t.V.length);
+        this.byteCount = t.byteCount;
+        this.engine.copyState(t.engine);
     }
 
     /**
-     * SM3结果输出
+     * SM3结果输出，输出后摘要对象被重置
      *
      * @param out    保存SM3结构的缓冲区
      * @param outOff 缓冲区偏移量
      * @return
      */
     public int doFinal(byte[] out, int outOff) {
-        byte[] tmp = doFinal();
-        System.arraycopy(tmp, 0, out, 0, tmp.length);
+        long bitLength = byteCount << 3;
+
+        // 原地填充：0x80、补零、64 位大端消息长度 | Pad in place: 0x80, zeros, 64 bit big endian message length
+        xBuf[xBufOff++] = (byte) 0x80;
+        if (xBufOff > BLOCK_LENGTH - 8) {
+            fill(xBufOff, BLOCK_LENGTH);
+            engine.processBlock(xBuf, 0);
+            xBufOff = 0;
+        }
+        fill(xBufOff, BLOCK_LENGTH - 8);
+        for (int i = 0; i < 8; i++) {
+            xBuf[BLOCK_LENGTH - 1 - i] = (byte) (bitLength >>> (i * 8));
+        }
+        engine.processBlock(xBuf, 0);
+
+        engine.getDigest(out, outOff);
+        reset();
         return BYTE_LENGTH;
     }
 
     public void reset() {
         xBufOff = 0;
-        cntBlock = 0;
-        V = SM3.iv.clone();
+        byteCount = 0;
+        engine.reset();
     }
 
     /**
@@ -77,62 +118,160 @@ public class SM3Digest {
      * @param len   明文长度
      */
     public void update(byte[] in, int inOff, int len) {
-        int partLen = BUFFER_LENGTH - xBufOff;
-        int inputLen = len;
-        int dPos = inOff;
-        if (partLen < inputLen) {
-            System.arraycopy(in, dPos, xBuf, xBufOff, partLen);
-            inputLen -= partLen;
-            dPos += partLen;
-            doUpdate();
-            while (inputLen > BUFFER_LENGTH) {
-                System.arraycopy(in, dPos, xBuf, 0, BUFFER_LENGTH);
-                inputLen -= BUFFER_LENGTH;
-                dPos += BUFFER_LENGTH;
-                doUpdate();
+        byteCount += len;
+
+        // 先补满内部缓冲区中的不完整分组 | First complete the partial block in the internal buffer
+        if (xBufOff != 0) {
+            int partLen = Math.min(BUFFER_LENGTH - xBufOff, len);
+            System.arraycopy(in, inOff, xBuf, xBufOff, partLen);
+            xBufOff += partLen;
+            inOff += partLen;
+            len -= partLen;
+            if (xBufOff < BUFFER_LENGTH) {
+                return;
             }
+            engine.processBlock(xBuf, 0);
+            xBufOff = 0;
         }
 
-        System.arraycopy(in, dPos, xBuf, xBufOff, inputLen);
-        xBufOff += inputLen;
+        // 完整分组直接从调用方缓冲区压缩 | Full blocks are compressed straight from the caller's buffer
+        while (len >= BLOCK_LENGTH) {
+            engine.processBlock(in, inOff);
+            inOff += BLOCK_LENGTH;
+            len -= BLOCK_LENGTH;
+        }
+
+        System.arraycopy(in, inOff, xBuf, 0, len);
+        xBufOff = len;
     }
 
-    private void doUpdate() {
-        byte[] B = new byte[BLOCK_LENGTH];
-        for (int i = 0; i < BUFFER_LENGTH; i += BLOCK_LENGTH) {
-            System.arraycopy(xBuf, i, B, 0, B.length);
-            doHash(B);
+    /**
+     * 明文输入，读取 in 中 position 到 limit 之间的全部字节，支持堆内和直接缓冲区，完成后 position 等于 limit
+     *
+     * Reads every byte between position and limit of 'in', works for heap and direct buffers, position equals limit afterwards
+     *
+     * @param in 明文输入缓冲区
+     */
+    public void update(ByteBuffer in) {
+        int len = in.remaining();
+        if (in.hasArray()) {
+            update(in.array(), in.arrayOffset() + in.position(), len);
+            in.position(in.limit());
+            return;
         }
-        xBufOff = 0;
+
+        byteCount += len;
+        int pos = in.position();
+        if (xBufOff != 0) {
+            int partLen = Math.min(BUFFER_LENGTH - xBufOff, len);
+            for (int i = 0; i < partLen; i++) {
+                xBuf[xBufOff++] = in.get(pos++);
+            }
+            len -= partLen;
+            if (xBufOff < BUFFER_LENGTH) {
+                in.position(pos);
+                return;
+            }
+            engine.processBlock(xBuf, 0);
+            xBufOff = 0;
+        }
+
+        while (len >= BLOCK_LENGTH) {
+            engine.processBlock(in, pos);
+            pos += BLOCK_LENGTH;
+            len -= BLOCK_LENGTH;
+        }
+
+        for (int i = 0; i < len; i++) {
+            xBuf[i] = in.get(pos++);
+        }
+        xBufOff = len;
+        in.position(pos);
     }
 
-    private void doHash(byte[] B) {
-        byte[] tmp = SM3.CF(V, B);
-        System.arraycopy(tmp, 0, V, 0, V.length);
-        cntBlock++;
+    /**
+     * 明文输入，读取输入流直到结束，不关闭输入流
+     *
+     * Reads the stream to its end, the stream is not closed
+     *
+     * @param in 明文输入流
+     * @return 读取的字节数
+     */
+    public long update(InputStream in) throws IOException {
+        if (streamBuf == null) {
+            streamBuf = new byte[STREAM_BUFFER_LENGTH];
+        }
+
+        long total = 0;
+        int n;
+        while ((n = in.read(streamBuf, 0, streamBuf.length)) != -1) {
+            update(streamBuf, 0, n);
+            total += n;
+        }
+        return total;
     }
 
-    private byte[] doFinal() {
-        byte[] B = new byte[BLOCK_LENGTH];
-        byte[] buffer = new byte[xBufOff];
-        System.arraycopy(xBuf, 0, buffer, 0, buffer.length);
-        byte[] tmp = SM3.padding(buffer, cntBlock);
-        for (int i = 0; i < tmp.length; i += BLOCK_LENGTH) {
-            System.arraycopy(tmp, i, B, 0, B.length);
-            doHash(B);
+    /**
+     * 明文输入，从文件通道的 position 开始读取 length 个字节，经由复用的直接缓冲区读取，不改变通道的 position
+     *
+     * Reads 'length' bytes of the channel starting at 'position' through a reused direct buffer, the channel position is unchanged
+     *
+     * @param channel  文件通道
+     * @param position 起始位置
+     * @param length   读取长度
+     * @return 读取的字节数
+     */
+    public long update(FileChannel channel, long position, long length) throws IOException {
+        if (channelBuf == null) {
+            channelBuf = ByteBuffer.allocateDirect(STREAM_BUFFER_LENGTH);
+        }
+
+        long total = 0;
+        while (total < length) {
+            channelBuf.clear();
+            if (length - total < channelBuf.capacity()) {
+                channelBuf.limit((int) (length - total));
+            }
+            int n = channel.read(channelBuf, position + total);
+            if (n < 0) {
+                break;
+            }
+            channelBuf.flip();
+            update(channelBuf);
+            total += n;
         }
-        return V;
+        return total;
+    }
+
+    /**
+     * 明文输入，读取整个文件通道
+     *
+     * @param channel 文件通道
+     * @return 读取的字节数
+     */
+    public long update(FileChannel channel) throws IOException {
+        return update(channel, 0, channel.size());
     }
 
     public void update(byte in) {
-        byte[] buffer = new byte[]{in};
-        update(buffer, 0, 1);
+        byteCount++;
+        xBuf[xBufOff++] = in;
+        if (xBufOff == BUFFER_LENGTH) {
+            engine.processBlock(xBuf, 0);
+            xBufOff = 0;
+        }
     }
 
     public int getDigestSize() {
         return BYTE_LENGTH;
     }
 
+    private void fill(int from, int to) {
+        for (int i = from; i < to; i++) {
+            xBuf[i] = 0;
+        }
+    }
+
     /**
      * @author: MuHongXin.
      * @dateTime: 下午2:55 2023/6/21
@@ -144,7 +283,6 @@ public class SM3Digest {
         SM3Digest sm3 = new SM3Digest();
         sm3.update(msg1, 0, msg1.length);
         sm3.doFinal(md, 0);
-        String s = new String(Hex.encode(md));
-        System.out.println(s.toUpperCase());
+        System.out.println(HexCodec.encode(md));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,245 @@
+package com.mhx.encryption.util.sm;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * @className SM3Engine
+ * @description SM3 压缩函数引擎，状态为 8 个 int，循环移位使用 Integer.rotateLeft，消息扩展缓冲区在实例内复用，每个分组不分配内存。
+ *              实例不是线程安全的，每个摘要对象持有自己的引擎。
+ *              SM3 compression function engine, the state is 8 ints, rotations use Integer.rotateLeft and the message
+ *              schedule buffer is reused by the instance, so no memory is allocated per block.
+ *              Instances are not thread safe, every digest object holds its own engine.
+ * @author MuHongXin.
+ * @date 2026/10/18 13:20
+ * @version v1.0.0
+ **/
+
+public class SM3Engine {
+    /**
+     * 初始向量
+     *
+     * -----------------------丨
+     * Initial vector.        丨
+     * -----------------------丨
+     */
+    static final int[] IV = {
+            0x7380166f, 0x4914b2b9, 0x172442d7, 0xda8a0600,
+            0xa96f30bc, 0x163138aa, 0xe38dee4d, 0xb0fb0e4e
+    };
+
+    /**
+     * 预先循环左移 j 位的常量 Tj，即 Tj <<< (j mod 32)
+     *
+     * ----------------------------------------------------------------丨
+     * Constants Tj already rotated left by j, i.e. Tj <<< (j mod 32).  丨
+     * ----------------------------------------------------------------丨
+     */
+    private static final int[] T = new int[64];
+
+    static {
+        for (int j = 0; j < 16; j++) {
+            T[j] = Integer.rotateLeft(0x79cc4519, j);
+        }
+
+        for (int j = 16; j < 64; j++) {
+            T[j] = Integer.rotateLeft(0x7a879d8a, j);
+        }
+    }
+
+    /**
+     * 压缩函数的链接变量 V
+     *
+     * ----------------------------------------------丨
+     * Chaining variable V of the compression.       丨
+     * ----------------------------------------------丨
+     */
+    private final int[] v = new int[8];
+
+    /**
+     * 复用的消息扩展缓冲区 W0..W67，W'j 在轮函数中由 Wj ^ Wj+4 直接求得
+     *
+     * ---------------------------------------------------------------------------------------丨
+     * Reused message schedule W0..W67, W'j is computed as Wj ^ Wj+4 inside the round.        丨
+     * ---------------------------------------------------------------------------------------丨
+     */
+    private final int[] w = new int[68];
+
+    public SM3Engine() {
+        reset();
+    }
+
+    public void reset() {
+        System.arraycopy(IV, 0, v, 0, 8);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午1:20 2026/10/18
+     * @description: 复制另一个引擎的链接变量（中间状态）
+     *               Copy the chaining variable (midstate) of another engine
+     * @param other 源引擎 | source engine
+     **/
+    public void copyState(SM3Engine other) {
+        System.arraycopy(other.v, 0, v, 0, 8);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午1:20 2026/10/18
+     * @description: 设置链接变量（中间状态）
+     *               Set the chaining variable (midstate)
+     * @param state 8 个 int 的状态 | state of 8 ints
+     * @param stateOff 状态偏移量 | state offset
+     **/
+    public void setState(int[] state, int stateOff) {
+        System.arraycopy(state, stateOff, v, 0, 8);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午1:20 2026/10/18
+     * @description: 压缩一个从 in[inOff] 开始的 64 字节分组，直接读取调用方的缓冲区
+     *               Compress one 64 byte block starting at in[inOff], reading the caller's buffer directly
+     * @param in 输入缓冲区 | input buffer
+     * @param inOff 分组偏移量 | block offset
+     **/
+    public void processBlock(byte[] in, int inOff) {
+        int[] w = this.w;
+        for (int i = 0; i < 16; i++, inOff += 4) {
+            w[i] = (in[inOff] << 24) | ((in[inOff + 1] & 0xff) << 16) | ((in[inOff + 2] & 0xff) << 8) | (in[inOff + 3] & 0xff);
+        }
+        compress();
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午3:10 2026/10/18
+     * @description: 压缩一个从 in 的绝对位置 index 开始的 64 字节分组，支持堆内和直接缓冲区，不改变缓冲区的 position
+     *               Compress one 64 byte block starting at absolute position 'index' of 'in', works for heap and direct
+     *               buffers and leaves the buffer position unchanged
+     * @param in 输入缓冲区 | input buffer
+     * @param index 分组的绝对位置 | absolute position of the block
+     **/
+    public void processBlock(ByteBuffer in, int index) {
+        int[] w = this.w;
+        boolean bigEndian = in.order() == ByteOrder.BIG_ENDIAN;
+        for (int i = 0; i < 16; i++, index += 4) {
+            int x = in.getInt(index);
+            w[i] = bigEndian ? x : Integer.reverseBytes(x);
+        }
+        compress();
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午1:20 2026/10/18
+     * @description: 压缩一个已按大端序读成 16 个 int 的分组
+     *               Compress one block that has already been read as 16 big endian ints
+     * @param block 16 个消息字 | 16 message words
+     * @param blockOff 消息字偏移量 | word offset
+     **/
+    public void processBlock(int[] block, int blockOff) {
+        System.arraycopy(block, blockOff, w, 0, 16);
+        compress();
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午1:20 2026/10/18
+     * @description: 将链接变量按大端序写出为 32 字节摘要
+     *               Write the chaining variable as the 32 byte big endian digest
+     * @param out 输出缓冲区 | output buffer
+     * @param outOff 输出偏移量 | output offset
+     **/
+    public void getDigest(byte[] out, int outOff) {
+        for (int i = 0; i < 8; i++, outOff += 4) {
+            int x = v[i];
+            out[outOff] = (byte) (x >>> 24);
+            out[outOff + 1] = (byte) (x >>> 16);
+            out[outOff + 2] = (byte) (x >>> 8);
+            out[outOff + 3] = (byte) x;
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午1:20 2026/10/18
+     * @description: 将链接变量复制到 int 数组
+     *               Copy the chaining variable into an int array
+     * @param out 输出数组 | output array
+     * @param outOff 输出偏移量 | output offset
+     **/
+    public void getState(int[] out, int outOff) {
+        System.arraycopy(v, 0, out, outOff, 8);
+    }
+
+    /**
+     * 消息扩展和 64 轮压缩，w[0..15] 已经装载当前分组
+     *
+     * -----------------------------------------------------------------------------------丨
+     * Message expansion and the 64 rounds, w[0..15] already holds the current block.     丨
+     * -----------------------------------------------------------------------------------丨
+     */
+    private void compress() {
+        int[] w = this.w;
+        for (int j = 16; j < 68; j++) {
+            w[j] = p1(w[j - 16] ^ w[j - 9] ^ Integer.rotateLeft(w[j - 3], 15))
+                    ^ Integer.rotateLeft(w[j - 13], 7) ^ w[j - 6];
+        }
+
+        int a = v[0], b = v[1], c = v[2], d = v[3];
+        int e = v[4], f = v[5], g = v[6], h = v[7];
+
+        // 第 0~15 轮，FFj 和 GGj 均为异或 | Rounds 0~15, both FFj and GGj are XOR
+        for (int j = 0; j < 16; j++) {
+            int a12 = Integer.rotateLeft(a, 12);
+            int ss1 = Integer.rotateLeft(a12 + e + T[j], 7);
+            int ss2 = ss1 ^ a12;
+            int tt1 = (a ^ b ^ c) + d + ss2 + (w[j] ^ w[j + 4]);
+            int tt2 = (e ^ f ^ g) + h + ss1 + w[j];
+            d = c;
+            c = Integer.rotateLeft(b, 9);
+            b = a;
+            a = tt1;
+            h = g;
+            g = Integer.rotateLeft(f, 19);
+            f = e;
+            e = p0(tt2);
+        }
+
+        // 第 16~63 轮，FFj 为多数函数，GGj 为选择函数 | Rounds 16~63, FFj is majority and GGj is choice
+        for (int j = 16; j < 64; j++) {
+            int a12 = Integer.rotateLeft(a, 12);
+            int ss1 = Integer.rotateLeft(a12 + e + T[j], 7);
+            int ss2 = ss1 ^ a12;
+            int tt1 = ((a & b) | (a & c) | (b & c)) + d + ss2 + (w[j] ^ w[j + 4]);
+            int tt2 = ((e & f) | (~e & g)) + h + ss1 + w[j];
+            d = c;
+            c = Integer.rotateLeft(b, 9);
+            b = a;
+            a = tt1;
+            h = g;
+            g = Integer.rotateLeft(f, 19);
+            f = e;
+            e = p0(tt2);
+        }
+
+        v[0] ^= a;
+        v[1] ^= b;
+        v[2] ^= c;
+        v[3] ^= d;
+        v[4] ^= e;
+        v[5] ^= f;
+        v[6] ^= g;
+        v[7] ^= h;
+    }
+
+    private static int p0(int x) {
+        return x ^ Integer.rotateLeft(x, 9) ^ Integer.rotateLeft(x, 17);
+    }
+
+    private static int p1(int x) {
+        return x ^ Integer.rotateLeft(x, 15) ^ Integer.rotateLeft(x, 23);
+    }
+}
@@ -0,0 +1,579 @@
+package com.mhx.encryption.util.sm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * @className SM3TreeHash
+ * @description SM3 树模式并行哈希（可选模式，结果与普通 SM3 摘要不同）。
+ *              输入按固定大小 chunkSize 切分，每个分块在 ForkJoin 线程池中独立计算叶子摘要，再按 Merkle 树两两合并得到根摘要。
+ *              文件通道按窗口（WINDOW_SIZE，分块大小的整数倍）做内存映射，每个窗口只映射一次，窗口内的分块再拆分到各线程，
+ *              各线程直接读取映射区域，堆内存占用与文件大小无关。
+ *              保留每个分块的叶子摘要，文件局部修改后只需重新计算变化的分块。
+ *
+ *              叶子与节点（所有摘要均为 SM3，|| 表示拼接）：
+ *                  leaf[i] = SM3(0x00 || chunk[i])
+ *                  node    = SM3(0x01 || left || right)
+ *              每一层从左到右两两合并，节点数为奇数时最后一个节点原样提升到上一层，直到只剩一个根节点。
+ *              空输入视为一个空分块，根为 SM3(0x00)。
+ *
+ *              根记录格式（toBytes / fromBytes，整数均为大端序）：
+ *                  偏移  长度  字段
+ *                  0     4     魔数 "SM3T" (0x53 0x4D 0x33 0x54)
+ *                  4     1     版本号，当前为 1
+ *                  5     1     标志位，bit0 = 1 表示记录中包含叶子摘要，其余位为 0
+ *                  6     2     保留，0
+ *                  8     4     分块大小 chunkSize
+ *                  12    8     输入总长度（字节）
+ *                  20    4     叶子数量 leafCount
+ *                  24    32    根摘要
+ *                  56    32*leafCount  叶子摘要（仅当 bit0 = 1 时存在），按分块顺序排列
+ *
+ *              Opt-in SM3 tree hash mode (its result differs from the plain SM3 digest).
+ *              The input is split into fixed size chunks, every chunk's leaf digest is computed independently on a
+ *              ForkJoin pool, and the leaves are combined pairwise Merkle style into the root digest.
+ *              File channels are memory mapped once per window (WINDOW_SIZE, a whole number of chunks), the chunks
+ *              of a window are then split across the workers, and every worker reads the mapped region directly,
+ *              so the heap use does not depend on the file size.
+ *              The per chunk leaf digests are kept, so after a local change only the changed chunks are rehashed.
+ *
+ *              Leaves and nodes (every digest is SM3, || means concatenation):
+ *                  leaf[i] = SM3(0x00 || chunk[i])
+ *                  node    = SM3(0x01 || left || right)
+ *              Each level is combined pairwise from left to right, an odd last node is promoted unchanged to the next
+ *              level, until a single root remains. An empty input is one empty chunk, its root is SM3(0x00).
+ *
+ *              Root record layout (toBytes / fromBytes, integers are big endian):
+ *                  offset  size  field
+ *                  0       4     magic "SM3T" (0x53 0x4D 0x33 0x54)
+ *                  4       1     version, currently 1
+ *                  5       1     flags, bit0 = 1 when the record carries the leaf digests, other bits are 0
+ *                  6       2     reserved, 0
+ *                  8       4     chunk size
+ *                  12      8     total input length in bytes
+ *                  20      4     leaf count
+ *                  24      32    root digest
+ *                  56      32*leafCount  leaf digests in chunk order (only when bit0 = 1)
+ * @author MuHongXin.
+ * @date 2026/10/18 15:40
+ * @version v1.0.0
+ **/
+
+public class SM3TreeHash {
+    /**
+     * 默认分块大小 4 MiB
+     *
+     * -----------------------------------丨
+     * Default chunk size, 4 MiB.         丨
+     * -----------------------------------丨
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * 摘要长度
+     *
+     * -----------------------------------丨
+     * Digest length.                     丨
+     * -----------------------------------丨
+     */
+    public static final int DIGEST_LENGTH = 32;
+
+    /**
+     * 根记录头部长度、魔数、版本号和标志位
+     *
+     * ------------------------------------------------------丨
+     * Root record header length, magic, version and flags.  丨
+     * ------------------------------------------------------丨
+     */
+    public static final int HEADER_LENGTH = 56;
+    private static final byte[] MAGIC = {'S', 'M', '3', 'T'};
+    private static final byte VERSION = 1;
+    private static final byte FLAG_LEAVES = 0x01;
+
+    /**
+     * 叶子和内部节点的域分隔前缀
+     *
+     * ---------------------------------------------------丨
+     * Domain separation prefixes of leaves and nodes.    丨
+     * ---------------------------------------------------丨
+     */
+    private static final byte LEAF_PREFIX = 0x00;
+    private static final byte NODE_PREFIX = 0x01;
+
+    /**
+     * 单个任务处理的最少分块数，低于该值不再拆分任务
+     *
+     * ------------------------------------------------------------------------丨
+     * Minimum number of chunks of one task, below it tasks are not split.     丨
+     * ------------------------------------------------------------------------丨
+     */
+    private static final int CHUNKS_PER_TASK = 1;
+
+    /**
+     * 文件通道一次内存映射的窗口大小，小于分块大小时按一个分块映射
+     *
+     * ------------------------------------------------------------------------------------------丨
+     * Window size of one memory mapping of a file channel, one chunk when the chunk is larger.   丨
+     * ------------------------------------------------------------------------------------------丨
+     */
+    static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private SM3TreeHash() {
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午3:40 2026/10/18
+     * @description: 使用默认分块大小和公共 ForkJoin 线程池计算整个文件通道的树哈希
+     *               Tree hash of the whole file channel with the default chunk size and the common ForkJoin pool
+     * @param channel 文件通道 | file channel
+     * @return com.mhx.encryption.util.sm.SM3TreeHash.Result
+     **/
+    public static Result hash(FileChannel channel) throws IOException {
+        return hash(channel, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午3:40 2026/10/18
+     * @description: 计算整个文件通道的树哈希，每个窗口以只读方式内存映射一次，窗口内的分块在线程池中计算
+     *               Tree hash of the whole file channel, every window is memory mapped read only once and its chunks
+     *               are hashed on the pool
+     * @param channel 文件通道 | file channel
+     * @param chunkSize 分块大小 | chunk size
+     * @param pool ForkJoin 线程池 | ForkJoin pool
+     * @return com.mhx.encryption.util.sm.SM3TreeHash.Result
+     **/
+    public static Result hash(FileChannel channel, int chunkSize, ForkJoinPool pool) throws IOException {
+        long length = channel.size();
+        byte[] leaves = new byte[leafCount(length, chunkSize) * DIGEST_LENGTH];
+        hashChunks(new ChannelSource(channel), length, chunkSize, leaves, null, pool);
+        return new Result(chunkSize, length, leaves);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午3:40 2026/10/18
+     * @description: 计算缓冲区中 position 到 limit 之间数据的树哈希，不改变缓冲区的 position
+     *               Tree hash of the bytes between position and limit of the buffer, the position is unchanged
+     * @param data 输入缓冲区（堆内或直接缓冲区）| input buffer (heap or direct)
+     * @param chunkSize 分块大小 | chunk size
+     * @param pool ForkJoin 线程池 | ForkJoin pool
+     * @return com.mhx.encryption.util.sm.SM3TreeHash.Result
+     **/
+    public static Result hash(ByteBuffer data, int chunkSize, ForkJoinPool pool) {
+        long length = data.remaining();
+        byte[] leaves = new byte[leafCount(length, chunkSize) * DIGEST_LENGTH];
+        try {
+            hashChunks(new BufferSource(data), length, chunkSize, leaves, null, pool);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Result(chunkSize, length, leaves);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午3:40 2026/10/18
+     * @description: 局部重新计算：只重新计算 changed 中标记的分块，以及文件长度变化后新增或末尾的分块，其余叶子沿用 previous
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     *               Partial rehash: only the chunks marked in 'changed' are rehashed, together with the      丨
+     *               chunks added or cut by a length change, every other leaf is taken from 'previous'.       丨
+     * ----------------------------------------------------------------------------------------------------丨
+     *
+     * @param channel 文件通道 | file channel
+     * @param previous 上一次的结果，分块大小必须一致 | previous result, must use the same chunk size
+     * @param changed 变化的分块下标 | indexes of the changed chunks
+     * @param pool ForkJoin 线程池 | ForkJoin pool
+     * @return com.mhx.encryption.util.sm.SM3TreeHash.Result
+     **/
+    public static Result rehash(FileChannel channel, Result previous, BitSet changed, ForkJoinPool pool) throws IOException {
+        long length = channel.size();
+        int chunkSize = previous.chunkSize;
+        int count = leafCount(length, chunkSize);
+        byte[] leaves = new byte[count * DIGEST_LENGTH];
+
+        BitSet dirty = (BitSet) changed.clone();
+        int reusable = count;
+        if (length != previous.length) {
+            // 长度变化时只有完整落在新旧长度之内的分块可以沿用 | On a length change only chunks fully inside both lengths are reused
+            reusable = (int) Math.min(count, Math.min(length, previous.length) / chunkSize);
+        }
+        previous.requireLeaves();
+        System.arraycopy(previous.leaves, 0, leaves, 0, reusable * DIGEST_LENGTH);
+        dirty.set(reusable, count);
+
+        hashChunks(new ChannelSource(channel), length, chunkSize, leaves, dirty, pool);
+        return new Result(chunkSize, length, leaves);
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午3:40 2026/10/18
+     * @description: 根据叶子摘要计算根摘要
+     *               Compute the root digest from the leaf digests
+     * @param leaves 按顺序排列的叶子摘要 | leaf digests in order
+     * @param leafCount 叶子数量 | leaf count
+     * @return byte[]
+     **/
+    static byte[] root(byte[] leaves, int leafCount) {
+        if (leafCount == 1) {
+            return Arrays.copyOf(leaves, DIGEST_LENGTH);
+        }
+
+        byte[] level = leaves.clone();
+        int count = leafCount;
+        SM3Digest digest = new SM3Digest();
+        while (count > 1) {
+            int next = 0;
+            for (int i = 0; i + 1 < count; i += 2, next++) {
+                digest.update(NODE_PREFIX);
+                digest.update(level, i * DIGEST_LENGTH, DIGEST_LENGTH * 2);
+                digest.doFinal(level, next * DIGEST_LENGTH);
+            }
+            if ((count & 1) == 1) {
+                System.arraycopy(level, (count - 1) * DIGEST_LENGTH, level, next * DIGEST_LENGTH, DIGEST_LENGTH);
+                next++;
+            }
+            count = next;
+        }
+        return Arrays.copyOf(level, DIGEST_LENGTH);
+    }
+
+    private static int leafCount(long length, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("分块大小必须大于0! | The chunk size must be greater than 0!");
+        }
+
+        long count = Math.max(1, (length + chunkSize - 1) / chunkSize);
+        if (count * DIGEST_LENGTH > Integer.MAX_VALUE - HEADER_LENGTH) {
+            throw new IllegalArgumentException("分块数量过多，请增大分块大小! | Too many chunks, use a larger chunk size!");
+        }
+        return (int) count;
+    }
+
+    private static void hashChunks(Source source, long length, int chunkSize, byte[] leaves, BitSet only, ForkJoinPool pool) throws IOException {
+        int count = leaves.length / DIGEST_LENGTH;
+        try {
+            pool.invoke(new ChunkTask(source, false, length, chunkSize, leaves, only, 0, count));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 分块数据来源：内存映射的文件通道或者缓冲区；window 返回覆盖 [offset, offset + length) 的来源，
+     * 文件通道在此时映射一次，之后窗口内的 slice 只是映射区域的视图
+     *
+     * ------------------------------------------------------------------------------------------丨
+     * Chunk data source: a memory mapped file channel or a buffer; window returns a source that   丨
+     * covers [offset, offset + length), a file channel is mapped once there and every slice of    丨
+     * the window is a view of the mapped region.                                                   丨
+     * ------------------------------------------------------------------------------------------丨
+     */
+    private interface Source {
+        Source window(long offset, long length) throws IOException;
+
+        ByteBuffer slice(long offset, int length) throws IOException;
+    }
+
+    private static final class ChannelSource implements Source {
+        private final FileChannel channel;
+
+        private ChannelSource(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public Source window(long offset, long length) throws IOException {
+            return new BufferSource(channel.map(FileChannel.MapMode.READ_ONLY, offset, length), offset);
+        }
+
+        @Override
+        public ByteBuffer slice(long offset, int length) throws IOException {
+            return window(offset, length).slice(offset, length);
+        }
+    }
+
+    private static final class BufferSource implements Source {
+        private final ByteBuffer data;
+        private final long base;
+
+        private BufferSource(ByteBuffer data) {
+            this(data, 0);
+        }
+
+        private BufferSource(ByteBuffer data, long base) {
+            this.data = data.duplicate();
+            this.base = base;
+        }
+
+        @Override
+        public Source window(long offset, long length) {
+            return this;
+        }
+
+        @Override
+        public ByteBuffer slice(long offset, int length) {
+            ByteBuffer slice = data.duplicate();
+            int start = data.position() + (int) (offset - base);
+            slice.limit(start + length);
+            slice.position(start);
+            return slice;
+        }
+    }
+
+    /**
+     * 按分块下标区间二分拆分的任务，区间缩小到一个窗口以内时映射该窗口（没有需要计算的分块则跳过），
+     * 之后继续拆分，每个叶子任务计算一个分块的叶子摘要
+     *
+     * ---------------------------------------------------------------------------------------------丨
+     * Task split in halves over the chunk index range, once the range fits in one window the window  丨
+     * is mapped (skipped when none of its chunks is hashed) and splitting goes on below it, every    丨
+     * leaf task hashes one chunk.                                                                    丨
+     * ---------------------------------------------------------------------------------------------丨
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Source source;
+        private final boolean windowed;
+        private final long length;
+        private final int chunkSize;
+        private final byte[] leaves;
+        private final BitSet only;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(Source source, boolean windowed, long length, int chunkSize, byte[] leaves, BitSet only, int from, int to) {
+            this.source = source;
+            this.windowed = windowed;
+            this.length = length;
+            this.chunkSize = chunkSize;
+            this.leaves = leaves;
+            this.only = only;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (!windowed && to - from <= Math.max(1, WINDOW_SIZE / chunkSize)) {
+                int first = only == null ? from : only.nextSetBit(from);
+                if (first < 0 || first >= to) {
+                    return;
+                }
+
+                long start = (long) from * chunkSize;
+                long end = Math.min((long) to * chunkSize, length);
+                try {
+                    new ChunkTask(source.window(start, end - start), true, length, chunkSize, leaves, only, from, to).compute();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+
+            if (to - from > CHUNKS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ChunkTask(source, windowed, length, chunkSize, leaves, only, from, mid),
+                        new ChunkTask(source, windowed, length, chunkSize, leaves, only, mid, to));
+                return;
+            }
+
+            SM3Digest digest = new SM3Digest();
+            for (int i = from; i < to; i++) {
+                if (only != null && !only.get(i)) {
+                    continue;
+                }
+
+                long offset = (long) i * chunkSize;
+                int len = (int) Math.min(chunkSize, length - offset);
+                digest.update(LEAF_PREFIX);
+                if (len > 0) {
+                    try {
+                        digest.update(source.slice(offset, len));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                digest.doFinal(leaves, i * DIGEST_LENGTH);
+            }
+        }
+    }
+
+    /**
+     * @className Result
+     * @description 树哈希结果：分块大小、输入长度、每个分块的叶子摘要和根摘要，对象不可变
+     *              Tree hash result: chunk size, input length, the leaf digest of every chunk and the root, immutable
+     **/
+    public static final class Result {
+        private final int chunkSize;
+        private final long length;
+        private final byte[] leaves;
+        private final byte[] root;
+
+        private Result(int chunkSize, long length, byte[] leaves) {
+            this(chunkSize, length, leaves, root(leaves, leaves.length / DIGEST_LENGTH));
+        }
+
+        private Result(int chunkSize, long length, byte[] leaves, byte[] root) {
+            this.chunkSize = chunkSize;
+            this.length = length;
+            this.leaves = leaves;
+            this.root = root;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public int leafCount() {
+            return leaves == null ? 0 : leaves.length / DIGEST_LENGTH;
+        }
+
+        public byte[] getRoot() {
+            return root.clone();
+        }
+
+        /**
+         * 第 index 个分块的叶子摘要 | Leaf digest of chunk 'index'
+         */
+        public byte[] getChunkDigest(int index) {
+            requireLeaves();
+            return Arrays.copyOfRange(leaves, index * DIGEST_LENGTH, (index + 1) * DIGEST_LENGTH);
+        }
+
+        /**
+         * @author: MuHongXin.
+         * @dateTime: 下午3:40 2026/10/18
+         * @description: 与另一个结果比较，返回叶子摘要不同的分块下标，分块数量不同时多出的分块也视为不同
+         *               Compare with another result and return the chunks whose leaf digests differ,
+         *               extra chunks are different when the chunk counts differ
+         * @param other 另一个结果 | the other result
+         * @return java.util.BitSet
+         **/
+        public BitSet changedChunks(Result other) {
+            requireLeaves();
+            other.requireLeaves();
+            if (chunkSize != other.chunkSize) {
+                throw new IllegalArgumentException("分块大小不一致! | The chunk sizes differ!");
+            }
+
+            BitSet changed = new BitSet();
+            int common = Math.min(leafCount(), other.leafCount());
+            for (int i = 0; i < common; i++) {
+                int off = i * DIGEST_LENGTH;
+                for (int j = 0; j < DIGEST_LENGTH; j++) {
+                    if (leaves[off + j] != other.leaves[off + j]) {
+                        changed.set(i);
+                        break;
+                    }
+                }
+            }
+            changed.set(common, Math.max(leafCount(), other.leafCount()));
+            return changed;
+        }
+
+        /**
+         * @author: MuHongXin.
+         * @dateTime: 下午3:40 2026/10/18
+         * @description: 按类注释中的根记录格式序列化
+         *               Serialize with the root record layout described in the class comment
+         * @param includeLeaves 是否包含叶子摘要 | whether to include the leaf digests
+         * @return byte[]
+         **/
+        public byte[] toBytes(boolean includeLeaves) {
+            if (includeLeaves) {
+                requireLeaves();
+            }
+
+            int count = leaves == null ? leafCountOf(length, chunkSize) : leafCount();
+            ByteBuffer out = ByteBuffer.allocate(HEADER_LENGTH + (includeLeaves ? leaves.length : 0));
+            out.put(MAGIC);
+            out.put(VERSION);
+            out.put(includeLeaves ? FLAG_LEAVES : 0);
+            out.putShort((short) 0);
+            out.putInt(chunkSize);
+            out.putLong(length);
+            out.putInt(count);
+            out.put(root);
+            if (includeLeaves) {
+                out.put(leaves);
+            }
+            return out.array();
+        }
+
+        /**
+         * @author: MuHongXin.
+         * @dateTime: 下午3:40 2026/10/18
+         * @description: 解析根记录，包含叶子摘要时校验根摘要与叶子是否一致
+         *               Parse a root record, when it carries the leaves the root is checked against them
+         * @param record 根记录 | root record
+         * @return com.mhx.encryption.util.sm.SM3TreeHash.Result
+         **/
+        public static Result fromBytes(byte[] record) {
+            if (record.length < HEADER_LENGTH) {
+                throw new IllegalArgumentException("根记录长度不足! | The root record is too short!");
+            }
+
+            ByteBuffer in = ByteBuffer.wrap(record);
+            byte[] magic = new byte[4];
+            in.get(magic);
+            byte version = in.get();
+            byte flags = in.get();
+            short reserved = in.getShort();
+            if (!Arrays.equals(magic, MAGIC) || version != VERSION || (flags & ~FLAG_LEAVES) != 0 || reserved != 0) {
+                throw new IllegalArgumentException("不支持的根记录格式! | Unsupported root record format!");
+            }
+
+            int chunkSize = in.getInt();
+            long length = in.getLong();
+            int count = in.getInt();
+            byte[] root = new byte[DIGEST_LENGTH];
+            in.get(root);
+            if (chunkSize <= 0 || length < 0 || count != leafCountOf(length, chunkSize)) {
+                throw new IllegalArgumentException("根记录内容不一致! | The root record is inconsistent!");
+            }
+
+            if ((flags & FLAG_LEAVES) == 0) {
+                if (in.hasRemaining()) {
+                    throw new IllegalArgumentException("根记录长度不一致! | The root record length is inconsistent!");
+                }
+                return new Result(chunkSize, length, null, root);
+            }
+
+            if (in.remaining() != count * DIGEST_LENGTH) {
+                throw new IllegalArgumentException("叶子摘要长度不一致! | The leaf digests length is inconsistent!");
+            }
+            byte[] leaves = new byte[count * DIGEST_LENGTH];
+            in.get(leaves);
+            Result result = new Result(chunkSize, length, leaves);
+            if (!Arrays.equals(result.root, root)) {
+                throw new IllegalArgumentException("根摘要与叶子摘要不一致! | The root does not match the leaf digests!");
+            }
+            return result;
+        }
+
+        private static int leafCountOf(long length, int chunkSize) {
+            return SM3TreeHash.leafCount(length, chunkSize);
+        }
+
+        private void requireLeaves() {
+            if (leaves == null) {
+                throw new IllegalStateException("根记录中不包含叶子摘要! | The root record carries no leaf digests!");
+            }
+        }
+    }
+}
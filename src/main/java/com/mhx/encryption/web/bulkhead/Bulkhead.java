@@ -0,0 +1,397 @@
+package com.mhx.encryption.web.bulkhead;
+
+import com.mhx.encryption.common.ErrorCodeEnum;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * @className Bulkhead
+ * @description 单个算法的舱壁：自适应并发上限 + 有界排队名额。
+ *              并发上限按 Gradient2 算法随延迟调整：长期延迟（慢速指数平均）与最近一个采样窗口的平均延迟之比作为梯度，
+ *              延迟升高时上限按比例下降（每个窗口最多减半），延迟正常时上限增加 sqrt(limit) 的余量；
+ *              在途请求不到上限一半时不增加上限，避免空闲时上限无限膨胀。
+ *              超出上限的请求立即拒绝（SERVER_DISABLE），从不阻塞请求线程。上限以内的请求提交到加解密线程池时占用本算法的
+ *              排队名额（各算法名额之和不超过线程池队列容量），名额已满或按最近延迟预计等待超过 maxWait 时拒绝（SERVER_DISABLE），
+ *              在线程池中排队超过 maxWait 的任务开始前放弃（TIMEOUT），不再执行
+ *              Bulkhead of one algorithm: adaptive concurrency limit + bounded queue slots.
+ *              The limit follows the Gradient2 algorithm: the ratio of the long term latency (slow exponential
+ *              average) to the average latency of the last sample window is the gradient, rising latency cuts the
+ *              limit proportionally (at most by half per window), normal latency adds sqrt(limit) of headroom; the limit does not grow while fewer
+ *              than half of it are in flight, so that it cannot inflate while idle.
+ *              Requests over the limit are rejected at once (SERVER_DISABLE) and never block the request thread.
+ *              Requests within the limit take one of the algorithm's queue slots while submitted to the encryption
+ *              pool (the slots of all algorithms add up to at most the pool queue), all slots taken or an expected
+ *              wait above maxWait at the recent latency is rejected (SERVER_DISABLE), and a task that queued in the
+ *              pool longer than maxWait gives up before it starts (TIMEOUT) instead of running
+ * @author MuHongXin.
+ * @date 2026/10/18 23:40
+ * @version v1.0.0
+ **/
+
+public class Bulkhead {
+    /**
+     * 采样窗口：至少 100 毫秒且至少 10 个样本，每个窗口按平均延迟调整一次上限；逐个样本调整时高吞吐下基线漂移太快，上限会大幅振荡
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     * Sample window: at least 100 ms and 10 samples, the limit is adjusted once per window with the       丨
+     * average latency; adjusting per sample lets the baseline drift too fast at high throughput and the    丨
+     * limit oscillates widely.                                                                            丨
+     * ----------------------------------------------------------------------------------------------------丨
+     */
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int WINDOW_SAMPLES = 10;
+
+    /**
+     * 长期延迟的指数平均系数（约 600 个窗口）
+     *
+     * ------------------------------------------------------------------丨
+     * Exponential average factor of the long term latency (~600 windows). 丨
+     * ------------------------------------------------------------------丨
+     */
+    private static final double LONG_RTT_FACTOR = 2.0 / 601;
+
+    /**
+     * 允许的延迟抖动倍数，最近延迟不超过长期延迟的 1.5 倍时不降低上限
+     *
+     * ----------------------------------------------------------------------------------丨
+     * Tolerated latency jitter, the limit is kept while the recent latency stays within   丨
+     * 1.5 times the long term latency.                                                   丨
+     * ----------------------------------------------------------------------------------丨
+     */
+    private static final double TOLERANCE = 1.5;
+
+    /**
+     * 新上限的平滑系数 | Smoothing factor of the new limit
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * 当前请求线程持有的许可，由 BulkheadInterceptor 设置，供 EncryptionDispatcher 提交任务时占用排队名额
+     *
+     * ----------------------------------------------------------------------------------------------丨
+     * Permit held by the current request thread, set by BulkheadInterceptor so that                 丨
+     * EncryptionDispatcher takes a queue slot when it submits the task.                             丨
+     * ----------------------------------------------------------------------------------------------丨
+     */
+    private static final ThreadLocal<Permit> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueCapacity;
+    private final long maxWaitNanos;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 以下状态只在 lock 内修改，volatile 供指标无锁读取
+     *
+     * ----------------------------------------------------------------------------丨
+     * The state below only changes under 'lock', volatile for lock free metric reads. 丨
+     * ----------------------------------------------------------------------------丨
+     */
+    private volatile double limit;
+    private double longRtt;
+    private double shortRtt;
+    private long windowStart;
+    private long windowRtt;
+    private int windowSamples;
+    private int windowInFlight;
+    private volatile int inFlight;
+    private volatile int queued;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    /**
+     * @param name 算法名称，用作指标标签 | algorithm name, used as the metric tag
+     * @param initialLimit 初始并发上限 | initial concurrency limit
+     * @param minLimit 最小并发上限 | minimum concurrency limit
+     * @param maxLimit 最大并发上限 | maximum concurrency limit
+     * @param queueCapacity 在线程池中排队的名额 | slots queued in the encryption pool
+     * @param maxWaitMillis 最长排队时间（毫秒）| maximum wait in milliseconds
+     */
+    public Bulkhead(String name, int initialLimit, int minLimit, int maxLimit, int queueCapacity, long maxWaitMillis) {
+        this(name, initialLimit, minLimit, maxLimit, queueCapacity, maxWaitMillis, System::nanoTime);
+    }
+
+    Bulkhead(String name, int initialLimit, int minLimit, int maxLimit, int queueCapacity, long maxWaitMillis, LongSupplier clock) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("并发上限配置错误! | Invalid concurrency limits: " + name);
+        }
+        if (queueCapacity < 1 || maxWaitMillis < 1) {
+            throw new IllegalArgumentException("排队名额和最长排队时间必须大于 0! | Queue capacity and max wait must be positive: " + name);
+        }
+
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.queueCapacity = queueCapacity;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.clock = clock;
+        this.limit = initialLimit;
+        this.windowStart = clock.getAsLong();
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午3:30 2026/10/19
+     * @description: 当前请求线程持有的许可，没有时为 null | Permit of the current request thread, null when there is none
+     * @return com.mhx.encryption.web.bulkhead.Bulkhead.Permit
+     **/
+    public static Permit current() {
+        return CURRENT.get();
+    }
+
+    static void bind(Permit permit) {
+        if (permit == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(permit);
+        }
+    }
+
+    /**
+     * @author: MuHongXin.
+     * @dateTime: 下午11:40 2026/10/18
+     * @description: 获取执行许可，达到并发上限时立即抛出 BulkheadRejectedException，不等待
+     *               Acquire a permit, at the concurrency limit BulkheadRejectedException is thrown at once without
+     *               waiting
+     * @return com.mhx.encryption.web.bulkhead.Bulkhead.Permit
+     **/
+    public Permit acquire() {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                accepted.increment();
+                return new Permit(clock.getAsLong());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        rejected.increment();
+        throw new BulkheadRejectedException(name, ErrorCodeEnum.SERVER_DISABLE);
+    }
+
+    private void enqueue(Permit permit) {
+        lock.lock();
+        try {
+            if (permit.state != Permit.ADMITTED) {
+                return;
+            }
+            if (queued >= queueCapacity) {
+                queueFull.increment();
+                throw new BulkheadRejectedException(name, ErrorCodeEnum.SERVER_DISABLE);
+            }
+            // 按最近延迟估计排在前面的任务全部完成所需的时间，超过 maxWait 就不必排队了
+            // Estimate how long the tasks ahead take to finish at the recent latency, no point queueing beyond maxWait
+            if (shortRtt > 0 && (queued + 1) * shortRtt / limit > maxWaitNanos) {
+                shed.increment();
+                throw new BulkheadRejectedException(name, ErrorCodeEnum.SERVER_DISABLE);
+            }
+
+            queued++;
+            permit.state = Permit.QUEUED;
+            permit.queuedAt = clock.getAsLong();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void start(Permit permit) {
+        lock.lock();
+        try {
+            // 请求已经结束（如异步超时）| The request already ended, such as an async timeout
+            boolean expired = permit.state == Permit.RELEASED;
+            if (permit.state == Permit.QUEUED) {
+                queued--;
+                expired = clock.getAsLong() - permit.queuedAt > maxWaitNanos;
+            }
+            if (!expired) {
+                permit.state = Permit.RUNNING;
+                return;
+            }
+
+            // 排队超时的任务不再执行，名额立即归还 | A task that queued too long does not run, its slot comes back at once
+            if (permit.state == Permit.QUEUED) {
+                permit.state = Permit.RUNNING;
+                release(permit, false);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        timedOut.increment();
+        throw new BulkheadRejectedException(name, ErrorCodeEnum.TIMEOUT);
+    }
+
+    private void release(Permit permit, boolean sample) {
+        lock.lock();
+        try {
+            if (permit.state == Permit.RELEASED) {
+                return;
+            }
+            if (permit.state == Permit.QUEUED) {
+                queued--;
+            }
+            permit.state = Permit.RELEASED;
+            if (sample) {
+                sample(clock.getAsLong() - permit.start);
+            }
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sample(long rtt) {
+        windowRtt += rtt;
+        windowSamples++;
+        windowInFlight = Math.max(windowInFlight, inFlight);
+
+        long now = clock.getAsLong();
+        if (windowSamples < WINDOW_SAMPLES || now - windowStart < WINDOW_NANOS) {
+            return;
+        }
+
+        update((double) windowRtt / windowSamples, windowInFlight);
+        windowStart = now;
+        windowRtt = 0;
+        windowSamples = 0;
+        windowInFlight = 0;
+    }
+
+    /**
+     * Gradient2：按长期延迟与窗口延迟之比调整并发上限 | Gradient2: adjust the limit by the long term to window latency ratio
+     */
+    private void update(double rtt, int inFlight) {
+        shortRtt = rtt;
+        if (longRtt == 0) {
+            longRtt = rtt;
+            return;
+        }
+
+        longRtt += (rtt - longRtt) * LONG_RTT_FACTOR;
+        // 延迟大幅下降后让基线更快跟上 | Let the baseline catch up faster after the latency dropped sharply
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        // 应用本身没有压满上限时，延迟不能说明上限是否合适 | When the application does not fill the limit, latency says nothing about it
+        if (inFlight < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight;
+    }
+
+    public long acceptedCount() {
+        return accepted.sum();
+    }
+
+    public int queueDepth() {
+        return queued;
+    }
+
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * 达到并发上限而拒绝的数量 | Rejections at the concurrency limit
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public long queueFullCount() {
+        return queueFull.sum();
+    }
+
+    public long shedCount() {
+        return shed.sum();
+    }
+
+    public long timeoutCount() {
+        return timedOut.sum();
+    }
+
+    /**
+     * @className Permit
+     * @description 执行许可：获取后为 ADMITTED，提交到线程池时为 QUEUED，开始执行时为 RUNNING，只能释放一次；
+     *              状态只在舱壁的 lock 内修改
+     *              Execution permit: ADMITTED once acquired, QUEUED while submitted to the pool, RUNNING once the task
+     *              starts, released at most once; the state only changes under the bulkhead's lock
+     **/
+    public final class Permit {
+        private static final int ADMITTED = 0;
+        private static final int QUEUED = 1;
+        private static final int RUNNING = 2;
+        private static final int RELEASED = 3;
+
+        private final long start;
+        private int state = ADMITTED;
+        private long queuedAt;
+
+        private Permit(long start) {
+            this.start = start;
+        }
+
+        /**
+         * 任务提交到线程池前占用一个排队名额，名额已满或预计等待过长时抛出 BulkheadRejectedException（SERVER_DISABLE）；
+         * 同一请求再次提交不重复占用
+         * Takes a queue slot before the task is submitted to the pool, all slots taken or a too long expected wait
+         * throws BulkheadRejectedException (SERVER_DISABLE); another submission of the same request takes none
+         */
+        public void enqueue() {
+            Bulkhead.this.enqueue(this);
+        }
+
+        /**
+         * 任务在线程池中开始执行，归还排队名额；排队超过 maxWait 或请求已经结束时释放许可并抛出
+         * BulkheadRejectedException（TIMEOUT）
+         * The task starts on the pool and gives its queue slot back; queued longer than maxWait or with the request
+         * already ended the permit is released and BulkheadRejectedException (TIMEOUT) is thrown
+         */
+        public void start() {
+            Bulkhead.this.start(this);
+        }
+
+        /**
+         * 正常完成，延迟计入并发上限的调整 | Completed normally, the latency feeds the limit
+         */
+        public void complete() {
+            release(this, true);
+        }
+
+        /**
+         * 失败或被下游拒绝，不计入延迟样本 | Failed or rejected downstream, not a latency sample
+         */
+        public void drop() {
+            release(this, false);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.mhx.encryption.web.bulkhead;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * @className BulkheadInterceptor
+ * @description 在进入接口前获取所属算法舱壁的许可，请求完成时释放；达到上限时立即拒绝，请求线程不会等待。
+ *              接口执行期间许可绑定在请求线程上，EncryptionDispatcher 提交任务时据此占用本算法的排队名额。
+ *              返回 CompletableFuture 的接口在异步派发完成后才释放，因此许可覆盖线程池中的排队和实际计算时间；异步派发再次进入时不重复获取
+ *              Acquires a permit of the algorithm's bulkhead before the endpoint and releases it when the request
+ *              completes; at the limit the request is rejected at once and the request thread never waits.
+ *              While the endpoint runs the permit is bound to the request thread, so that EncryptionDispatcher takes
+ *              one of the algorithm's queue slots when it submits the task.
+ *              Endpoints returning CompletableFuture release after the async dispatch, so the permit covers the
+ *              queueing and the actual work on the pool; the async dispatch re-entering does not acquire again
+ * @author MuHongXin.
+ * @date 2026/10/18 23:40
+ * @version v1.0.0
+ **/
+
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final Bulkhead bulkhead;
+
+    public BulkheadInterceptor(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        Bulkhead.Permit permit = bulkhead.acquire();
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        Bulkhead.bind(permit);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 接口已返回 CompletableFuture，请求线程回到容器 | The endpoint returned its CompletableFuture, the request thread goes back to the container
+        Bulkhead.bind(null);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Bulkhead.bind(null);
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (!(permit instanceof Bulkhead.Permit)) {
+            return;
+        }
+
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        // 异常和 5xx（如线程池拒绝的 503）不是正常的延迟样本；排队超时的许可在放弃时已经释放
+        // Exceptions and 5xx (such as a pool rejection 503) are no normal latency sample; a permit that queued too long
+        // was released when the task gave up
+        if (ex == null && response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            ((Bulkhead.Permit) permit).complete();
+        } else {
+            ((Bulkhead.Permit) permit).drop();
+        }
+    }
+}
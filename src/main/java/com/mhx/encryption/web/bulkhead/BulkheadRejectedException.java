@@ -0,0 +1,34 @@
+package com.mhx.encryption.web.bulkhead;
+
+import com.mhx.encryption.common.ErrorCodeEnum;
+
+/**
+ * @className BulkheadRejectedException
+ * @description 舱壁拒绝请求：SERVER_DISABLE 为达到并发上限、排队名额已满或预计等待过长，TIMEOUT 为在线程池中排队超时
+ *              Request rejected by a bulkhead: SERVER_DISABLE for the concurrency limit, all queue slots taken or a
+ *              too long expected wait, TIMEOUT for a task that queued in the pool too long
+ * @author MuHongXin.
+ * @date 2026/10/18 23:40
+ * @version v1.0.0
+ **/
+
+public class BulkheadRejectedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String bulkhead;
+    private final ErrorCodeEnum code;
+
+    public BulkheadRejectedException(String bulkhead, ErrorCodeEnum code) {
+        super(bulkhead + ": " + code.getMsg(), null, false, false);
+        this.bulkhead = bulkhead;
+        this.code = code;
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+
+    public ErrorCodeEnum getCode() {
+        return code;
+    }
+}
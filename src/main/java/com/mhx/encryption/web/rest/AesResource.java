@@ -1,12 +1,21 @@
 package com.mhx.encryption.web.rest;
 
+import com.mhx.encryption.config.async.EncryptionDispatcher;
 import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.symmetry.SymmetryBatchDTO;
 import com.mhx.encryption.dto.symmetry.SymmetryDTO;
 import com.mhx.encryption.service.aes.AesService;
+import com.mhx.encryption.util.aes.AesMode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.annotation.Resource;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @className EncryptionResource
@@ -22,18 +31,23 @@ public class AesResource {
     @Resource
     private AesService aesService;
 
+    @Resource
+    private EncryptionDispatcher encryptionDispatcher;
+
     /**
      * AES加密
      *
      * @author: MuHongXin.
      * @dateTime: 下午4:20 2023/5/31
      * @param symmetryDTO 对称加密算法对象
-     * @return org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>
+     * @param mode 工作模式 ECB / GCM / CTR，默认 ECB
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
     **/
     @PostMapping("doAesEncryption")
-    public ResponseEntity<ResponseVO> doAesEncryption(@RequestBody SymmetryDTO symmetryDTO) {
+    public CompletableFuture<ResponseEntity<ResponseVO>> doAesEncryption(@RequestBody SymmetryDTO symmetryDTO,
+                                                      @RequestParam(value = "mode", defaultValue = "ECB") AesMode mode) {
 
-        return ResponseEntity.ok(this.aesService.doAesEncryption(symmetryDTO));
+        return this.encryptionDispatcher.symmetric(() -> ResponseEntity.ok(this.aesService.doAesEncryption(symmetryDTO, mode)));
     }
 
     /**
@@ -42,11 +56,102 @@ public class AesResource {
      * @author: MuHongXin.
      * @dateTime: 下午4:20 2023/5/31
      * @param symmetryDTO 对称加密算法对象
-     * @return org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>
+     * @param mode 工作模式 ECB / GCM / CTR，默认 ECB
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
      **/
     @PostMapping("doAesDecryption")
-    public ResponseEntity<ResponseVO> doAesDecryption(@RequestBody SymmetryDTO symmetryDTO) {
+    public CompletableFuture<ResponseEntity<ResponseVO>> doAesDecryption(@RequestBody SymmetryDTO symmetryDTO,
+                                                      @RequestParam(value = "mode", defaultValue = "ECB") AesMode mode) {
+
+        return this.encryptionDispatcher.symmetric(() -> ResponseEntity.ok(this.aesService.doAesDecryption(symmetryDTO, mode)));
+    }
+
+    /**
+     * AES批量加密，所有明文共用同一密钥，按请求顺序返回每一项的结果
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @param batchDTO 对称加密算法批量对象
+     * @param mode 工作模式 ECB / GCM / CTR，默认 ECB
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("batch/encrypt")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doAesBatchEncryption(@RequestBody SymmetryBatchDTO batchDTO,
+                                                           @RequestParam(value = "mode", defaultValue = "ECB") AesMode mode) {
+
+        return this.encryptionDispatcher.symmetric(() -> ResponseEntity.ok(this.aesService.doAesBatchEncryption(batchDTO, mode)));
+    }
+
+    /**
+     * AES批量解密，所有密文共用同一密钥，按请求顺序返回每一项的结果
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @param batchDTO 对称加密算法批量对象
+     * @param mode 工作模式 ECB / GCM / CTR，默认 ECB
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("batch/decrypt")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doAesBatchDecryption(@RequestBody SymmetryBatchDTO batchDTO,
+                                                           @RequestParam(value = "mode", defaultValue = "ECB") AesMode mode) {
+
+        return this.encryptionDispatcher.symmetric(() -> ResponseEntity.ok(this.aesService.doAesBatchDecryption(batchDTO, mode)));
+    }
+
+    /**
+     * AES-GCM分段流式加密，请求体为原始明文字节，响应体为分段密文，内存占用只与分段大小有关
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     * @param secretKey 密钥请求头 X-Secret-Key，为空时使用默认密钥
+     * @param segmentSize 明文分段大小，默认 64 KiB
+     **/
+    @PostMapping(value = "stream/encrypt", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public void doAesStreamEncryption(@RequestHeader(value = "X-Secret-Key", required = false) String secretKey,
+                                      @RequestParam(value = "segmentSize", defaultValue = "65536") int segmentSize,
+                                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        try {
+            this.aesService.doAesStreamEncryption(request.getInputStream(), response.getOutputStream(), secretKey, segmentSize);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            fail(response, e);
+        }
+    }
+
+    /**
+     * AES-GCM分段流式解密，逐段认证后写出明文。请求带有 Content-Length 时预先设置响应的 Content-Length，
+     * 中途认证失败的响应在客户端表现为不完整，客户端必须丢弃不完整响应中已收到的数据
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午7:40 2026/10/18
+     * @param secretKey 密钥请求头 X-Secret-Key，为空时使用默认密钥
+     **/
+    @PostMapping(value = "stream/decrypt", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public void doAesStreamDecryption(@RequestHeader(value = "X-Secret-Key", required = false) String secretKey,
+                                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        try {
+            this.aesService.doAesStreamDecryption(request.getInputStream(), response.getOutputStream(), secretKey,
+                    request.getContentLengthLong(), response::setContentLengthLong);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            fail(response, e);
+        }
+    }
+
+    /**
+     * 响应尚未提交时丢弃已缓冲的输出并返回 400；已提交时只能中断连接，让客户端看到不完整的响应
+     *
+     * ----------------------------------------------------------------------------------------------------丨
+     * Before the response is committed the buffered output is dropped and 400 is returned; once it is     丨
+     * committed the connection can only be aborted so that the client sees an incomplete response.       丨
+     * ----------------------------------------------------------------------------------------------------丨
+     */
+    private static void fail(HttpServletResponse response, Exception e) throws IOException {
+        if (response.isCommitted()) {
+            throw new IOException(e.getMessage(), e);
+        }
 
-        return ResponseEntity.ok(this.aesService.doAesDecryption(symmetryDTO));
+        response.reset();
+        response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
     }
 }
@@ -1,15 +1,25 @@
 package com.mhx.encryption.web.rest;
 
+import com.mhx.encryption.config.async.EncryptionDispatcher;
 import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.symmetry.SymmetryBatchDTO;
 import com.mhx.encryption.dto.symmetry.SymmetryDTO;
 import com.mhx.encryption.service.des.DesService;
+import com.mhx.encryption.util.des.DesAlgorithm;
+import com.mhx.encryption.util.des.DesEncoding;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import javax.annotation.Resource;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.CompletableFuture;
+import java.util.List;
 
 /**
  * @className DesResource 
@@ -25,18 +35,25 @@ public class DesResource {
     @Resource
     private DesService desService;
 
+    @Resource
+    private EncryptionDispatcher encryptionDispatcher;
+
     /**
      * DES加密
      *
      * @author: MuHongXin.
      * @dateTime: 下午4:20 2023/5/31
      * @param symmetryDTO 对称加密算法对象
-     * @return org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>
+     * @param encoding 密文编码 HEX / BASE64 / LEGACY，默认密钥默认 LEGACY、指定密钥默认 BASE64
+     * @param algorithm 算法 DES / DESEDE（3DES，密钥 16 或 24 字节），默认 DES
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
      **/
     @PostMapping("doDesEncryption")
-    public ResponseEntity<ResponseVO> doDesEncryption(@RequestBody SymmetryDTO symmetryDTO) {
+    public CompletableFuture<ResponseEntity<ResponseVO>> doDesEncryption(@RequestBody SymmetryDTO symmetryDTO,
+                                                      @RequestParam(value = "encoding", required = false) DesEncoding encoding,
+                                                      @RequestParam(value = "algorithm", defaultValue = "DES") DesAlgorithm algorithm) {
 
-        return ResponseEntity.ok(this.desService.doDesEncryption(symmetryDTO));
+        return this.encryptionDispatcher.symmetric(() -> ResponseEntity.ok(this.desService.doDesEncryption(symmetryDTO, encoding, algorithm)));
     }
 
     /**
@@ -45,11 +62,187 @@ public class DesResource {
      * @author: MuHongXin.
      * @dateTime: 下午4:20 2023/5/31
      * @param symmetryDTO 对称加密算法对象
-     * @return org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>
+     * @param encoding 密文编码 HEX / BASE64 / LEGACY，默认密钥默认 LEGACY、指定密钥默认 BASE64
+     * @param algorithm 算法 DES / DESEDE（3DES，密钥 16 或 24 字节），默认 DES
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
      **/
     @PostMapping("doDesDecryption")
-    public ResponseEntity<ResponseVO> doDesDecryption(@RequestBody SymmetryDTO symmetryDTO) {
+    public CompletableFuture<ResponseEntity<ResponseVO>> doDesDecryption(@RequestBody SymmetryDTO symmetryDTO,
+                                                      @RequestParam(value = "encoding", required = false) DesEncoding encoding,
+                                                      @RequestParam(value = "algorithm", defaultValue = "DES") DesAlgorithm algorithm) {
+
+        return this.encryptionDispatcher.symmetric(() -> ResponseEntity.ok(this.desService.doDesDecryption(symmetryDTO, encoding, algorithm)));
+    }
+
+    /**
+     * DES批量加密，所有明文共用同一密钥，按请求顺序返回每一项的结果
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @param batchDTO 对称加密算法批量对象
+     * @param encoding 密文编码 HEX / BASE64 / LEGACY，默认密钥默认 LEGACY、指定密钥默认 BASE64
+     * @param algorithm 算法 DES / DESEDE（3DES，密钥 16 或 24 字节），默认 DES
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("batch/encrypt")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doDesBatchEncryption(@RequestBody SymmetryBatchDTO batchDTO,
+                                                           @RequestParam(value = "encoding", required = false) DesEncoding encoding,
+                                                           @RequestParam(value = "algorithm", defaultValue = "DES") DesAlgorithm algorithm) {
+
+        return this.encryptionDispatcher.symmetric(() -> ResponseEntity.ok(this.desService.doDesBatchEncryption(batchDTO, encoding, algorithm)));
+    }
+
+    /**
+     * DES批量解密，所有密文共用同一密钥，按请求顺序返回每一项的结果
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午6:40 2026/10/18
+     * @param batchDTO 对称加密算法批量对象
+     * @param encoding 密文编码 HEX / BASE64 / LEGACY，默认密钥默认 LEGACY、指定密钥默认 BASE64
+     * @param algorithm 算法 DES / DESEDE（3DES，密钥 16 或 24 字节），默认 DES
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("batch/decrypt")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doDesBatchDecryption(@RequestBody SymmetryBatchDTO batchDTO,
+                                                           @RequestParam(value = "encoding", required = false) DesEncoding encoding,
+                                                           @RequestParam(value = "algorithm", defaultValue = "DES") DesAlgorithm algorithm) {
+
+        return this.encryptionDispatcher.symmetric(() -> ResponseEntity.ok(this.desService.doDesBatchDecryption(batchDTO, encoding, algorithm)));
+    }
+
+    /**
+     * DES二进制加密，请求体为原始明文字节。按 Accept 协商密文格式：text/plain 返回编码后的文本密文（encoding 默认 BASE64），
+     * 其他情况返回原始密文字节 application/octet-stream，不经过任何文本编码
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     * @param secretKey 密钥请求头 X-Secret-Key，为空时使用默认密钥
+     * @param encoding 文本密文编码 HEX / BASE64 / LEGACY，指定时即使 Accept 未要求也返回文本
+     * @param algorithm 算法 DES / DESEDE（3DES，密钥 16 或 24 字节），默认 DES
+     * @param accept 请求头 Accept
+     * @param plaintext 明文字节
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<byte[]>>
+     **/
+    @PostMapping(value = "encrypt", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public CompletableFuture<ResponseEntity<byte[]>> doDesEncryption(@RequestHeader(value = "X-Secret-Key", required = false) String secretKey,
+                                                                     @RequestParam(value = "encoding", required = false) DesEncoding encoding,
+                                                                     @RequestParam(value = "algorithm", defaultValue = "DES") DesAlgorithm algorithm,
+                                                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                                     @RequestBody byte[] plaintext) {
+
+        return this.encryptionDispatcher.symmetric(() -> encrypt(plaintext, secretKey, encoding, algorithm, accept));
+    }
+
+    /**
+     * DES二进制解密，请求体为 application/octet-stream 的原始密文，或 text/plain 的文本密文（encoding 默认 BASE64），
+     * 响应体为原始明文字节
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午10:30 2026/10/18
+     * @param secretKey 密钥请求头 X-Secret-Key，为空时使用默认密钥
+     * @param encoding 文本密文编码 HEX / BASE64 / LEGACY，只对 text/plain 请求体生效
+     * @param algorithm 算法 DES / DESEDE（3DES，密钥 16 或 24 字节），默认 DES
+     * @param contentType 请求头 Content-Type
+     * @param cipherText 密文
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<byte[]>>
+     **/
+    @PostMapping(value = "decrypt", consumes = {MediaType.APPLICATION_OCTET_STREAM_VALUE, MediaType.TEXT_PLAIN_VALUE})
+    public CompletableFuture<ResponseEntity<byte[]>> doDesDecryption(@RequestHeader(value = "X-Secret-Key", required = false) String secretKey,
+                                                                     @RequestParam(value = "encoding", defaultValue = "BASE64") DesEncoding encoding,
+                                                                     @RequestParam(value = "algorithm", defaultValue = "DES") DesAlgorithm algorithm,
+                                                                     @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                                     @RequestBody byte[] cipherText) {
+
+        return this.encryptionDispatcher.symmetric(() -> decrypt(cipherText, secretKey, encoding, algorithm, contentType));
+    }
+
+    private ResponseEntity<byte[]> encrypt(byte[] plaintext, String secretKey, DesEncoding encoding, DesAlgorithm algorithm, String accept) {
+        byte[] cipherText;
+        try {
+            cipherText = this.desService.doDesEncryption(plaintext, secretKey, algorithm);
+        } catch (GeneralSecurityException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        if (null == encoding && !acceptsText(accept)) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(cipherText);
+        }
+        return ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN)
+                .body((null == encoding ? DesEncoding.BASE64 : encoding).encodeToBytes(cipherText));
+    }
+
+    private ResponseEntity<byte[]> decrypt(byte[] cipherText, String secretKey, DesEncoding encoding, DesAlgorithm algorithm, MediaType contentType) {
+        try {
+            byte[] raw = MediaType.TEXT_PLAIN.includes(contentType)
+                    ? encoding.decode(cipherText, 0, trimmedLength(cipherText))
+                    : cipherText;
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(this.desService.doDesDecryption(raw, secretKey, algorithm));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 按 RFC 7231 协商：每种类型的质量值取匹配它的最具体的范围（text/plain 优先于 text 通配，text 通配优先于任意类型），
+     * q=0 表示不可接受；text/plain 的质量值更高，或质量值相同但由更具体的范围匹配时返回文本，
+     * 其余情况（包括 Accept 缺省、非法或只有通配符）返回原始字节
+     *
+     * --------------------------------------------------------------------------------------------------丨
+     * Negotiated as in RFC 7231: the quality of each type comes from the most specific range matching   丨
+     * it (text/plain over any text, any text over any type), q=0 means not acceptable; text is          丨
+     * returned when text/plain has the higher quality, or the same quality from a more specific range,  丨
+     * and the raw bytes otherwise, including a missing or malformed Accept or a bare wildcard.          丨
+     * --------------------------------------------------------------------------------------------------丨
+     */
+    static boolean acceptsText(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return false;
+        }
+
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+
+        MediaType text = mostSpecific(mediaTypes, MediaType.TEXT_PLAIN);
+        MediaType raw = mostSpecific(mediaTypes, MediaType.APPLICATION_OCTET_STREAM);
+        if (text == null || text.getQualityValue() <= 0) {
+            return false;
+        }
+        if (raw == null || raw.getQualityValue() < text.getQualityValue()) {
+            return true;
+        }
+        return raw.getQualityValue() == text.getQualityValue() && specificity(text) > specificity(raw);
+    }
+
+    private static MediaType mostSpecific(List<MediaType> mediaTypes, MediaType target) {
+        MediaType match = null;
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.includes(target) && (match == null || specificity(mediaType) > specificity(match))) {
+                match = mediaType;
+            }
+        }
+        return match;
+    }
 
-        return ResponseEntity.ok(this.desService.doDesDecryption(symmetryDTO));
+    private static int specificity(MediaType mediaType) {
+        if (mediaType.isWildcardType()) {
+            return 0;
+        }
+        return mediaType.isWildcardSubtype() ? 1 : 2;
+    }
+
+    /**
+     * 去掉文本密文末尾的空白（curl 等工具常带换行）| Drops trailing whitespace of text cipher text, curl and friends often add a newline
+     */
+    private static int trimmedLength(byte[] text) {
+        int len = text.length;
+        while (len > 0 && text[len - 1] <= ' ') {
+            len--;
+        }
+        return len;
     }
 }
@@ -0,0 +1,70 @@
+package com.mhx.encryption.web.rest;
+
+import com.mhx.encryption.common.ErrorCodeEnum;
+import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.web.bulkhead.BulkheadRejectedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * @className RestExceptionHandler
+ * @description 接口异常处理：加解密线程池队列已满或舱壁拒绝时返回 503 和 Retry-After，舱壁排队超时返回 408，客户端应稍后重试
+ *              Endpoint exception handling: a full encryption pool queue or a bulkhead rejection answers 503 with
+ *              Retry-After, a bulkhead wait that timed out answers 408; the client should retry later
+ * @author MuHongXin.
+ * @date 2026/10/18 23:10
+ * @version v1.0.0
+ **/
+
+@RestControllerAdvice
+public class RestExceptionHandler {
+    private static final Logger logger = LoggerFactory.getLogger(RestExceptionHandler.class);
+
+    /**
+     * 建议的重试间隔（秒）
+     *
+     * ---------------------------------------丨
+     * Suggested retry interval in seconds.   丨
+     * ---------------------------------------丨
+     */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    /**
+     * 线程池拒绝任务（包括 Spring 的 TaskRejectedException）
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午11:10 2026/10/18
+     * @param e 拒绝异常
+     * @return org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>
+     **/
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ResponseVO> handleRejectedExecution(RejectedExecutionException e) {
+        logger.warn("handleRejectedExecution|rejected:{}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(new ResponseVO(ErrorCodeEnum.SERVER_DISABLE));
+    }
+
+    /**
+     * 舱壁拒绝：SERVER_DISABLE 返回 503，TIMEOUT 返回 408
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午11:40 2026/10/18
+     * @param e 舱壁拒绝异常
+     * @return org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>
+     **/
+    @ExceptionHandler(BulkheadRejectedException.class)
+    public ResponseEntity<ResponseVO> handleBulkheadRejected(BulkheadRejectedException e) {
+        HttpStatus status = e.getCode() == ErrorCodeEnum.TIMEOUT ? HttpStatus.REQUEST_TIMEOUT : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(new ResponseVO(e.getCode()));
+    }
+}
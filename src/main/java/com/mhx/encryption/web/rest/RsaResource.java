@@ -0,0 +1,128 @@
+package com.mhx.encryption.web.rest;
+
+import com.mhx.encryption.config.async.EncryptionDispatcher;
+import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.asymmetry.AsymmetryBatchDTO;
+import com.mhx.encryption.dto.asymmetry.AsymmetryDTO;
+import com.mhx.encryption.dto.asymmetry.SignatureDTO;
+import com.mhx.encryption.service.rsa.RsaService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.annotation.Resource;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @className RsaResource
+ * @description RSA算法入口，RSAES-OAEP 加解密和 RSASSA-PSS 签名，密钥、密文和签名均为 Base64；所有运算在非对称算法线程池上执行
+ *              RSA algorithm entry, RSAES-OAEP encryption and RSASSA-PSS signatures, keys, cipher texts and signatures
+ *              are Base64; all operations run on the asymmetric pool
+ * @author MuHongXin.
+ * @date 2026/10/19 01:20
+ * @version v1.0.0
+ **/
+
+@RestController
+@RequestMapping("/api/rsa")
+public class RsaResource {
+    @Resource
+    private RsaService rsaService;
+
+    @Resource
+    private EncryptionDispatcher encryptionDispatcher;
+
+    /**
+     * RSA密钥对生成
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param bits 模数长度 2048 / 3072 / 4096，默认 2048
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("doRsaKeyGeneration")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doRsaKeyGeneration(@RequestParam(value = "bits", defaultValue = "2048") int bits) {
+        return this.encryptionDispatcher.asymmetric(() -> ResponseEntity.ok(this.rsaService.doRsaKeyGeneration(bits)));
+    }
+
+    /**
+     * RSA加密
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param asymmetryDTO 非对称加密算法对象，需要明文和公钥
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("doRsaEncryption")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doRsaEncryption(@RequestBody AsymmetryDTO asymmetryDTO) {
+        return this.encryptionDispatcher.asymmetric(() -> ResponseEntity.ok(this.rsaService.doRsaEncryption(asymmetryDTO)));
+    }
+
+    /**
+     * RSA解密
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param asymmetryDTO 非对称加密算法对象，需要密文和私钥
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("doRsaDecryption")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doRsaDecryption(@RequestBody AsymmetryDTO asymmetryDTO) {
+        return this.encryptionDispatcher.asymmetric(() -> ResponseEntity.ok(this.rsaService.doRsaDecryption(asymmetryDTO)));
+    }
+
+    /**
+     * RSA签名
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param signatureDTO 数字签名对象，需要消息和私钥
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("doRsaSign")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doRsaSign(@RequestBody SignatureDTO signatureDTO) {
+        return this.encryptionDispatcher.asymmetric(() -> ResponseEntity.ok(this.rsaService.doRsaSign(signatureDTO)));
+    }
+
+    /**
+     * RSA验签
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param signatureDTO 数字签名对象，需要消息、签名和公钥
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("doRsaVerify")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doRsaVerify(@RequestBody SignatureDTO signatureDTO) {
+        return this.encryptionDispatcher.asymmetric(() -> ResponseEntity.ok(this.rsaService.doRsaVerify(signatureDTO)));
+    }
+
+    /**
+     * RSA批量加密，所有明文共用同一公钥，按请求顺序返回每一项的结果
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param batchDTO 非对称加密算法批量对象，需要明文列表和公钥
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("batch/encrypt")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doRsaBatchEncryption(@RequestBody AsymmetryBatchDTO batchDTO) {
+        return this.encryptionDispatcher.asymmetric(() -> ResponseEntity.ok(this.rsaService.doRsaBatchEncryption(batchDTO)));
+    }
+
+    /**
+     * RSA批量签名，所有消息共用同一私钥，按请求顺序返回每一项的结果
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午1:20 2026/10/19
+     * @param batchDTO 非对称加密算法批量对象，需要消息列表和私钥
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("batch/sign")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doRsaBatchSign(@RequestBody AsymmetryBatchDTO batchDTO) {
+        return this.encryptionDispatcher.asymmetric(() -> ResponseEntity.ok(this.rsaService.doRsaBatchSign(batchDTO)));
+    }
+}
@@ -0,0 +1,136 @@
+package com.mhx.encryption.web.rest;
+
+import com.mhx.encryption.config.async.EncryptionDispatcher;
+import com.mhx.encryption.dto.ResponseVO;
+import com.mhx.encryption.dto.asymmetry.AsymmetryDTO;
+import com.mhx.encryption.dto.asymmetry.SignatureDTO;
+import com.mhx.encryption.service.sm.Sm2Service;
+import com.mhx.encryption.util.sm.SM2CipherMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * @className Sm2Resource
+ * @description SM2算法入口，椭圆曲线运算在非对称算法线程池上执行；每个接口的延迟（含线程池排队）记录为带直方图的
+ *              encryption.sm2.requests 计时器，以 operation 标签区分
+ *              SM2 algorithm entry, the curve arithmetic runs on the asymmetric pool; the latency of every endpoint
+ *              (including the wait for the pool) is recorded by the encryption.sm2.requests timer with a histogram,
+ *              told apart by the 'operation' tag
+ * @author MuHongXin.
+ * @date 2026/10/18 23:55
+ * @version v1.0.0
+ **/
+
+@RestController
+@RequestMapping("/api/sm2")
+public class Sm2Resource {
+    @Resource
+    private Sm2Service sm2Service;
+
+    @Resource
+    private EncryptionDispatcher encryptionDispatcher;
+
+    @Resource
+    private MeterRegistry meterRegistry;
+
+    /**
+     * SM2密钥对生成
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午12:50 2026/10/19
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("doSm2KeyGeneration")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doSm2KeyGeneration() {
+        return dispatch("key-generation", () -> this.sm2Service.doSm2KeyGeneration());
+    }
+
+    /**
+     * SM2加密
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午12:50 2026/10/19
+     * @param asymmetryDTO 非对称加密算法对象，需要明文和公钥
+     * @param mode 密文排列方式 C1C2C3 / C1C3C2 / ASN1，默认 C1C2C3
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("doSm2Encryption")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doSm2Encryption(@RequestBody AsymmetryDTO asymmetryDTO,
+                                                      @RequestParam(value = "mode", defaultValue = "C1C2C3") SM2CipherMode mode) {
+        return dispatch("encrypt", () -> this.sm2Service.doSm2Encryption(asymmetryDTO, mode));
+    }
+
+    /**
+     * SM2解密
+     *
+     * @author: MuHongXin.
+     * @dateTime: 上午12:50 2026/10/19
+     * @param asymmetryDTO 非对称加密算法对象，需要密文和私钥
+     * @param mode 密文排列方式 C1C2C3 / C1C3C2 / ASN1，默认 C1C2C3
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("doSm2Decryption")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doSm2Decryption(@RequestBody AsymmetryDTO asymmetryDTO,
+                                                      @RequestParam(value = "mode", defaultValue = "C1C2C3") SM2CipherMode mode) {
+        return dispatch("decrypt", () -> this.sm2Service.doSm2Decryption(asymmetryDTO, mode));
+    }
+
+    /**
+     * SM2签名
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午11:55 2026/10/18
+     * @param signatureDTO 数字签名对象
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("doSm2Sign")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doSm2Sign(@RequestBody SignatureDTO signatureDTO) {
+        return dispatch("sign", () -> this.sm2Service.doSm2Sign(signatureDTO));
+    }
+
+    /**
+     * SM2验签
+     *
+     * @author: MuHongXin.
+     * @dateTime: 下午11:55 2026/10/18
+     * @param signatureDTO 数字签名对象
+     * @return java.util.concurrent.CompletableFuture<org.springframework.http.ResponseEntity<com.mhx.encryption.dto.ResponseVO>>
+     **/
+    @PostMapping("doSm2Verify")
+    public CompletableFuture<ResponseEntity<ResponseVO>> doSm2Verify(@RequestBody SignatureDTO signatureDTO) {
+        return dispatch("verify", () -> this.sm2Service.doSm2Verify(signatureDTO));
+    }
+
+    /**
+     * 在非对称算法线程池上执行并记录从提交到完成的延迟；提交时被拒绝（503）的请求不计入
+     * Run on the asymmetric pool and record the latency from submission to completion; requests rejected at
+     * submission (503) are not recorded
+     */
+    private CompletableFuture<ResponseEntity<ResponseVO>> dispatch(String operation, Supplier<ResponseVO> task) {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        return this.encryptionDispatcher.asymmetric(() -> ResponseEntity.ok(task.get()))
+                .whenComplete((response, e) -> sample.stop(timer(operation)));
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("encryption.sm2.requests")
+                .description("SM2 endpoint latency, including the wait for the asymmetric pool")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(this.meterRegistry);
+    }
+}
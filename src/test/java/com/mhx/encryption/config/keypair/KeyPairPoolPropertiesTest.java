@@ -0,0 +1,52 @@
+package com.mhx.encryption.config.keypair;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className KeyPairPoolPropertiesTest
+ * @description 密钥对预生成池配置：代码中 RSA 默认为空，application.yml 只预生成 2048 位；配置的 RSA 条目替换而不是合并默认条目
+ *              Key pair pool configuration: RSA is empty in the code, application.yml pre-generates 2048 bits only;
+ *              configured RSA entries replace rather than extend the defaults
+ * @author MuHongXin.
+ * @date 2026/10/19 17:10
+ * @version v1.0.0
+ **/
+
+class KeyPairPoolPropertiesTest {
+    private static final String PREFIX = "encryption.key-pair-pool";
+
+    @Test
+    void rsaIsEmptyByDefault() {
+        assertTrue(new KeyPairPoolProperties().getRsa().isEmpty());
+    }
+
+    @Test
+    void applicationYmlPoolsOnly2048() throws IOException {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"));
+        KeyPairPoolProperties properties = new Binder(ConfigurationPropertySources.from(sources))
+                .bindOrCreate(PREFIX, KeyPairPoolProperties.class);
+        assertEquals(Collections.singletonMap(2048, 8), properties.getRsa());
+        assertEquals(64, properties.getSm2());
+        assertEquals(0, properties.getEcc());
+    }
+
+    @Test
+    void configuredEntriesReplaceTheDefaults() {
+        MapConfigurationPropertySource source = new MapConfigurationPropertySource(Collections.singletonMap(PREFIX + ".rsa.3072", "2"));
+        KeyPairPoolProperties properties = new Binder(source).bindOrCreate(PREFIX, KeyPairPoolProperties.class);
+        assertEquals(Collections.singletonMap(3072, 2), properties.getRsa());
+    }
+}
@@ -0,0 +1,187 @@
+package com.mhx.encryption.util.aes;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @className AesFileCipherTest
+ * @description AES 文件加解密：GCM 文件与 AesStreamCipher 双向互通；CTR 文件与 AesUtils CTR 双向互通，密文与
+ *              JCE AES/CTR/NoPadding（nonce || 0）逐字节一致，任意 16 倍数的加密分段大小都能解密；
+ *              GCM 认证失败或截断时删除已存在的目标文件；跨越多个映射窗口的文件往返一致
+ *              AES file encryption: GCM files interoperate with AesStreamCipher in both directions; CTR files
+ *              interoperate with AesUtils CTR in both directions, the cipher text is byte identical to JCE
+ *              AES/CTR/NoPadding (nonce || 0) and decrypts whatever multiple of 16 the encryption segment size was;
+ *              a GCM tag failure or truncation deletes an existing target file; files spanning several mapping
+ *              windows round trip
+ * @author MuHongXin.
+ * @date 2026/10/19 14:10
+ * @version v1.0.0
+ **/
+
+class AesFileCipherTest {
+    private static final int SEGMENT = AesStreamCipher.MINIMUM_SEGMENT_SIZE;
+
+    private static final int[] LENGTHS = {0, 1, SEGMENT - 1, SEGMENT, SEGMENT + 1, 4 * SEGMENT, 10 * SEGMENT + 3};
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private final Random random = new Random(13);
+
+    private final byte[] key = random(16);
+
+    @TempDir
+    Path dir;
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void gcmFilesDecryptAsStreams() throws IOException, GeneralSecurityException {
+        for (int length : LENGTHS) {
+            byte[] plaintext = random(length);
+            Path encrypted = dir.resolve("gcm-" + length);
+            AesFileCipher.Result result = AesFileCipher.encrypt(write("plain-" + length, plaintext), encrypted, key, AesMode.GCM, SEGMENT, POOL);
+            assertEquals(AesMode.GCM, result.getMode());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            AesStreamCipher.decrypt(new ByteArrayInputStream(Files.readAllBytes(encrypted)), out, key);
+            assertArrayEquals(plaintext, out.toByteArray(), "length " + length);
+        }
+    }
+
+    @Test
+    void streamsDecryptAsGcmFiles() throws IOException, GeneralSecurityException {
+        for (int length : LENGTHS) {
+            byte[] plaintext = random(length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            AesStreamCipher.encrypt(new ByteArrayInputStream(plaintext), out, key, SEGMENT);
+
+            Path decrypted = dir.resolve("decrypted-" + length);
+            AesFileCipher.Result result = AesFileCipher.decrypt(write("stream-" + length, out.toByteArray()), decrypted, key, POOL);
+            assertEquals(AesMode.GCM, result.getMode());
+            assertEquals(length, result.getLength());
+            assertArrayEquals(plaintext, Files.readAllBytes(decrypted), "length " + length);
+        }
+    }
+
+    @Test
+    void ctrFilesMatchAesUtils() throws IOException, GeneralSecurityException {
+        for (int length : LENGTHS) {
+            byte[] plaintext = random(length);
+
+            // 文件 -> AesUtils，且与整段 JCE CTR 一致 | File to AesUtils, identical to one JCE CTR pass
+            Path encrypted = dir.resolve("ctr-" + length);
+            AesFileCipher.encrypt(write("plain-" + length, plaintext), encrypted, key, AesMode.CTR, SEGMENT, POOL);
+            byte[] cipherText = Files.readAllBytes(encrypted);
+            assertEquals(AesUtils.encryptedLength(length, AesMode.CTR), cipherText.length);
+            assertArrayEquals(plaintext, AesUtils.decrypt(cipherText, 0, cipherText.length, key, AesMode.CTR), "length " + length);
+            assertArrayEquals(jceCtr(cipherText, plaintext), Arrays.copyOfRange(cipherText, AesUtils.HEADER_LENGTH, cipherText.length));
+
+            // AesUtils -> 文件 | AesUtils to file
+            byte[] fromUtils = AesUtils.encrypt(plaintext, 0, length, key, AesMode.CTR);
+            Path decrypted = dir.resolve("ctr-decrypted-" + length);
+            AesFileCipher.Result result = AesFileCipher.decrypt(write("utils-" + length, fromUtils), decrypted, key, POOL);
+            assertEquals(AesMode.CTR, result.getMode());
+            assertArrayEquals(plaintext, Files.readAllBytes(decrypted), "length " + length);
+        }
+    }
+
+    @Test
+    void ctrDecryptsAnyEncryptionSegmentSize() throws IOException, GeneralSecurityException {
+        byte[] plaintext = random(3 * AesFileCipher.DEFAULT_SEGMENT_SIZE + 5);
+        Path source = write("plain", plaintext);
+        for (int segmentSize : new int[]{16, 4096, AesFileCipher.DEFAULT_SEGMENT_SIZE, 2 * AesFileCipher.DEFAULT_SEGMENT_SIZE + 16}) {
+            Path encrypted = dir.resolve("ctr-" + segmentSize);
+            AesFileCipher.encrypt(source, encrypted, key, AesMode.CTR, segmentSize, POOL);
+            Path decrypted = dir.resolve("ctr-decrypted-" + segmentSize);
+            AesFileCipher.decrypt(encrypted, decrypted, key, POOL);
+            assertArrayEquals(plaintext, Files.readAllBytes(decrypted), "segment size " + segmentSize);
+        }
+        assertThrows(IllegalArgumentException.class, () -> AesFileCipher.encrypt(source, dir.resolve("odd"), key, AesMode.CTR, 100, POOL));
+    }
+
+    @Test
+    void tagFailureDeletesTheTarget() throws IOException, GeneralSecurityException {
+        byte[] plaintext = random(8 * SEGMENT + 1);
+        Path encrypted = dir.resolve("gcm");
+        AesFileCipher.encrypt(write("plain", plaintext), encrypted, key, AesMode.GCM, SEGMENT, POOL);
+        byte[] cipherText = Files.readAllBytes(encrypted);
+
+        // 中间一段被篡改、截断、错误密钥 | A tampered middle segment, truncation, a wrong key
+        byte[] tampered = cipherText.clone();
+        tampered[AesStreamCipher.HEADER_LENGTH + 4 * (SEGMENT + AesStreamCipher.TAG_LENGTH) + 7] ^= 1;
+        byte[][] sources = {tampered, Arrays.copyOf(cipherText, cipherText.length - 1),
+                Arrays.copyOf(cipherText, AesStreamCipher.HEADER_LENGTH + 5 * (SEGMENT + AesStreamCipher.TAG_LENGTH))};
+        for (int i = 0; i < sources.length; i++) {
+            Path target = write("existing-" + i, new byte[]{1, 2, 3});
+            Path source = write("bad-" + i, sources[i]);
+            assertThrows(AEADBadTagException.class, () -> AesFileCipher.decrypt(source, target, key, POOL), "source " + i);
+            assertFalse(Files.exists(target), "source " + i);
+        }
+
+        Path target = write("existing-key", new byte[]{1, 2, 3});
+        assertThrows(AEADBadTagException.class, () -> AesFileCipher.decrypt(encrypted, target, random(16), POOL));
+        assertFalse(Files.exists(target));
+    }
+
+    @Test
+    void spansSeveralWindows() throws IOException, GeneralSecurityException {
+        // 默认 1 MiB 分段时每个 16 MiB 窗口最多 15 段，34 段分布在多个窗口中，末段只有 7 字节
+        // With the default 1 MiB segments a 16 MiB window holds at most 15 segments, the 34 segments span several
+        // windows and the last one has 7 bytes
+        byte[] plaintext = random(33 * AesFileCipher.DEFAULT_SEGMENT_SIZE + 7);
+        Path source = write("large", plaintext);
+        for (AesMode mode : new AesMode[]{AesMode.GCM, AesMode.CTR}) {
+            Path encrypted = dir.resolve("large-" + mode);
+            AesFileCipher.encrypt(source, encrypted, key, mode, AesFileCipher.DEFAULT_SEGMENT_SIZE, POOL);
+            Path decrypted = dir.resolve("large-decrypted-" + mode);
+            AesFileCipher.Result result = AesFileCipher.decrypt(encrypted, decrypted, key, POOL);
+            assertEquals(plaintext.length, result.getLength());
+            assertArrayEquals(plaintext, Files.readAllBytes(decrypted), mode.name());
+            Files.delete(encrypted);
+            Files.delete(decrypted);
+        }
+    }
+
+    private byte[] jceCtr(byte[] cipherText, byte[] plaintext) throws GeneralSecurityException {
+        byte[] counter = Arrays.copyOfRange(cipherText, 1, 17);
+        Arrays.fill(counter, 12, 16, (byte) 0);
+        Cipher jce = Cipher.getInstance("AES/CTR/NoPadding");
+        jce.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(counter));
+        return jce.doFinal(plaintext);
+    }
+
+    private Path write(String name, byte[] data) throws IOException {
+        Path file = dir.resolve(name);
+        Files.write(file, data);
+        return file;
+    }
+
+    private byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,181 @@
+package com.mhx.encryption.util.aes;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.AEADBadTagException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @className AesStreamCipherTest
+ * @description AES-GCM 分段流：长度为 0、分段大小 -1、分段大小、分段大小 +1 和分段大小整数倍时往返一致，
+ *              plaintextLength 与实际解密长度一致；截断、删除末段、调换分段、篡改头部和错误密钥都被拒绝
+ *              AES-GCM segmented stream: round trips at lengths 0, segment size - 1, segment size, segment size + 1
+ *              and multiples of the segment size, plaintextLength equals the decrypted length; truncation, a dropped
+ *              last segment, swapped segments, a tampered header and a wrong key are all rejected
+ * @author MuHongXin.
+ * @date 2026/10/19 13:50
+ * @version v1.0.0
+ **/
+
+class AesStreamCipherTest {
+    private static final int SEGMENT = AesStreamCipher.MINIMUM_SEGMENT_SIZE;
+
+    private static final int CIPHER_SEGMENT = SEGMENT + AesStreamCipher.TAG_LENGTH;
+
+    private static final int[] LENGTHS = {0, 1, SEGMENT - 1, SEGMENT, SEGMENT + 1, 2 * SEGMENT, 3 * SEGMENT, 5 * SEGMENT + 7};
+
+    private final Random random = new Random(12);
+
+    private final byte[] key = random(32);
+
+    @Test
+    void roundTripsAtSegmentBoundaries() throws IOException, GeneralSecurityException {
+        for (int length : LENGTHS) {
+            byte[] plaintext = random(length);
+            byte[] cipherText = encrypt(plaintext, SEGMENT);
+
+            // 整数倍时末段是满段，不会多出一个空段 | A multiple ends with a full last segment, not an extra empty one
+            int segments = Math.max(1, (length + SEGMENT - 1) / SEGMENT);
+            assertEquals(AesStreamCipher.HEADER_LENGTH + length + segments * AesStreamCipher.TAG_LENGTH, cipherText.length, "length " + length);
+            assertArrayEquals(plaintext, decrypt(cipherText, key), "length " + length);
+        }
+
+        byte[] plaintext = random(3 * AesStreamCipher.DEFAULT_SEGMENT_SIZE + 1);
+        assertArrayEquals(plaintext, decrypt(encrypt(plaintext, AesStreamCipher.DEFAULT_SEGMENT_SIZE), key));
+    }
+
+    @Test
+    void plaintextLengthMatchesDecryption() throws IOException, GeneralSecurityException {
+        for (int length : LENGTHS) {
+            byte[] cipherText = encrypt(random(length), SEGMENT);
+            assertEquals(length, AesStreamCipher.plaintextLength(cipherText.length, SEGMENT), "length " + length);
+
+            AtomicLong announced = new AtomicLong(-1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long decrypted = AesStreamCipher.decrypt(new ByteArrayInputStream(cipherText), out, key, cipherText.length, announced::set);
+            assertEquals(length, decrypted);
+            assertEquals(length, announced.get());
+            assertEquals(length, out.size());
+        }
+
+        // 本格式不可能产生的长度 | Lengths this format cannot produce
+        assertEquals(-1, AesStreamCipher.plaintextLength(AesStreamCipher.HEADER_LENGTH + AesStreamCipher.TAG_LENGTH - 1, SEGMENT));
+        assertEquals(-1, AesStreamCipher.plaintextLength(AesStreamCipher.HEADER_LENGTH + CIPHER_SEGMENT + 3, SEGMENT));
+    }
+
+    @Test
+    void rejectsTruncation() throws IOException, GeneralSecurityException {
+        byte[] cipherText = encrypt(random(2 * SEGMENT + 10), SEGMENT);
+        int[] cuts = {AesStreamCipher.HEADER_LENGTH, AesStreamCipher.HEADER_LENGTH + 1, AesStreamCipher.HEADER_LENGTH + CIPHER_SEGMENT - 1,
+                AesStreamCipher.HEADER_LENGTH + 2 * CIPHER_SEGMENT + 5, cipherText.length - 1};
+        for (int cut : cuts) {
+            byte[] truncated = Arrays.copyOf(cipherText, cut);
+            assertThrows(AEADBadTagException.class, () -> decrypt(truncated, key), "cut " + cut);
+            assertThrows(AEADBadTagException.class, () -> AesStreamCipher.decrypt(new ByteArrayInputStream(truncated),
+                    new ByteArrayOutputStream(), key, truncated.length, null), "cut " + cut + ", known length");
+        }
+        assertThrows(IllegalArgumentException.class, () -> decrypt(Arrays.copyOf(cipherText, AesStreamCipher.HEADER_LENGTH - 1), key));
+    }
+
+    @Test
+    void rejectsADroppedLastSegment() throws IOException, GeneralSecurityException {
+        // 删除末段后剩下的是完整的非末段 | What remains after dropping the last segment are whole non last segments
+        for (int length : new int[]{2 * SEGMENT, 2 * SEGMENT + 10, 3 * SEGMENT}) {
+            byte[] cipherText = encrypt(random(length), SEGMENT);
+            int segments = (length + SEGMENT - 1) / SEGMENT;
+            byte[] dropped = Arrays.copyOf(cipherText, AesStreamCipher.HEADER_LENGTH + (segments - 1) * CIPHER_SEGMENT);
+            assertEquals((segments - 1) * SEGMENT, AesStreamCipher.plaintextLength(dropped.length, SEGMENT));
+            assertThrows(AEADBadTagException.class, () -> decrypt(dropped, key), "length " + length);
+        }
+    }
+
+    @Test
+    void rejectsSwappedSegments() throws IOException, GeneralSecurityException {
+        byte[] cipherText = encrypt(random(3 * SEGMENT + 1), SEGMENT);
+        int first = AesStreamCipher.HEADER_LENGTH;
+        int second = first + CIPHER_SEGMENT;
+
+        byte[] swapped = cipherText.clone();
+        System.arraycopy(cipherText, first, swapped, second, CIPHER_SEGMENT);
+        System.arraycopy(cipherText, second, swapped, first, CIPHER_SEGMENT);
+        assertThrows(AEADBadTagException.class, () -> decrypt(swapped, key));
+
+        // 同一段重复两次 | The same segment twice
+        byte[] repeated = cipherText.clone();
+        System.arraycopy(cipherText, first, repeated, second, CIPHER_SEGMENT);
+        assertThrows(AEADBadTagException.class, () -> decrypt(repeated, key));
+    }
+
+    @Test
+    void rejectsATamperedHeader() throws IOException, GeneralSecurityException {
+        byte[] cipherText = encrypt(random(SEGMENT + 1), SEGMENT);
+
+        // 版本和分段大小超出范围 | Version and segment size out of range
+        for (int i : new int[]{0, 1, 2, 3}) {
+            byte[] tampered = cipherText.clone();
+            tampered[i] ^= (byte) (i == 3 ? 0x01 : 0x80);
+            assertThrows(IllegalArgumentException.class, () -> decrypt(tampered, key), "byte " + i);
+        }
+
+        // 范围内的分段大小、盐和 nonce 前缀都由标签认证 | In range segment sizes, the salt and the nonce prefix are authenticated by the tag
+        byte[] larger = cipherText.clone();
+        larger[3] ^= (byte) 0x80;
+        assertThrows(AEADBadTagException.class, () -> decrypt(larger, key));
+        for (int i = 4; i < AesStreamCipher.HEADER_LENGTH; i++) {
+            byte[] tampered = cipherText.clone();
+            tampered[i] ^= 1;
+            assertThrows(AEADBadTagException.class, () -> decrypt(tampered, key), "byte " + i);
+        }
+    }
+
+    @Test
+    void rejectsAWrongKey() throws IOException, GeneralSecurityException {
+        byte[] cipherText = encrypt(random(SEGMENT + 1), SEGMENT);
+        byte[] other = key.clone();
+        other[31] ^= 1;
+        assertThrows(AEADBadTagException.class, () -> decrypt(cipherText, other));
+        assertThrows(AEADBadTagException.class, () -> decrypt(cipherText, Arrays.copyOf(key, 16)));
+        assertThrows(InvalidKeyException.class, () -> decrypt(cipherText, Arrays.copyOf(key, 15)));
+        assertThrows(InvalidKeyException.class, () -> encrypt(new byte[1], SEGMENT, new byte[20]));
+    }
+
+    @Test
+    void rejectsSegmentSizesOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> encrypt(new byte[1], AesStreamCipher.MINIMUM_SEGMENT_SIZE - 1));
+        assertThrows(IllegalArgumentException.class, () -> encrypt(new byte[1], AesStreamCipher.MAXIMUM_SEGMENT_SIZE + 1));
+    }
+
+    private byte[] encrypt(byte[] plaintext, int segmentSize) throws IOException, GeneralSecurityException {
+        return encrypt(plaintext, segmentSize, key);
+    }
+
+    private static byte[] encrypt(byte[] plaintext, int segmentSize, byte[] key) throws IOException, GeneralSecurityException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(plaintext.length, AesStreamCipher.encrypt(new ByteArrayInputStream(plaintext), out, key, segmentSize));
+        return out.toByteArray();
+    }
+
+    private static byte[] decrypt(byte[] cipherText, byte[] key) throws IOException, GeneralSecurityException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long length = AesStreamCipher.decrypt(new ByteArrayInputStream(cipherText), out, key);
+        assertEquals(length, out.size());
+        return out.toByteArray();
+    }
+
+    private byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
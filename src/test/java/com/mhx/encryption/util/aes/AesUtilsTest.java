@@ -0,0 +1,194 @@
+package com.mhx.encryption.util.aes;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className AesUtilsTest
+ * @description AES GCM / CTR：字节数组、字符串、堆内与直接 ByteBuffer 的往返；头部与模式不一致、密文过短时拒绝；
+ *              GCM 头部、nonce、密文或标签被篡改时抛出 AEADBadTagException；CTR 密文与 JCE AES/CTR/NoPadding
+ *              （初始计数块 nonce || 0）逐字节一致，包括达到并行阈值的直接缓冲区；同一密钥下两种模式的 nonce 不重复
+ *              AES GCM and CTR: round trips through byte arrays, strings, heap and direct ByteBuffers; a header not
+ *              matching the mode and a short cipher text are rejected; a tampered GCM header, nonce, cipher text or
+ *              tag throws AEADBadTagException; CTR cipher text is byte identical to JCE AES/CTR/NoPadding with the
+ *              initial counter block nonce || 0, direct buffers above the parallel threshold included; nonces never
+ *              repeat under one key across both modes
+ * @author MuHongXin.
+ * @date 2026/10/19 13:30
+ * @version v1.0.0
+ **/
+
+class AesUtilsTest {
+    private static final AesMode[] MODES = {AesMode.GCM, AesMode.CTR};
+
+    private static final int[] LENGTHS = {0, 1, 15, 16, 17, 1000, 70_000};
+
+    private final Random random = new Random(11);
+
+    @Test
+    void roundTripsBytes() throws GeneralSecurityException {
+        for (byte[] key : new byte[][]{random(16), random(24), random(32)}) {
+            for (AesMode mode : MODES) {
+                for (int length : LENGTHS) {
+                    byte[] plaintext = random(length);
+                    byte[] cipherText = AesUtils.encrypt(plaintext, 0, length, key, mode);
+                    assertEquals(AesUtils.encryptedLength(length, mode), cipherText.length);
+                    assertEquals(AesUtils.header(mode), cipherText[0]);
+                    assertArrayEquals(plaintext, AesUtils.decrypt(cipherText, 0, cipherText.length, key, mode),
+                            mode + ", key " + key.length + ", length " + length);
+                }
+            }
+        }
+    }
+
+    @Test
+    void roundTripsStringsAndBuffers() throws Exception {
+        String key = "0123456789abcdef";
+        for (AesMode mode : MODES) {
+            String plaintext = "明文 plaintext " + mode;
+            assertEquals(plaintext, AesUtils.decrypt(AesUtils.encrypt(plaintext, key, mode), key, mode));
+
+            for (int length : new int[]{0, 1000, ParallelCtrCipher.DEFAULT_THRESHOLD + 17}) {
+                byte[] plaintextBytes = random(length);
+                for (boolean direct : new boolean[]{false, true}) {
+                    ByteBuffer cipherText = allocate(AesUtils.encryptedLength(length, mode), direct);
+                    ByteBuffer input = copy(plaintextBytes, direct);
+                    assertEquals(cipherText.capacity(), AesUtils.encrypt(input, cipherText, key.getBytes(), mode));
+                    assertEquals(0, input.remaining());
+                    assertEquals(0, cipherText.remaining());
+                    cipherText.flip();
+
+                    ByteBuffer decrypted = allocate(length, direct);
+                    assertEquals(length, AesUtils.decrypt(cipherText, decrypted, key.getBytes(), mode));
+                    assertEquals(0, cipherText.remaining());
+                    assertArrayEquals(plaintextBytes, bytes((ByteBuffer) decrypted.flip()),
+                            mode + ", length " + length + ", direct " + direct);
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsMismatchedModeAndHeader() throws GeneralSecurityException {
+        byte[] key = random(16);
+        byte[] gcm = AesUtils.encrypt(random(32), 0, 32, key, AesMode.GCM);
+        byte[] ctr = AesUtils.encrypt(random(32), 0, 32, key, AesMode.CTR);
+        assertThrows(IllegalArgumentException.class, () -> AesUtils.decrypt(gcm, 0, gcm.length, key, AesMode.CTR));
+        assertThrows(IllegalArgumentException.class, () -> AesUtils.decrypt(ctr, 0, ctr.length, key, AesMode.GCM));
+        assertThrows(IllegalArgumentException.class, () -> AesUtils.decrypt(ByteBuffer.wrap(gcm), ByteBuffer.allocate(64), key, AesMode.CTR));
+        assertThrows(IllegalArgumentException.class, () -> AesUtils.decrypt(copy(ctr, true), ByteBuffer.allocateDirect(64), key, AesMode.GCM));
+
+        // 版本号错误 | Wrong version
+        byte[] version = ctr.clone();
+        version[0] ^= 0x10;
+        assertThrows(IllegalArgumentException.class, () -> AesUtils.decrypt(version, 0, version.length, key, AesMode.CTR));
+
+        // 短于头部（GCM 还要加上标签）| Shorter than the header (plus the tag for GCM)
+        assertThrows(IllegalArgumentException.class, () -> AesUtils.decrypt(ctr, 0, AesUtils.HEADER_LENGTH - 1, key, AesMode.CTR));
+        assertThrows(IllegalArgumentException.class, () -> AesUtils.decrypt(gcm, 0, AesUtils.HEADER_LENGTH + 15, key, AesMode.GCM));
+    }
+
+    @Test
+    void gcmRejectsTampering() throws GeneralSecurityException {
+        byte[] key = random(32);
+        byte[] plaintext = random(100);
+        byte[] cipherText = AesUtils.encrypt(plaintext, 0, plaintext.length, key, AesMode.GCM);
+
+        // 头部由 checkCipherText 校验，其余每个字节（nonce、密文、标签）由标签校验 | The header is checked by
+        // checkCipherText, every other byte (nonce, cipher text, tag) by the tag
+        for (int i = 1; i < cipherText.length; i++) {
+            byte[] tampered = cipherText.clone();
+            tampered[i] ^= 1;
+            assertThrows(AEADBadTagException.class, () -> AesUtils.decrypt(tampered, 0, tampered.length, key, AesMode.GCM), "byte " + i);
+        }
+        assertThrows(AEADBadTagException.class, () -> AesUtils.decrypt(cipherText, 0, cipherText.length - 1, key, AesMode.GCM));
+        assertThrows(AEADBadTagException.class, () -> AesUtils.decrypt(cipherText, 0, cipherText.length, random(32), AesMode.GCM));
+        assertThrows(AEADBadTagException.class, () -> AesUtils.decrypt(copy(cipherText, true), ByteBuffer.allocateDirect(100),
+                random(32), AesMode.GCM));
+
+        // 失败后同一线程上的 Cipher 仍可用 | The cipher of the thread still works after a failure
+        assertArrayEquals(plaintext, AesUtils.decrypt(cipherText, 0, cipherText.length, key, AesMode.GCM));
+    }
+
+    @Test
+    void ctrMatchesJce() throws GeneralSecurityException {
+        byte[] key = random(16);
+        for (int length : new int[]{1, 17, 70_000, ParallelCtrCipher.DEFAULT_THRESHOLD + 5}) {
+            byte[] plaintext = random(length);
+            byte[] cipherText = AesUtils.encrypt(plaintext, 0, length, key, AesMode.CTR);
+            assertArrayEquals(jceCtr(key, cipherText, plaintext),
+                    Arrays.copyOfRange(cipherText, AesUtils.HEADER_LENGTH, cipherText.length), "length " + length);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(AesUtils.encryptedLength(length, AesMode.CTR));
+            AesUtils.encrypt(copy(plaintext, true), direct, key, AesMode.CTR);
+            byte[] fromBuffer = bytes((ByteBuffer) direct.flip());
+            assertArrayEquals(jceCtr(key, fromBuffer, plaintext),
+                    Arrays.copyOfRange(fromBuffer, AesUtils.HEADER_LENGTH, fromBuffer.length), "direct, length " + length);
+        }
+    }
+
+    @Test
+    void noncesDoNotRepeatAcrossModes() throws GeneralSecurityException {
+        byte[] key = random(16);
+        Set<ByteBuffer> nonces = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            for (AesMode mode : MODES) {
+                byte[] cipherText = AesUtils.encrypt(new byte[1], 0, 1, key, mode);
+                assertTrue(nonces.add(ByteBuffer.wrap(Arrays.copyOfRange(cipherText, 1, AesUtils.HEADER_LENGTH))));
+            }
+        }
+
+        // 调用方改写密钥数组不影响已缓存的指纹 | Overwriting the key array does not affect the cached fingerprint
+        byte[] copy = key.clone();
+        byte[] cipherText = AesUtils.encrypt(new byte[1], 0, 1, copy, AesMode.CTR);
+        Arrays.fill(copy, (byte) 0);
+        assertTrue(nonces.add(ByteBuffer.wrap(Arrays.copyOfRange(cipherText, 1, AesUtils.HEADER_LENGTH))));
+        cipherText = AesUtils.encrypt(new byte[1], 0, 1, key, AesMode.GCM);
+        assertTrue(nonces.add(ByteBuffer.wrap(Arrays.copyOfRange(cipherText, 1, AesUtils.HEADER_LENGTH))));
+    }
+
+    private static byte[] jceCtr(byte[] key, byte[] cipherText, byte[] plaintext) throws GeneralSecurityException {
+        byte[] counter = Arrays.copyOfRange(cipherText, 1, 17);
+        Arrays.fill(counter, 12, 16, (byte) 0);
+        Cipher jce = Cipher.getInstance("AES/CTR/NoPadding");
+        jce.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(counter));
+        return jce.doFinal(plaintext);
+    }
+
+    private static ByteBuffer allocate(int length, boolean direct) {
+        return direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+    }
+
+    private static ByteBuffer copy(byte[] data, boolean direct) {
+        ByteBuffer buffer = allocate(data.length, direct);
+        buffer.put(data).flip();
+        return buffer;
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
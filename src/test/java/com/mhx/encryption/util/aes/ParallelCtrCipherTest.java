@@ -0,0 +1,179 @@
+package com.mhx.encryption.util.aes;
+
+import com.mhx.encryption.util.cipher.CipherPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @className ParallelCtrCipherTest
+ * @description 并行 CTR 与顺序 AES/CTR/NoPadding 逐字节一致：长度不是 16 或切片长度的整数倍、
+ *              计数块跨越 2^32、2^64 和 2^128 分组边界、输入输出为同一数组、堆内与直接 ByteBuffer；计数块加法与 128 位大端加法一致
+ *              Parallel CTR is byte identical to sequential AES/CTR/NoPadding: lengths that are not a multiple of
+ *              16 or of the slice length, counter blocks crossing the 2^32, 2^64 and 2^128 block boundaries, input
+ *              and output in the same array, heap and direct ByteBuffers; the counter addition equals 128 bit big
+ *              endian addition
+ * @author MuHongXin.
+ * @date 2026/10/19 11:40
+ * @version v1.0.0
+ **/
+
+class ParallelCtrCipherTest {
+    private static final int CHUNK = 64 * 1024;
+
+    private static final int[] LENGTHS = {0, 1, 15, 17, 1000, CHUNK - 1, CHUNK + 1, 2 * CHUNK + 1, 3 * CHUNK + 7,
+            5 * CHUNK - 3, 1_000_003};
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private final ParallelCtrCipher cipher = new ParallelCtrCipher(
+            new CipherPool(AesMode.CTR.getTransformation(), "AES", 4), POOL, 0);
+
+    private final Random random = new Random(14);
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void matchesSequentialCtr() throws GeneralSecurityException {
+        byte[] key = bytes(16);
+        for (int length : LENGTHS) {
+            byte[] counter = counter(bytes(12), 0);
+            byte[] input = bytes(length);
+            assertArrayEquals(sequential(key, counter, input), parallel(key, counter, input), "length " + length);
+        }
+    }
+
+    @Test
+    void counterCrossesBlockBoundaries() throws GeneralSecurityException {
+        byte[] key = bytes(32);
+        byte[] input = bytes(3 * CHUNK + 5);
+        byte[][] counters = {
+                // 低 32 位在第二个切片内溢出 | The low 32 bits overflow inside the second slice
+                counter(bytes(12), 0xFFFF_FFFF - CHUNK / 16 - 3),
+                // 低 32 位在第一个分组后溢出 | The low 32 bits overflow after the first block
+                counter(bytes(12), 0xFFFF_FFFF),
+                counter(fill(12, (byte) 0xFF, 4), 0xFFFF_FFF0),
+                counter(fill(12, (byte) 0xFF, 0), 0xFFFF_FFF0)
+        };
+        for (byte[] counter : counters) {
+            assertArrayEquals(sequential(key, counter, input), parallel(key, counter, input),
+                    "counter " + new BigInteger(1, counter).toString(16));
+        }
+    }
+
+    @Test
+    void transformsInPlace() throws GeneralSecurityException {
+        byte[] key = bytes(16);
+        byte[] counter = counter(bytes(12), 0xFFFF_FFFE);
+        byte[] input = bytes(4 * CHUNK + 9);
+        byte[] expected = sequential(key, counter, input);
+
+        byte[] buffer = new byte[input.length + 10];
+        System.arraycopy(input, 0, buffer, 5, input.length);
+        cipher.doFinal(Cipher.ENCRYPT_MODE, key, counter, buffer, 5, input.length, buffer, 5);
+        assertArrayEquals(expected, Arrays.copyOfRange(buffer, 5, 5 + input.length));
+
+        cipher.doFinal(Cipher.DECRYPT_MODE, key, counter, buffer, 5, input.length, buffer, 5);
+        assertArrayEquals(input, Arrays.copyOfRange(buffer, 5, 5 + input.length));
+    }
+
+    @Test
+    void transformsBuffers() throws GeneralSecurityException {
+        byte[] key = bytes(16);
+        for (int length : new int[]{0, 17, CHUNK + 1, 3 * CHUNK + 7}) {
+            byte[] counter = counter(bytes(12), 0xFFFF_FFF0);
+            byte[] input = bytes(length);
+            byte[] expected = sequential(key, counter, input);
+            for (boolean direct : new boolean[]{false, true}) {
+                // 输入输出从非零 position 开始 | Input and output start at a non zero position
+                ByteBuffer in = direct ? ByteBuffer.allocateDirect(length + 3) : ByteBuffer.allocate(length + 3);
+                in.position(3);
+                in.put(input);
+                in.position(3);
+                ByteBuffer out = direct ? ByteBuffer.allocateDirect(length + 5) : ByteBuffer.allocate(length + 5);
+                out.position(5);
+
+                cipher.doFinal(Cipher.ENCRYPT_MODE, key, counter, in, out);
+                assertEquals(0, in.remaining());
+                assertEquals(0, out.remaining());
+                out.position(5);
+                byte[] actual = new byte[length];
+                out.get(actual);
+                assertArrayEquals(expected, actual, "length " + length + ", direct " + direct);
+            }
+        }
+        assertThrows(ShortBufferException.class, () -> cipher.doFinal(Cipher.ENCRYPT_MODE, key, new byte[16],
+                ByteBuffer.allocateDirect(CHUNK + 1), ByteBuffer.allocateDirect(CHUNK)));
+    }
+
+    @Test
+    void addMatchesBigEndianAddition() {
+        BigInteger modulus = BigInteger.ONE.shiftLeft(128);
+        long[] blocks = {0, 1, 255, 256, 0xFFFF_FFFFL, 1L << 32, Long.MAX_VALUE};
+        byte[][] counters = {new byte[16], fill(16, (byte) 0xFF, 0), counter(bytes(12), 0xFFFF_FFFF), bytes(16)};
+        for (byte[] counter : counters) {
+            for (long n : blocks) {
+                BigInteger sum = new BigInteger(1, counter).add(BigInteger.valueOf(n)).mod(modulus);
+                assertArrayEquals(toBlock(sum), ParallelCtrCipher.add(counter, n));
+            }
+        }
+    }
+
+    private byte[] parallel(byte[] key, byte[] counter, byte[] input) throws GeneralSecurityException {
+        byte[] output = new byte[input.length];
+        cipher.doFinal(Cipher.ENCRYPT_MODE, key, counter, input, 0, input.length, output, 0);
+        return output;
+    }
+
+    private static byte[] sequential(byte[] key, byte[] counter, byte[] input) throws GeneralSecurityException {
+        Cipher jce = Cipher.getInstance("AES/CTR/NoPadding");
+        jce.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(counter));
+        return jce.doFinal(input);
+    }
+
+    private static byte[] counter(byte[] prefix, int low) {
+        byte[] counter = Arrays.copyOf(prefix, 16);
+        counter[12] = (byte) (low >>> 24);
+        counter[13] = (byte) (low >>> 16);
+        counter[14] = (byte) (low >>> 8);
+        counter[15] = (byte) low;
+        return counter;
+    }
+
+    private static byte[] fill(int length, byte value, int from) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, from, length, value);
+        return bytes;
+    }
+
+    private static byte[] toBlock(BigInteger value) {
+        byte[] magnitude = value.toByteArray();
+        byte[] block = new byte[16];
+        int length = Math.min(magnitude.length, 16);
+        System.arraycopy(magnitude, magnitude.length - length, block, 16 - length, length);
+        return block;
+    }
+
+    private byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
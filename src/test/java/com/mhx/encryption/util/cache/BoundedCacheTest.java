@@ -0,0 +1,76 @@
+package com.mhx.encryption.util.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className BoundedCacheTest
+ * @description 有界缓存：批量淘汰后不超过容量、最近访问的条目保留、加载结果为 null 时不缓存
+ *              Bounded cache: within the capacity after a batch eviction, recently accessed entries kept, null loads
+ *              not cached
+ * @author MuHongXin.
+ * @date 2026/10/19 10:30
+ * @version v1.0.0
+ **/
+
+class BoundedCacheTest {
+    @Test
+    void staysWithinCapacityAndEvictsInBatches() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(64);
+        for (int i = 0; i < 64; i++) {
+            cache.get(i, k -> k);
+        }
+        assertEquals(64, cache.size());
+        assertEquals(0, cache.evictionCount());
+
+        // 超出容量的一次未命中淘汰 1 + 64 / 8 个条目 | One miss over the capacity evicts 1 + 64 / 8 entries
+        cache.get(64, k -> k);
+        assertEquals(64 - 64 / 8, cache.size());
+        assertEquals(1 + 64 / 8, cache.evictionCount());
+
+        for (int i = 65; i < 10_000; i++) {
+            cache.get(i, k -> k);
+            assertTrue(cache.size() <= 64);
+        }
+    }
+
+    @Test
+    void keepsRecentlyAccessedEntries() throws InterruptedException {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(16);
+        for (int i = 0; i < 16; i++) {
+            cache.get(i, k -> k);
+            // 保证访问时间各不相同 | Keeps the access times distinct
+            Thread.sleep(1);
+        }
+        assertNotNull(cache.getIfPresent(0));
+
+        cache.get(16, k -> k);
+        assertNotNull(cache.getIfPresent(0));
+        assertNotNull(cache.getIfPresent(16));
+        assertNull(cache.getIfPresent(1));
+    }
+
+    @Test
+    void doesNotCacheNullLoads() {
+        BoundedCache<String, String> cache = new BoundedCache<>(4);
+        AtomicInteger loads = new AtomicInteger();
+        assertNull(cache.get("key", k -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertEquals("value", cache.get("key", k -> {
+            loads.incrementAndGet();
+            return "value";
+        }));
+        assertEquals("value", cache.get("key", k -> "other"));
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(2, cache.missCount());
+    }
+}
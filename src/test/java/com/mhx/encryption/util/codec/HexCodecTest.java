@@ -0,0 +1,153 @@
+package com.mhx.encryption.util.codec;
+
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @className HexCodecTest
+ * @description 十六进制编解码：全部 256 个字节值在 String、char[]、byte[]、堆内与直接 ByteBuffer 上的往返，
+ *              与 BouncyCastle Hex 的结果一致；大小写输入都能解码；奇数长度和非十六进制字符抛出 IllegalArgumentException
+ *              Hexadecimal codec: all 256 byte values round trip through String, char[], byte[], heap and direct
+ *              ByteBuffers and match BouncyCastle Hex; upper and lower case input both decode; odd lengths and non
+ *              hexadecimal characters throw IllegalArgumentException
+ * @author MuHongXin.
+ * @date 2026/10/19 11:50
+ * @version v1.0.0
+ **/
+
+class HexCodecTest {
+    private static final byte[] ALL = allBytes();
+
+    private static final String[] ILLEGAL = {"0g", "G0", "0 ", "-1", "0x", "/0", ":0", "@0", "`0", "0à", "0İ", "Ā0"};
+
+    @Test
+    void encodesAllByteValues() {
+        String lower = Hex.toHexString(ALL);
+        String upper = lower.toUpperCase(Locale.ROOT);
+
+        assertEquals(upper, HexCodec.encode(ALL));
+        assertEquals(lower, HexCodec.encode(ALL, 0, ALL.length, true));
+        assertArrayEquals(upper.toCharArray(), HexCodec.encodeToChars(ALL, 0, ALL.length, false));
+        assertArrayEquals(lower.toCharArray(), HexCodec.encodeToChars(ALL, 0, ALL.length, true));
+        assertEquals("7F80", HexCodec.encode(ALL, 127, 2, false));
+
+        byte[] ascii = new byte[ALL.length * 2 + 2];
+        assertEquals(ALL.length * 2, HexCodec.encode(ALL, 0, ALL.length, ascii, 1, true));
+        assertEquals(lower, new String(ascii, 1, ALL.length * 2, StandardCharsets.ISO_8859_1));
+
+        for (boolean direct : new boolean[]{false, true}) {
+            ByteBuffer input = buffer(ALL, direct);
+            ByteBuffer output = direct ? ByteBuffer.allocateDirect(ALL.length * 2) : ByteBuffer.allocate(ALL.length * 2);
+            assertEquals(ALL.length * 2, HexCodec.encode(input, output, false));
+            assertEquals(0, input.remaining());
+            assertEquals(0, output.remaining());
+            output.flip();
+            assertEquals(upper, StandardCharsets.ISO_8859_1.decode(output).toString());
+        }
+    }
+
+    @Test
+    void decodesBothCases() {
+        String lower = Hex.toHexString(ALL);
+        String upper = lower.toUpperCase(Locale.ROOT);
+        StringBuilder mixed = new StringBuilder(lower);
+        for (int i = 0; i < mixed.length(); i += 3) {
+            mixed.setCharAt(i, Character.toUpperCase(mixed.charAt(i)));
+        }
+
+        for (String hex : new String[]{lower, upper, mixed.toString()}) {
+            assertArrayEquals(ALL, HexCodec.decode(hex));
+            assertArrayEquals(ALL, HexCodec.decode(new StringBuilder(hex)));
+            assertArrayEquals(ALL, HexCodec.decode(hex.toCharArray(), 0, hex.length()));
+            byte[] ascii = hex.getBytes(StandardCharsets.ISO_8859_1);
+            assertArrayEquals(ALL, HexCodec.decode(ascii, 0, ascii.length));
+
+            byte[] out = new byte[ALL.length + 2];
+            assertEquals(ALL.length, HexCodec.decode(hex, 0, hex.length(), out, 1));
+            assertEquals(0, out[0]);
+            assertEquals(0, out[out.length - 1]);
+
+            for (boolean direct : new boolean[]{false, true}) {
+                ByteBuffer input = buffer(ascii, direct);
+                ByteBuffer output = direct ? ByteBuffer.allocateDirect(ALL.length) : ByteBuffer.allocate(ALL.length);
+                assertEquals(ALL.length, HexCodec.decode(input, output));
+                assertEquals(0, input.remaining());
+                output.flip();
+                byte[] decoded = new byte[output.remaining()];
+                output.get(decoded);
+                assertArrayEquals(ALL, decoded);
+            }
+        }
+        assertArrayEquals(new byte[]{(byte) 0xAB}, HexCodec.decode("0aBc", 1, 2));
+    }
+
+    @Test
+    void roundTripsEveryByteValue() {
+        for (int b = 0; b < 256; b++) {
+            byte[] one = {(byte) b};
+            assertArrayEquals(one, HexCodec.decode(HexCodec.encode(one)));
+            assertArrayEquals(one, HexCodec.decode(HexCodec.encode(one, 0, 1, true)));
+            char[] chars = HexCodec.encodeToChars(one, 0, 1, false);
+            assertArrayEquals(one, HexCodec.decode(chars, 0, chars.length));
+        }
+        assertArrayEquals(new byte[0], HexCodec.decode(HexCodec.encode(new byte[0])));
+    }
+
+    @Test
+    void rejectsOddLengths() {
+        for (String hex : new String[]{"0", "ABC", "00112"}) {
+            byte[] ascii = hex.getBytes(StandardCharsets.ISO_8859_1);
+            assertThrows(IllegalArgumentException.class, () -> HexCodec.decode(hex));
+            assertThrows(IllegalArgumentException.class, () -> HexCodec.decode(hex.toCharArray(), 0, hex.length()));
+            assertThrows(IllegalArgumentException.class, () -> HexCodec.decode(ascii, 0, ascii.length));
+            assertThrows(IllegalArgumentException.class, () -> HexCodec.decode(ByteBuffer.wrap(ascii), ByteBuffer.allocate(8)));
+        }
+    }
+
+    @Test
+    void rejectsNonHexCharacters() {
+        for (String hex : ILLEGAL) {
+            assertThrows(IllegalArgumentException.class, () -> HexCodec.decode(hex), hex);
+            assertThrows(IllegalArgumentException.class, () -> HexCodec.decode(hex.toCharArray(), 0, hex.length()), hex);
+        }
+        for (String hex : new String[]{"0g", "G0", "0 ", "-1", "0x"}) {
+            byte[] ascii = hex.getBytes(StandardCharsets.ISO_8859_1);
+            assertThrows(IllegalArgumentException.class, () -> HexCodec.decode(ascii, 0, ascii.length), hex);
+            assertThrows(IllegalArgumentException.class, () -> HexCodec.decode(buffer(ascii, true), ByteBuffer.allocateDirect(1)), hex);
+        }
+        byte[] high = {'0', (byte) 0xC1};
+        assertThrows(IllegalArgumentException.class, () -> HexCodec.decode(high, 0, high.length));
+    }
+
+    @Test
+    void rejectsShortOutput() {
+        assertThrows(IllegalArgumentException.class, () -> HexCodec.encode(ALL, 0, 4, new char[7], 0, false));
+        assertThrows(IllegalArgumentException.class, () -> HexCodec.encode(ALL, 0, 4, new byte[8], 1, false));
+        assertThrows(IllegalArgumentException.class, () -> HexCodec.decode("00112233", 0, 8, new byte[4], 1));
+    }
+
+    private static ByteBuffer buffer(byte[] data, boolean direct) {
+        if (!direct) {
+            return ByteBuffer.wrap(data);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data).flip();
+        return buffer;
+    }
+
+    private static byte[] allBytes() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+}
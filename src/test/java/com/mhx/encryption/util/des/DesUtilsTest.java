@@ -0,0 +1,195 @@
+package com.mhx.encryption.util.des;
+
+import com.mhx.encryption.util.cache.BoundedCache;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.DESKeySpec;
+import javax.crypto.spec.DESedeKeySpec;
+import javax.crypto.spec.IvParameterSpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className DesUtilsTest
+ * @description DES 编码：改造前代码生成的默认密钥 LEGACY 密文（Base64 再转 HEX）和指定密钥 BASE64 密文仍能解密，
+ *              且重新加密得到相同的密文；HEX、BASE64、LEGACY 和原始字节往返一致；三种编码互不混用。
+ *              缓存的密钥和线程复用的 Cipher 与每次新建 SecretKeyFactory 和 Cipher 的结果逐字节一致（DES 与 3DES），
+ *              密钥被淘汰或失效后结果不变，长度不足的密钥被拒绝且不进入缓存
+ *              DES encodings: default key LEGACY cipher texts (Base64 then HEX) and given key BASE64 cipher texts
+ *              produced by the code before the change still decrypt and encrypt back to the same text; HEX, BASE64,
+ *              LEGACY and raw bytes round trip; the three encodings are not mixed up. Cached keys and the ciphers
+ *              reused per thread are byte identical to a fresh SecretKeyFactory and Cipher per call (DES and 3DES),
+ *              results do not change after a key is evicted or invalidated, short keys are rejected and not cached
+ * @author MuHongXin.
+ * @date 2026/10/19 15:00
+ * @version v1.0.0
+ **/
+
+class DesUtilsTest {
+    private static final String KEY = "k9Lm2Qx7";
+
+    /**
+     * {明文, 默认密钥 LEGACY 密文, KEY 的 BASE64 密文} | {plaintext, default key LEGACY, BASE64 under KEY}
+     */
+    private static final String[][] LEGACY_VECTORS = {
+            {"hello", "70324B7A505672695847633D", "AJ4VXu5iUnk="},
+            {"12345678", "58517479304568537657372D69555969725F72774F773D3D", "PAPQi-BfxNR5EMe0CMMvIw=="},
+            {"DES 旧格式 legacy", "736154574176456C554868536F6D532D3330584530365757504D396E5757584D", "z5QHk6HgjD0dlLFQXjI2cXzu2F-8M1NB"},
+            {"{\"id\":42,\"name\":\"张三\"}", "627A59346F45584562667A4D52563343456B7270484234376B4C45394E4E376C4668504F5F326D326F696B3D",
+                    "TcNx5JZWuJYMVxbTQnTB3pPhl4xOnCiGocTGDZVN7N4="},
+    };
+
+    private final Random random = new Random(17);
+
+    @Test
+    void decryptsLegacyCipherTexts() {
+        for (String[] vector : LEGACY_VECTORS) {
+            assertEquals(vector[0], DesUtils.decrypt(vector[1]));
+            assertEquals(vector[0], DesUtils.desDecrypt(vector[2], KEY));
+            assertEquals(vector[1], DesUtils.encrypt(vector[0]));
+            assertEquals(vector[2], DesUtils.desEncrypt(vector[0], KEY));
+        }
+    }
+
+    @Test
+    void roundTripsEveryEncoding() {
+        for (DesEncoding encoding : DesEncoding.values()) {
+            for (String plaintext : new String[]{"a", "12345678", "明文 plaintext " + encoding}) {
+                String cipherText = DesUtils.desEncrypt(plaintext, KEY, encoding);
+                assertEquals(plaintext, DesUtils.desDecrypt(cipherText, KEY, encoding), encoding.name());
+                assertEquals(plaintext, DesUtils.desDecrypt(DesUtils.desEncrypt(plaintext, null, encoding), null, encoding));
+            }
+        }
+
+        // 同一段密文在各编码下的文本不同，按错误的编码解码失败 | The same cipher text differs per encoding and fails
+        // under the wrong one
+        String hex = DesUtils.desEncrypt("hello", KEY, DesEncoding.HEX);
+        assertThrows(RuntimeException.class, () -> DesUtils.desDecrypt(hex, KEY, DesEncoding.LEGACY));
+        assertEquals(DesEncoding.LEGACY.encode(DesEncoding.HEX.decode(hex)), DesUtils.desEncrypt("hello", KEY, DesEncoding.LEGACY));
+    }
+
+    @Test
+    void roundTripsRawBytes() throws GeneralSecurityException {
+        for (int length : new int[]{0, 1, 7, 8, 9, 1000}) {
+            byte[] plaintext = new byte[length];
+            random.nextBytes(plaintext);
+            byte[] cipherText = DesUtils.desEncrypt(plaintext, KEY);
+            assertEquals(DesUtils.encryptedLength(length), cipherText.length);
+            assertArrayEquals(plaintext, DesUtils.desDecrypt(cipherText, KEY), "length " + length);
+
+            // 原始字节与文本接口得到同一段密文 | Raw bytes and the text methods produce the same cipher text
+            for (DesEncoding encoding : DesEncoding.values()) {
+                assertArrayEquals(cipherText, encoding.decode(encoding.encode(cipherText)), encoding.name());
+            }
+        }
+        assertArrayEquals(DesEncoding.BASE64.decode(LEGACY_VECTORS[2][2]),
+                DesUtils.desEncrypt(LEGACY_VECTORS[2][0].getBytes(StandardCharsets.UTF_8), KEY));
+    }
+
+    @Test
+    void matchesAFreshCipherPerCall() throws GeneralSecurityException {
+        // DES 只使用前 8 字节；3DES 为 16 字节（K1 || K2 || K1）或前 24 字节 | DES uses the first 8 bytes; 3DES takes
+        // 16 bytes (K1 || K2 || K1) or the first 24
+        String[][] keys = {{"DES", "k9Lm2Qx7"}, {"DES", "k9Lm2Qx7-longer-key"}, {"DESEDE", "0123456789abcdef"},
+                {"DESEDE", "0123456789abcdefghijklmn"}, {"DESEDE", "0123456789abcdefghijklmnopq"}};
+        for (String[] entry : keys) {
+            DesAlgorithm algorithm = DesAlgorithm.valueOf(entry[0]);
+            String key = entry[1];
+            for (int length : new int[]{0, 1, 8, 100}) {
+                byte[] plaintext = new byte[length];
+                random.nextBytes(plaintext);
+                byte[] expected = fresh(Cipher.ENCRYPT_MODE, algorithm, key, plaintext);
+                String message = algorithm + ", key " + key.length() + ", length " + length;
+
+                // 两次调用：第一次生成密钥和 Cipher，第二次复用 | Two calls: the first builds the key and cipher, the second reuses them
+                for (int i = 0; i < 2; i++) {
+                    assertArrayEquals(expected, DesUtils.desEncrypt(plaintext, key, algorithm), message);
+                    assertArrayEquals(plaintext, DesUtils.desDecrypt(expected, key, algorithm), message);
+                }
+                assertArrayEquals(plaintext, fresh(Cipher.DECRYPT_MODE, algorithm, key, expected), message);
+            }
+        }
+    }
+
+    @Test
+    void evictionDoesNotChangeResults() throws GeneralSecurityException {
+        BoundedCache<ByteBuffer, SecretKey> cache = DesUtils.keyCache(DesAlgorithm.DES);
+        String key = "evicted!";
+        byte[] plaintext = "淘汰前后 before and after".getBytes(StandardCharsets.UTF_8);
+        byte[] expected = fresh(Cipher.ENCRYPT_MODE, DesAlgorithm.DES, key, plaintext);
+        assertArrayEquals(expected, DesUtils.desEncrypt(plaintext, key));
+
+        // 超过缓存上限的其他密钥把它淘汰，同时轮换掉线程中的 Cipher | Other keys beyond the cache size evict it and
+        // also rotate the ciphers of the thread
+        long evictions = cache.evictionCount();
+        for (int i = 0; i <= cache.maximumSize(); i++) {
+            DesUtils.desEncrypt(plaintext, String.format("other%03d", i));
+        }
+        assertNull(cache.getIfPresent(ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8))));
+        assertTrue(cache.evictionCount() > evictions);
+        assertArrayEquals(expected, DesUtils.desEncrypt(plaintext, key));
+        assertArrayEquals(plaintext, DesUtils.desDecrypt(expected, key));
+
+        // 显式失效，线程中仍持有按该密钥初始化的 Cipher | Explicit invalidation while the thread still holds a cipher for the key
+        cache.invalidate(ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8)));
+        assertArrayEquals(expected, DesUtils.desEncrypt(plaintext, key));
+        cache.invalidateAll();
+        assertArrayEquals(plaintext, DesUtils.desDecrypt(expected, key));
+    }
+
+    @Test
+    void rejectsShortKeys() {
+        byte[] plaintext = new byte[16];
+        for (String key : new String[]{"1", "1234567"}) {
+            assertThrows(InvalidKeyException.class, () -> DesUtils.desEncrypt(plaintext, key, DesAlgorithm.DES), key);
+            assertThrows(InvalidKeyException.class, () -> DesUtils.desDecrypt(plaintext, key, DesAlgorithm.DES), key);
+            assertNull(DesUtils.keyCache(DesAlgorithm.DES).getIfPresent(ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8))));
+        }
+
+        // 8 字节默认密钥和 16 到 24 字节之间的长度都不能用于 3DES | Neither the 8 byte default key nor lengths between
+        // 16 and 24 work for 3DES
+        for (String key : new String[]{"", "12345678", "123456789012345", "12345678901234567", "12345678901234567890123"}) {
+            assertThrows(InvalidKeyException.class, () -> DesUtils.desEncrypt(plaintext, key, DesAlgorithm.DESEDE), key);
+            assertThrows(InvalidKeyException.class, () -> DesUtils.desDecrypt(plaintext, key, DesAlgorithm.DESEDE), key);
+            assertNull(DesUtils.keyCache(DesAlgorithm.DESEDE).getIfPresent(ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8))));
+        }
+
+        // 文本接口把失败包装为 RuntimeException | The text methods wrap the failure in a RuntimeException
+        assertThrows(RuntimeException.class, () -> DesUtils.desEncrypt("明文", "1234567"));
+    }
+
+    /**
+     * 每次新建 SecretKeyFactory 和 Cipher，与改造前的实现相同 | A fresh SecretKeyFactory and Cipher per call, as the
+     * implementation before the change did
+     */
+    private static byte[] fresh(int opmode, DesAlgorithm algorithm, String key, byte[] input) throws GeneralSecurityException {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        SecretKey secretKey;
+        if (algorithm == DesAlgorithm.DES) {
+            secretKey = SecretKeyFactory.getInstance("DES").generateSecret(new DESKeySpec(bytes));
+        } else {
+            byte[] material = bytes;
+            if (bytes.length == 16) {
+                material = Arrays.copyOf(bytes, 24);
+                System.arraycopy(bytes, 0, material, 16, 8);
+            }
+            secretKey = SecretKeyFactory.getInstance("DESede").generateSecret(new DESedeKeySpec(material));
+        }
+        Cipher cipher = Cipher.getInstance(algorithm.getTransformation());
+        cipher.init(opmode, secretKey, new IvParameterSpec("Qh1dd8Wn".getBytes(StandardCharsets.UTF_8)));
+        return cipher.doFinal(input);
+    }
+}
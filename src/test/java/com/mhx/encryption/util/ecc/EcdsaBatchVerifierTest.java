@@ -0,0 +1,169 @@
+package com.mhx.encryption.util.ecc;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className EcdsaBatchVerifierTest
+ * @description ECDSA 批量验签：置位的下标正好是失败的条目，包括空公钥、空消息、空签名、DER 格式错误、非 EC 公钥和篡改；
+ *              多个公钥交错排列并跨越并行切分的区间时结果与顺序验证一致；超过 DEFAULT_THRESHOLD 且含损坏条目的批次中，
+ *              EccUtil.verify(byte[][], ...) 与逐条调用 EccUtil.verify 的结果逐条一致
+ *              Batch ECDSA verification: the set bits are exactly the failed entries, including null keys, null
+ *              messages, null signatures, malformed DER, non EC keys and tampering; with several keys interleaved across
+ *              the ranges of the parallel split the result equals sequential verification; on a batch above
+ *              DEFAULT_THRESHOLD with corrupted entries, EccUtil.verify(byte[][], ...) agrees entry by entry with
+ *              EccUtil.verify called once per entry
+ * @author MuHongXin.
+ * @date 2026/10/19 16:30
+ * @version v1.0.0
+ **/
+
+class EcdsaBatchVerifierTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private final Random random = new Random(22);
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void setsTheFailedEntries() throws NoSuchAlgorithmException {
+        KeyPair keyPair = EccUtil.genKeyPair();
+        byte[] message = random(40);
+        byte[] sign = EccUtil.signature(message, keyPair.getPrivate());
+        byte[] other = EccUtil.signature(random(40), keyPair.getPrivate());
+        PublicKey key = keyPair.getPublic();
+        PublicKey rsaKey = KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic();
+
+        byte[] truncated = Arrays.copyOf(sign, sign.length - 1);
+        byte[] trailing = Arrays.copyOf(sign, sign.length + 1);
+        byte[] notDer = sign.clone();
+        notDer[0] = 0x31;
+        byte[][] contents = {message, null, message, message, message, message, message, message, message, message};
+        byte[][] signs = {sign, sign, null, truncated, trailing, notDer, new byte[0], other, sign, sign};
+        PublicKey[] keys = {key, key, key, key, key, key, key, key, null, rsaKey};
+
+        BitSet expected = new BitSet();
+        expected.set(1, 10);
+        for (EcdsaBatchVerifier verifier : new EcdsaBatchVerifier[]{new EcdsaBatchVerifier(POOL, 1000), new EcdsaBatchVerifier(POOL, 1)}) {
+            assertEquals(expected, verifier.verify(contents, signs, keys));
+        }
+
+        // 空批次与数量不一致 | An empty batch and mismatched counts
+        assertTrue(new EcdsaBatchVerifier(POOL, 1).verify(new byte[0][], new byte[0][], new PublicKey[0]).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new EcdsaBatchVerifier(POOL, 1).verify(contents, signs, new PublicKey[1]));
+    }
+
+    @Test
+    void mixedKeysAcrossTheParallelSplit() {
+        // 5 个公钥交错排列，分组后每组跨越多个并行区间 | Five keys interleaved, after grouping every group spans
+        // several parallel ranges
+        KeyPair[] keyPairs = new KeyPair[5];
+        for (int i = 0; i < keyPairs.length; i++) {
+            keyPairs[i] = EccUtil.genKeyPair();
+            assertNotNull(keyPairs[i]);
+        }
+
+        int n = 200;
+        byte[][] contents = new byte[n][];
+        byte[][] signs = new byte[n][];
+        PublicKey[] keys = new PublicKey[n];
+        BitSet expected = new BitSet();
+        for (int i = 0; i < n; i++) {
+            KeyPair keyPair = keyPairs[(i * 7) % keyPairs.length];
+            contents[i] = random(1 + random.nextInt(100));
+            signs[i] = EccUtil.signature(contents[i], keyPair.getPrivate());
+            keys[i] = keyPair.getPublic();
+            switch (i % 11) {
+                case 3:
+                    // 另一个公钥签的 | Signed by another key
+                    keys[i] = keyPairs[(i * 7 + 1) % keyPairs.length].getPublic();
+                    expected.set(i);
+                    break;
+                case 7:
+                    contents[i][0] ^= 1;
+                    expected.set(i);
+                    break;
+                case 9:
+                    keys[i] = null;
+                    expected.set(i);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        BitSet sequential = new EcdsaBatchVerifier(POOL, n + 1).verify(contents, signs, keys);
+        assertEquals(expected, sequential);
+        for (int threshold : new int[]{1, 3, EcdsaBatchVerifier.DEFAULT_THRESHOLD}) {
+            assertEquals(sequential, new EcdsaBatchVerifier(POOL, threshold).verify(contents, signs, keys), "threshold " + threshold);
+        }
+    }
+
+    @Test
+    void matchesSingleVerification() {
+        KeyPair[] keyPairs = {EccUtil.genKeyPair(), EccUtil.genKeyPair(), EccUtil.genKeyPair()};
+        int n = 3 * EcdsaBatchVerifier.DEFAULT_THRESHOLD + 5;
+        byte[][] contents = new byte[n][];
+        byte[][] signs = new byte[n][];
+        PublicKey[] keys = new PublicKey[n];
+        for (int i = 0; i < n; i++) {
+            KeyPair keyPair = keyPairs[i % keyPairs.length];
+            contents[i] = random(64);
+            signs[i] = EccUtil.signature(contents[i], keyPair.getPrivate());
+            // 使用 decodePublicKey 缓存的实例，同一公钥同一实例 | Instances from the decodePublicKey cache, one per key
+            keys[i] = EccUtil.decodePublicKey(EccUtil.encodePublicKey(keyPair.getPublic()));
+        }
+
+        // 损坏部分条目：篡改签名、截断签名、篡改消息、换公钥 | Corrupt some entries: tampered signature, truncated
+        // signature, tampered message, another key
+        for (int i = 0; i < n; i += 5) {
+            switch ((i / 5) % 4) {
+                case 0:
+                    signs[i][signs[i].length - 1] ^= 1;
+                    break;
+                case 1:
+                    signs[i] = Arrays.copyOf(signs[i], 10);
+                    break;
+                case 2:
+                    contents[i][random.nextInt(64)] ^= 0x40;
+                    break;
+                default:
+                    keys[i] = keys[(i + 1) % n];
+                    break;
+            }
+        }
+
+        BitSet single = new BitSet();
+        for (int i = 0; i < n; i++) {
+            if (!EccUtil.verify(contents[i], signs[i], keys[i])) {
+                single.set(i);
+            }
+        }
+        assertEquals((n + 4) / 5, single.cardinality());
+        assertEquals(single, EccUtil.verify(contents, signs, keys));
+        assertEquals(single, new EcdsaBatchVerifier(POOL, 1).verify(contents, signs, keys));
+    }
+
+    private byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
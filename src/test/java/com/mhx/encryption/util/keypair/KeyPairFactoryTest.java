@@ -0,0 +1,59 @@
+package com.mhx.encryption.util.keypair;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className KeyPairFactoryTest
+ * @description 密钥对工厂：RSA 池回退生成失败时抛出原始的 GeneralSecurityException；池中的密钥对只交出一次
+ *              Key pair factory: a failed RSA fallback generation throws the original GeneralSecurityException;
+ *              pooled key pairs are handed out once only
+ * @author MuHongXin.
+ * @date 2026/10/19 12:20
+ * @version v1.0.0
+ **/
+
+class KeyPairFactoryTest {
+    @Test
+    void rsaFallbackFailureIsChecked() {
+        // 256 位低于 JCE 的下限，生成必然失败；池未启动，取用一定走回退路径 | 256 bits is below the JCE minimum so generation fails; the pool is not started so taking falls back
+        KeyPairPool<KeyPair> pool = KeyPairFactory.rsaPool(256, 1, 1);
+        try (KeyPairFactory factory = new KeyPairFactory(null, null, Collections.singletonMap(256, pool))) {
+            assertThrows(InvalidAlgorithmParameterException.class, () -> factory.rsa(256));
+            assertEquals(1, pool.fallbackCount());
+        }
+    }
+
+    @Test
+    void pooledPairsAreHandedOutOnce() throws GeneralSecurityException, InterruptedException {
+        KeyPairPool<KeyPair> pool = KeyPairFactory.rsaPool(1024, 4, 1);
+        try (KeyPairFactory factory = new KeyPairFactory(null, null, Collections.singletonMap(1024, pool))) {
+            factory.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (pool.size() < pool.capacity() && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(20);
+            }
+
+            Set<Object> moduli = new HashSet<>();
+            for (int i = 0; i < 8; i++) {
+                KeyPair keyPair = factory.rsa(1024);
+                assertEquals(1024, ((RSAPublicKey) keyPair.getPublic()).getModulus().bitLength());
+                assertTrue(moduli.add(((RSAPublicKey) keyPair.getPublic()).getModulus()));
+            }
+            assertTrue(pool.hitCount() > 0);
+            assertEquals(8, pool.hitCount() + pool.fallbackCount());
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.mhx.encryption.util.rsa;
+
+import com.mhx.encryption.common.ErrorCodeEnum;
+import com.mhx.encryption.dto.asymmetry.AsymmetryDTO;
+import com.mhx.encryption.dto.asymmetry.SignatureDTO;
+import com.mhx.encryption.service.rsa.impl.RsaServiceImpl;
+import com.mhx.encryption.util.cipher.BatchResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className RsaUtilsTest
+ * @description RSA：OAEP（SHA-256 / MGF1-SHA-256）与每次新建的 JCE Cipher 双向互通，MGF1 为 SHA-1 的默认参数解不开；
+ *              PSS（SHA-256 / MGF1-SHA-256 / 32 字节盐）与每次新建的 JCE Signature 双向互验，篡改消息、签名或盐长时验签失败；
+ *              批量加密中超长和为空的项单独失败，其余项可以解密；Base64 格式错误的密钥在批量接口中是失败项，
+ *              在单条接口中是受检的 GeneralSecurityException，由服务层转为失败响应而不是抛出异常
+ *              RSA: OAEP (SHA-256 / MGF1-SHA-256) interoperates with a fresh JCE Cipher in both directions, the default
+ *              parameters with MGF1 on SHA-1 cannot decrypt; PSS (SHA-256 / MGF1-SHA-256 / 32 byte salt) cross verifies
+ *              with a fresh JCE Signature, a tampered message, signature or salt length fails verification;
+ *              oversized and null items of a batch fail on their own while the other items decrypt; a key in
+ *              malformed Base64 is a failed item in the batch methods and a checked GeneralSecurityException in the
+ *              single methods, which the service turns into a failed response instead of an exception
+ * @author MuHongXin.
+ * @date 2026/10/19 16:50
+ * @version v1.0.0
+ **/
+
+class RsaUtilsTest {
+    private static final OAEPParameterSpec OAEP = new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+
+    private static final PSSParameterSpec PSS = new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 32, 1);
+
+    private static final String MALFORMED = "not@base64!";
+
+    private static KeyPair keyPair;
+
+    private static String publicKey;
+
+    private static String privateKey;
+
+    private final Random random = new Random(24);
+
+    @BeforeAll
+    static void generate() throws GeneralSecurityException {
+        keyPair = RsaUtils.generateKeyPair(RsaUtils.DEFAULT_KEY_SIZE);
+        publicKey = RsaUtils.encodeKey(keyPair.getPublic());
+        privateKey = RsaUtils.encodeKey(keyPair.getPrivate());
+    }
+
+    @Test
+    void oaepMatchesAFreshCipher() throws GeneralSecurityException {
+        int maximum = RsaUtils.maximumPlaintextLength(keyPair.getPublic());
+        assertEquals(256 - 66, maximum);
+        for (int length : new int[]{0, 1, 100, maximum}) {
+            byte[] plaintext = random(length);
+
+            // 本工具加密，新建的 Cipher 解密 | Encrypted here, decrypted by a fresh cipher
+            byte[] cipherText = RsaUtils.encrypt(plaintext, 0, length, RsaUtils.decodePublicKey(publicKey));
+            assertArrayEquals(plaintext, fresh(Cipher.DECRYPT_MODE, cipherText), "length " + length);
+
+            // 新建的 Cipher 加密，本工具解密 | Encrypted by a fresh cipher, decrypted here
+            byte[] jce = fresh(Cipher.ENCRYPT_MODE, plaintext);
+            assertArrayEquals(plaintext, RsaUtils.decrypt(jce, 0, jce.length, RsaUtils.decodePrivateKey(privateKey)), "length " + length);
+        }
+
+        // JCE 默认的 OAEPWithSHA-256AndMGF1Padding 中 MGF1 为 SHA-1，解不开 | The JCE default OAEPWithSHA-256AndMGF1Padding
+        // uses MGF1 with SHA-1 and cannot decrypt
+        byte[] cipherText = RsaUtils.encrypt(new byte[16], 0, 16, keyPair.getPublic());
+        Cipher sha1Mgf = Cipher.getInstance("RSA/ECB/OAEPWithSHA-256AndMGF1Padding");
+        sha1Mgf.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+        assertThrows(BadPaddingException.class, () -> sha1Mgf.doFinal(cipherText));
+
+        // 字符串接口按 UTF-8 往返，超长明文被拒绝 | The String methods round trip UTF-8, oversized plaintext is rejected
+        String text = "RSA 明文 plaintext";
+        assertEquals(text, RsaUtils.decrypt(RsaUtils.encrypt(text, publicKey), privateKey));
+        assertThrows(GeneralSecurityException.class, () -> RsaUtils.encrypt(new byte[maximum + 1], 0, maximum + 1, keyPair.getPublic()));
+    }
+
+    @Test
+    void pssMatchesAFreshSignature() throws GeneralSecurityException {
+        for (int length : new int[]{0, 1, 1000}) {
+            byte[] message = random(length);
+            byte[] signature = RsaUtils.sign(message, 0, length, RsaUtils.decodePrivateKey(privateKey));
+            assertEquals(256, signature.length);
+
+            Signature verifier = freshSignature();
+            verifier.initVerify(keyPair.getPublic());
+            verifier.update(message);
+            assertTrue(verifier.verify(signature), "length " + length);
+
+            Signature signer = freshSignature();
+            signer.initSign(keyPair.getPrivate());
+            signer.update(message);
+            byte[] jce = signer.sign();
+            assertTrue(RsaUtils.verify(message, 0, length, jce, RsaUtils.decodePublicKey(publicKey)), "length " + length);
+
+            // 带随机盐，同一消息两次签名不同 | Salted, two signatures of one message differ
+            assertFalse(Arrays.equals(signature, RsaUtils.sign(message, 0, length, keyPair.getPrivate())));
+        }
+    }
+
+    @Test
+    void pssRejectsTampering() throws GeneralSecurityException {
+        String message = "签名 signature";
+        String signature = RsaUtils.sign(message, privateKey);
+        assertTrue(RsaUtils.verify(message, signature, publicKey));
+
+        // 消息被篡改 | Tampered message
+        assertFalse(RsaUtils.verify(message + " ", signature, publicKey));
+
+        // 签名的每个位置被篡改、长度错误、不是 Base64 | Every position of the signature tampered, wrong length, no Base64
+        byte[] sign = Base64.getDecoder().decode(signature);
+        byte[] data = message.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < sign.length; i += 17) {
+            byte[] tampered = sign.clone();
+            tampered[i] ^= 1;
+            assertFalse(RsaUtils.verify(data, 0, data.length, tampered, keyPair.getPublic()), "byte " + i);
+        }
+        assertFalse(RsaUtils.verify(data, 0, data.length, Arrays.copyOf(sign, 255), keyPair.getPublic()));
+        assertFalse(RsaUtils.verify(data, 0, data.length, new byte[0], keyPair.getPublic()));
+        assertFalse(RsaUtils.verify(message, MALFORMED, publicKey));
+
+        // 另一个公钥、盐长不同的验签参数 | Another public key, verification parameters with another salt length
+        KeyPair other = RsaUtils.generateKeyPair(RsaUtils.DEFAULT_KEY_SIZE);
+        assertFalse(RsaUtils.verify(data, 0, data.length, sign, other.getPublic()));
+        Signature verifier = Signature.getInstance("RSASSA-PSS");
+        verifier.setParameter(new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 20, 1));
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(data);
+        assertFalse(verifier.verify(sign));
+    }
+
+    @Test
+    void batchFailsItemsOnTheirOwn() throws GeneralSecurityException {
+        int maximum = RsaUtils.maximumPlaintextLength(keyPair.getPublic());
+        char[] oversized = new char[maximum + 1];
+        Arrays.fill(oversized, 'a');
+        char[] largest = new char[maximum];
+        Arrays.fill(largest, 'b');
+        // 按 UTF-8 计算长度：64 个字符、192 字节的汉字超过 190 字节的上限 | Measured in UTF-8: 64 Chinese characters are
+        // 192 bytes, above the 190 byte maximum
+        String chinese = String.join("", Collections.nCopies(maximum / 3 + 1, "汉"));
+        String[] items = {"first", null, new String(oversized), new String(largest), "", chinese, "last"};
+        boolean[] succeeds = {true, false, false, true, true, false, true};
+
+        BatchResult result = RsaUtils.encrypt(Arrays.asList(items), publicKey);
+        assertEquals(items.length, result.size());
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(succeeds[i], result.isSuccess(i), "item " + i);
+            if (succeeds[i]) {
+                assertNull(result.error(i));
+                assertEquals(items[i], RsaUtils.decrypt(result.value(i), privateKey), "item " + i);
+            } else {
+                assertNull(result.value(i));
+                assertNotNull(result.error(i), "item " + i);
+            }
+        }
+
+        BatchResult signatures = RsaUtils.sign(Arrays.asList("a", null, new String(oversized)), privateKey);
+        assertTrue(signatures.isSuccess(0));
+        assertFalse(signatures.isSuccess(1));
+        assertTrue(signatures.isSuccess(2));
+        assertTrue(RsaUtils.verify(new String(oversized), signatures.value(2), publicKey));
+    }
+
+    @Test
+    void malformedKeysFailWithoutThrowing() {
+        // 批量接口：每一项都失败 | Batch methods: every item fails
+        for (String key : new String[]{MALFORMED, Base64.getEncoder().encodeToString(new byte[]{1, 2, 3}), privateKey}) {
+            BatchResult result = RsaUtils.encrypt(Arrays.asList("a", "b"), key);
+            assertFalse(result.isSuccess(0));
+            assertFalse(result.isSuccess(1));
+        }
+        for (String key : new String[]{MALFORMED, publicKey}) {
+            BatchResult result = RsaUtils.sign(Collections.singletonList("a"), key);
+            assertFalse(result.isSuccess(0));
+            assertNotNull(result.error(0));
+        }
+
+        // 单条接口：受检异常，不是 IllegalArgumentException | Single methods: a checked exception, not IllegalArgumentException
+        assertThrows(GeneralSecurityException.class, () -> RsaUtils.encrypt("a", MALFORMED));
+        assertThrows(GeneralSecurityException.class, () -> RsaUtils.sign("a", MALFORMED));
+        assertThrows(GeneralSecurityException.class, () -> RsaUtils.verify("a", "AAAA", MALFORMED));
+        assertThrows(GeneralSecurityException.class, () -> RsaUtils.decrypt("AAAA", MALFORMED));
+        assertThrows(GeneralSecurityException.class, () -> RsaUtils.decodePublicKey(new byte[]{1, 2, 3}));
+
+        // 服务层转为失败响应 | The service turns them into failed responses
+        RsaServiceImpl service = new RsaServiceImpl();
+        AsymmetryDTO encryption = new AsymmetryDTO();
+        encryption.setPlaintext("a");
+        encryption.setPublicKey(MALFORMED);
+        assertEquals(ErrorCodeEnum.FAIL.getCode(), service.doRsaEncryption(encryption).getCode());
+
+        AsymmetryDTO decryption = new AsymmetryDTO();
+        decryption.setCipherText("AAAA");
+        decryption.setPrivateKey(MALFORMED);
+        assertEquals(ErrorCodeEnum.FAIL.getCode(), service.doRsaDecryption(decryption).getCode());
+
+        SignatureDTO signature = new SignatureDTO();
+        signature.setMessage("a");
+        signature.setSignature("AAAA");
+        signature.setPrivateKey(MALFORMED);
+        signature.setPublicKey(MALFORMED);
+        assertEquals(ErrorCodeEnum.FAIL.getCode(), service.doRsaSign(signature).getCode());
+        assertEquals(ErrorCodeEnum.FAIL.getCode(), service.doRsaVerify(signature).getCode());
+    }
+
+    private static byte[] fresh(int opmode, byte[] input) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPPadding");
+        cipher.init(opmode, opmode == Cipher.ENCRYPT_MODE ? keyPair.getPublic() : keyPair.getPrivate(), OAEP);
+        return cipher.doFinal(input);
+    }
+
+    private static Signature freshSignature() throws GeneralSecurityException {
+        Signature signature = Signature.getInstance("RSASSA-PSS");
+        signature.setParameter(PSS);
+        return signature;
+    }
+
+    private byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,134 @@
+package com.mhx.encryption.util.sm;
+
+import org.bouncycastle.crypto.digests.SM3Digest;
+import org.bouncycastle.math.ec.ECPoint;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * @className CipherTest
+ * @description SM2 KDF：从 Z 之后的中间状态批量生成的密钥流与逐块计算 SM3(x2 || y2 || ct) 的直接实现逐字节一致，
+ *              覆盖 32 字节密钥块和 64 块批量的边界、分段调用以及 doFinal 之后的重新开始；C3 = SM3(x2 || M || y2)
+ *              SM2 KDF: the keystream generated in batches from the midstate after Z is byte identical to the
+ *              straightforward SM3(x2 || y2 || ct) per block, around the 32 byte key block and 64 block batch
+ *              boundaries, with split calls and restarting after doFinal; C3 = SM3(x2 || M || y2)
+ * @author MuHongXin.
+ * @date 2026/10/19 11:00
+ * @version v1.0.0
+ **/
+
+class CipherTest {
+    private static final int[] LENGTHS = {0, 1, 31, 32, 33, 63, 64, 65, 1000, 64 * 32 - 1, 64 * 32, 64 * 32 + 1, 70_000};
+
+    private final SM2 sm2 = SM2.instance();
+
+    private final Random random = new Random(6);
+
+    @Test
+    void keystreamMatchesTheStraightforwardKdf() {
+        for (int round = 0; round < 8; round++) {
+            ECPoint p2 = randomPoint();
+            for (int length : LENGTHS) {
+                Cipher cipher = new Cipher();
+                cipher.init(p2);
+
+                // 对全零数据解密得到密钥流本身 | Decrypting zeros yields the keystream itself
+                byte[] keystream = new byte[length];
+                cipher.decrypt(keystream);
+                assertArrayEquals(kdf(p2, length), keystream, "length " + length);
+            }
+        }
+    }
+
+    @Test
+    void splitCallsAndRestartsGiveTheSameKeystream() {
+        ECPoint p2 = randomPoint();
+        byte[] expected = kdf(p2, 5000);
+        Cipher cipher = new Cipher();
+        cipher.init(p2);
+
+        for (int round = 0; round < 3; round++) {
+            byte[] keystream = new byte[expected.length];
+            int off = 0;
+            while (off < keystream.length) {
+                int len = Math.min(keystream.length - off, random.nextInt(100));
+                cipher.decrypt(keystream, off, len);
+                off += len;
+            }
+            assertArrayEquals(expected, keystream);
+
+            // doFinal 之后从相同的中间状态重新开始，ct 回到 1 | After doFinal the same midstate restarts with ct back at 1
+            byte[] c3 = new byte[32];
+            cipher.doFinal(c3);
+            assertArrayEquals(c3(p2, keystream), c3);
+        }
+    }
+
+    @Test
+    void encryptionAndDecryptionAreInverse() {
+        ECPoint p2 = randomPoint();
+        for (int length : LENGTHS) {
+            byte[] message = new byte[length];
+            random.nextBytes(message);
+            byte[] data = message.clone();
+
+            Cipher encryption = new Cipher();
+            encryption.init(p2);
+            encryption.encrypt(data);
+            byte[] encryptionC3 = new byte[32];
+            encryption.doFinal(encryptionC3);
+
+            Cipher decryption = new Cipher();
+            decryption.init(p2);
+            decryption.decrypt(data);
+            byte[] decryptionC3 = new byte[32];
+            decryption.doFinal(decryptionC3);
+
+            assertArrayEquals(message, data);
+            assertArrayEquals(c3(p2, message), encryptionC3);
+            assertArrayEquals(encryptionC3, decryptionC3);
+        }
+    }
+
+    private ECPoint randomPoint() {
+        return sm2.eccPointG.multiply(new BigInteger(256, random).mod(sm2.eccN.subtract(BigInteger.ONE)).add(BigInteger.ONE)).normalize();
+    }
+
+    /**
+     * GM/T 0003.4 KDF：第 ct 块为 SM3(x2 || y2 || ct)，ct 从 1 开始，32 位大端 | The ct-th block is SM3(x2 || y2 || ct), ct from 1, 32 bit big endian
+     */
+    private static byte[] kdf(ECPoint p2, int length) {
+        byte[] z = z(p2);
+        byte[] out = new byte[(length + 31) / 32 * 32];
+        SM3Digest digest = new SM3Digest();
+        for (int ct = 1, off = 0; off < out.length; ct++, off += 32) {
+            digest.update(z, 0, z.length);
+            digest.update(new byte[]{(byte) (ct >>> 24), (byte) (ct >>> 16), (byte) (ct >>> 8), (byte) ct}, 0, 4);
+            digest.doFinal(out, off);
+        }
+        return Arrays.copyOf(out, length);
+    }
+
+    private static byte[] c3(ECPoint p2, byte[] message) {
+        byte[] z = z(p2);
+        SM3Digest digest = new SM3Digest();
+        digest.update(z, 0, 32);
+        digest.update(message, 0, message.length);
+        digest.update(z, 32, 32);
+        byte[] out = new byte[32];
+        digest.doFinal(out, 0);
+        return out;
+    }
+
+    private static byte[] z(ECPoint p2) {
+        byte[] z = new byte[64];
+        System.arraycopy(p2.getAffineXCoord().getEncoded(), 0, z, 0, 32);
+        System.arraycopy(p2.getAffineYCoord().getEncoded(), 0, z, 32, 32);
+        return z;
+    }
+}
@@ -0,0 +1,234 @@
+package com.mhx.encryption.util.sm;
+
+import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.ASN1Encoding;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.DERSequence;
+import org.bouncycastle.crypto.InvalidCipherTextException;
+import org.bouncycastle.crypto.engines.SM2Engine;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.params.ParametersWithRandom;
+import org.bouncycastle.math.ec.ECPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className SM2CipherCodecTest
+ * @description SM2 二进制密文编解码：三种排列方式的往返、排列方式之间的转换、C3 校验失败或截断时抛出
+ *              IllegalArgumentException 且输出区域为零，以及与 BouncyCastle SM2Engine 的互通。
+ *              BouncyCastle 1.70 没有 SM2 密文的 ASN.1 结构类，ASN.1 密文按 GM/T 0009 的
+ *              SEQUENCE { INTEGER, INTEGER, OCTET STRING, OCTET STRING } 用通用的 ASN1Sequence 解析和构造
+ *              SM2 binary ciphertext codec: round trips of the three layouts, conversion between layouts,
+ *              IllegalArgumentException with a zeroed output on a failed C3 check or truncated input, and interop
+ *              with the BouncyCastle SM2Engine. BouncyCastle 1.70 has no ASN.1 class for the SM2 ciphertext, so the
+ *              ASN.1 form is parsed and built as the GM/T 0009 SEQUENCE { INTEGER, INTEGER, OCTET STRING, OCTET STRING }
+ *              with the generic ASN1Sequence
+ * @author MuHongXin.
+ * @date 2026/10/19 11:20
+ * @version v1.0.0
+ **/
+
+class SM2CipherCodecTest {
+    private static final int[] LENGTHS = {0, 1, 31, 32, 33, 127, 128, 1000};
+
+    private final SM2 sm2 = SM2.instance();
+
+    private final Random random = new Random(7);
+
+    private ECPoint publicKey;
+
+    private BigInteger privateKey;
+
+    @BeforeEach
+    void setup() {
+        SM2KeyPair keyPair = SM2Util.generateKeyPair();
+        publicKey = SM2Util.decodePublicKey(DataConversionUtils.hexToByte(keyPair.getPublicKey()));
+        privateKey = new BigInteger(1, DataConversionUtils.hexToByte(keyPair.getPrivateKey()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SM2CipherMode.class)
+    void roundTripsEveryLayout(SM2CipherMode mode) {
+        for (int length : LENGTHS) {
+            byte[] message = random(length + 3);
+            byte[] cipherText = SM2CipherCodec.encrypt(publicKey, message, 3, length, mode);
+            assertTrue(cipherText.length <= SM2CipherCodec.maximumLength(length, mode));
+            if (mode != SM2CipherMode.ASN1) {
+                assertEquals(SM2CipherCodec.maximumLength(length, mode), cipherText.length);
+            }
+
+            assertArrayEquals(Arrays.copyOfRange(message, 3, 3 + length), SM2CipherCodec.decrypt(privateKey, cipherText, 0, cipherText.length, mode));
+
+            // 写入调用方数组的形式 | The forms writing into the caller's array
+            byte[] out = new byte[SM2CipherCodec.maximumLength(length, mode) + 4];
+            int cipherLength = SM2CipherCodec.encrypt(publicKey, message, 3, length, mode, out, 4);
+            byte[] plaintext = new byte[length + 2];
+            assertEquals(length, SM2CipherCodec.decrypt(privateKey, out, 4, cipherLength, mode, plaintext, 2));
+            assertArrayEquals(Arrays.copyOfRange(message, 3, 3 + length), Arrays.copyOfRange(plaintext, 2, 2 + length));
+        }
+    }
+
+    @Test
+    void convertsBetweenLayouts() {
+        byte[] message = random(100);
+        for (SM2CipherMode from : SM2CipherMode.values()) {
+            byte[] cipherText = SM2CipherCodec.encrypt(publicKey, message, 0, message.length, from);
+            for (SM2CipherMode to : SM2CipherMode.values()) {
+                byte[] converted = SM2CipherCodec.convert(cipherText, 0, cipherText.length, from, to);
+                assertArrayEquals(message, SM2CipherCodec.decrypt(privateKey, converted, 0, converted.length, to), from + " -> " + to);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SM2CipherMode.class)
+    void rejectsATamperedC3AndZeroesTheOutput(SM2CipherMode mode) {
+        byte[] message = random(80);
+        byte[] cipherText = SM2CipherCodec.encrypt(publicKey, message, 0, message.length, mode);
+        int c3Off = c3Offset(cipherText, mode);
+
+        for (int bit = 0; bit < SM2CipherCodec.C3_LENGTH * 8; bit += 37) {
+            byte[] tampered = cipherText.clone();
+            tampered[c3Off + bit / 8] ^= (byte) (1 << (bit % 8));
+
+            byte[] out = new byte[message.length + 8];
+            Arrays.fill(out, (byte) 0x5a);
+            assertThrows(IllegalArgumentException.class, () -> SM2CipherCodec.decrypt(privateKey, tampered, 0, tampered.length, mode, out, 4));
+            for (int i = 0; i < out.length; i++) {
+                // 明文区域清零，区域之外不受影响 | The plaintext region is zeroed, the bytes around it are untouched
+                assertEquals(i >= 4 && i < 4 + message.length ? 0 : 0x5a, out[i], "index " + i);
+            }
+            assertThrows(IllegalArgumentException.class, () -> SM2CipherCodec.decrypt(privateKey, tampered, 0, tampered.length, mode));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SM2CipherMode.class)
+    void rejectsTruncatedInput(SM2CipherMode mode) {
+        byte[] message = random(40);
+        byte[] cipherText = SM2CipherCodec.encrypt(publicKey, message, 0, message.length, mode);
+        for (int length = 0; length < cipherText.length; length++) {
+            int truncated = length;
+            byte[] out = new byte[message.length];
+            assertThrows(IllegalArgumentException.class,
+                    () -> SM2CipherCodec.decrypt(privateKey, cipherText, 0, truncated, mode, out, 0), "length " + length);
+            assertArrayEquals(new byte[message.length], out, "length " + length);
+        }
+    }
+
+    @Test
+    void interoperatesWithBouncyCastle() throws InvalidCipherTextException, IOException {
+        ECPublicKeyParameters bcPublicKey = new ECPublicKeyParameters(publicKey, sm2.eccBcSpec);
+        ECPrivateKeyParameters bcPrivateKey = new ECPrivateKeyParameters(privateKey, sm2.eccBcSpec);
+        for (int length : LENGTHS) {
+            // BouncyCastle 不接受空消息：空 C2 总被视为未加密 | BouncyCastle refuses empty messages: an empty C2 always counts as not encrypted
+            if (length == 0) {
+                continue;
+            }
+            byte[] message = random(length);
+
+            // 本项目加密，BouncyCastle 解密 | Encrypted here, decrypted by BouncyCastle
+            assertArrayEquals(message, bcDecrypt(bcPrivateKey, SM2Engine.Mode.C1C2C3, SM2CipherCodec.encrypt(publicKey, message, 0, length, SM2CipherMode.C1C2C3)));
+            assertArrayEquals(message, bcDecrypt(bcPrivateKey, SM2Engine.Mode.C1C3C2, SM2CipherCodec.encrypt(publicKey, message, 0, length, SM2CipherMode.C1C3C2)));
+            byte[] der = SM2CipherCodec.encrypt(publicKey, message, 0, length, SM2CipherMode.ASN1);
+            assertArrayEquals(message, bcDecrypt(bcPrivateKey, SM2Engine.Mode.C1C3C2, derToC1C3C2(der)));
+
+            // BouncyCastle 加密，本项目解密 | Encrypted by BouncyCastle, decrypted here
+            byte[] c1c2c3 = bcEncrypt(bcPublicKey, SM2Engine.Mode.C1C2C3, message);
+            assertArrayEquals(message, SM2CipherCodec.decrypt(privateKey, c1c2c3, 0, c1c2c3.length, SM2CipherMode.C1C2C3));
+            byte[] c1c3c2 = bcEncrypt(bcPublicKey, SM2Engine.Mode.C1C3C2, message);
+            assertArrayEquals(message, SM2CipherCodec.decrypt(privateKey, c1c3c2, 0, c1c3c2.length, SM2CipherMode.C1C3C2));
+            byte[] bcDer = c1c3c2ToDer(c1c3c2);
+            assertArrayEquals(message, SM2CipherCodec.decrypt(privateKey, bcDer, 0, bcDer.length, SM2CipherMode.ASN1));
+        }
+    }
+
+    private byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * C3 在密文中的位置 | Position of C3 in the ciphertext
+     */
+    private static int c3Offset(byte[] cipherText, SM2CipherMode mode) {
+        switch (mode) {
+            case C1C2C3:
+                return cipherText.length - SM2CipherCodec.C3_LENGTH;
+            case C1C3C2:
+                return SM2CipherCodec.C1_LENGTH;
+            default:
+                // DER 中 HASH 的内容在密文中的位置 | Position of the HASH content inside the DER
+                byte[] hash = ASN1OctetString.getInstance(ASN1Sequence.getInstance(cipherText).getObjectAt(2)).getOctets();
+                for (int i = 0; i + hash.length <= cipherText.length; i++) {
+                    if (Arrays.equals(hash, Arrays.copyOfRange(cipherText, i, i + hash.length))) {
+                        return i;
+                    }
+                }
+                throw new AssertionError("HASH not found");
+        }
+    }
+
+    private static byte[] derToC1C3C2(byte[] der) {
+        ASN1Sequence sequence = ASN1Sequence.getInstance(der);
+        byte[] x = coordinate(ASN1Integer.getInstance(sequence.getObjectAt(0)).getPositiveValue());
+        byte[] y = coordinate(ASN1Integer.getInstance(sequence.getObjectAt(1)).getPositiveValue());
+        byte[] c3 = ASN1OctetString.getInstance(sequence.getObjectAt(2)).getOctets();
+        byte[] c2 = ASN1OctetString.getInstance(sequence.getObjectAt(3)).getOctets();
+
+        byte[] out = new byte[1 + 64 + c3.length + c2.length];
+        out[0] = 0x04;
+        System.arraycopy(x, 0, out, 1, 32);
+        System.arraycopy(y, 0, out, 33, 32);
+        System.arraycopy(c3, 0, out, 65, c3.length);
+        System.arraycopy(c2, 0, out, 65 + c3.length, c2.length);
+        return out;
+    }
+
+    private static byte[] c1c3c2ToDer(byte[] c1c3c2) throws IOException {
+        ASN1EncodableVector vector = new ASN1EncodableVector();
+        vector.add(new ASN1Integer(new BigInteger(1, Arrays.copyOfRange(c1c3c2, 1, 33))));
+        vector.add(new ASN1Integer(new BigInteger(1, Arrays.copyOfRange(c1c3c2, 33, 65))));
+        vector.add(new DEROctetString(Arrays.copyOfRange(c1c3c2, 65, 97)));
+        vector.add(new DEROctetString(Arrays.copyOfRange(c1c3c2, 97, c1c3c2.length)));
+        return new DERSequence(vector).getEncoded(ASN1Encoding.DER);
+    }
+
+    private static byte[] coordinate(BigInteger value) {
+        byte[] magnitude = value.toByteArray();
+        byte[] out = new byte[32];
+        int length = Math.min(magnitude.length, 32);
+        System.arraycopy(magnitude, magnitude.length - length, out, 32 - length, length);
+        return out;
+    }
+
+    private static byte[] bcEncrypt(ECPublicKeyParameters publicKey, SM2Engine.Mode mode, byte[] message) throws InvalidCipherTextException {
+        SM2Engine engine = new SM2Engine(mode);
+        engine.init(true, new ParametersWithRandom(publicKey, new SecureRandom()));
+        return engine.processBlock(message, 0, message.length);
+    }
+
+    private static byte[] bcDecrypt(ECPrivateKeyParameters privateKey, SM2Engine.Mode mode, byte[] cipherText) throws InvalidCipherTextException {
+        SM2Engine engine = new SM2Engine(mode);
+        engine.init(false, privateKey);
+        return engine.processBlock(cipherText, 0, cipherText.length);
+    }
+}
@@ -0,0 +1,64 @@
+package com.mhx.encryption.util.sm;
+
+import org.bouncycastle.math.ec.ECPoint;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className SM2EphemeralKeyPoolTest
+ * @description SM2 临时密钥对池：取出的 (k, C1) 满足 C1 = kG 且已规范化，每个 k 只用一次；关闭时卸载
+ *              SM2 ephemeral key pool: every (k, C1) taken satisfies C1 = kG and is normalized, every k is used
+ *              once; closing uninstalls the pool
+ * @author MuHongXin.
+ * @date 2026/10/19 12:20
+ * @version v1.0.0
+ **/
+
+class SM2EphemeralKeyPoolTest {
+    private final SM2 sm2 = SM2.instance();
+
+    @Test
+    void pairsAreValidAndSingleUse() throws InterruptedException {
+        try (SM2EphemeralKeyPool pool = new SM2EphemeralKeyPool(sm2, 16, 1)) {
+            pool.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (pool.size() < pool.capacity() && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+
+            Set<BigInteger> scalars = new HashSet<>();
+            for (int i = 0; i < 32; i++) {
+                SM2EphemeralKeyPool.EphemeralKey key = pool.take();
+                ECPoint c1 = key.getC1();
+                assertTrue(c1.isNormalized());
+                assertEquals(sm2.eccPointG.multiply(key.getK()).normalize(), c1);
+                assertTrue(scalars.add(key.getK()));
+            }
+            assertEquals(32, pool.hitCount() + pool.fallbackCount());
+            assertTrue(pool.hitCount() > 0);
+        }
+    }
+
+    @Test
+    void closeUninstalls() {
+        SM2EphemeralKeyPool previous = SM2EphemeralKeyPool.installed();
+        SM2EphemeralKeyPool pool = new SM2EphemeralKeyPool(sm2, 4, 1);
+        try {
+            SM2EphemeralKeyPool.install(pool);
+            assertSame(pool, SM2EphemeralKeyPool.installed());
+            pool.close();
+            assertNull(SM2EphemeralKeyPool.installed());
+        } finally {
+            SM2EphemeralKeyPool.install(previous);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.mhx.encryption.util.sm;
+
+import com.mhx.encryption.util.codec.HexCodec;
+import org.bouncycastle.crypto.CryptoException;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.params.ParametersWithID;
+import org.bouncycastle.crypto.params.ParametersWithRandom;
+import org.bouncycastle.crypto.signers.PlainDSAEncoding;
+import org.bouncycastle.crypto.signers.SM2Signer;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.util.BigIntegers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className SM2SignatureTest
+ * @description SM2 签名：与 BouncyCastle SM2Signer（PlainDSAEncoding，r || s）双向互验，覆盖默认、自定义和空用户标识；
+ *              r 或 s 为 0 或不小于 n、r + s = n、长度错误、用户标识错误、消息被篡改、公钥错误时验签失败且不抛出异常；
+ *              签名时公钥不等于 d·G 被拒绝，缓存匹配的密钥对后也不例外
+ *              SM2 signature: cross verified with the BouncyCastle SM2Signer (PlainDSAEncoding, r || s) in both
+ *              directions, with the default, a custom and an empty user ID; verification fails without throwing for
+ *              r or s equal to 0 or not below n, r + s = n, a wrong length, a wrong user ID, a tampered message and
+ *              a wrong public key; signing rejects a public key other than d·G, also after the matching pair was cached
+ * @author MuHongXin.
+ * @date 2026/10/19 12:10
+ * @version v1.0.0
+ **/
+
+class SM2SignatureTest {
+    private static final byte[][] USER_IDS = {
+            SM2Signature.DEFAULT_USER_ID,
+            "alice@example.com".getBytes(StandardCharsets.US_ASCII),
+            new byte[0]
+    };
+
+    private static final int[] LENGTHS = {0, 1, 55, 56, 64, 1000};
+
+    private final SM2 sm2 = SM2.instance();
+
+    private final Random random = new Random(21);
+
+    private byte[] publicKey;
+
+    private byte[] privateKey;
+
+    private ECPublicKeyParameters bcPublicKey;
+
+    private ECPrivateKeyParameters bcPrivateKey;
+
+    @BeforeEach
+    void setup() {
+        SM2KeyPair keyPair = SM2Util.generateKeyPair();
+        publicKey = HexCodec.decode(keyPair.getPublicKey());
+        privateKey = HexCodec.decode(keyPair.getPrivateKey());
+        bcPublicKey = new ECPublicKeyParameters(SM2Util.decodePublicKey(publicKey), sm2.eccBcSpec);
+        bcPrivateKey = new ECPrivateKeyParameters(new BigInteger(1, privateKey), sm2.eccBcSpec);
+    }
+
+    @Test
+    void bouncyCastleVerifiesOurSignatures() {
+        for (byte[] userId : USER_IDS) {
+            for (int length : LENGTHS) {
+                byte[] message = random(length);
+                byte[] signature = SM2Util.sign(privateKey, publicKey, userId, message);
+                assertEquals(SM2Signature.SIGNATURE_LENGTH, signature.length);
+
+                SM2Signer verifier = bcSigner(false, userId);
+                verifier.update(message, 0, message.length);
+                assertTrue(verifier.verifySignature(signature), "user ID " + userId.length + ", length " + length);
+                assertTrue(SM2Util.verify(publicKey, userId, message, signature));
+            }
+        }
+    }
+
+    @Test
+    void verifiesBouncyCastleSignatures() throws CryptoException {
+        for (byte[] userId : USER_IDS) {
+            for (int length : LENGTHS) {
+                byte[] message = random(length);
+                SM2Signer signer = bcSigner(true, userId);
+                signer.update(message, 0, message.length);
+                byte[] signature = signer.generateSignature();
+
+                assertTrue(SM2Util.verify(publicKey, userId, message, signature), "user ID " + userId.length + ", length " + length);
+            }
+        }
+    }
+
+    @Test
+    void verifiesInsideLargerArrays() {
+        byte[] message = random(100);
+        byte[] signature = SM2Util.sign(privateKey, publicKey, SM2Signature.DEFAULT_USER_ID, Arrays.copyOfRange(message, 10, 90));
+
+        byte[] padded = new byte[signature.length + 7];
+        System.arraycopy(signature, 0, padded, 5, signature.length);
+        ECPoint point = SM2Util.decodePublicKey(publicKey);
+        byte[] z = SM2Util.z(publicKey, SM2Signature.DEFAULT_USER_ID);
+        assertTrue(SM2Signature.verify(point, z, message, 10, 80, padded, 5, signature.length));
+        assertFalse(SM2Signature.verify(point, z, message, 10, 81, padded, 5, signature.length));
+    }
+
+    @Test
+    void rejectsOutOfRangeScalars() {
+        byte[] message = random(32);
+        byte[] signature = SM2Util.sign(privateKey, publicKey, SM2Signature.DEFAULT_USER_ID, message);
+        BigInteger n = sm2.eccN;
+        BigInteger r = new BigInteger(1, Arrays.copyOfRange(signature, 0, 32));
+        BigInteger s = new BigInteger(1, Arrays.copyOfRange(signature, 32, 64));
+        BigInteger max = BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE);
+
+        BigInteger[][] invalid = {
+                {BigInteger.ZERO, s}, {r, BigInteger.ZERO}, {BigInteger.ZERO, BigInteger.ZERO},
+                {n, s}, {r, n}, {n.add(BigInteger.ONE), s}, {r, n.add(BigInteger.ONE)}, {max, s}, {r, max},
+                // r + s = n 时 t = 0 | t = 0 when r + s = n
+                {r, n.subtract(r)}
+        };
+        for (BigInteger[] pair : invalid) {
+            assertFalse(SM2Util.verify(publicKey, SM2Signature.DEFAULT_USER_ID, message, signature(pair[0], pair[1])),
+                    "r " + pair[0].toString(16) + ", s " + pair[1].toString(16));
+        }
+
+        assertTrue(SM2Util.verify(publicKey, SM2Signature.DEFAULT_USER_ID, message, signature(r, s)));
+    }
+
+    @Test
+    void rejectsWrongInputs() {
+        byte[] message = random(64);
+        byte[] userId = "alice@example.com".getBytes(StandardCharsets.US_ASCII);
+        byte[] signature = SM2Util.sign(privateKey, publicKey, userId, message);
+        assertTrue(SM2Util.verify(publicKey, userId, message, signature));
+
+        // 用户标识错误 | Wrong user ID
+        assertFalse(SM2Util.verify(publicKey, SM2Signature.DEFAULT_USER_ID, message, signature));
+        assertFalse(SM2Util.verify(publicKey, "alice@example.org".getBytes(StandardCharsets.US_ASCII), message, signature));
+
+        // 消息的每个位置被篡改 | Every position of the message tampered with
+        for (int i = 0; i < message.length; i++) {
+            byte[] tampered = message.clone();
+            tampered[i] ^= 1;
+            assertFalse(SM2Util.verify(publicKey, userId, tampered, signature), "byte " + i);
+        }
+        assertFalse(SM2Util.verify(publicKey, userId, Arrays.copyOf(message, message.length - 1), signature));
+        assertFalse(SM2Util.verify(publicKey, userId, Arrays.copyOf(message, message.length + 1), signature));
+
+        // 签名被篡改或长度错误 | Tampered signature or wrong length
+        for (int i = 0; i < signature.length; i += 7) {
+            byte[] tampered = signature.clone();
+            tampered[i] ^= (byte) 0x80;
+            assertFalse(SM2Util.verify(publicKey, userId, message, tampered), "signature byte " + i);
+        }
+        assertFalse(SM2Util.verify(publicKey, userId, message, Arrays.copyOf(signature, 63)));
+        assertFalse(SM2Util.verify(publicKey, userId, message, Arrays.copyOf(signature, 65)));
+        assertFalse(SM2Util.verify(publicKey, userId, message, new byte[0]));
+
+        // 其他公钥 | Another public key
+        byte[] otherKey = HexCodec.decode(SM2Util.generateKeyPair().getPublicKey());
+        assertFalse(SM2Util.verify(otherKey, userId, message, signature));
+    }
+
+    @Test
+    void rejectsAPublicKeyThatDoesNotMatch() {
+        byte[] message = random(32);
+        byte[] otherKey = HexCodec.decode(SM2Util.generateKeyPair().getPublicKey());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> SM2Util.sign(privateKey, otherKey, SM2Signature.DEFAULT_USER_ID, message));
+        assertTrue(e.getMessage().contains("does not match"));
+
+        // 匹配的密钥对进入缓存后，同一公钥配其他私钥仍被拒绝 | Once the matching pair is cached, the same public key
+        // with another private key is still rejected
+        byte[] signature = SM2Util.sign(privateKey, publicKey, SM2Signature.DEFAULT_USER_ID, message);
+        assertTrue(SM2Util.verify(publicKey, SM2Signature.DEFAULT_USER_ID, message, signature));
+        byte[] otherD = HexCodec.decode(SM2Util.generateKeyPair().getPrivateKey());
+        assertThrows(IllegalArgumentException.class, () -> SM2Util.sign(otherD, publicKey, SM2Signature.DEFAULT_USER_ID, message));
+        SM2Util.keyPairCache().invalidateAll();
+        assertTrue(SM2Util.verify(publicKey, SM2Signature.DEFAULT_USER_ID, message,
+                SM2Util.sign(privateKey, publicKey, SM2Signature.DEFAULT_USER_ID, message)));
+
+        // 前导零不同的私钥编码是同一个 d | Private key encodings differing in leading zeros are the same d
+        byte[] padded = new byte[privateKey.length + 2];
+        System.arraycopy(privateKey, 0, padded, 2, privateKey.length);
+        assertTrue(SM2Util.verify(publicKey, SM2Signature.DEFAULT_USER_ID, message,
+                SM2Util.sign(padded, publicKey, SM2Signature.DEFAULT_USER_ID, message)));
+
+        // 私钥超出范围、公钥不在曲线上 | Private key out of range, public key not on the curve
+        byte[] n = sm2.eccN.toByteArray();
+        assertThrows(IllegalArgumentException.class, () -> SM2Util.sign(new byte[32], publicKey, SM2Signature.DEFAULT_USER_ID, message));
+        assertThrows(IllegalArgumentException.class, () -> SM2Util.sign(n, publicKey, SM2Signature.DEFAULT_USER_ID, message));
+        byte[] offCurve = publicKey.clone();
+        offCurve[offCurve.length - 1] ^= 1;
+        assertThrows(IllegalArgumentException.class, () -> SM2Util.sign(privateKey, offCurve, SM2Signature.DEFAULT_USER_ID, message));
+
+        // 十六进制接口同样拒绝 | The hex form rejects as well
+        SM2KeyPair keyPair = SM2Util.generateKeyPair();
+        assertThrows(IllegalArgumentException.class, () -> SM2Util.sign(keyPair.getPrivateKey(), HexCodec.encode(publicKey), "data"));
+    }
+
+    @Test
+    void hexFormsUseTheDefaultUserId() {
+        SM2KeyPair keyPair = SM2Util.generateKeyPair();
+        String data = "签名 signature";
+        String signature = SM2Util.sign(keyPair.getPrivateKey(), keyPair.getPublicKey(), data);
+        assertTrue(SM2Util.verify(keyPair.getPublicKey(), data, signature));
+        assertTrue(SM2Util.verify(keyPair.getPublicKey(), data, signature.toLowerCase()));
+        assertFalse(SM2Util.verify(keyPair.getPublicKey(), data + " ", signature));
+        assertFalse(SM2Util.verify(keyPair.getPublicKey(), data, signature.substring(1)));
+        assertFalse(SM2Util.verify(keyPair.getPublicKey(), data, "zz" + signature.substring(2)));
+
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        SM2Signer verifier = new SM2Signer(PlainDSAEncoding.INSTANCE);
+        verifier.init(false, new ParametersWithID(new ECPublicKeyParameters(
+                SM2Util.decodePublicKey(HexCodec.decode(keyPair.getPublicKey())), sm2.eccBcSpec), SM2Signature.DEFAULT_USER_ID));
+        verifier.update(bytes, 0, bytes.length);
+        assertTrue(verifier.verifySignature(HexCodec.decode(signature)));
+    }
+
+    private SM2Signer bcSigner(boolean forSigning, byte[] userId) {
+        SM2Signer signer = new SM2Signer(PlainDSAEncoding.INSTANCE);
+        if (forSigning) {
+            signer.init(true, new ParametersWithID(new ParametersWithRandom(bcPrivateKey, new SecureRandom()), userId));
+        } else {
+            signer.init(false, new ParametersWithID(bcPublicKey, userId));
+        }
+        return signer;
+    }
+
+    private static byte[] signature(BigInteger r, BigInteger s) {
+        byte[] signature = new byte[SM2Signature.SIGNATURE_LENGTH];
+        BigIntegers.asUnsignedByteArray(r, signature, 0, 32);
+        BigIntegers.asUnsignedByteArray(s, signature, 32, 32);
+        return signature;
+    }
+
+    private byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
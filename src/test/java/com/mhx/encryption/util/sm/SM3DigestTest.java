@@ -0,0 +1,155 @@
+package com.mhx.encryption.util.sm;
+
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @className SM3DigestTest
+ * @description SM3 摘要：GB/T 32905 示例，以及任意长度、任意切分的输入（byte[]、单字节、堆内和直接 ByteBuffer、输入流、
+ *              文件通道）与 BouncyCastle SM3Digest 结果一致
+ *              SM3 digest: the GB/T 32905 examples, and input of any length split anywhere (byte[], single bytes, heap
+ *              and direct ByteBuffer, input stream, file channel) matches the BouncyCastle SM3Digest
+ * @author MuHongXin.
+ * @date 2026/10/19 10:40
+ * @version v1.0.0
+ **/
+
+class SM3DigestTest {
+    private final Random random = new Random(32905);
+
+    @Test
+    void hashesTheStandardExamples() {
+        assertEquals(SM3EngineTest.ABC_DIGEST, Hex.toHexString(digest("abc".getBytes(StandardCharsets.US_ASCII))));
+        assertEquals(SM3EngineTest.ABCD_16_DIGEST, Hex.toHexString(digest(SM3EngineTest.abcd16())));
+    }
+
+    @Test
+    void matchesBouncyCastleForEveryLengthAroundTheBlocks() {
+        for (int length = 0; length <= 300; length++) {
+            byte[] message = random(length);
+            assertArrayEquals(reference(message), digest(message), "length " + length);
+        }
+    }
+
+    @Test
+    void matchesBouncyCastleForStreamedUpdates() {
+        for (int round = 0; round < 200; round++) {
+            byte[] message = random(random.nextInt(1000));
+            byte[] expected = reference(message);
+
+            // 随机切分的 byte[] 与单字节输入交替 | Randomly split byte[] input mixed with single bytes
+            SM3Digest digest = new SM3Digest();
+            int off = 0;
+            while (off < message.length) {
+                if (random.nextInt(4) == 0) {
+                    digest.update(message[off++]);
+                    continue;
+                }
+                int len = Math.min(message.length - off, random.nextInt(150));
+                digest.update(message, off, len);
+                off += len;
+            }
+            assertArrayEquals(expected, doFinal(digest));
+
+            // 堆内与直接 ByteBuffer，position 不为 0 | Heap and direct ByteBuffers with a non zero position
+            SM3Digest buffers = new SM3Digest();
+            ByteBuffer direct = ByteBuffer.allocateDirect(message.length + 5);
+            direct.position(5);
+            direct.put(message);
+            off = 0;
+            while (off < message.length) {
+                int len = Math.min(message.length - off, random.nextInt(150));
+                if (random.nextBoolean()) {
+                    ByteBuffer heap = ByteBuffer.wrap(message, off, len).slice();
+                    buffers.update(heap);
+                    assertEquals(heap.limit(), heap.position());
+                } else {
+                    direct.limit(5 + off + len).position(5 + off);
+                    buffers.update(direct);
+                    assertEquals(5 + off + len, direct.position());
+                }
+                off += len;
+            }
+            assertArrayEquals(expected, doFinal(buffers));
+        }
+    }
+
+    @Test
+    void hashesInputStreamsAndFileChannels(@TempDir Path directory) throws IOException {
+        byte[] message = random(3 * 256 * 1024 + 77);
+        SM3Digest digest = new SM3Digest();
+        assertEquals(message.length, digest.update(new ByteArrayInputStream(message)));
+        assertArrayEquals(reference(message), doFinal(digest));
+
+        Path file = directory.resolve("message.bin");
+        Files.write(file, message);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(message.length, digest.update(channel));
+            assertArrayEquals(reference(message), doFinal(digest));
+
+            byte[] part = new byte[300_001];
+            System.arraycopy(message, 1234, part, 0, part.length);
+            assertEquals(part.length, digest.update(channel, 1234, part.length));
+            assertArrayEquals(reference(part), doFinal(digest));
+            assertEquals(0, channel.position());
+        }
+    }
+
+    @Test
+    void copiesAPartialDigest() {
+        byte[] message = random(200);
+        SM3Digest digest = new SM3Digest();
+        digest.update(message, 0, 100);
+        SM3Digest copy = new SM3Digest(digest);
+        digest.update(message, 100, 100);
+        copy.update(message, 100, 100);
+        assertArrayEquals(reference(message), doFinal(digest));
+        assertArrayEquals(reference(message), doFinal(copy));
+
+        // doFinal 之后摘要对象被重置 | The digest is reset after doFinal
+        digest.update(message, 0, 50);
+        byte[] head = new byte[50];
+        System.arraycopy(message, 0, head, 0, 50);
+        assertArrayEquals(reference(head), doFinal(digest));
+    }
+
+    private byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] digest(byte[] message) {
+        SM3Digest digest = new SM3Digest();
+        digest.update(message, 0, message.length);
+        return doFinal(digest);
+    }
+
+    private static byte[] doFinal(SM3Digest digest) {
+        byte[] out = new byte[32];
+        assertEquals(32, digest.doFinal(out, 0));
+        return out;
+    }
+
+    private static byte[] reference(byte[] message) {
+        org.bouncycastle.crypto.digests.SM3Digest digest = new org.bouncycastle.crypto.digests.SM3Digest();
+        digest.update(message, 0, message.length);
+        byte[] out = new byte[32];
+        digest.doFinal(out, 0);
+        return out;
+    }
+}
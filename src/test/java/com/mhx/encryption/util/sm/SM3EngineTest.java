@@ -0,0 +1,116 @@
+package com.mhx.encryption.util.sm;
+
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @className SM3EngineTest
+ * @description SM3 压缩函数：对手工填充的 GB/T 32905 示例消息逐分组压缩，结果等于标准给出的杂凑值；
+ *              byte[]、ByteBuffer（堆内、直接、小端序）和 int[] 三种输入得到相同的链接变量
+ *              SM3 compression function: the hand padded GB/T 32905 example messages compressed block by block give
+ *              the hash values of the standard; byte[], ByteBuffer (heap, direct, little endian) and int[] input
+ *              give the same chaining variable
+ * @author MuHongXin.
+ * @date 2026/10/19 10:40
+ * @version v1.0.0
+ **/
+
+class SM3EngineTest {
+    static final String ABC_DIGEST = "66c7f0f462eeedd9d1f2d46bdc10e4e24167c4875cf2f7a2297da02b8f4ba8e0";
+
+    static final String ABCD_16_DIGEST = "debe9ff92275b8a138604889c18e5a4d6fdb70e5387e5765293dcba39c0c5732";
+
+    static byte[] abcd16() {
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < 16; i++) {
+            message.append("abcd");
+        }
+        return message.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void compressesTheStandardExamples() {
+        assertEquals(ABC_DIGEST, digest(pad("abc".getBytes(StandardCharsets.US_ASCII))));
+        assertEquals(ABCD_16_DIGEST, digest(pad(abcd16())));
+    }
+
+    @Test
+    void everyInputFormGivesTheSameState() {
+        byte[] padded = pad(abcd16());
+        byte[] expected = Hex.decode(ABCD_16_DIGEST);
+
+        SM3Engine heap = new SM3Engine();
+        SM3Engine direct = new SM3Engine();
+        SM3Engine littleEndian = new SM3Engine();
+        SM3Engine words = new SM3Engine();
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(padded.length + 3);
+        directBuffer.position(3);
+        directBuffer.put(padded);
+        ByteBuffer littleEndianBuffer = ByteBuffer.wrap(padded).order(ByteOrder.LITTLE_ENDIAN);
+        int[] block = new int[16];
+        for (int off = 0; off < padded.length; off += 64) {
+            heap.processBlock(ByteBuffer.wrap(padded), off);
+            direct.processBlock(directBuffer, 3 + off);
+            littleEndian.processBlock(littleEndianBuffer, off);
+            ByteBuffer.wrap(padded, off, 64).asIntBuffer().get(block);
+            words.processBlock(block, 0);
+        }
+
+        assertArrayEquals(expected, digest(heap));
+        assertArrayEquals(expected, digest(direct));
+        assertArrayEquals(expected, digest(littleEndian));
+        assertArrayEquals(expected, digest(words));
+    }
+
+    @Test
+    void copiesAndRestoresTheMidstate() {
+        byte[] padded = pad(abcd16());
+        SM3Engine first = new SM3Engine();
+        first.processBlock(padded, 0);
+
+        SM3Engine copy = new SM3Engine();
+        copy.copyState(first);
+        int[] state = new int[10];
+        first.getState(state, 2);
+        SM3Engine restored = new SM3Engine();
+        restored.setState(state, 2);
+
+        copy.processBlock(padded, 64);
+        restored.processBlock(padded, 64);
+        assertArrayEquals(Hex.decode(ABCD_16_DIGEST), digest(copy));
+        assertArrayEquals(Hex.decode(ABCD_16_DIGEST), digest(restored));
+    }
+
+    /**
+     * 0x80、补零、64 位大端比特长度 | 0x80, zeros, the 64 bit big endian bit length
+     */
+    private static byte[] pad(byte[] message) {
+        int length = (message.length + 9 + 63) / 64 * 64;
+        byte[] padded = new byte[length];
+        System.arraycopy(message, 0, padded, 0, message.length);
+        padded[message.length] = (byte) 0x80;
+        ByteBuffer.wrap(padded).putLong(length - 8, (long) message.length << 3);
+        return padded;
+    }
+
+    private static String digest(byte[] padded) {
+        SM3Engine engine = new SM3Engine();
+        for (int off = 0; off < padded.length; off += 64) {
+            engine.processBlock(padded, off);
+        }
+        return Hex.toHexString(digest(engine));
+    }
+
+    private static byte[] digest(SM3Engine engine) {
+        byte[] out = new byte[32];
+        engine.getDigest(out, 0);
+        return out;
+    }
+}
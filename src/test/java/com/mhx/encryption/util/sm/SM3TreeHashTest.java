@@ -0,0 +1,234 @@
+package com.mhx.encryption.util.sm;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @className SM3TreeHashTest
+ * @description SM3 树哈希：单个分块的根等于 BouncyCastle SM3(0x00 || data)，多个分块按类注释逐层合并、奇数节点原样提升；
+ *              跨越多个映射窗口的文件通道与缓冲区结果一致；修改分块、追加和截断后 rehash 与完整 hash 一致；
+ *              根记录往返，被截断或篡改的记录被拒绝
+ *              SM3 tree hash: the root of a single chunk equals the BouncyCastle SM3(0x00 || data), several chunks
+ *              are combined level by level as in the class comment with an odd node promoted unchanged; a file
+ *              channel spanning several mapping windows matches the buffer result; after chunk edits, appends and
+ *              truncation rehash equals a full hash; root records round trip, truncated or tampered records are
+ *              rejected
+ * @author MuHongXin.
+ * @date 2026/10/19 13:00
+ * @version v1.0.0
+ **/
+
+class SM3TreeHashTest {
+    private static final int CHUNK = 1000;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private final Random random = new Random(3);
+
+    @TempDir
+    Path dir;
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void singleChunkIsThePrefixedDigest() {
+        for (int length : new int[]{0, 1, 63, 64, CHUNK}) {
+            byte[] data = random(length);
+            SM3TreeHash.Result result = SM3TreeHash.hash(ByteBuffer.wrap(data), CHUNK, POOL);
+            assertEquals(1, result.leafCount());
+            assertArrayEquals(bc((byte) 0x00, data), result.getRoot(), "length " + length);
+            assertArrayEquals(result.getRoot(), result.getChunkDigest(0));
+        }
+    }
+
+    @Test
+    void promotesTheOddNode() {
+        byte[] data = random(4 * CHUNK + 1);
+        byte[][] leaf = new byte[5][];
+        for (int i = 0; i < leaf.length; i++) {
+            leaf[i] = bc((byte) 0x00, Arrays.copyOfRange(data, i * CHUNK, Math.min((i + 1) * CHUNK, data.length)));
+        }
+
+        // 3 个叶子：node(node(l0, l1), l2) | Three leaves: node(node(l0, l1), l2)
+        SM3TreeHash.Result three = SM3TreeHash.hash(ByteBuffer.wrap(data, 0, 3 * CHUNK), CHUNK, POOL);
+        assertArrayEquals(node(node(leaf[0], leaf[1]), leaf[2]), three.getRoot());
+
+        // 5 个叶子：l4 连续两层原样提升 | Five leaves: l4 is promoted unchanged over two levels
+        SM3TreeHash.Result five = SM3TreeHash.hash(ByteBuffer.wrap(data), CHUNK, POOL);
+        assertEquals(5, five.leafCount());
+        for (int i = 0; i < leaf.length; i++) {
+            assertArrayEquals(leaf[i], five.getChunkDigest(i));
+        }
+        assertArrayEquals(node(node(node(leaf[0], leaf[1]), node(leaf[2], leaf[3])), leaf[4]), five.getRoot());
+    }
+
+    @Test
+    void channelSpansSeveralWindows() throws IOException {
+        // 每个窗口 2 个分块，共 3 个窗口，最后一个窗口只有一个不完整的分块
+        // Two chunks per window, three windows, the last window holds one partial chunk
+        int chunkSize = SM3TreeHash.WINDOW_SIZE / 2;
+        byte[] data = random(4 * chunkSize + 17);
+        Path file = write(data);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            SM3TreeHash.Result mapped = SM3TreeHash.hash(channel, chunkSize, POOL);
+            SM3TreeHash.Result buffered = SM3TreeHash.hash(ByteBuffer.wrap(data), chunkSize, POOL);
+            assertEquals(5, mapped.leafCount());
+            assertArrayEquals(buffered.toBytes(true), mapped.toBytes(true));
+            assertArrayEquals(bc((byte) 0x00, Arrays.copyOfRange(data, 4 * chunkSize, data.length)), mapped.getChunkDigest(4));
+        }
+    }
+
+    @Test
+    void rehashMatchesAFullHash() throws IOException {
+        Path file = write(random(7 * CHUNK + 300));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            SM3TreeHash.Result previous = SM3TreeHash.hash(channel, CHUNK, POOL);
+
+            // 修改分块 1 和 6 | Edit chunks 1 and 6
+            channel.write(ByteBuffer.wrap(random(10)), CHUNK + 5);
+            channel.write(ByteBuffer.wrap(random(1)), 6 * CHUNK + 999);
+            SM3TreeHash.Result full = SM3TreeHash.hash(channel, CHUNK, POOL);
+            BitSet changed = previous.changedChunks(full);
+            BitSet expected = new BitSet();
+            expected.set(1);
+            expected.set(6);
+            assertEquals(expected, changed);
+            previous = assertRehash(channel, previous, changed);
+
+            // 追加：原来不完整的末尾分块和新分块都重新计算 | Append: the old partial last chunk and the new chunks are rehashed
+            channel.write(ByteBuffer.wrap(random(2 * CHUNK + 10)), channel.size());
+            previous = assertRehash(channel, previous, new BitSet());
+
+            // 截断到分块中间，再截断到分块边界 | Truncate inside a chunk, then on a chunk boundary
+            channel.truncate(4 * CHUNK + 1);
+            previous = assertRehash(channel, previous, new BitSet());
+            channel.truncate(2 * CHUNK);
+            previous = assertRehash(channel, previous, new BitSet());
+
+            // 截断为空 | Truncate to empty
+            channel.truncate(0);
+            assertArrayEquals(bc((byte) 0x00, new byte[0]), assertRehash(channel, previous, new BitSet()).getRoot());
+        }
+    }
+
+    @Test
+    void rootRecordRoundTrips() {
+        SM3TreeHash.Result result = SM3TreeHash.hash(ByteBuffer.wrap(random(3 * CHUNK + 1)), CHUNK, POOL);
+
+        SM3TreeHash.Result withLeaves = SM3TreeHash.Result.fromBytes(result.toBytes(true));
+        assertArrayEquals(result.getRoot(), withLeaves.getRoot());
+        assertEquals(result.getLength(), withLeaves.getLength());
+        assertEquals(CHUNK, withLeaves.getChunkSize());
+        assertEquals(new BitSet(), result.changedChunks(withLeaves));
+
+        byte[] rootOnly = result.toBytes(false);
+        assertEquals(SM3TreeHash.HEADER_LENGTH, rootOnly.length);
+        SM3TreeHash.Result parsed = SM3TreeHash.Result.fromBytes(rootOnly);
+        assertArrayEquals(result.getRoot(), parsed.getRoot());
+        assertArrayEquals(rootOnly, parsed.toBytes(false));
+        assertThrows(IllegalStateException.class, () -> parsed.getChunkDigest(0));
+    }
+
+    @Test
+    void rejectsTruncatedRecords() {
+        SM3TreeHash.Result result = SM3TreeHash.hash(ByteBuffer.wrap(random(3 * CHUNK + 1)), CHUNK, POOL);
+        for (byte[] record : new byte[][]{result.toBytes(true), result.toBytes(false)}) {
+            for (int length = 0; length < record.length; length++) {
+                byte[] truncated = Arrays.copyOf(record, length);
+                assertThrows(IllegalArgumentException.class, () -> SM3TreeHash.Result.fromBytes(truncated), "length " + length);
+            }
+        }
+
+        // 不含叶子的记录后面多出数据 | Trailing bytes after a record without leaves
+        byte[] trailing = Arrays.copyOf(result.toBytes(false), SM3TreeHash.HEADER_LENGTH + 1);
+        assertThrows(IllegalArgumentException.class, () -> SM3TreeHash.Result.fromBytes(trailing));
+    }
+
+    @Test
+    void rejectsTamperedRecords() {
+        SM3TreeHash.Result result = SM3TreeHash.hash(ByteBuffer.wrap(random(3 * CHUNK + 1)), CHUNK, POOL);
+        byte[] record = result.toBytes(true);
+
+        // 魔数、版本、标志、保留位、叶子数量、根摘要和叶子摘要的每一位 | Every bit of magic, version, flags, reserved,
+        // leaf count, root and leaf digests
+        for (int i = 0; i < record.length; i++) {
+            if (i >= 8 && i < 20) {
+                continue;
+            }
+            for (int bit = 0; bit < 8; bit++) {
+                byte[] tampered = record.clone();
+                tampered[i] ^= (byte) (1 << bit);
+                assertThrows(IllegalArgumentException.class, () -> SM3TreeHash.Result.fromBytes(tampered),
+                        "byte " + i + ", bit " + bit);
+            }
+        }
+
+        // 分块大小或长度与叶子数量不一致 | Chunk size or length inconsistent with the leaf count
+        for (int chunkSize : new int[]{0, -1, CHUNK / 2, 2 * CHUNK}) {
+            byte[] tampered = record.clone();
+            ByteBuffer.wrap(tampered).putInt(8, chunkSize);
+            assertThrows(IllegalArgumentException.class, () -> SM3TreeHash.Result.fromBytes(tampered), "chunk size " + chunkSize);
+        }
+        for (long length : new long[]{-1, 3 * CHUNK, 4 * CHUNK + 1}) {
+            byte[] tampered = record.clone();
+            ByteBuffer.wrap(tampered).putLong(12, length);
+            assertThrows(IllegalArgumentException.class, () -> SM3TreeHash.Result.fromBytes(tampered), "length " + length);
+        }
+    }
+
+    private SM3TreeHash.Result assertRehash(FileChannel channel, SM3TreeHash.Result previous, BitSet changed) throws IOException {
+        SM3TreeHash.Result partial = SM3TreeHash.rehash(channel, previous, changed, POOL);
+        SM3TreeHash.Result full = SM3TreeHash.hash(channel, CHUNK, POOL);
+        assertEquals(full.getLength(), partial.getLength());
+        assertEquals(full.leafCount(), partial.leafCount());
+        assertArrayEquals(full.getRoot(), partial.getRoot(), "length " + channel.size());
+        assertArrayEquals(full.toBytes(true), partial.toBytes(true));
+        return partial;
+    }
+
+    private Path write(byte[] data) throws IOException {
+        Path file = dir.resolve("data-" + data.length);
+        Files.write(file, data);
+        return file;
+    }
+
+    private static byte[] node(byte[] left, byte[] right) {
+        byte[] children = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, children, left.length, right.length);
+        return bc((byte) 0x01, children);
+    }
+
+    private static byte[] bc(byte prefix, byte[] data) {
+        org.bouncycastle.crypto.digests.SM3Digest digest = new org.bouncycastle.crypto.digests.SM3Digest();
+        digest.update(prefix);
+        digest.update(data, 0, data.length);
+        byte[] out = new byte[SM3TreeHash.DIGEST_LENGTH];
+        digest.doFinal(out, 0);
+        return out;
+    }
+
+    private byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
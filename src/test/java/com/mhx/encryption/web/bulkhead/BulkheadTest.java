@@ -0,0 +1,246 @@
+package com.mhx.encryption.web.bulkhead;
+
+import com.mhx.encryption.common.ErrorCodeEnum;
+import com.mhx.encryption.config.async.EncryptionDispatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @className BulkheadTest
+ * @description 舱壁：上限以内立即放行，达到上限立即拒绝而不等待，释放（包括重复释放）后名额正确归还；
+ *              排队名额已满或预计等待超过 maxWait 时拒绝（503），排队超过 maxWait 的任务开始前放弃（408）并立即归还名额；
+ *              EncryptionDispatcher 提交时占用当前请求的排队名额；Gradient2 上限随延迟升高而下降，延迟恢复后回升
+ *              Bulkhead: admitted at once within the limit, rejected at once without waiting at the limit, slots
+ *              come back correctly on release, including repeated releases; all queue slots taken or an expected
+ *              wait above maxWait is rejected (503), a task queued longer than maxWait gives up before it starts (408)
+ *              and gives its slots back at once; EncryptionDispatcher takes a queue slot of the current request; the
+ *              Gradient2 limit shrinks as the latency rises and recovers once it falls again
+ * @author MuHongXin.
+ * @date 2026/10/19 12:00
+ * @version v1.0.0
+ **/
+
+class BulkheadTest {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void rejectsAtTheLimitWithoutWaiting() {
+        Bulkhead bulkhead = new Bulkhead("test", 4, 1, 8, 2, 500);
+        List<Bulkhead.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            permits.add(bulkhead.acquire());
+        }
+        assertEquals(4, bulkhead.inFlight());
+
+        long start = System.nanoTime();
+        BulkheadRejectedException e = assertThrows(BulkheadRejectedException.class, bulkhead::acquire);
+        assertEquals("test", e.getBulkhead());
+        assertEquals(ErrorCodeEnum.SERVER_DISABLE, e.getCode());
+        assertTrue(System.nanoTime() - start < 100_000_000L);
+        assertEquals(1, bulkhead.rejectedCount());
+
+        permits.get(0).complete();
+        permits.get(1).drop();
+        assertEquals(2, bulkhead.inFlight());
+        bulkhead.acquire();
+        assertEquals(3, bulkhead.inFlight());
+        assertEquals(5, bulkhead.acceptedCount());
+    }
+
+    @Test
+    void releasesOnce() {
+        Bulkhead bulkhead = new Bulkhead("test", 2, 1, 2, 2, 500);
+        Bulkhead.Permit permit = bulkhead.acquire();
+        bulkhead.acquire();
+        permit.enqueue();
+        permit.complete();
+        permit.complete();
+        permit.drop();
+        assertEquals(1, bulkhead.inFlight());
+        assertEquals(0, bulkhead.queueDepth());
+    }
+
+    @Test
+    void boundsTheQueueSlots() {
+        Bulkhead bulkhead = new Bulkhead("test", 8, 1, 8, 2, 500, clock::get);
+        Bulkhead.Permit first = bulkhead.acquire();
+        Bulkhead.Permit second = bulkhead.acquire();
+        Bulkhead.Permit third = bulkhead.acquire();
+        first.enqueue();
+        second.enqueue();
+        // 同一请求再次提交不重复占用 | Another submission of the same request takes no second slot
+        second.enqueue();
+        assertEquals(2, bulkhead.queueDepth());
+
+        BulkheadRejectedException e = assertThrows(BulkheadRejectedException.class, third::enqueue);
+        assertEquals(ErrorCodeEnum.SERVER_DISABLE, e.getCode());
+        assertEquals(1, bulkhead.queueFullCount());
+
+        // 开始执行归还排队名额，但仍占用并发名额 | Starting gives the queue slot back but keeps the concurrency slot
+        first.start();
+        assertEquals(1, bulkhead.queueDepth());
+        assertEquals(3, bulkhead.inFlight());
+        third.enqueue();
+        assertEquals(2, bulkhead.queueDepth());
+
+        // 提交失败（线程池拒绝）后释放也归还排队名额 | Releasing after a failed submission (pool rejection) gives the slot back too
+        third.drop();
+        assertEquals(1, bulkhead.queueDepth());
+        assertEquals(2, bulkhead.inFlight());
+    }
+
+    @Test
+    void givesUpAfterMaxWait() {
+        Bulkhead bulkhead = new Bulkhead("test", 8, 1, 8, 4, 500, clock::get);
+        Bulkhead.Permit late = bulkhead.acquire();
+        Bulkhead.Permit onTime = bulkhead.acquire();
+        late.enqueue();
+        clock.addAndGet(200 * MILLIS);
+        onTime.enqueue();
+        clock.addAndGet(301 * MILLIS);
+
+        BulkheadRejectedException e = assertThrows(BulkheadRejectedException.class, late::start);
+        assertEquals(ErrorCodeEnum.TIMEOUT, e.getCode());
+        assertEquals(1, bulkhead.timeoutCount());
+        // 放弃的任务立即归还两种名额，之后的完成不再重复释放 | The task that gave up returns both slots at once, a later
+        // completion does not release again
+        assertEquals(1, bulkhead.queueDepth());
+        assertEquals(1, bulkhead.inFlight());
+        late.complete();
+        assertEquals(1, bulkhead.inFlight());
+
+        onTime.start();
+        assertEquals(0, bulkhead.queueDepth());
+
+        // 请求已经结束（如异步超时）后才轮到的任务同样放弃 | A task whose turn comes after the request ended gives up too
+        Bulkhead.Permit abandoned = bulkhead.acquire();
+        abandoned.enqueue();
+        abandoned.drop();
+        assertEquals(ErrorCodeEnum.TIMEOUT, assertThrows(BulkheadRejectedException.class, abandoned::start).getCode());
+        assertEquals(1, bulkhead.inFlight());
+        assertEquals(0, bulkhead.queueDepth());
+    }
+
+    @Test
+    void shedsWhenTheExpectedWaitIsTooLong() {
+        Bulkhead bulkhead = new Bulkhead("test", 10, 10, 10, 8, 500, clock::get);
+
+        // 一个窗口的延迟为 1 秒：10 个并发时每个排队任务预计等待 100 毫秒 | A window at 1 s: with 10 concurrent slots
+        // every queued task is expected to wait 100 ms
+        runRounds(bulkhead, 1, 1000 * MILLIS);
+
+        // 第 5 个排队时预计等待 500 毫秒，仍可排队；第 6 个预计 600 毫秒，名额虽未满也拒绝 | The 5th in line expects
+        // 500 ms and may still queue; the 6th expects 600 ms and is rejected although slots are left
+        List<Bulkhead.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            permits.add(bulkhead.acquire());
+        }
+        for (int i = 0; i < 5; i++) {
+            permits.get(i).enqueue();
+        }
+        BulkheadRejectedException e = assertThrows(BulkheadRejectedException.class, permits.get(5)::enqueue);
+        assertEquals(ErrorCodeEnum.SERVER_DISABLE, e.getCode());
+        assertEquals(1, bulkhead.shedCount());
+        assertEquals(0, bulkhead.queueFullCount());
+        assertEquals(5, bulkhead.queueDepth());
+
+        // 队列变短后可以再排队 | Once the queue is shorter it may queue again
+        permits.get(0).start();
+        permits.get(5).enqueue();
+        assertEquals(5, bulkhead.queueDepth());
+    }
+
+    @Test
+    void gradientLimitShrinksAndRecovers() {
+        Bulkhead bulkhead = new Bulkhead("test", 100, 1, 200, 8, 500, clock::get);
+
+        // 稳定的 10 毫秒延迟：上限增长到最大值 | A steady 10 ms latency: the limit grows to the maximum
+        runRounds(bulkhead, 1000, 10 * MILLIS);
+        int steady = bulkhead.limit();
+        assertEquals(200, steady);
+
+        // 延迟升到 50 毫秒：每个窗口按梯度下降 | The latency rises to 50 ms: every window cuts the limit by the gradient
+        int previous = steady;
+        for (int i = 0; i < 5; i++) {
+            runRounds(bulkhead, 20, 50 * MILLIS);
+            assertTrue(bulkhead.limit() < previous, "round " + i + ", limit " + bulkhead.limit());
+            previous = bulkhead.limit();
+        }
+        assertTrue(previous < steady / 4, "limit " + previous);
+
+        // 延迟恢复：上限回升到最大值 | The latency falls back: the limit recovers to the maximum
+        runRounds(bulkhead, 3000, 10 * MILLIS);
+        assertEquals(steady, bulkhead.limit());
+    }
+
+    @Test
+    void dispatcherTakesQueueSlots() throws InterruptedException, ExecutionException {
+        Bulkhead bulkhead = new Bulkhead("test", 8, 1, 8, 1, 500, clock::get);
+        Queue<Runnable> pool = new ArrayDeque<>();
+        EncryptionDispatcher dispatcher = new EncryptionDispatcher(pool::add, null);
+
+        Bulkhead.Permit first = bulkhead.acquire();
+        Bulkhead.Permit second = bulkhead.acquire();
+        try {
+            Bulkhead.bind(first);
+            CompletableFuture<String> future = dispatcher.symmetric(() -> "first");
+            assertEquals(1, bulkhead.queueDepth());
+
+            Bulkhead.bind(second);
+            assertThrows(BulkheadRejectedException.class, () -> dispatcher.symmetric(() -> "second"));
+
+            pool.poll().run();
+            assertEquals("first", future.get());
+            assertEquals(0, bulkhead.queueDepth());
+
+            // 排队超时的任务不执行，以 TIMEOUT 结束 | A task that queued too long does not run and ends with TIMEOUT
+            CompletableFuture<String> late = dispatcher.symmetric(() -> "second");
+            clock.addAndGet(501 * MILLIS);
+            pool.poll().run();
+            ExecutionException e = assertThrows(ExecutionException.class, late::get);
+            assertEquals(ErrorCodeEnum.TIMEOUT, ((BulkheadRejectedException) e.getCause()).getCode());
+        } finally {
+            Bulkhead.bind(null);
+        }
+        assertEquals(1, bulkhead.inFlight());
+    }
+
+    @Test
+    void rejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("test", 1, 0, 2, 1, 500));
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("test", 3, 1, 2, 1, 500));
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("test", 2, 3, 2, 1, 500));
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("test", 2, 1, 2, 0, 500));
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("test", 2, 1, 2, 1, 0));
+    }
+
+    /**
+     * 每轮以当前上限的并发运行，全部经过 latency 后完成 | Every round runs at the current limit, all complete after 'latency'
+     */
+    private void runRounds(Bulkhead bulkhead, int rounds, long latency) {
+        for (int round = 0; round < rounds; round++) {
+            List<Bulkhead.Permit> permits = new ArrayList<>();
+            while (bulkhead.inFlight() < bulkhead.limit()) {
+                permits.add(bulkhead.acquire());
+            }
+            clock.addAndGet(latency);
+            for (Bulkhead.Permit permit : permits) {
+                permit.complete();
+            }
+        }
+    }
+}
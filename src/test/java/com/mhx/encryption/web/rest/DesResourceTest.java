@@ -0,0 +1,146 @@
+package com.mhx.encryption.web.rest;
+
+import com.mhx.encryption.util.des.DesEncoding;
+import com.mhx.encryption.util.des.DesUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * @className DesResourceTest
+ * @description DES 二进制接口：Accept 协商（缺省、通配符、q 值、q=0、非法值）决定返回原始字节还是文本密文，
+ *              指定 encoding 时总是返回文本；解密接受 application/octet-stream 的原始密文和带换行的 text/plain 密文
+ *              DES binary endpoints: Accept negotiation (missing, wildcards, q-values, q=0, malformed) decides between raw
+ *              bytes and text cipher text, an explicit encoding always returns text; decryption takes raw
+ *              application/octet-stream cipher text and text/plain cipher text with a trailing newline
+ * @author MuHongXin.
+ * @date 2026/10/19 15:10
+ * @version v1.0.0
+ **/
+
+@SpringBootTest(properties = "encryption.key-pair-pool.enabled=false")
+@AutoConfigureMockMvc
+class DesResourceTest {
+    private static final String KEY = "k9Lm2Qx7";
+
+    private static final byte[] PLAINTEXT = "DES 二进制 binary".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * {Accept, 是否返回文本 | whether text is returned}
+     */
+    private static final Object[][] ACCEPT = {
+            {null, false},
+            {"*/*", false},
+            {"application/octet-stream", false},
+            {"text/plain", true},
+            {"text/*", true},
+            {"text/plain;q=0", false},
+            {"text/plain;q=0, */*", false},
+            {"application/octet-stream;q=0.5, text/plain", true},
+            {"text/plain;q=0.5, application/octet-stream", false},
+            {"text/plain, application/octet-stream", false},
+            {"text/plain, */*", true},
+            {"text/*;q=0.8, text/plain;q=0", false},
+            {"*/*, application/octet-stream;q=0", true},
+            {"not a media type;;", false},
+    };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void negotiatesTheCipherTextFormat() throws Exception {
+        byte[] raw = DesUtils.desEncrypt(PLAINTEXT, KEY);
+        for (Object[] accept : ACCEPT) {
+            MockHttpServletRequestBuilder request = encrypt();
+            if (accept[0] != null) {
+                request.header(HttpHeaders.ACCEPT, accept[0]);
+            }
+            MvcResult result = perform(request);
+            String message = "Accept " + accept[0];
+            assertEquals(200, result.getResponse().getStatus(), message);
+            if ((Boolean) accept[1]) {
+                assertTrue(MediaType.TEXT_PLAIN.isCompatibleWith(contentType(result)), message);
+                assertEquals(DesEncoding.BASE64.encode(raw), result.getResponse().getContentAsString(), message);
+            } else {
+                assertEquals(MediaType.APPLICATION_OCTET_STREAM, contentType(result), message);
+                assertArrayEquals(raw, result.getResponse().getContentAsByteArray(), message);
+            }
+        }
+    }
+
+    @Test
+    void explicitEncodingReturnsText() throws Exception {
+        byte[] raw = DesUtils.desEncrypt(PLAINTEXT, KEY);
+        for (DesEncoding encoding : DesEncoding.values()) {
+            MvcResult result = perform(encrypt().param("encoding", encoding.name()).header(HttpHeaders.ACCEPT, "*/*"));
+            assertTrue(MediaType.TEXT_PLAIN.isCompatibleWith(contentType(result)), encoding.name());
+            assertEquals(encoding.encode(raw), result.getResponse().getContentAsString(), encoding.name());
+        }
+    }
+
+    @Test
+    void decryptsRawAndTextCipherTexts() throws Exception {
+        byte[] raw = DesUtils.desEncrypt(PLAINTEXT, KEY);
+
+        MvcResult result = perform(decrypt(MediaType.APPLICATION_OCTET_STREAM, raw));
+        assertEquals(MediaType.APPLICATION_OCTET_STREAM, contentType(result));
+        assertArrayEquals(PLAINTEXT, result.getResponse().getContentAsByteArray());
+
+        byte[] text = (DesEncoding.BASE64.encode(raw) + "\r\n").getBytes(StandardCharsets.US_ASCII);
+        assertArrayEquals(PLAINTEXT, perform(decrypt(MediaType.TEXT_PLAIN, text)).getResponse().getContentAsByteArray());
+
+        byte[] hex = DesEncoding.HEX.encodeToBytes(raw);
+        assertArrayEquals(PLAINTEXT, perform(decrypt(MediaType.TEXT_PLAIN, hex).param("encoding", "HEX"))
+                .getResponse().getContentAsByteArray());
+
+        // 密文被截断或编码错误 | Truncated or badly encoded cipher text
+        byte[] truncated = Arrays.copyOf(raw, raw.length - 1);
+        assertEquals(400, perform(decrypt(MediaType.APPLICATION_OCTET_STREAM, truncated)).getResponse().getStatus());
+        assertEquals(400, perform(decrypt(MediaType.TEXT_PLAIN, "@@@".getBytes(StandardCharsets.US_ASCII)))
+                .getResponse().getStatus());
+    }
+
+    @Test
+    void acceptsTextFollowsQualityAndSpecificity() {
+        for (Object[] accept : ACCEPT) {
+            assertEquals(accept[1], DesResource.acceptsText((String) accept[0]), "Accept " + accept[0]);
+        }
+        assertFalse(DesResource.acceptsText(" "));
+    }
+
+    private static MockHttpServletRequestBuilder encrypt() {
+        return post("/api/des/encrypt").header("X-Secret-Key", KEY)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM).content(PLAINTEXT);
+    }
+
+    private static MockHttpServletRequestBuilder decrypt(MediaType contentType, byte[] body) {
+        return post("/api/des/decrypt").header("X-Secret-Key", KEY).contentType(contentType).content(body);
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = this.mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+        return this.mockMvc.perform(asyncDispatch(started)).andReturn();
+    }
+
+    private static MediaType contentType(MvcResult result) {
+        return MediaType.parseMediaType(result.getResponse().getContentType());
+    }
+}